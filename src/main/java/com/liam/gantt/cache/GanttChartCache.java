@@ -0,0 +1,144 @@
+package com.liam.gantt.cache;
+
+import com.liam.gantt.dto.response.CacheStatsDto;
+import com.liam.gantt.dto.response.GanttChartDto;
+import com.liam.gantt.sync.AfterCommit;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+import java.util.function.LongSupplier;
+
+/**
+ * 프로젝트별 간트 차트 캐시
+ *
+ * 조립된 {@link GanttChartDto}를 프로젝트 ID 기준으로 보관하며, 최대 개수를 넘으면 가장 오래 사용되지 않은 항목부터 제거합니다(LRU).
+ * 지연 여부처럼 오늘 날짜에 따라 달라지는 값이 있으므로 항목은 일정 시간이 지나면 만료됩니다.
+ * 무효화는 트랜잭션 커밋 후에 수행하며, 적재 중에 어느 프로젝트든 무효화가 끼어든 경우 적재 결과는 캐시하지 않습니다.
+ * 커밋과 무효화 사이에 들어온 요청이 이전 차트를 받지 않도록 조회 시 요구 버전보다 오래된 차트는 다시 적재합니다.
+ * 캐시된 DTO는 여러 요청이 공유하므로 호출 측에서 수정하면 안 됩니다.
+ */
+@Component
+@Slf4j
+public class GanttChartCache {
+
+    static final int MAX_ENTRIES = 256;
+    static final Duration TIME_TO_LIVE = Duration.ofMinutes(10);
+
+    private final int maxEntries;
+    private final long timeToLiveNanos;
+    private final LongSupplier nanoClock;
+
+    /** 접근 순서 LinkedHashMap (this로 동기화) */
+    private final LinkedHashMap<Long, Entry> entries;
+
+    /** 무효화 세대 (this로 동기화, 캐시 전체에 하나) */
+    private long generation;
+
+    private final LongAdder hitCount = new LongAdder();
+    private final LongAdder missCount = new LongAdder();
+    private final LongAdder evictionCount = new LongAdder();
+    private final LongAdder invalidationCount = new LongAdder();
+
+    public GanttChartCache() {
+        this(MAX_ENTRIES, TIME_TO_LIVE, System::nanoTime);
+    }
+
+    GanttChartCache(int maxEntries, Duration timeToLive, LongSupplier nanoClock) {
+        this.maxEntries = maxEntries;
+        this.timeToLiveNanos = timeToLive.toNanos();
+        this.nanoClock = nanoClock;
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Long, Entry> eldest) {
+                if (size() > GanttChartCache.this.maxEntries) {
+                    evictionCount.increment();
+                    return true;
+                }
+                return false;
+            }
+        };
+    }
+
+    /**
+     * 캐시된 간트 차트 조회 (없거나 만료되었거나 데이터 버전이 minVersion보다 오래되었으면 loader로 적재)
+     */
+    public GanttChartDto get(Long projectId, long minVersion, Function<Long, GanttChartDto> loader) {
+        long now = nanoClock.getAsLong();
+        long loadGeneration;
+        synchronized (this) {
+            Entry entry = entries.get(projectId);
+            if (entry != null) {
+                boolean live = now - entry.loadedAt() < timeToLiveNanos;
+                if (live && entry.chart().getDataVersion() >= minVersion) {
+                    hitCount.increment();
+                    return entry.chart();
+                }
+                entries.remove(projectId);
+                if (live) {
+                    invalidationCount.increment();
+                } else {
+                    evictionCount.increment();
+                }
+            }
+            loadGeneration = generation;
+        }
+        missCount.increment();
+
+        GanttChartDto loaded = loader.apply(projectId);
+
+        synchronized (this) {
+            Entry current = entries.get(projectId);
+            if (generation == loadGeneration
+                    && (current == null || current.chart().getDataVersion() <= loaded.getDataVersion())) {
+                entries.put(projectId, new Entry(loaded, now));
+            }
+        }
+        return loaded;
+    }
+
+    /**
+     * 커밋 후 프로젝트 간트 차트 무효화
+     */
+    public void invalidate(Long projectId) {
+        AfterCommit.run(() -> {
+            synchronized (this) {
+                generation++;
+                if (entries.remove(projectId) != null) {
+                    invalidationCount.increment();
+                }
+            }
+            log.debug("간트 차트 캐시 무효화: projectId={}", projectId);
+        });
+    }
+
+    /**
+     * 캐시 통계
+     */
+    public CacheStatsDto stats() {
+        int size;
+        synchronized (this) {
+            size = entries.size();
+        }
+        long hits = hitCount.sum();
+        long misses = missCount.sum();
+        long requests = hits + misses;
+        return CacheStatsDto.builder()
+                .name("ganttChart")
+                .size(size)
+                .maxSize(maxEntries)
+                .hitCount(hits)
+                .missCount(misses)
+                .evictionCount(evictionCount.sum())
+                .invalidationCount(invalidationCount.sum())
+                .hitRate(requests > 0 ? (double) hits / requests : 0.0)
+                .build();
+    }
+
+    private record Entry(GanttChartDto chart, long loadedAt) {
+    }
+}
@@ -0,0 +1,186 @@
+package com.liam.gantt.cache;
+
+import com.liam.gantt.dto.response.CacheStatsDto;
+import com.liam.gantt.render.GanttRenderLayout;
+import com.liam.gantt.render.GanttTileRenderer;
+import com.liam.gantt.sync.AfterCommit;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+
+/**
+ * 프로젝트별 간트 차트 렌더링 배치와 타일 캐시
+ *
+ * 렌더링 배치는 프로젝트마다, 렌더링된 타일은 (프로젝트, 형식, 확대 단계, x, y)마다 보관하며
+ * 각각 최대 개수를 넘으면 가장 오래 사용되지 않은 항목부터 제거합니다(LRU).
+ * 프로젝트 데이터 버전이 바뀔 때마다 커밋 후 해당 프로젝트의 배치와 타일을 모두 무효화하며,
+ * 적재 중에 어느 프로젝트든 무효화가 끼어든 경우 적재 결과는 캐시하지 않습니다.
+ * 커밋과 무효화 사이에 들어온 요청이 이전 타일을 받지 않도록 요구 버전보다 오래된 배치와 타일은 다시 만듭니다.
+ * 반환된 바이트 배열은 수정하면 안 됩니다.
+ */
+@Component
+@Slf4j
+public class GanttTileCache {
+
+    static final int MAX_LAYOUTS = 32;
+    static final int MAX_TILES = 4_096;
+
+    private final int maxLayouts;
+    private final int maxTiles;
+
+    /** 접근 순서 LinkedHashMap (this로 동기화) */
+    private final LinkedHashMap<Long, GanttRenderLayout> layouts;
+    private final LinkedHashMap<TileKey, Tile> tiles;
+
+    /** 무효화 세대 (this로 동기화, 캐시 전체에 하나) */
+    private long generation;
+
+    private final LongAdder hitCount = new LongAdder();
+    private final LongAdder missCount = new LongAdder();
+    private final LongAdder evictionCount = new LongAdder();
+    private final LongAdder invalidationCount = new LongAdder();
+
+    public GanttTileCache() {
+        this(MAX_LAYOUTS, MAX_TILES);
+    }
+
+    GanttTileCache(int maxLayouts, int maxTiles) {
+        this.maxLayouts = maxLayouts;
+        this.maxTiles = maxTiles;
+        this.layouts = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Long, GanttRenderLayout> eldest) {
+                return size() > GanttTileCache.this.maxLayouts;
+            }
+        };
+        this.tiles = new LinkedHashMap<>(256, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<TileKey, Tile> eldest) {
+                if (size() > GanttTileCache.this.maxTiles) {
+                    evictionCount.increment();
+                    return true;
+                }
+                return false;
+            }
+        };
+    }
+
+    /**
+     * 캐시된 타일 조회 (없거나 데이터 버전이 minVersion보다 오래되었으면 렌더링 배치를 적재해 렌더링)
+     */
+    public Tile getTile(TileKey key, long minVersion, Function<Long, GanttRenderLayout> layoutLoader) {
+        long loadGeneration;
+        synchronized (this) {
+            Tile tile = tiles.get(key);
+            if (tile != null) {
+                if (tile.dataVersion() >= minVersion) {
+                    hitCount.increment();
+                    return tile;
+                }
+                tiles.remove(key);
+            }
+            loadGeneration = generation;
+        }
+        missCount.increment();
+
+        GanttRenderLayout layout = layout(key.projectId(), minVersion, loadGeneration, layoutLoader);
+        Tile rendered = new Tile(GanttTileRenderer.renderTile(layout, key.format(), key.zoom(), key.x(), key.y()),
+                layout.dataVersion());
+
+        synchronized (this) {
+            Tile current = tiles.get(key);
+            if (generation == loadGeneration && (current == null || current.dataVersion() <= rendered.dataVersion())) {
+                tiles.put(key, rendered);
+            }
+        }
+        return rendered;
+    }
+
+    /**
+     * 캐시된 렌더링 배치 조회 (전체 SVG 출력용, 데이터 버전이 minVersion보다 오래되었으면 다시 적재)
+     */
+    public GanttRenderLayout getLayout(Long projectId, long minVersion, Function<Long, GanttRenderLayout> layoutLoader) {
+        long loadGeneration;
+        synchronized (this) {
+            loadGeneration = generation;
+        }
+        return layout(projectId, minVersion, loadGeneration, layoutLoader);
+    }
+
+    private GanttRenderLayout layout(Long projectId, long minVersion, long loadGeneration,
+                                     Function<Long, GanttRenderLayout> layoutLoader) {
+        synchronized (this) {
+            GanttRenderLayout layout = layouts.get(projectId);
+            if (layout != null && layout.dataVersion() >= minVersion) {
+                return layout;
+            }
+        }
+        GanttRenderLayout loaded = layoutLoader.apply(projectId);
+        synchronized (this) {
+            GanttRenderLayout current = layouts.get(projectId);
+            if (generation == loadGeneration && (current == null || current.dataVersion() <= loaded.dataVersion())) {
+                layouts.put(projectId, loaded);
+            }
+        }
+        return loaded;
+    }
+
+    /**
+     * 커밋 후 프로젝트 배치와 타일 무효화
+     */
+    public void invalidate(Long projectId) {
+        AfterCommit.run(() -> {
+            int removed;
+            synchronized (this) {
+                generation++;
+                layouts.remove(projectId);
+                int before = tiles.size();
+                tiles.keySet().removeIf(key -> key.projectId() == projectId);
+                removed = before - tiles.size();
+            }
+            if (removed > 0) {
+                invalidationCount.add(removed);
+            }
+            log.debug("간트 차트 타일 캐시 무효화: projectId={}, 타일 수={}", projectId, removed);
+        });
+    }
+
+    /**
+     * 캐시 통계
+     */
+    public CacheStatsDto stats() {
+        int size;
+        synchronized (this) {
+            size = tiles.size();
+        }
+        long hits = hitCount.sum();
+        long misses = missCount.sum();
+        long requests = hits + misses;
+        return CacheStatsDto.builder()
+                .name("ganttTile")
+                .size(size)
+                .maxSize(maxTiles)
+                .hitCount(hits)
+                .missCount(misses)
+                .evictionCount(evictionCount.sum())
+                .invalidationCount(invalidationCount.sum())
+                .hitRate(requests > 0 ? (double) hits / requests : 0.0)
+                .build();
+    }
+
+    /**
+     * 렌더링된 타일과 그 타일을 만든 데이터 버전
+     */
+    public record Tile(byte[] data, long dataVersion) {
+    }
+
+    /**
+     * 타일 키
+     */
+    public record TileKey(long projectId, GanttTileRenderer.Format format, int zoom, int x, int y) {
+    }
+}
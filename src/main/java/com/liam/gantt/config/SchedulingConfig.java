@@ -0,0 +1,13 @@
+package com.liam.gantt.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/**
+ * 스케줄링 설정 클래스
+ */
+@Configuration
+@EnableScheduling
+public class SchedulingConfig {
+    // @Scheduled 작업 활성화 (집계 보정 등)
+}
@@ -3,6 +3,8 @@ package com.liam.gantt.controller;
 import com.liam.gantt.dto.response.GanttChartDto;
 import com.liam.gantt.dto.response.ProjectResponseDto;
 import com.liam.gantt.dto.response.TaskResponseDto;
+import com.liam.gantt.entity.enums.TaskStatus;
+import com.liam.gantt.geometry.GanttBarGeometry;
 import com.liam.gantt.service.GanttService;
 import com.liam.gantt.service.ProjectService;
 import com.liam.gantt.service.TaskService;
@@ -15,10 +17,11 @@ import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.ResponseBody;
+import org.springframework.web.context.request.WebRequest;
 
+import java.math.BigDecimal;
 import java.time.LocalDate;
 import java.time.format.DateTimeFormatter;
-import java.time.temporal.ChronoUnit;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
@@ -86,26 +89,39 @@ public class GanttWebController {
     }
 
     /**
-     * 간트차트 데이터 API (AJAX 호출용)
+     * 간트차트 데이터 API (AJAX 호출용, If-None-Match가 응답 차트의 버전과 같으면 304)
      */
     @GetMapping("/{projectId}/data")
     @ResponseBody
-    public ResponseEntity<Map<String, Object>> ganttChartData(@PathVariable Long projectId) {
+    public ResponseEntity<Map<String, Object>> ganttChartData(@PathVariable Long projectId, WebRequest request) {
         log.info("간트차트 데이터 API 호출 - projectId: {}", projectId);
         
         try {
+            // 캐시된 차트를 반환하므로 ETag는 차트를 만든 버전으로 생성
             GanttChartDto ganttData = ganttService.getGanttChart(projectId);
+            String eTag = ProjectETag.of("gantt-view", projectId, ganttData.getDataVersion());
+            if (request.checkNotModified(eTag)) {
+                return null;
+            }
             
             // 프론트엔드에서 사용할 수 있는 형태로 데이터 변환
             Map<String, Object> response = new HashMap<>();
             response.put("project", ganttData.getProject());
-            response.put("tasks", enhanceTasksForView(ganttData.getTasks(), ganttData.getProject()));
+            // 막대 위치는 tasks와 같은 순서의 병렬 배열로 전달 (CSS 클래스와 진행률 표시는 status로 결정)
+            List<TaskResponseDto> tasks = ganttData.getTasks() != null ? ganttData.getTasks() : List.of();
+            ProjectResponseDto project = ganttData.getProject();
+            response.put("tasks", toViewTasks(tasks));
+            // 화면은 geometry를 항상 사용하므로 프로젝트 날짜가 없어도 태스크 날짜 범위로 계산
+            response.put("geometry", GanttBarGeometry.of(
+                    project != null ? project.getStartDate() : null,
+                    project != null ? project.getEndDate() : null,
+                    tasks));
             response.put("dependencies", ganttData.getDependencies());
             response.put("criticalPath", ganttData.getCriticalPath());
             response.put("timeline", createTimelineInfo(ganttData));
             response.put("statistics", createStatistics(ganttData));
             
-            return ResponseEntity.ok(response);
+            return ResponseEntity.ok().eTag(eTag).body(response);
             
         } catch (Exception e) {
             log.error("간트차트 데이터 로드 실패: {}", e.getMessage(), e);
@@ -119,72 +135,26 @@ public class GanttWebController {
     }
 
     /**
-     * 태스크 데이터를 뷰에서 사용하기 위해 추가 정보 포함
+     * 뷰에서 사용하는 태스크 필드 (하위 태스크와 의존성은 제외)
      */
-    private List<Map<String, Object>> enhanceTasksForView(List<TaskResponseDto> tasks, ProjectResponseDto project) {
-        List<Map<String, Object>> enhancedTasks = new ArrayList<>();
-        
-        if (tasks != null && project != null) {
-            for (TaskResponseDto task : tasks) {
-                Map<String, Object> enhancedTask = new HashMap<>();
-                // 기본 태스크 정보 복사
-                enhancedTask.put("id", task.getId());
-                enhancedTask.put("name", task.getName());
-                enhancedTask.put("description", task.getDescription());
-                enhancedTask.put("startDate", task.getStartDate());
-                enhancedTask.put("endDate", task.getEndDate());
-                enhancedTask.put("duration", task.getDuration());
-                enhancedTask.put("progress", task.getProgress());
-                enhancedTask.put("status", task.getStatus());
-                
-                // ganttInfo 계산 및 추가 (프로젝트 날짜 기준)
-                enhancedTask.put("ganttInfo", calculateGanttInfo(task, project.getStartDate(), project.getEndDate()));
-                enhancedTasks.add(enhancedTask);
-            }
+    public record ViewTask(Long id, String name, String description, LocalDate startDate, LocalDate endDate,
+                           Integer duration, BigDecimal progress, TaskStatus status) {
+
+        static ViewTask of(TaskResponseDto task) {
+            return new ViewTask(task.getId(), task.getName(), task.getDescription(), task.getStartDate(),
+                    task.getEndDate(), task.getDuration(), task.getProgress(), task.getStatus());
         }
-        
-        return enhancedTasks;
     }
 
     /**
-     * 간트차트 바 표시를 위한 정보 계산
+     * 태스크 목록을 뷰용 필드로 변환
      */
-    private Map<String, Object> calculateGanttInfo(TaskResponseDto task, LocalDate projectStartDate, LocalDate projectEndDate) {
-        Map<String, Object> ganttInfo = new HashMap<>();
-        
-        // CSS 클래스 결정
-        String cssClass = "gantt-task ";
-        if (task.getStatus() != null) {
-            switch (task.getStatus()) {
-                case NOT_STARTED -> cssClass += "not-started";
-                case IN_PROGRESS -> cssClass += "in-progress";
-                case COMPLETED -> cssClass += "completed";
-                case ON_HOLD -> cssClass += "on-hold";
-                case CANCELLED -> cssClass += "cancelled";
-                default -> cssClass += "not-started";
-            }
-        } else {
-            cssClass += "not-started";
+    private List<ViewTask> toViewTasks(List<TaskResponseDto> tasks) {
+        List<ViewTask> viewTasks = new ArrayList<>(tasks.size());
+        for (TaskResponseDto task : tasks) {
+            viewTasks.add(ViewTask.of(task));
         }
-        
-        // 실제 날짜 기반 위치 및 폭 계산
-        long totalProjectDays = ChronoUnit.DAYS.between(projectStartDate, projectEndDate) + 1;
-        long taskStartOffset = ChronoUnit.DAYS.between(projectStartDate, task.getStartDate());
-        long taskDuration = task.getDuration();
-        
-        // 최소값 보장 (0% 미만이나 100% 초과 방지)
-        double leftPercent = Math.max(0, (double) taskStartOffset / totalProjectDays * 100);
-        double widthPercent = Math.min(100 - leftPercent, (double) taskDuration / totalProjectDays * 100);
-        
-        // 최소 표시 크기 보장 (너무 작으면 클릭하기 어려움)
-        widthPercent = Math.max(2.0, widthPercent);
-        
-        ganttInfo.put("cssClass", cssClass);
-        ganttInfo.put("leftPercent", Math.round(leftPercent * 10.0) / 10.0);
-        ganttInfo.put("widthPercent", Math.round(widthPercent * 10.0) / 10.0);
-        ganttInfo.put("progressStyle", task.getStatus() != null && task.getStatus().name().equals("IN_PROGRESS"));
-        
-        return ganttInfo;
+        return viewTasks;
     }
 
     /**
@@ -1,7 +1,9 @@
 package com.liam.gantt.controller;
 
 import com.liam.gantt.dto.response.ProjectResponseDto;
+import com.liam.gantt.dto.response.ProjectStatisticsDto;
 import com.liam.gantt.service.ProjectService;
+import com.liam.gantt.service.ProjectStatisticsService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
@@ -18,6 +20,7 @@ import org.springframework.web.bind.annotation.GetMapping;
 public class HomeController {
 
     private final ProjectService projectService;
+    private final ProjectStatisticsService projectStatisticsService;
 
     @GetMapping("/")
     public String home(Model model) {
@@ -29,14 +32,12 @@ public class HomeController {
             Page<ProjectResponseDto> recentProjects = projectService.findAllWithPaging(pageable);
             
             // 전체 통계 정보
-            long totalProjects = projectService.countAll();
-            long activeProjects = projectService.countByStatus("IN_PROGRESS");
-            long completedProjects = projectService.countByStatus("COMPLETED");
+            ProjectStatisticsDto statistics = projectStatisticsService.getStatistics();
             
             model.addAttribute("recentProjects", recentProjects.getContent());
-            model.addAttribute("totalProjects", totalProjects);
-            model.addAttribute("activeProjects", activeProjects);
-            model.addAttribute("completedProjects", completedProjects);
+            model.addAttribute("totalProjects", statistics.getTotalProjects());
+            model.addAttribute("activeProjects", statistics.getInProgressProjects());
+            model.addAttribute("completedProjects", statistics.getCompletedProjects());
             model.addAttribute("pageTitle", "대시보드");
             model.addAttribute("pageIcon", "fas fa-tachometer-alt");
             model.addAttribute("activePage", "home");
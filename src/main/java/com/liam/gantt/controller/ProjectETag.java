@@ -0,0 +1,24 @@
+package com.liam.gantt.controller;
+
+import java.time.LocalDate;
+
+/**
+ * 프로젝트 데이터 버전 기반 ETag 생성기
+ *
+ * 같은 버전이라도 응답 형태가 다르면 본문이 다르므로 응답 구분자를 포함하고,
+ * 지연 여부처럼 오늘 날짜에 따라 달라지는 값이 있으므로 날짜도 포함합니다.
+ */
+public final class ProjectETag {
+
+    private ProjectETag() {
+    }
+
+    /**
+     * 강한 ETag 생성
+     *
+     * @param representation 응답 구분자 (예: gantt, tasks)
+     */
+    public static String of(String representation, Long projectId, long dataVersion) {
+        return "\"" + representation + "-" + projectId + "-" + dataVersion + "-" + LocalDate.now().toEpochDay() + "\"";
+    }
+}
@@ -1,18 +1,45 @@
 package com.liam.gantt.controller.api.v1;
 
+import com.liam.gantt.cache.GanttTileCache;
+import com.liam.gantt.controller.ProjectETag;
 import com.liam.gantt.dto.request.TaskDependencyRequestDto;
+import com.liam.gantt.dto.response.CacheStatsDto;
+import com.liam.gantt.dto.response.DependencyBatchResultDto;
 import com.liam.gantt.dto.response.GanttChartDto;
+import com.liam.gantt.dto.response.GanttWindowDto;
+import com.liam.gantt.dto.response.ProjectChangesDto;
+import com.liam.gantt.dto.response.ScheduleChangeSummaryDto;
 import com.liam.gantt.dto.response.TaskDependencyResponseDto;
+import com.liam.gantt.dto.response.TaskScheduleDto;
+import com.liam.gantt.export.GanttColumnarEncoder;
+import com.liam.gantt.render.GanttRenderLayout;
+import com.liam.gantt.render.GanttTileRenderer;
 import com.liam.gantt.service.GanttService;
+import com.liam.gantt.service.ProjectService;
+import com.liam.gantt.sync.ProjectEventBroadcaster;
 import jakarta.validation.Valid;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.NotEmpty;
 import jakarta.validation.constraints.Positive;
+import jakarta.validation.constraints.PositiveOrZero;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.BufferedWriter;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.Locale;
 import java.util.List;
 
 /**
@@ -29,19 +56,179 @@ import java.util.List;
 public class GanttController {
 
     private final GanttService ganttService;
+    private final ProjectService projectService;
+    private final ProjectEventBroadcaster eventBroadcaster;
 
     /**
-     * 프로젝트의 간트 차트 데이터 조회
+     * 프로젝트의 간트 차트 데이터 조회 (If-None-Match가 응답 차트의 버전과 같으면 304)
+     * 
+     * 캐시는 커밋 후에 무효화되므로 ETag는 방금 읽은 버전이 아니라 실제로 반환하는 차트를 만든 버전으로 만듭니다.
      */
     @GetMapping("/projects/{projectId}/gantt")
-    public ResponseEntity<GanttChartDto> getGanttChart(@PathVariable @Positive Long projectId) {
+    public ResponseEntity<GanttChartDto> getGanttChart(@PathVariable @Positive Long projectId, WebRequest request) {
         log.info("간트 차트 데이터 조회 요청 - projectId: {}", projectId);
         
         GanttChartDto ganttChart = ganttService.getGanttChart(projectId);
+        String eTag = ProjectETag.of("gantt", projectId, ganttChart.getDataVersion());
+        if (request.checkNotModified(eTag)) {
+            return null;
+        }
         
         log.info("간트 차트 데이터 조회 완료 - projectId: {}, 태스크 수: {}", 
                 projectId, ganttChart.getTasks().size());
-        return ResponseEntity.ok(ganttChart);
+        return ResponseEntity.ok().eTag(eTag).varyBy(HttpHeaders.ACCEPT).body(ganttChart);
+    }
+
+    /**
+     * 프로젝트의 간트 차트 데이터 조회 - 열 단위 이진 형식 (Accept로 선택, If-None-Match가 응답 차트의 버전과 같으면 304)
+     * 
+     * 형식은 {@link GanttColumnarEncoder} 참고
+     */
+    @GetMapping(value = "/projects/{projectId}/gantt", produces = GanttColumnarEncoder.MEDIA_TYPE_VALUE)
+    public ResponseEntity<StreamingResponseBody> getGanttChartColumnar(@PathVariable @Positive Long projectId,
+                                                                       WebRequest request) {
+        log.info("간트 차트 열 단위 데이터 조회 요청 - projectId: {}", projectId);
+        
+        GanttChartDto ganttChart = ganttService.getGanttChart(projectId);
+        String eTag = ProjectETag.of("gantt-columnar", projectId, ganttChart.getDataVersion());
+        if (request.checkNotModified(eTag)) {
+            return null;
+        }
+        
+        StreamingResponseBody body = out -> {
+            int count = GanttColumnarEncoder.write(ganttChart, out);
+            log.info("간트 차트 열 단위 데이터 조회 완료 - projectId: {}, 태스크 수: {}", projectId, count);
+        };
+        return ResponseEntity.ok().eTag(eTag).varyBy(HttpHeaders.ACCEPT)
+                .contentType(GanttColumnarEncoder.MEDIA_TYPE).body(body);
+    }
+
+    /**
+     * 간트 차트 타일 조회 (png 또는 svg, If-None-Match가 응답 타일의 버전과 같으면 304)
+     * 
+     * 확대 단계 zoom에서 하루는 2^zoom 픽셀, 한 행은 24픽셀이며 타일 (x, y)는 타임라인 시작일과 첫 행을 원점으로 한 256픽셀 정사각형입니다.
+     */
+    @GetMapping("/projects/{projectId}/gantt/tiles/{zoom}/{x}/{y}.{format}")
+    public ResponseEntity<byte[]> getGanttTile(
+            @PathVariable @Positive Long projectId,
+            @PathVariable @PositiveOrZero @Max(GanttTileRenderer.MAX_ZOOM) int zoom,
+            @PathVariable @PositiveOrZero @Max(GanttTileRenderer.MAX_TILE_INDEX) int x,
+            @PathVariable @PositiveOrZero @Max(GanttTileRenderer.MAX_TILE_INDEX) int y,
+            @PathVariable String format,
+            WebRequest request) {
+        log.debug("간트 차트 타일 조회 요청 - projectId: {}, zoom: {}, x: {}, y: {}, format: {}", projectId, zoom, x, y, format);
+        
+        GanttTileRenderer.Format tileFormat = tileFormat(format);
+        GanttTileCache.Tile tile = ganttService.getGanttTile(projectId, tileFormat, zoom, x, y);
+        String eTag = ProjectETag.of("gantt-tile", projectId, tile.dataVersion());
+        if (request.checkNotModified(eTag)) {
+            return null;
+        }
+        
+        return ResponseEntity.ok().eTag(eTag)
+                .contentType(MediaType.parseMediaType(tileFormat.getMediaType()))
+                .body(tile.data());
+    }
+
+    /**
+     * 간트 차트 전체 SVG 스트리밍 (If-None-Match가 응답 배치의 버전과 같으면 304)
+     */
+    @GetMapping(value = "/projects/{projectId}/gantt.svg", produces = "image/svg+xml")
+    public ResponseEntity<StreamingResponseBody> getGanttSvg(
+            @PathVariable @Positive Long projectId,
+            @RequestParam(defaultValue = "2") @PositiveOrZero @Max(GanttTileRenderer.MAX_ZOOM) int zoom,
+            WebRequest request) {
+        log.info("간트 차트 SVG 요청 - projectId: {}, zoom: {}", projectId, zoom);
+        
+        GanttRenderLayout layout = ganttService.getGanttRenderLayout(projectId);
+        String eTag = ProjectETag.of("gantt-svg", projectId, layout.dataVersion());
+        if (request.checkNotModified(eTag)) {
+            return null;
+        }
+        
+        StreamingResponseBody body = out -> {
+            Writer writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8), 64 * 1024);
+            GanttTileRenderer.writeSvg(layout, zoom, writer);
+            log.info("간트 차트 SVG 출력 완료 - projectId: {}, 행 수: {}", projectId, layout.rowCount());
+        };
+        return ResponseEntity.ok().eTag(eTag).contentType(MediaType.parseMediaType("image/svg+xml")).body(body);
+    }
+
+    /**
+     * 간트 차트 화면 영역 조회 (If-None-Match가 응답 영역을 잘라낸 차트의 버전과 같으면 304)
+     * 
+     * 계층을 펼친 행 중 [rowOffset, rowOffset + rowLimit) 범위에서 기간 [from, to]에 걸치는 막대와
+     * 이와 연결된 의존성, 전체 행 수만 반환하므로 클라이언트는 보이는 행만 그릴 수 있습니다.
+     */
+    @GetMapping("/projects/{projectId}/gantt/window")
+    public ResponseEntity<GanttWindowDto> getGanttWindow(
+            @PathVariable @Positive Long projectId,
+            @RequestParam(required = false) LocalDate from,
+            @RequestParam(required = false) LocalDate to,
+            @RequestParam(defaultValue = "0") @PositiveOrZero int rowOffset,
+            @RequestParam(defaultValue = "200") @Positive int rowLimit,
+            @RequestParam(required = false) List<Long> collapsed,
+            WebRequest request) {
+        log.info("간트 차트 화면 영역 조회 요청 - projectId: {}, from: {}, to: {}, rowOffset: {}, rowLimit: {}",
+                projectId, from, to, rowOffset, rowLimit);
+        
+        GanttWindowDto window = ganttService.getGanttWindow(projectId, from, to, rowOffset, rowLimit, collapsed);
+        
+        // URL마다 응답이 다르고 캐시는 URL 단위로 구분되므로 버전만으로 ETag를 만듦
+        String eTag = ProjectETag.of("gantt-window", projectId, window.getDataVersion());
+        if (request.checkNotModified(eTag)) {
+            return null;
+        }
+        
+        log.info("간트 차트 화면 영역 조회 완료 - projectId: {}, 전체 행 수: {}, 막대 수: {}, 의존성 수: {}",
+                projectId, window.getTotalRowCount(), window.getBars().size(), window.getDependencies().size());
+        return ResponseEntity.ok().eTag(eTag).body(window);
+    }
+
+    /**
+     * 프로젝트 변경 이벤트 구독 (SSE)
+     * 
+     * 연결 직후 현재 버전을 connected 이벤트로, 이후 커밋된 변경을 change 이벤트로 전송합니다.
+     * 재연결 시에는 마지막으로 받은 버전으로 변경분을 조회해 누락분을 채웁니다.
+     */
+    @GetMapping(value = "/projects/{projectId}/events", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter subscribeProjectEvents(@PathVariable @Positive Long projectId) {
+        log.info("프로젝트 변경 이벤트 구독 요청 - projectId: {}", projectId);
+        
+        return eventBroadcaster.subscribe(projectId, projectService.getDataVersion(projectId));
+    }
+
+    /**
+     * 지정 버전 이후의 프로젝트 변경분 조회
+     */
+    @GetMapping("/projects/{projectId}/changes")
+    public ResponseEntity<ProjectChangesDto> getProjectChanges(
+            @PathVariable @Positive Long projectId,
+            @RequestParam(defaultValue = "0") @PositiveOrZero long since) {
+        log.info("프로젝트 변경분 조회 요청 - projectId: {}, since: {}", projectId, since);
+        
+        ProjectChangesDto changes = ganttService.getChangesSince(projectId, since);
+        
+        log.info("프로젝트 변경분 조회 완료 - projectId: {}, 현재 버전: {}, 전체 데이터: {}, 변경 태스크 수: {}, 삭제 태스크 수: {}",
+                projectId, changes.getCurrentVersion(), changes.isFullSnapshot(),
+                changes.getTasks().size(), changes.getDeletedTaskIds().size());
+        return ResponseEntity.ok(changes);
+    }
+
+    /**
+     * 간트 차트 캐시 통계 조회
+     */
+    @GetMapping("/gantt/cache/stats")
+    public ResponseEntity<CacheStatsDto> getGanttChartCacheStats() {
+        return ResponseEntity.ok(ganttService.getGanttChartCacheStats());
+    }
+
+    /**
+     * 간트 차트 타일 캐시 통계 조회
+     */
+    @GetMapping("/gantt/tiles/cache/stats")
+    public ResponseEntity<CacheStatsDto> getGanttTileCacheStats() {
+        return ResponseEntity.ok(ganttService.getGanttTileCacheStats());
     }
 
     /**
@@ -60,6 +247,21 @@ public class GanttController {
         return ResponseEntity.status(HttpStatus.CREATED).body(dependency);
     }
 
+    /**
+     * 태스크 의존성 일괄 추가
+     */
+    @PostMapping("/projects/{projectId}/dependencies/batch")
+    public ResponseEntity<DependencyBatchResultDto> addDependencies(
+            @PathVariable @Positive Long projectId,
+            @RequestBody @NotEmpty List<@Valid TaskDependencyRequestDto> requestDtos) {
+        log.info("태스크 의존성 일괄 추가 요청 - projectId: {}, 요청 수: {}", projectId, requestDtos.size());
+        
+        DependencyBatchResultDto result = ganttService.addDependencies(projectId, requestDtos);
+        
+        log.info("태스크 의존성 일괄 추가 완료 - projectId: {}, 등록 수: {}", projectId, result.getCreatedCount());
+        return ResponseEntity.status(HttpStatus.CREATED).body(result);
+    }
+
     /**
      * 태스크 의존성 제거
      */
@@ -114,6 +316,19 @@ public class GanttController {
         return ResponseEntity.ok(criticalPath);
     }
 
+    /**
+     * CPM 일정 계산 (태스크별 ES/EF/LS/LF 및 총 여유)
+     */
+    @GetMapping("/projects/{projectId}/schedule")
+    public ResponseEntity<List<TaskScheduleDto>> calculateSchedule(@PathVariable @Positive Long projectId) {
+        log.info("CPM 일정 계산 요청 - projectId: {}", projectId);
+        
+        List<TaskScheduleDto> schedule = ganttService.calculateSchedule(projectId);
+        
+        log.info("CPM 일정 계산 완료 - projectId: {}, 태스크 수: {}", projectId, schedule.size());
+        return ResponseEntity.ok(schedule);
+    }
+
     /**
      * 순환 의존성 체크
      */
@@ -141,13 +356,21 @@ public class GanttController {
      * 프로젝트 일정 재계산
      */
     @PostMapping("/projects/{projectId}/recalculate-schedule")
-    public ResponseEntity<Void> recalculateProjectSchedule(@PathVariable @Positive Long projectId) {
+    public ResponseEntity<ScheduleChangeSummaryDto> recalculateProjectSchedule(@PathVariable @Positive Long projectId) {
         log.info("프로젝트 일정 재계산 요청 - projectId: {}", projectId);
         
-        ganttService.recalculateProjectSchedule(projectId);
+        ScheduleChangeSummaryDto summary = ganttService.recalculateProjectSchedule(projectId);
         
-        log.info("프로젝트 일정 재계산 완료 - projectId: {}", projectId);
-        return ResponseEntity.ok().build();
+        log.info("프로젝트 일정 재계산 완료 - projectId: {}, 이동 태스크 수: {}", projectId, summary.getMovedTaskCount());
+        return ResponseEntity.ok(summary);
+    }
+
+    private static GanttTileRenderer.Format tileFormat(String format) {
+        return switch (format.toLowerCase(Locale.ROOT)) {
+            case "png" -> GanttTileRenderer.Format.PNG;
+            case "svg" -> GanttTileRenderer.Format.SVG;
+            default -> throw new IllegalArgumentException("지원하지 않는 타일 형식입니다: " + format);
+        };
     }
 
     /**
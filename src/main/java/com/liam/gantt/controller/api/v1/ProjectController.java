@@ -1,9 +1,14 @@
 package com.liam.gantt.controller.api.v1;
 
 import com.liam.gantt.dto.request.ProjectRequestDto;
+import com.liam.gantt.dto.response.CursorPageDto;
 import com.liam.gantt.dto.response.ProjectResponseDto;
+import com.liam.gantt.dto.response.ProjectStatisticsDto;
 import com.liam.gantt.service.ProjectService;
+import com.liam.gantt.service.ProjectStatisticsService;
 import jakarta.validation.Valid;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
 import jakarta.validation.constraints.Positive;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -31,6 +36,7 @@ import java.util.List;
 public class ProjectController {
     
     private final ProjectService projectService;
+    private final ProjectStatisticsService projectStatisticsService;
 
     /**
      * 프로젝트 목록 조회 (페이징)
@@ -48,6 +54,25 @@ public class ProjectController {
         return ResponseEntity.ok(projects);
     }
 
+    /**
+     * 프로젝트 목록 조회 (커서 기반, 생성일시 순)
+     * 
+     * OFFSET 없이 마지막으로 받은 행 다음부터 읽으므로 페이지가 깊어져도 조회 비용이 일정합니다.
+     * 전체 개수는 includeTotal=true일 때만 계산합니다.
+     */
+    @GetMapping("/cursor")
+    public ResponseEntity<CursorPageDto<ProjectResponseDto>> getAllProjectsWithCursor(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") @Min(1) @Max(500) int size,
+            @RequestParam(defaultValue = "false") boolean includeTotal) {
+        log.info("프로젝트 커서 조회 요청 - size: {}, 커서 지정: {}", size, cursor != null);
+        
+        CursorPageDto<ProjectResponseDto> projects = projectService.findAllWithCursor(cursor, size, includeTotal);
+        
+        log.info("프로젝트 커서 조회 완료 - 현재 페이지 {}개, 다음 페이지: {}", projects.getSize(), projects.isHasNext());
+        return ResponseEntity.ok(projects);
+    }
+
     /**
      * 프로젝트 상세 조회
      */
@@ -134,88 +159,12 @@ public class ProjectController {
      * 프로젝트 통계 조회
      */
     @GetMapping("/statistics")
-    public ResponseEntity<ProjectStatistics> getProjectStatistics() {
+    public ResponseEntity<ProjectStatisticsDto> getProjectStatistics() {
         log.info("프로젝트 통계 조회 요청");
         
-        long totalCount = projectService.countAll();
-        long planningCount = projectService.countByStatus("PLANNING");
-        long inProgressCount = projectService.countByStatus("IN_PROGRESS");
-        long completedCount = projectService.countByStatus("COMPLETED");
-        long onHoldCount = projectService.countByStatus("ON_HOLD");
-        long cancelledCount = projectService.countByStatus("CANCELLED");
-        
-        ProjectStatistics statistics = ProjectStatistics.builder()
-                .totalProjects(totalCount)
-                .planningProjects(planningCount)
-                .inProgressProjects(inProgressCount)
-                .completedProjects(completedCount)
-                .onHoldProjects(onHoldCount)
-                .cancelledProjects(cancelledCount)
-                .build();
-        
-        log.info("프로젝트 통계 조회 완료 - 전체: {}개", totalCount);
+        ProjectStatisticsDto statistics = projectStatisticsService.getStatistics();
+        
+        log.info("프로젝트 통계 조회 완료 - 전체: {}개", statistics.getTotalProjects());
         return ResponseEntity.ok(statistics);
     }
-    
-    /**
-     * 프로젝트 통계 DTO
-     */
-    public static class ProjectStatistics {
-        private long totalProjects;
-        private long planningProjects;
-        private long inProgressProjects;
-        private long completedProjects;
-        private long onHoldProjects;
-        private long cancelledProjects;
-
-        public static Builder builder() {
-            return new Builder();
-        }
-
-        public static class Builder {
-            private ProjectStatistics statistics = new ProjectStatistics();
-
-            public Builder totalProjects(long totalProjects) {
-                statistics.totalProjects = totalProjects;
-                return this;
-            }
-
-            public Builder planningProjects(long planningProjects) {
-                statistics.planningProjects = planningProjects;
-                return this;
-            }
-
-            public Builder inProgressProjects(long inProgressProjects) {
-                statistics.inProgressProjects = inProgressProjects;
-                return this;
-            }
-
-            public Builder completedProjects(long completedProjects) {
-                statistics.completedProjects = completedProjects;
-                return this;
-            }
-
-            public Builder onHoldProjects(long onHoldProjects) {
-                statistics.onHoldProjects = onHoldProjects;
-                return this;
-            }
-
-            public Builder cancelledProjects(long cancelledProjects) {
-                statistics.cancelledProjects = cancelledProjects;
-                return this;
-            }
-
-            public ProjectStatistics build() {
-                return statistics;
-            }
-        }
-
-        // Getters
-        public long getTotalProjects() { return totalProjects; }
-        public long getPlanningProjects() { return planningProjects; }
-        public long getInProgressProjects() { return inProgressProjects; }
-        public long getCompletedProjects() { return completedProjects; }
-        public long getOnHoldProjects() { return onHoldProjects; }
-        public long getCancelledProjects() { return cancelledProjects; }
-    }
 }
\ No newline at end of file
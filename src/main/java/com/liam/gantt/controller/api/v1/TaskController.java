@@ -1,10 +1,22 @@
 package com.liam.gantt.controller.api.v1;
 
+import com.liam.gantt.controller.ProjectETag;
+import com.liam.gantt.dto.request.TaskImportItemDto;
+import com.liam.gantt.dto.request.TaskProgressUpdateDto;
 import com.liam.gantt.dto.request.TaskRequestDto;
+import com.liam.gantt.dto.request.TaskSubtreeMoveRequestDto;
+import com.liam.gantt.dto.response.CursorPageDto;
+import com.liam.gantt.dto.response.TaskImportResultDto;
+import com.liam.gantt.dto.response.TaskProgressBatchResultDto;
 import com.liam.gantt.dto.response.TaskResponseDto;
 import com.liam.gantt.entity.enums.TaskStatus;
+import com.liam.gantt.export.TaskJsonExporter;
+import com.liam.gantt.service.ProjectService;
 import com.liam.gantt.service.TaskService;
 import jakarta.validation.Valid;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotEmpty;
 import jakarta.validation.constraints.Positive;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -12,11 +24,15 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.web.PageableDefault;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.math.BigDecimal;
+import java.time.LocalDate;
 import java.util.List;
 
 /**
@@ -33,18 +49,46 @@ import java.util.List;
 public class TaskController {
 
     private final TaskService taskService;
+    private final ProjectService projectService;
+    private final TaskJsonExporter taskJsonExporter;
 
     /**
-     * 프로젝트별 태스크 목록 조회
+     * 프로젝트별 태스크 목록 조회 (If-None-Match가 현재 버전과 같으면 304)
      */
     @GetMapping("/projects/{projectId}/tasks")
-    public ResponseEntity<List<TaskResponseDto>> getTasksByProject(@PathVariable @Positive Long projectId) {
+    public ResponseEntity<List<TaskResponseDto>> getTasksByProject(@PathVariable @Positive Long projectId,
+                                                                   WebRequest request) {
         log.info("프로젝트 태스크 목록 조회 요청 - projectId: {}", projectId);
         
+        String eTag = ProjectETag.of("tasks", projectId, projectService.getDataVersion(projectId));
+        if (request.checkNotModified(eTag)) {
+            return null;
+        }
+        
         List<TaskResponseDto> tasks = taskService.findByProjectId(projectId);
         
         log.info("프로젝트 태스크 목록 조회 완료 - projectId: {}, 태스크 수: {}", projectId, tasks.size());
-        return ResponseEntity.ok(tasks);
+        return ResponseEntity.ok().eTag(eTag).body(tasks);
+    }
+
+    /**
+     * 프로젝트별 태스크 목록 스트리밍 내보내기 (대용량 프로젝트용, If-None-Match가 현재 버전과 같으면 304)
+     */
+    @GetMapping(value = "/projects/{projectId}/tasks/export", produces = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> exportTasksByProject(@PathVariable @Positive Long projectId,
+                                                                      WebRequest request) {
+        log.info("프로젝트 태스크 내보내기 요청 - projectId: {}", projectId);
+        
+        String eTag = ProjectETag.of("tasks-export", projectId, projectService.getDataVersion(projectId));
+        if (request.checkNotModified(eTag)) {
+            return null;
+        }
+        
+        StreamingResponseBody body = out -> {
+            long count = taskJsonExporter.writeTasks(projectId, out);
+            log.info("프로젝트 태스크 내보내기 완료 - projectId: {}, 태스크 수: {}", projectId, count);
+        };
+        return ResponseEntity.ok().eTag(eTag).contentType(MediaType.APPLICATION_JSON).body(body);
     }
 
     /**
@@ -64,6 +108,27 @@ public class TaskController {
         return ResponseEntity.ok(tasks);
     }
 
+    /**
+     * 프로젝트별 태스크 목록 조회 (커서 기반, 시작일 순)
+     * 
+     * OFFSET 없이 마지막으로 받은 행 다음부터 읽으므로 페이지가 깊어져도 조회 비용이 일정합니다.
+     * 전체 개수는 includeTotal=true일 때만 계산합니다.
+     */
+    @GetMapping("/projects/{projectId}/tasks/cursor")
+    public ResponseEntity<CursorPageDto<TaskResponseDto>> getTasksByProjectWithCursor(
+            @PathVariable @Positive Long projectId,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "50") @Min(1) @Max(500) int size,
+            @RequestParam(defaultValue = "false") boolean includeTotal) {
+        log.info("프로젝트 태스크 커서 조회 요청 - projectId: {}, size: {}, 커서 지정: {}", projectId, size, cursor != null);
+        
+        CursorPageDto<TaskResponseDto> tasks = taskService.findByProjectIdWithCursor(projectId, cursor, size, includeTotal);
+        
+        log.info("프로젝트 태스크 커서 조회 완료 - projectId: {}, 현재 페이지 {}개, 다음 페이지: {}",
+                projectId, tasks.getSize(), tasks.isHasNext());
+        return ResponseEntity.ok(tasks);
+    }
+
     /**
      * 태스크 상세 조회
      */
@@ -105,6 +170,21 @@ public class TaskController {
         return ResponseEntity.status(HttpStatus.CREATED).body(createdTask);
     }
 
+    /**
+     * 태스크 일괄 가져오기 (WBS 트리)
+     */
+    @PostMapping("/projects/{projectId}/tasks/import")
+    public ResponseEntity<TaskImportResultDto> importTasks(
+            @PathVariable @Positive Long projectId,
+            @RequestBody @NotEmpty List<@Valid TaskImportItemDto> items) {
+        log.info("태스크 일괄 가져오기 요청 - projectId: {}, 항목 수: {}", projectId, items.size());
+        
+        TaskImportResultDto result = taskService.importTasks(projectId, items);
+        
+        log.info("태스크 일괄 가져오기 완료 - projectId: {}, 생성 수: {}", projectId, result.getCreatedCount());
+        return ResponseEntity.status(HttpStatus.CREATED).body(result);
+    }
+
     /**
      * 태스크 수정
      */
@@ -148,6 +228,21 @@ public class TaskController {
         return ResponseEntity.ok(updatedTask);
     }
 
+    /**
+     * 프로젝트 태스크 진행률 일괄 업데이트
+     */
+    @PatchMapping("/projects/{projectId}/tasks/progress")
+    public ResponseEntity<TaskProgressBatchResultDto> updateTaskProgressBatch(
+            @PathVariable @Positive Long projectId,
+            @RequestBody @NotEmpty List<@Valid TaskProgressUpdateDto> items) {
+        log.info("태스크 진행률 일괄 업데이트 요청 - projectId: {}, 항목 수: {}", projectId, items.size());
+        
+        TaskProgressBatchResultDto result = taskService.updateProgressBatch(projectId, items);
+        
+        log.info("태스크 진행률 일괄 업데이트 완료 - projectId: {}, 변경 수: {}", projectId, result.getUpdatedCount());
+        return ResponseEntity.ok(result);
+    }
+
     /**
      * 태스크 상태 변경
      */
@@ -193,16 +288,22 @@ public class TaskController {
     }
 
     /**
-     * 프로젝트 태스크 계층구조 조회
+     * 프로젝트 태스크 계층구조 조회 (If-None-Match가 현재 버전과 같으면 304)
      */
     @GetMapping("/projects/{projectId}/tasks/hierarchy")
-    public ResponseEntity<List<TaskResponseDto>> getTaskHierarchy(@PathVariable @Positive Long projectId) {
+    public ResponseEntity<List<TaskResponseDto>> getTaskHierarchy(@PathVariable @Positive Long projectId,
+                                                                  WebRequest request) {
         log.info("태스크 계층구조 조회 요청 - projectId: {}", projectId);
         
+        String eTag = ProjectETag.of("hierarchy", projectId, projectService.getDataVersion(projectId));
+        if (request.checkNotModified(eTag)) {
+            return null;
+        }
+        
         List<TaskResponseDto> taskHierarchy = taskService.findTaskHierarchyByProjectId(projectId);
         
         log.info("태스크 계층구조 조회 완료 - projectId: {}, 전체 태스크 수: {}", projectId, taskHierarchy.size());
-        return ResponseEntity.ok(taskHierarchy);
+        return ResponseEntity.ok().eTag(eTag).body(taskHierarchy);
     }
 
     /**
@@ -234,6 +335,53 @@ public class TaskController {
         return ResponseEntity.ok(movedTask);
     }
 
+    /**
+     * 하위 트리 이동 (상위 태스크 변경 및 하위 태스크 포함 날짜 이동)
+     */
+    @PatchMapping("/tasks/{id}/subtree")
+    public ResponseEntity<TaskResponseDto> moveSubtree(
+            @PathVariable @Positive Long id,
+            @Valid @RequestBody TaskSubtreeMoveRequestDto request) {
+        log.info("하위 트리 이동 요청 - id: {}, parentTaskId: {}, toRoot: {}, dayOffset: {}",
+                id, request.getParentTaskId(), request.isToRoot(), request.getDayOffset());
+        
+        TaskResponseDto movedTask = taskService.moveSubtree(id, request);
+        
+        log.info("하위 트리 이동 완료 - id: {}, 영향받은 태스크 수: {}", movedTask.getId(), movedTask.getAffectedTaskIds().size());
+        return ResponseEntity.ok(movedTask);
+    }
+
+    /**
+     * 기간 내 진행 태스크 조회 (기간 [from, to]와 겹치는 태스크)
+     */
+    @GetMapping("/projects/{projectId}/tasks/active")
+    public ResponseEntity<List<TaskResponseDto>> getActiveTasks(
+            @PathVariable @Positive Long projectId,
+            @RequestParam LocalDate from,
+            @RequestParam LocalDate to) {
+        log.info("기간 내 진행 태스크 조회 요청 - projectId: {}, 기간: {} ~ {}", projectId, from, to);
+        
+        List<TaskResponseDto> tasks = taskService.findActiveTasks(projectId, from, to);
+        
+        log.info("기간 내 진행 태스크 조회 완료 - projectId: {}, 태스크 수: {}", projectId, tasks.size());
+        return ResponseEntity.ok(tasks);
+    }
+
+    /**
+     * 전체 프로젝트 기간 내 진행 태스크 조회
+     */
+    @GetMapping("/tasks/active")
+    public ResponseEntity<List<TaskResponseDto>> getActiveTasksAcrossProjects(
+            @RequestParam LocalDate from,
+            @RequestParam LocalDate to) {
+        log.info("전체 프로젝트 기간 내 진행 태스크 조회 요청 - 기간: {} ~ {}", from, to);
+        
+        List<TaskResponseDto> tasks = taskService.findActiveTasks(from, to);
+        
+        log.info("전체 프로젝트 기간 내 진행 태스크 조회 완료 - 태스크 수: {}", tasks.size());
+        return ResponseEntity.ok(tasks);
+    }
+
     /**
      * 태스크 검색
      */
@@ -0,0 +1,76 @@
+package com.liam.gantt.dto.request;
+
+import com.liam.gantt.entity.enums.TaskStatus;
+import jakarta.validation.constraints.*;
+import lombok.*;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+/**
+ * 태스크 일괄 가져오기 항목 DTO
+ *
+ * 상위 태스크는 같은 요청 안의 임시 ID(parentTempId) 또는 이미 저장된 태스크 ID(parentTaskId) 중 하나로 지정합니다.
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@ToString
+public class TaskImportItemDto {
+    
+    @NotBlank(message = "임시 ID는 필수입니다")
+    @Size(max = 64, message = "임시 ID는 64자를 초과할 수 없습니다")
+    private String tempId;
+    
+    // 같은 요청 안의 상위 태스크 임시 ID
+    private String parentTempId;
+    
+    // 이미 저장된 상위 태스크 ID
+    private Long parentTaskId;
+    
+    @NotBlank(message = "태스크명은 필수입니다")
+    @Size(min = 1, max = 200, message = "태스크명은 1-200자 사이여야 합니다")
+    private String name;
+    
+    @Size(max = 1000, message = "설명은 1000자를 초과할 수 없습니다")
+    private String description;
+    
+    @NotNull(message = "시작일은 필수입니다")
+    private LocalDate startDate;
+    
+    @NotNull(message = "종료일은 필수입니다")
+    private LocalDate endDate;
+    
+    @Positive(message = "기간은 양수여야 합니다")
+    private Integer duration;
+    
+    @DecimalMin(value = "0.0", message = "진행률은 0 이상이어야 합니다")
+    @DecimalMax(value = "100.0", message = "진행률은 100 이하여야 합니다")
+    @Builder.Default
+    private BigDecimal progress = BigDecimal.ZERO;
+    
+    @Builder.Default
+    private TaskStatus status = TaskStatus.NOT_STARTED;
+    
+    /**
+     * 날짜 유효성 검증
+     */
+    public boolean isValidDateRange() {
+        if (startDate == null || endDate == null) {
+            return false;
+        }
+        return !endDate.isBefore(startDate);
+    }
+    
+    /**
+     * 기간 자동 계산 (일 단위)
+     */
+    public int calculateDuration() {
+        if (startDate == null || endDate == null) {
+            return 0;
+        }
+        return (int) java.time.temporal.ChronoUnit.DAYS.between(startDate, endDate) + 1;
+    }
+}
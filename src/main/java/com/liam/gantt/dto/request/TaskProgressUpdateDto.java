@@ -0,0 +1,27 @@
+package com.liam.gantt.dto.request;
+
+import jakarta.validation.constraints.*;
+import lombok.*;
+
+import java.math.BigDecimal;
+
+/**
+ * 태스크 진행률 일괄 업데이트 항목 DTO
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@ToString
+public class TaskProgressUpdateDto {
+    
+    @NotNull(message = "태스크 ID는 필수입니다")
+    @Positive(message = "태스크 ID는 양수여야 합니다")
+    private Long taskId;
+    
+    @NotNull(message = "진행률은 필수입니다")
+    @DecimalMin(value = "0.0", message = "진행률은 0 이상이어야 합니다")
+    @DecimalMax(value = "100.0", message = "진행률은 100 이하여야 합니다")
+    private BigDecimal progress;
+}
@@ -0,0 +1,32 @@
+package com.liam.gantt.dto.request;
+
+import jakarta.validation.constraints.*;
+import lombok.*;
+
+/**
+ * 하위 트리 이동 요청 DTO
+ *
+ * 상위 태스크 변경과 날짜 이동을 함께 또는 따로 지정할 수 있습니다.
+ * parentTaskId와 toRoot를 모두 비워 두면 상위 태스크는 그대로 두고 날짜만 이동합니다.
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@ToString
+public class TaskSubtreeMoveRequestDto {
+    
+    // 새 상위 태스크 ID
+    @Positive(message = "상위 태스크 ID는 양수여야 합니다")
+    private Long parentTaskId;
+    
+    // 루트 태스크로 이동
+    private boolean toRoot;
+    
+    @NotNull(message = "이동 일수는 필수입니다")
+    @Min(value = -36_500, message = "이동 일수는 -36500 이상이어야 합니다")
+    @Max(value = 36_500, message = "이동 일수는 36500 이하여야 합니다")
+    @Builder.Default
+    private Integer dayOffset = 0;
+}
@@ -0,0 +1,24 @@
+package com.liam.gantt.dto.response;
+
+import lombok.*;
+
+/**
+ * 캐시 통계 DTO
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@ToString
+public class CacheStatsDto {
+
+    private String name;
+    private int size;
+    private int maxSize;
+    private long hitCount;
+    private long missCount;
+    private long evictionCount;
+    private long invalidationCount;
+    private double hitRate;
+}
@@ -0,0 +1,29 @@
+package com.liam.gantt.dto.response;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.*;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 커서 기반 페이지 응답 DTO
+ *
+ * nextCursor는 다음 페이지가 있을 때만 채워지며, totalCount는 요청한 경우에만 포함됩니다.
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@ToString
+public class CursorPageDto<T> {
+
+    @Builder.Default
+    private List<T> content = new ArrayList<>();
+    private int size;
+    private boolean hasNext;
+    private String nextCursor;
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private Long totalCount;
+}
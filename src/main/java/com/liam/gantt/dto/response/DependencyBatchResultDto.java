@@ -0,0 +1,25 @@
+package com.liam.gantt.dto.response;
+
+import lombok.*;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 의존성 일괄 등록 결과 DTO
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@ToString
+public class DependencyBatchResultDto {
+
+    private Long projectId;
+    private int createdCount;
+
+    // 생성된 의존성 ID (요청 순서)
+    @Builder.Default
+    private List<Long> dependencyIds = new ArrayList<>();
+}
@@ -30,6 +30,9 @@ public class GanttChartDto {
     @Builder.Default
     private List<TaskResponseDto> criticalPath = new ArrayList<>();
     
+    /** 차트를 만든 프로젝트 데이터 버전 (이 버전을 읽은 뒤 조회한 데이터로 구성, ETag 기준) */
+    private long dataVersion;
+    
     /**
      * 타임라인 정보 내부 클래스
      */
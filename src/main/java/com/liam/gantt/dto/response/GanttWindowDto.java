@@ -0,0 +1,57 @@
+package com.liam.gantt.dto.response;
+
+import lombok.*;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 간트 차트 화면 영역(viewport) 응답 DTO
+ *
+ * 계층을 펼친 행 순서에서 [rowOffset, rowOffset + rowLimit) 범위에 있으면서 기간 [from, to]와 겹치는 막대만 담습니다.
+ * totalRowCount는 접힌 태스크의 하위 행을 제외한 전체 행 수이므로 클라이언트는 이 값으로 스크롤 영역을 잡고 보이는 행만 요청합니다.
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@ToString
+public class GanttWindowDto {
+
+    private Long projectId;
+    private GanttChartDto.TimelineInfo timeline;
+
+    /** 조회 기간 (지정하지 않으면 null) */
+    private LocalDate from;
+    private LocalDate to;
+
+    private int rowOffset;
+    private int rowLimit;
+    private int totalRowCount;
+
+    /** 잘라낸 간트 차트의 데이터 버전 (ETag 기준) */
+    private long dataVersion;
+
+    /** 화면에 보이는 막대 (행 순서) */
+    @Builder.Default
+    private List<Bar> bars = new ArrayList<>();
+
+    /** 선행 또는 후행 태스크가 보이는 막대인 의존성 */
+    @Builder.Default
+    private List<TaskDependencyResponseDto> dependencies = new ArrayList<>();
+
+    /**
+     * 막대 (펼친 계층에서의 행 번호와 하위 태스크를 제외한 태스크)
+     */
+    @Getter
+    @Setter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @ToString
+    public static class Bar {
+        private int rowIndex;
+        private TaskResponseDto task;
+    }
+}
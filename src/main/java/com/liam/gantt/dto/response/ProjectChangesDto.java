@@ -0,0 +1,34 @@
+package com.liam.gantt.dto.response;
+
+import lombok.*;
+
+import java.util.List;
+
+/**
+ * 프로젝트 변경분 DTO
+ *
+ * sinceVersion 이후 생성/수정된 태스크와 의존성, 삭제된 대상의 ID(tombstone)를 담습니다.
+ * fullSnapshot이 true면 변경분을 계산할 수 없어 전체 데이터를 담은 것이므로 클라이언트는 기존 데이터를 교체해야 합니다.
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@ToString
+public class ProjectChangesDto {
+
+    private Long projectId;
+    private long sinceVersion;
+    private long currentVersion;
+    private boolean fullSnapshot;
+
+    /** 프로젝트 정보 (변경되었거나 전체 데이터인 경우에만 포함) */
+    private ProjectResponseDto project;
+
+    /** 생성/수정된 태스크 (하위 태스크 없이 평면 목록, parentTaskId로 연결) */
+    private List<TaskResponseDto> tasks;
+    private List<TaskDependencyResponseDto> dependencies;
+    private List<Long> deletedTaskIds;
+    private List<Long> deletedDependencyIds;
+}
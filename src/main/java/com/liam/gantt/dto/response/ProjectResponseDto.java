@@ -26,6 +26,7 @@ public class ProjectResponseDto {
     private ProjectStatus status;
     private Double progress;
     private Integer taskCount;
+    private Integer completedTaskCount;
     private LocalDateTime createdAt;
     private LocalDateTime updatedAt;
     
@@ -0,0 +1,27 @@
+package com.liam.gantt.dto.response;
+
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * 프로젝트 통계 DTO
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@ToString
+public class ProjectStatisticsDto {
+
+    private long totalProjects;
+    private long planningProjects;
+    private long inProgressProjects;
+    private long completedProjects;
+    private long onHoldProjects;
+    private long cancelledProjects;
+
+    // 집계 시각 (캐시된 값일 수 있음)
+    private LocalDateTime calculatedAt;
+}
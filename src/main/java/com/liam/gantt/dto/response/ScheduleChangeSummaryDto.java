@@ -0,0 +1,25 @@
+package com.liam.gantt.dto.response;
+
+import lombok.*;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 일정 재계산 결과 요약 DTO
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@ToString
+public class ScheduleChangeSummaryDto {
+
+    private Long projectId;
+    private int movedTaskCount;
+    private int maxSlipDays;
+
+    @Builder.Default
+    private List<Long> movedTaskIds = new ArrayList<>();
+}
@@ -0,0 +1,25 @@
+package com.liam.gantt.dto.response;
+
+import lombok.*;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * 태스크 일괄 가져오기 결과 DTO
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@ToString
+public class TaskImportResultDto {
+
+    private Long projectId;
+    private int createdCount;
+
+    // 임시 ID → 생성된 태스크 ID
+    @Builder.Default
+    private Map<String, Long> taskIds = new LinkedHashMap<>();
+}
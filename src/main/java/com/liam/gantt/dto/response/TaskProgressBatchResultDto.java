@@ -0,0 +1,21 @@
+package com.liam.gantt.dto.response;
+
+import lombok.*;
+
+/**
+ * 태스크 진행률 일괄 업데이트 결과 DTO
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@ToString
+public class TaskProgressBatchResultDto {
+
+    private Long projectId;
+    private int requestedCount;
+
+    // 진행률 또는 상태가 실제로 바뀐 태스크 수
+    private int updatedCount;
+}
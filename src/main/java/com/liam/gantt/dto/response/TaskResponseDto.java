@@ -1,5 +1,6 @@
 package com.liam.gantt.dto.response;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
 import com.liam.gantt.entity.enums.TaskStatus;
 import lombok.*;
 
@@ -49,6 +50,10 @@ public class TaskResponseDto {
     private Boolean isOverdue;
     private Boolean isCompleted;
     
+    // 일정 변경으로 날짜가 바뀐 태스크 ID (이동/수정 응답에서만 사용, 자기 자신 포함)
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private List<Long> affectedTaskIds;
+    
     /**
      * 간트 차트용 간단한 응답
      */
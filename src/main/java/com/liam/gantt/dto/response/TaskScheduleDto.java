@@ -0,0 +1,25 @@
+package com.liam.gantt.dto.response;
+
+import lombok.*;
+
+import java.time.LocalDate;
+
+/**
+ * 태스크 CPM 일정 응답 DTO
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@ToString
+public class TaskScheduleDto {
+
+    private Long taskId;
+    private LocalDate earlyStart;
+    private LocalDate earlyFinish;
+    private LocalDate lateStart;
+    private LocalDate lateFinish;
+    private Integer totalFloat;
+    private Boolean critical;
+}
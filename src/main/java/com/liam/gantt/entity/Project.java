@@ -7,7 +7,9 @@ import jakarta.validation.constraints.NotNull;
 import jakarta.validation.constraints.Size;
 import lombok.*;
 import lombok.experimental.SuperBuilder;
+import org.hibernate.annotations.ColumnDefault;
 
+import java.math.BigDecimal;
 import java.time.LocalDate;
 import java.util.ArrayList;
 import java.util.List;
@@ -65,6 +67,34 @@ public class Project extends BaseEntity {
     @Builder.Default
     private ProjectStatus status = ProjectStatus.PLANNING;
     
+    /**
+     * 데이터 버전 (프로젝트, 태스크, 의존성이 변경될 때마다 DB에서 직접 증가)
+     */
+    @Column(name = "data_version", nullable = false, insertable = false, updatable = false)
+    @ColumnDefault("0")
+    private Long dataVersion;
+    
+    /**
+     * 태스크 집계 (태스크 변경 시 DB에서 직접 증감, 목록 조회 시 태스크를 읽지 않기 위함)
+     */
+    @Column(name = "task_count", nullable = false, insertable = false, updatable = false)
+    @ColumnDefault("0")
+    private Integer taskCount;
+    
+    @Column(name = "completed_count", nullable = false, insertable = false, updatable = false)
+    @ColumnDefault("0")
+    private Integer completedCount;
+    
+    @Column(name = "progress_sum", nullable = false, precision = 15, scale = 2, insertable = false, updatable = false)
+    @ColumnDefault("0")
+    private BigDecimal progressSum;
+    
+    /**
+     * 기간 가중 진행률 (루트 태스크 기준, 아직 집계되지 않았으면 null)
+     */
+    @Column(name = "weighted_progress", precision = 5, scale = 2, insertable = false, updatable = false)
+    private BigDecimal weightedProgress;
+    
     @OneToMany(mappedBy = "project", cascade = CascadeType.ALL, orphanRemoval = true, fetch = FetchType.LAZY)
     @Builder.Default
     private List<Task> tasks = new ArrayList<>();
@@ -87,22 +117,6 @@ public class Project extends BaseEntity {
         task.setProject(null);
     }
     
-    /**
-     * 프로젝트의 전체 진행률 계산
-     */
-    @Transient
-    public Double calculateProgress() {
-        if (tasks.isEmpty()) {
-            return 0.0;
-        }
-        
-        double totalProgress = tasks.stream()
-                .mapToDouble(task -> task.getProgress().doubleValue())
-                .sum();
-        
-        return totalProgress / tasks.size();
-    }
-    
     /**
      * 프로젝트 기간 (일 수) 계산
      */
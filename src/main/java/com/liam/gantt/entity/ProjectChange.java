@@ -0,0 +1,55 @@
+package com.liam.gantt.entity;
+
+import com.liam.gantt.entity.enums.ChangeEntityType;
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * 프로젝트 변경 이력 엔티티
+ *
+ * 프로젝트 데이터 버전이 증가할 때마다 바뀐 대상(프로젝트, 태스크, 의존성)을 한 행씩 기록합니다.
+ * 이력은 추가만 하며 수정하지 않으므로 {@link BaseEntity}를 상속하지 않습니다.
+ * 대량 기록은 {@link com.liam.gantt.repository.ProjectChangeJdbcRepository}를 사용합니다.
+ */
+@Entity
+@Table(name = "project_changes",
+       indexes = @Index(name = "idx_project_changes_version", columnList = "project_id, version"))
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@ToString
+public class ProjectChange {
+    
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "id", nullable = false)
+    private Long id;
+    
+    @Column(name = "project_id", nullable = false)
+    private Long projectId;
+    
+    /**
+     * 변경 후 프로젝트 데이터 버전
+     */
+    @Column(name = "version", nullable = false)
+    private Long version;
+    
+    @Enumerated(EnumType.STRING)
+    @Column(name = "entity_type", nullable = false, length = 20)
+    private ChangeEntityType entityType;
+    
+    @Column(name = "entity_id", nullable = false)
+    private Long entityId;
+    
+    /**
+     * 삭제 여부 (true면 tombstone)
+     */
+    @Column(name = "deleted", nullable = false)
+    private boolean deleted;
+    
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+}
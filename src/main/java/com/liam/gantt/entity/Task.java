@@ -168,6 +168,9 @@ public class Task extends BaseEntity {
     
     /**
      * 계층 레벨 계산 (루트 태스크는 0)
+     *
+     * 상위 태스크를 하나씩 지연 로딩하므로 서비스 코드에서는 호출하지 않습니다.
+     * 응답 DTO의 깊이는 TaskClosureRepository.findDepth로 채웁니다.
      */
     @Transient
     public int getLevel() {
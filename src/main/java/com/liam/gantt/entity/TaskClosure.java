@@ -0,0 +1,43 @@
+package com.liam.gantt.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+/**
+ * 태스크 계층 클로저 엔티티
+ *
+ * 태스크 계층의 모든 (상위, 하위) 쌍을 거리와 함께 한 행씩 보관합니다. 자기 자신도 거리 0인 행으로 포함합니다.
+ * 하위 트리, 상위 경로, 깊이를 부모 참조를 따라가지 않고 인덱스 조회 한 번으로 구할 수 있습니다.
+ * 행은 태스크 생성/이동/삭제 시 {@link com.liam.gantt.repository.TaskClosureRepository}로 유지합니다.
+ */
+@Entity
+@Table(name = "task_closure",
+       indexes = {
+               @Index(name = "idx_task_closure_descendant", columnList = "descendant_id, depth"),
+               @Index(name = "idx_task_closure_project", columnList = "project_id")
+       })
+@IdClass(TaskClosureId.class)
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@ToString
+public class TaskClosure {
+    
+    @Id
+    @Column(name = "ancestor_id", nullable = false)
+    private Long ancestorId;
+    
+    @Id
+    @Column(name = "descendant_id", nullable = false)
+    private Long descendantId;
+    
+    @Column(name = "project_id", nullable = false)
+    private Long projectId;
+    
+    /**
+     * 상위 태스크에서 하위 태스크까지의 거리 (자기 자신은 0)
+     */
+    @Column(name = "depth", nullable = false)
+    private int depth;
+}
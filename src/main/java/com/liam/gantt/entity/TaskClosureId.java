@@ -0,0 +1,19 @@
+package com.liam.gantt.entity;
+
+import lombok.*;
+
+import java.io.Serializable;
+
+/**
+ * 태스크 클로저 복합 키 (상위 태스크 ID, 하위 태스크 ID)
+ */
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@EqualsAndHashCode
+@ToString
+public class TaskClosureId implements Serializable {
+    
+    private Long ancestorId;
+    private Long descendantId;
+}
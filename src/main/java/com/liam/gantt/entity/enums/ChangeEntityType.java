@@ -0,0 +1,20 @@
+package com.liam.gantt.entity.enums;
+
+/**
+ * 변경 이력 대상 종류를 나타내는 Enum
+ */
+public enum ChangeEntityType {
+    PROJECT("프로젝트"),
+    TASK("태스크"),
+    DEPENDENCY("의존성");
+    
+    private final String description;
+    
+    ChangeEntityType(String description) {
+        this.description = description;
+    }
+    
+    public String getDescription() {
+        return description;
+    }
+}
@@ -24,4 +24,29 @@ public enum DependencyType {
     public String getDescription() {
         return description;
     }
+
+    /**
+     * 선행 태스크 일정 기준 후행 태스크의 가장 이른 시작일 (epoch day, 종료일 포함 기준)
+     */
+    public int earliestSuccessorStart(int predecessorStart, int predecessorFinish, int successorDuration, int lagDays) {
+        return switch (this) {
+            case FINISH_TO_START -> predecessorFinish + 1 + lagDays;
+            case START_TO_START -> predecessorStart + lagDays;
+            case FINISH_TO_FINISH -> predecessorFinish + lagDays - successorDuration + 1;
+            // FS와 같이 선행 시작 전날에 후행이 끝남 (후행 종료일 + 1 = 선행 시작일 + 지연)
+            case START_TO_FINISH -> predecessorStart + lagDays - successorDuration;
+        };
+    }
+
+    /**
+     * 후행 태스크 일정 기준 선행 태스크의 가장 늦은 종료일 (epoch day, 종료일 포함 기준)
+     */
+    public int latestPredecessorFinish(int successorStart, int successorFinish, int predecessorDuration, int lagDays) {
+        return switch (this) {
+            case FINISH_TO_START -> successorStart - 1 - lagDays;
+            case START_TO_START -> successorStart - lagDays + predecessorDuration - 1;
+            case FINISH_TO_FINISH -> successorFinish - lagDays;
+            case START_TO_FINISH -> successorFinish + 1 - lagDays + predecessorDuration - 1;
+        };
+    }
 }
\ No newline at end of file
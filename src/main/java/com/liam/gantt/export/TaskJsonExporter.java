@@ -0,0 +1,69 @@
+package com.liam.gantt.export;
+
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.liam.gantt.repository.TaskJdbcRepository;
+import com.liam.gantt.repository.projection.TaskExportRow;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+
+/**
+ * 태스크 JSON 스트리밍 내보내기
+ *
+ * DB 커서에서 한 행씩 읽어 JsonGenerator로 바로 출력하므로 DTO 목록이나 엔티티를 메모리에 모으지 않습니다.
+ * 필드 구성은 태스크 목록 API의 응답과 같고, 날짜 형식은 애플리케이션 ObjectMapper 설정을 따릅니다.
+ */
+@Component
+@RequiredArgsConstructor
+public class TaskJsonExporter {
+
+    private final TaskJdbcRepository taskJdbcRepository;
+    private final ObjectMapper objectMapper;
+
+    /**
+     * 프로젝트 태스크를 JSON 배열로 출력 (출력 스트림은 닫지 않음)
+     *
+     * @return 출력한 태스크 수
+     */
+    public long writeTasks(Long projectId, OutputStream out) throws IOException {
+        try (JsonGenerator generator = objectMapper.createGenerator(out, JsonEncoding.UTF8)) {
+            generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+            generator.writeStartArray();
+            long count;
+            try {
+                count = taskJdbcRepository.streamExportRows(projectId, row -> writeTask(generator, row));
+            } catch (UncheckedIOException e) {
+                throw e.getCause();
+            }
+            generator.writeEndArray();
+            return count;
+        }
+    }
+
+    private void writeTask(JsonGenerator generator, TaskExportRow row) {
+        try {
+            generator.writeStartObject();
+            generator.writeNumberField("id", row.id());
+            generator.writeNumberField("projectId", row.projectId());
+            generator.writeObjectField("parentTaskId", row.parentTaskId());
+            generator.writeStringField("parentTaskName", row.parentTaskName());
+            generator.writeStringField("name", row.name());
+            generator.writeStringField("description", row.description());
+            generator.writeObjectField("startDate", row.startDate());
+            generator.writeObjectField("endDate", row.endDate());
+            generator.writeObjectField("duration", row.duration());
+            generator.writeObjectField("progress", row.progress());
+            generator.writeStringField("status", row.status().name());
+            generator.writeObjectField("createdAt", row.createdAt());
+            generator.writeObjectField("updatedAt", row.updatedAt());
+            generator.writeEndObject();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
@@ -0,0 +1,133 @@
+package com.liam.gantt.geometry;
+
+import com.liam.gantt.dto.response.TaskResponseDto;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * 간트 차트 막대 위치 (병렬 배열)
+ *
+ * 프로젝트 기간을 {@link #SCALE}(0.1% 단위)로 나눈 정수 좌표로 막대의 왼쪽 위치와 폭을, 0~100 정수로 진행률을 계산합니다.
+ * 날짜를 epoch day 정수 배열로 받아 한 번의 반복으로 계산하므로 태스크마다 맵이나 날짜 객체를 만들지 않으며,
+ * JSON으로는 태스크 수 길이의 숫자 배열 세 개로 직렬화됩니다. 배열은 생성 후 변경하지 않습니다.
+ */
+public final class GanttBarGeometry {
+
+    /** 좌표 단위 (프로젝트 전체 폭 = 1000, 즉 0.1%) */
+    public static final int SCALE = 1_000;
+
+    /** 최소 막대 폭 (2.0%, 너무 작으면 클릭하기 어려움) */
+    static final int MIN_WIDTH = 20;
+
+    private final int[] left;
+    private final int[] width;
+    private final int[] progress;
+
+    private GanttBarGeometry(int[] left, int[] width, int[] progress) {
+        this.left = left;
+        this.width = width;
+        this.progress = progress;
+    }
+
+    /**
+     * 막대 위치 계산
+     *
+     * @param projectStart 프로젝트 시작일 (epoch day)
+     * @param projectEnd   프로젝트 종료일 (epoch day)
+     * @param starts       태스크 시작일 (epoch day)
+     * @param ends         태스크 종료일 (epoch day)
+     * @param progress     태스크 진행률 (0~100)
+     */
+    public static GanttBarGeometry compute(int projectStart, int projectEnd, int[] starts, int[] ends, int[] progress) {
+        int size = starts.length;
+        if (ends.length != size || progress.length != size) {
+            throw new IllegalArgumentException("시작일, 종료일, 진행률 배열 길이가 다릅니다");
+        }
+        long totalDays = Math.max(1L, (long) projectEnd - projectStart + 1);
+        int[] left = new int[size];
+        int[] width = new int[size];
+        int[] clampedProgress = new int[size];
+        for (int i = 0; i < size; i++) {
+            int l = (int) Math.max(0L, scaled((long) starts[i] - projectStart, totalDays));
+            int w = (int) Math.min(SCALE - l, scaled((long) ends[i] - starts[i] + 1, totalDays));
+            left[i] = l;
+            width[i] = Math.max(MIN_WIDTH, w);
+            clampedProgress[i] = Math.min(100, Math.max(0, progress[i]));
+        }
+        return new GanttBarGeometry(left, width, clampedProgress);
+    }
+
+    /**
+     * 태스크 DTO 목록의 막대 위치 계산 (날짜가 없는 태스크는 프로젝트 시작일의 하루짜리 막대)
+     *
+     * 프로젝트 시작일이나 종료일이 없으면 태스크 날짜의 최솟값/최댓값을 대신 사용합니다.
+     */
+    public static GanttBarGeometry of(LocalDate projectStart, LocalDate projectEnd, List<TaskResponseDto> tasks) {
+        if (projectStart == null || projectEnd == null) {
+            LocalDate minStart = null;
+            LocalDate maxEnd = null;
+            for (TaskResponseDto task : tasks) {
+                if (task.getStartDate() != null && (minStart == null || task.getStartDate().isBefore(minStart))) {
+                    minStart = task.getStartDate();
+                }
+                if (task.getEndDate() != null && (maxEnd == null || task.getEndDate().isAfter(maxEnd))) {
+                    maxEnd = task.getEndDate();
+                }
+            }
+            if (projectStart == null) {
+                projectStart = minStart != null ? minStart : (projectEnd != null ? projectEnd : maxEnd);
+            }
+            if (projectStart == null) {
+                projectStart = LocalDate.EPOCH;
+            }
+            if (projectEnd == null) {
+                projectEnd = maxEnd != null && !maxEnd.isBefore(projectStart) ? maxEnd : projectStart;
+            }
+        }
+        int projectStartDay = Math.toIntExact(projectStart.toEpochDay());
+        int size = tasks.size();
+        int[] starts = new int[size];
+        int[] ends = new int[size];
+        int[] progress = new int[size];
+        for (int i = 0; i < size; i++) {
+            TaskResponseDto task = tasks.get(i);
+            starts[i] = task.getStartDate() != null ? Math.toIntExact(task.getStartDate().toEpochDay()) : projectStartDay;
+            ends[i] = task.getEndDate() != null ? Math.toIntExact(task.getEndDate().toEpochDay()) : starts[i];
+            BigDecimal taskProgress = task.getProgress();
+            progress[i] = taskProgress != null ? taskProgress.intValue() : 0;
+        }
+        return compute(projectStartDay, Math.toIntExact(projectEnd.toEpochDay()), starts, ends, progress);
+    }
+
+    public int size() {
+        return left.length;
+    }
+
+    public int getScale() {
+        return SCALE;
+    }
+
+    /** 왼쪽 위치 (0 ~ SCALE) */
+    public int[] getLeft() {
+        return left;
+    }
+
+    /** 폭 (MIN_WIDTH ~ SCALE) */
+    public int[] getWidth() {
+        return width;
+    }
+
+    /** 진행률 (0 ~ 100) */
+    public int[] getProgress() {
+        return progress;
+    }
+
+    /**
+     * days / totalDays를 SCALE 단위로 반올림 (음수는 0 미만으로 남아 호출 측에서 잘림)
+     */
+    private static long scaled(long days, long totalDays) {
+        return Math.floorDiv(days * SCALE * 2 + totalDays, totalDays * 2);
+    }
+}
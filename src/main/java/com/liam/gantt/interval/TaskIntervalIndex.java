@@ -0,0 +1,99 @@
+package com.liam.gantt.interval;
+
+import com.liam.gantt.repository.TaskJdbcRepository;
+import com.liam.gantt.sync.AfterCommit;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * 프로젝트별 태스크 기간 구간 인덱스
+ *
+ * 프로젝트마다 {@link TaskIntervalTree}를 한 번 만들어 두고 "기간 [from, to]에 진행 중인 태스크" 겹침 조회에 답합니다.
+ * 최대 개수를 넘으면 가장 오래 사용되지 않은 프로젝트부터 제거합니다(LRU).
+ * 태스크가 바뀌면 {@link com.liam.gantt.sync.ProjectChangeTracker}가 커밋 후 무효화하며,
+ * 적재 중에 어느 프로젝트든 무효화가 끼어든 경우 적재 결과는 캐시하지 않습니다.
+ * 태스크 수가 {@link #MAX_INDEXED_TASKS}를 넘는 프로젝트는 호출 측에서 DB 겹침 조회를 사용합니다.
+ */
+@Component
+@Slf4j
+public class TaskIntervalIndex {
+
+    static final int MAX_PROJECTS = 64;
+
+    /** 인덱스를 만들 최대 프로젝트 태스크 수 (태스크당 약 20바이트) */
+    public static final int MAX_INDEXED_TASKS = 1_000_000;
+
+    private final int maxProjects;
+    private final Function<Long, TaskIntervalTree> loader;
+
+    /** 접근 순서 LinkedHashMap (this로 동기화) */
+    private final LinkedHashMap<Long, TaskIntervalTree> trees;
+
+    /** 무효화 세대 (this로 동기화, 캐시 전체에 하나) */
+    private long generation;
+
+    @Autowired
+    public TaskIntervalIndex(TaskJdbcRepository taskJdbcRepository) {
+        this(MAX_PROJECTS, taskJdbcRepository::loadIntervalTree);
+    }
+
+    TaskIntervalIndex(int maxProjects, Function<Long, TaskIntervalTree> loader) {
+        this.maxProjects = maxProjects;
+        this.loader = loader;
+        this.trees = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Long, TaskIntervalTree> eldest) {
+                return size() > TaskIntervalIndex.this.maxProjects;
+            }
+        };
+    }
+
+    /**
+     * 기간 [from, to]와 겹치는 태스크 ID 목록 (시작일 순)
+     */
+    public long[] findOverlapping(Long projectId, LocalDate from, LocalDate to) {
+        return tree(projectId).findOverlapping((int) from.toEpochDay(), (int) to.toEpochDay());
+    }
+
+    /**
+     * 프로젝트 구간 트리 조회 (없으면 적재)
+     */
+    public TaskIntervalTree tree(Long projectId) {
+        long loadGeneration;
+        synchronized (this) {
+            TaskIntervalTree tree = trees.get(projectId);
+            if (tree != null) {
+                return tree;
+            }
+            loadGeneration = generation;
+        }
+
+        TaskIntervalTree loaded = loader.apply(projectId);
+        log.debug("태스크 구간 인덱스 적재: projectId={}, 태스크 수={}", projectId, loaded.size());
+
+        synchronized (this) {
+            if (generation == loadGeneration) {
+                trees.put(projectId, loaded);
+            }
+        }
+        return loaded;
+    }
+
+    /**
+     * 커밋 후 프로젝트 구간 인덱스 무효화
+     */
+    public void invalidate(Long projectId) {
+        AfterCommit.run(() -> {
+            synchronized (this) {
+                generation++;
+                trees.remove(projectId);
+            }
+        });
+    }
+}
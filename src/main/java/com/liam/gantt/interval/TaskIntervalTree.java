@@ -0,0 +1,160 @@
+package com.liam.gantt.interval;
+
+import java.util.Arrays;
+import java.util.function.LongConsumer;
+import java.util.stream.LongStream;
+
+/**
+ * 태스크 기간 구간 트리 (정적)
+ *
+ * 태스크를 시작일 순으로 정렬한 배열 위에 암묵적 균형 이진 트리를 두고, 각 노드에 하위 트리의 최대 종료일을 기록합니다.
+ * 겹침 조회는 최대 종료일이 조회 시작일보다 이른 하위 트리와 시작일이 조회 종료일보다 늦은 오른쪽 하위 트리를 건너뛰므로
+ * O(log n + k)에 답합니다. 날짜는 epoch day 정수 배열로 보관하여 태스크 수만큼의 객체를 만들지 않습니다.
+ * 생성 후 변경하지 않으므로 여러 스레드가 동시에 조회할 수 있습니다.
+ */
+public final class TaskIntervalTree {
+
+    private final long[] ids;
+    private final int[] starts;
+    private final int[] ends;
+    /** 구간 [lo, hi)를 루트 mid = (lo + hi) >>> 1로 나눈 하위 트리의 최대 종료일 (인덱스는 mid) */
+    private final int[] maxEnds;
+
+    private TaskIntervalTree(long[] ids, int[] starts, int[] ends) {
+        this.ids = ids;
+        this.starts = starts;
+        this.ends = ends;
+        this.maxEnds = new int[ids.length];
+        buildMaxEnds(0, ids.length);
+    }
+
+    /**
+     * 구간 트리 생성
+     *
+     * @param ids    태스크 ID
+     * @param starts 시작일 (epoch day)
+     * @param ends   종료일 (epoch day, 시작일 이상)
+     */
+    public static TaskIntervalTree of(long[] ids, int[] starts, int[] ends) {
+        int size = ids.length;
+        if (starts.length != size || ends.length != size) {
+            throw new IllegalArgumentException("ID, 시작일, 종료일 배열 길이가 다릅니다");
+        }
+        // 상위 32비트에 시작일, 하위 32비트에 원래 인덱스를 담아 박싱 없이 시작일 순 정렬
+        long[] order = new long[size];
+        for (int i = 0; i < size; i++) {
+            order[i] = ((long) starts[i] << 32) | i;
+        }
+        Arrays.sort(order);
+
+        long[] sortedIds = new long[size];
+        int[] sortedStarts = new int[size];
+        int[] sortedEnds = new int[size];
+        for (int i = 0; i < size; i++) {
+            int index = (int) order[i];
+            sortedIds[i] = ids[index];
+            sortedStarts[i] = starts[index];
+            sortedEnds[i] = ends[index];
+        }
+        return new TaskIntervalTree(sortedIds, sortedStarts, sortedEnds);
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    public int size() {
+        return ids.length;
+    }
+
+    /**
+     * 기간 [from, to]와 겹치는 태스크 ID를 시작일 순으로 전달
+     *
+     * @param from 조회 시작일 (epoch day, 포함)
+     * @param to   조회 종료일 (epoch day, 포함)
+     * @return 전달한 태스크 수
+     */
+    public int forEachOverlapping(int from, int to, LongConsumer consumer) {
+        if (from > to) {
+            return 0;
+        }
+        return visit(0, ids.length, from, to, consumer);
+    }
+
+    /**
+     * 기간 [from, to]와 겹치는 태스크 ID 목록 (시작일 순)
+     */
+    public long[] findOverlapping(int from, int to) {
+        LongStream.Builder builder = LongStream.builder();
+        forEachOverlapping(from, to, builder);
+        return builder.build().toArray();
+    }
+
+    private int buildMaxEnds(int lo, int hi) {
+        if (lo >= hi) {
+            return Integer.MIN_VALUE;
+        }
+        int mid = (lo + hi) >>> 1;
+        int max = Math.max(ends[mid], Math.max(buildMaxEnds(lo, mid), buildMaxEnds(mid + 1, hi)));
+        maxEnds[mid] = max;
+        return max;
+    }
+
+    private int visit(int lo, int hi, int from, int to, LongConsumer consumer) {
+        if (lo >= hi) {
+            return 0;
+        }
+        int mid = (lo + hi) >>> 1;
+        // 하위 트리 전체가 조회 시작일 전에 끝남
+        if (maxEnds[mid] < from) {
+            return 0;
+        }
+        int count = visit(lo, mid, from, to, consumer);
+        // mid 이후 태스크는 모두 조회 종료일 이후에 시작
+        if (starts[mid] > to) {
+            return count;
+        }
+        if (ends[mid] >= from) {
+            consumer.accept(ids[mid]);
+            count++;
+        }
+        return count + visit(mid + 1, hi, from, to, consumer);
+    }
+
+    /**
+     * 행 단위로 태스크 기간을 모아 트리를 만드는 빌더 (배열을 두 배씩 늘림)
+     */
+    public static final class Builder {
+
+        private long[] ids = new long[1_024];
+        private int[] starts = new int[1_024];
+        private int[] ends = new int[1_024];
+        private int size;
+
+        private Builder() {
+        }
+
+        /**
+         * 태스크 기간 추가
+         *
+         * @param startDay 시작일 (epoch day)
+         * @param endDay   종료일 (epoch day)
+         */
+        public Builder add(long id, long startDay, long endDay) {
+            if (size == ids.length) {
+                ids = Arrays.copyOf(ids, size * 2);
+                starts = Arrays.copyOf(starts, size * 2);
+                ends = Arrays.copyOf(ends, size * 2);
+            }
+            ids[size] = id;
+            starts[size] = Math.toIntExact(startDay);
+            ends[size] = Math.toIntExact(endDay);
+            size++;
+            return this;
+        }
+
+        public TaskIntervalTree build() {
+            return of(Arrays.copyOf(ids, size), Arrays.copyOf(starts, size), Arrays.copyOf(ends, size));
+        }
+    }
+}
@@ -44,17 +44,15 @@ public class ProjectMapper {
                 .createdAt(entity.getCreatedAt())
                 .updatedAt(entity.getUpdatedAt());
 
+        // 태스크 수와 평균 진행률은 프로젝트 행의 집계 컬럼으로 계산 (tasks 지연 로딩 N+1 방지)
+        int taskCount = entity.getTaskCount() != null ? entity.getTaskCount() : 0;
         double avgProgress = calculateAverageProgress(entity);
         
-        if (entity.getTasks() != null) {
-            // tasks는 순환 의존성을 피하기 위해 null로 설정하거나 별도 처리
-            builder.taskCount(entity.getTasks().size());
-        } else {
-            builder.taskCount(0);
-        }
-        
+        builder.taskCount(taskCount);
+        builder.completedTaskCount(entity.getCompletedCount() != null ? entity.getCompletedCount() : 0);
         builder.averageProgress(avgProgress);
-        builder.progress(avgProgress);
+        // 진행률은 기간 가중 집계 값 (아직 집계되지 않았으면 단순 평균)
+        builder.progress(entity.getWeightedProgress() != null ? entity.getWeightedProgress().doubleValue() : avgProgress);
 
         // durationInDays 계산
         if (entity.getStartDate() != null && entity.getEndDate() != null) {
@@ -93,13 +91,10 @@ public class ProjectMapper {
     }
 
     private double calculateAverageProgress(Project project) {
-        if (project.getTasks() == null || project.getTasks().isEmpty()) {
+        if (project.getTaskCount() == null || project.getTaskCount() == 0 || project.getProgressSum() == null) {
             return 0.0;
         }
 
-        return project.getTasks().stream()
-                .mapToDouble(task -> task.getProgress() != null ? task.getProgress().doubleValue() : 0.0)
-                .average()
-                .orElse(0.0);
+        return project.getProgressSum().doubleValue() / project.getTaskCount();
     }
 }
\ No newline at end of file
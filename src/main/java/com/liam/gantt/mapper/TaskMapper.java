@@ -64,11 +64,7 @@ public class TaskMapper {
             builder.parentTaskName(entity.getParentTask().getName());
         }
 
-        if (entity.getSubTasks() != null && !entity.getSubTasks().isEmpty()) {
-            builder.subTasks(entity.getSubTasks().stream()
-                    .map(this::toResponseDto)
-                    .collect(Collectors.toList()));
-        }
+        // 하위 태스크는 지연 로딩 N+1을 피하기 위해 매핑하지 않음 (계층구조는 서비스에서 한 번에 구성)
 
         // Dependencies는 현재 순환 참조를 피하기 위해 별도 서비스에서 처리
         // if (entity.getPredecessorDependencies() != null && !entity.getPredecessorDependencies().isEmpty()) {
@@ -0,0 +1,81 @@
+package com.liam.gantt.pagination;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+/**
+ * 키셋 페이지네이션 커서
+ *
+ * 마지막 행의 정렬 키와 ID를 URL-safe Base64로 인코딩한 불투명 문자열입니다.
+ * 클라이언트는 값을 해석하지 않고 다음 요청에 그대로 전달하며, 형식이 맞지 않으면 IllegalArgumentException이 발생합니다.
+ */
+public record KeysetCursor(String sortKey, long id) {
+
+    private static final String VERSION = "v1";
+    private static final String SEPARATOR = "|";
+
+    public static KeysetCursor of(LocalDate sortKey, long id) {
+        return new KeysetCursor(sortKey.toString(), id);
+    }
+
+    public static KeysetCursor of(LocalDateTime sortKey, long id) {
+        return new KeysetCursor(sortKey.toString(), id);
+    }
+
+    /**
+     * 커서 인코딩
+     */
+    public String encode() {
+        String raw = VERSION + SEPARATOR + sortKey + SEPARATOR + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * 커서 디코딩
+     */
+    public static KeysetCursor decode(String cursor) {
+        String[] parts;
+        try {
+            parts = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8).split("\\|", -1);
+        } catch (IllegalArgumentException e) {
+            throw invalid(cursor);
+        }
+        if (parts.length != 3 || !VERSION.equals(parts[0]) || parts[1].isEmpty()) {
+            throw invalid(cursor);
+        }
+        try {
+            return new KeysetCursor(parts[1], Long.parseLong(parts[2]));
+        } catch (NumberFormatException e) {
+            throw invalid(cursor);
+        }
+    }
+
+    /**
+     * 날짜 정렬 키
+     */
+    public LocalDate dateKey() {
+        try {
+            return LocalDate.parse(sortKey);
+        } catch (DateTimeParseException e) {
+            throw invalid(encode());
+        }
+    }
+
+    /**
+     * 일시 정렬 키
+     */
+    public LocalDateTime dateTimeKey() {
+        try {
+            return LocalDateTime.parse(sortKey);
+        } catch (DateTimeParseException e) {
+            throw invalid(encode());
+        }
+    }
+
+    private static IllegalArgumentException invalid(String cursor) {
+        return new IllegalArgumentException("잘못된 커서입니다: " + cursor);
+    }
+}
@@ -0,0 +1,119 @@
+package com.liam.gantt.render;
+
+import com.liam.gantt.dto.response.GanttChartDto;
+import com.liam.gantt.dto.response.TaskResponseDto;
+import com.liam.gantt.entity.enums.TaskStatus;
+
+import java.math.BigDecimal;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+
+/**
+ * 간트 차트 렌더링 배치 (행 단위 병렬 배열)
+ *
+ * 태스크를 계층을 펼친 행 순서로 나열하고 날짜는 epoch day 정수, 진행률은 0~100 정수로 보관합니다.
+ * 타일마다 차트 DTO를 다시 펼치지 않도록 프로젝트별로 한 번 만들어 캐시하며, 생성 후 변경하지 않습니다.
+ */
+public final class GanttRenderLayout {
+
+    private final int startDay;
+    private final int endDay;
+    private final int[] starts;
+    private final int[] ends;
+    private final int[] progress;
+    private final TaskStatus[] statuses;
+    private final String[] names;
+    private final long dataVersion;
+
+    private GanttRenderLayout(int startDay, int endDay, int[] starts, int[] ends, int[] progress,
+                              TaskStatus[] statuses, String[] names, long dataVersion) {
+        this.startDay = startDay;
+        this.endDay = endDay;
+        this.starts = starts;
+        this.ends = ends;
+        this.progress = progress;
+        this.statuses = statuses;
+        this.names = names;
+        this.dataVersion = dataVersion;
+    }
+
+    /**
+     * 간트 차트 DTO로 배치 생성 (타임라인 시작일이 x = 0)
+     */
+    public static GanttRenderLayout of(GanttChartDto chart) {
+        List<TaskResponseDto> rows = new ArrayList<>();
+        Deque<TaskResponseDto> stack = new ArrayDeque<>();
+        pushReversed(stack, chart.getTasks());
+        while (!stack.isEmpty()) {
+            TaskResponseDto task = stack.pop();
+            rows.add(task);
+            pushReversed(stack, task.getSubTasks());
+        }
+
+        int startDay = Math.toIntExact(chart.getTimeline().getStartDate().toEpochDay());
+        int endDay = Math.toIntExact(chart.getTimeline().getEndDate().toEpochDay());
+        int size = rows.size();
+        int[] starts = new int[size];
+        int[] ends = new int[size];
+        int[] progress = new int[size];
+        TaskStatus[] statuses = new TaskStatus[size];
+        String[] names = new String[size];
+        for (int i = 0; i < size; i++) {
+            TaskResponseDto task = rows.get(i);
+            starts[i] = task.getStartDate() != null ? Math.toIntExact(task.getStartDate().toEpochDay()) : startDay;
+            ends[i] = task.getEndDate() != null ? Math.toIntExact(task.getEndDate().toEpochDay()) : starts[i];
+            BigDecimal taskProgress = task.getProgress();
+            progress[i] = taskProgress != null ? Math.min(100, Math.max(0, taskProgress.intValue())) : 0;
+            statuses[i] = task.getStatus() != null ? task.getStatus() : TaskStatus.NOT_STARTED;
+            names[i] = task.getName() != null ? task.getName() : "";
+        }
+        return new GanttRenderLayout(startDay, endDay, starts, ends, progress, statuses, names, chart.getDataVersion());
+    }
+
+    private static void pushReversed(Deque<TaskResponseDto> stack, List<TaskResponseDto> tasks) {
+        if (tasks == null) {
+            return;
+        }
+        for (int i = tasks.size() - 1; i >= 0; i--) {
+            stack.push(tasks.get(i));
+        }
+    }
+
+    /** 배치를 만든 간트 차트의 데이터 버전 */
+    public long dataVersion() {
+        return dataVersion;
+    }
+
+    public int rowCount() {
+        return starts.length;
+    }
+
+    /** 타임라인 일수 */
+    public int dayCount() {
+        return Math.max(1, endDay - startDay + 1);
+    }
+
+    /** 타임라인 시작일로부터 행 태스크 시작일까지의 일수 */
+    public int startOffset(int row) {
+        return starts[row] - startDay;
+    }
+
+    /** 타임라인 시작일로부터 행 태스크 종료일 다음 날까지의 일수 */
+    public int endOffset(int row) {
+        return ends[row] - startDay + 1;
+    }
+
+    public int progress(int row) {
+        return progress[row];
+    }
+
+    public TaskStatus status(int row) {
+        return statuses[row];
+    }
+
+    public String name(int row) {
+        return names[row];
+    }
+}
@@ -0,0 +1,264 @@
+package com.liam.gantt.render;
+
+import com.liam.gantt.entity.enums.TaskStatus;
+
+import javax.imageio.ImageIO;
+import java.awt.Color;
+import java.awt.Font;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * 간트 차트 타일 렌더러
+ *
+ * 확대 단계 zoom에서 하루는 2^zoom 픽셀, 한 행은 {@link #ROW_HEIGHT} 픽셀이며 타일 (x, y)는
+ * 타임라인 시작일과 첫 행을 원점으로 한 {@link #TILE_SIZE} 크기의 정사각형입니다.
+ * 타일에 걸치는 행만 확인하므로 타일 하나를 그리는 비용은 전체 태스크 수와 무관하고,
+ * 전체 SVG도 행마다 바로 출력하므로 이미지 전체를 메모리에 만들지 않습니다.
+ */
+public final class GanttTileRenderer {
+
+    public static final int TILE_SIZE = 256;
+    public static final int ROW_HEIGHT = 24;
+    public static final int MAX_ZOOM = 6;
+    /** 타일 좌표 최댓값 (픽셀 좌표가 int 범위를 넘지 않도록 제한) */
+    public static final int MAX_TILE_INDEX = 1 << 20;
+
+    static final int BAR_PADDING = 4;
+    static final int BAR_HEIGHT = ROW_HEIGHT - BAR_PADDING * 2;
+    /** 이름을 표시할 최소 막대 폭 */
+    static final int MIN_LABEL_WIDTH = 40;
+
+    /** 상태별 막대 색 (웹 화면과 같은 색) */
+    private static final Map<TaskStatus, Color> STATUS_COLORS = new EnumMap<>(Map.of(
+            TaskStatus.NOT_STARTED, new Color(0x6c757d),
+            TaskStatus.IN_PROGRESS, new Color(0x17a2b8),
+            TaskStatus.COMPLETED, new Color(0x28a745),
+            TaskStatus.ON_HOLD, new Color(0xffc107),
+            TaskStatus.CANCELLED, new Color(0xdc3545)));
+    private static final Map<TaskStatus, Color> STATUS_BACKGROUNDS = new EnumMap<>(TaskStatus.class);
+    private static final Map<TaskStatus, String> STATUS_HEX_COLORS = new EnumMap<>(TaskStatus.class);
+
+    static {
+        STATUS_COLORS.forEach((status, color) -> {
+            STATUS_BACKGROUNDS.put(status, new Color(color.getRed(), color.getGreen(), color.getBlue(), 90));
+            STATUS_HEX_COLORS.put(status, String.format("#%06x", color.getRGB() & 0xFFFFFF));
+        });
+    }
+
+    /**
+     * 타일 형식
+     */
+    public enum Format {
+        PNG("image/png"),
+        SVG("image/svg+xml");
+
+        private final String mediaType;
+
+        Format(String mediaType) {
+            this.mediaType = mediaType;
+        }
+
+        public String getMediaType() {
+            return mediaType;
+        }
+    }
+
+    private GanttTileRenderer() {
+    }
+
+    /**
+     * 타일 렌더링
+     */
+    public static byte[] renderTile(GanttRenderLayout layout, Format format, int zoom, int x, int y) {
+        validate(zoom, x, y);
+        return switch (format) {
+            case PNG -> renderPngTile(layout, zoom, x, y);
+            case SVG -> renderSvgTile(layout, zoom, x, y);
+        };
+    }
+
+    /**
+     * 전체 차트를 SVG로 출력 (행마다 바로 출력, Writer는 닫지 않음)
+     */
+    public static void writeSvg(GanttRenderLayout layout, int zoom, Writer out) throws IOException {
+        validate(zoom, 0, 0);
+        long width = (long) layout.dayCount() << zoom;
+        long height = (long) layout.rowCount() * ROW_HEIGHT;
+        SvgWriter svg = new SvgWriter(layout, out);
+        svg.start(width, height);
+        try {
+            forEachBar(layout, zoom, 0, 0, width, height, svg);
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+        svg.end();
+    }
+
+    private static void validate(int zoom, int x, int y) {
+        if (zoom < 0 || zoom > MAX_ZOOM) {
+            throw new IllegalArgumentException("확대 단계는 0 ~ " + MAX_ZOOM + " 사이여야 합니다: " + zoom);
+        }
+        if (x < 0 || y < 0 || x > MAX_TILE_INDEX || y > MAX_TILE_INDEX) {
+            throw new IllegalArgumentException("타일 좌표가 올바르지 않습니다: x=" + x + ", y=" + y);
+        }
+    }
+
+    private static byte[] renderSvgTile(GanttRenderLayout layout, int zoom, int x, int y) {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (Writer out = new OutputStreamWriter(bytes, StandardCharsets.UTF_8)) {
+            SvgWriter svg = new SvgWriter(layout, out);
+            svg.start(TILE_SIZE, TILE_SIZE);
+            forEachBar(layout, zoom, (long) x * TILE_SIZE, (long) y * TILE_SIZE, TILE_SIZE, TILE_SIZE, svg);
+            svg.end();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return bytes.toByteArray();
+    }
+
+    private static byte[] renderPngTile(GanttRenderLayout layout, int zoom, int x, int y) {
+        BufferedImage image = new BufferedImage(TILE_SIZE, TILE_SIZE, BufferedImage.TYPE_INT_ARGB);
+        Graphics2D graphics = image.createGraphics();
+        try {
+            graphics.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
+            graphics.setRenderingHint(RenderingHints.KEY_TEXT_ANTIALIASING, RenderingHints.VALUE_TEXT_ANTIALIAS_ON);
+            graphics.setFont(new Font(Font.SANS_SERIF, Font.PLAIN, 11));
+            forEachBar(layout, zoom, (long) x * TILE_SIZE, (long) y * TILE_SIZE, TILE_SIZE, TILE_SIZE,
+                    (row, left, top, right, fillRight) -> {
+                        TaskStatus status = layout.status(row);
+                        graphics.setColor(STATUS_BACKGROUNDS.get(status));
+                        graphics.fillRoundRect(left, top, right - left, BAR_HEIGHT, 6, 6);
+                        graphics.setColor(statusColor(status));
+                        if (fillRight > left) {
+                            graphics.fillRoundRect(left, top, fillRight - left, BAR_HEIGHT, 6, 6);
+                        }
+                        if (right - left >= MIN_LABEL_WIDTH) {
+                            graphics.setColor(Color.WHITE);
+                            graphics.setClip(left, top, right - left, BAR_HEIGHT);
+                            graphics.drawString(layout.name(row), left + 4, top + BAR_HEIGHT - 4);
+                            graphics.setClip(null);
+                        }
+                    });
+        } finally {
+            graphics.dispose();
+        }
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(4 * 1024);
+        try {
+            ImageIO.write(image, "png", bytes);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return bytes.toByteArray();
+    }
+
+    /**
+     * 영역 [originX, originX + width) × [originY, originY + height)에 걸치는 막대를 영역 기준 좌표로 전달
+     *
+     * 영역 밖으로 나가는 좌표는 영역 경계 바로 바깥으로 잘라 int 범위를 넘지 않게 합니다.
+     */
+    static void forEachBar(GanttRenderLayout layout, int zoom, long originX, long originY,
+                           long width, long height, BarVisitor visitor) {
+        int rowCount = layout.rowCount();
+        long firstRow = originY / ROW_HEIGHT;
+        long lastRow = Math.min(rowCount - 1L, (originY + height - 1) / ROW_HEIGHT);
+        for (int row = (int) firstRow; row <= lastRow; row++) {
+            long left = ((long) layout.startOffset(row) << zoom) - originX;
+            long right = ((long) layout.endOffset(row) << zoom) - originX;
+            if (right <= 0 || left >= width) {
+                continue;
+            }
+            long fillRight = left + (right - left) * layout.progress(row) / 100;
+            visitor.bar(row,
+                    (int) Math.max(left, -1),
+                    (int) ((long) row * ROW_HEIGHT - originY) + BAR_PADDING,
+                    (int) Math.min(right, width + 1),
+                    (int) Math.max(-1, Math.min(fillRight, width + 1)));
+        }
+    }
+
+    /**
+     * 막대 좌표 수신자
+     */
+    @FunctionalInterface
+    interface BarVisitor {
+        void bar(int row, int left, int top, int right, int fillRight);
+    }
+
+    static Color statusColor(TaskStatus status) {
+        return STATUS_COLORS.get(status);
+    }
+
+    /**
+     * SVG 요소 출력 (막대마다 옅은 배경, 진행률 채움, 이름 순)
+     */
+    private static final class SvgWriter implements BarVisitor {
+
+        private final GanttRenderLayout layout;
+        private final Writer out;
+
+        private SvgWriter(GanttRenderLayout layout, Writer out) {
+            this.layout = layout;
+            this.out = out;
+        }
+
+        private void start(long width, long height) throws IOException {
+            out.write("<svg xmlns=\"http://www.w3.org/2000/svg\" width=\"" + width + "\" height=\"" + height
+                    + "\" viewBox=\"0 0 " + width + " " + height + "\" font-family=\"sans-serif\" font-size=\"11\">\n");
+        }
+
+        private void end() throws IOException {
+            out.write("</svg>\n");
+            out.flush();
+        }
+
+        @Override
+        public void bar(int row, int left, int top, int right, int fillRight) {
+            String color = STATUS_HEX_COLORS.get(layout.status(row));
+            int width = right - left;
+            StringBuilder element = new StringBuilder(192)
+                    .append("<g><rect x=\"").append(left).append("\" y=\"").append(top)
+                    .append("\" width=\"").append(width).append("\" height=\"").append(BAR_HEIGHT)
+                    .append("\" rx=\"3\" fill=\"").append(color).append("\" fill-opacity=\"0.35\"/>");
+            if (fillRight > left) {
+                element.append("<rect x=\"").append(left).append("\" y=\"").append(top)
+                        .append("\" width=\"").append(fillRight - left).append("\" height=\"").append(BAR_HEIGHT)
+                        .append("\" rx=\"3\" fill=\"").append(color).append("\"/>");
+            }
+            if (width >= MIN_LABEL_WIDTH) {
+                element.append("<text x=\"").append(left + 4).append("\" y=\"").append(top + BAR_HEIGHT - 4)
+                        .append("\" fill=\"#fff\">");
+                appendEscaped(element, layout.name(row));
+                element.append("</text>");
+            }
+            element.append("</g>\n");
+            try {
+                out.write(element.toString());
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+
+        private static void appendEscaped(StringBuilder builder, String text) {
+            for (int i = 0; i < text.length(); i++) {
+                char c = text.charAt(i);
+                switch (c) {
+                    case '<' -> builder.append("&lt;");
+                    case '>' -> builder.append("&gt;");
+                    case '&' -> builder.append("&amp;");
+                    case '"' -> builder.append("&quot;");
+                    default -> builder.append(c);
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,45 @@
+package com.liam.gantt.repository;
+
+import com.liam.gantt.entity.enums.ChangeEntityType;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.Collection;
+
+/**
+ * 프로젝트 변경 이력 대량 기록용 JDBC 배치 데이터 액세스 클래스
+ */
+@Repository
+@RequiredArgsConstructor
+public class ProjectChangeJdbcRepository {
+
+    static final int BATCH_SIZE = 500;
+
+    private static final String INSERT_SQL =
+            "INSERT INTO project_changes (project_id, version, entity_type, entity_id, deleted, created_at) " +
+            "VALUES (?, ?, ?, ?, ?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * 같은 버전의 변경 대상 일괄 기록
+     */
+    public void batchInsert(Long projectId, long version, ChangeEntityType entityType,
+                            Collection<Long> entityIds, boolean deleted) {
+        if (entityIds.isEmpty()) {
+            return;
+        }
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        jdbcTemplate.batchUpdate(INSERT_SQL, entityIds, BATCH_SIZE, (ps, entityId) -> {
+            ps.setLong(1, projectId);
+            ps.setLong(2, version);
+            ps.setString(3, entityType.name());
+            ps.setLong(4, entityId);
+            ps.setBoolean(5, deleted);
+            ps.setTimestamp(6, now);
+        });
+    }
+}
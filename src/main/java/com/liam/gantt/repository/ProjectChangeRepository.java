@@ -0,0 +1,39 @@
+package com.liam.gantt.repository;
+
+import com.liam.gantt.entity.ProjectChange;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+/**
+ * 프로젝트 변경 이력에 대한 데이터 액세스 인터페이스
+ */
+@Repository
+public interface ProjectChangeRepository extends JpaRepository<ProjectChange, Long> {
+    
+    /**
+     * 버전 구간 (since, until]의 변경 이력 조회 (버전 순)
+     */
+    @Query("SELECT c FROM ProjectChange c WHERE c.projectId = :projectId " +
+           "AND c.version > :since AND c.version <= :until ORDER BY c.version, c.id")
+    List<ProjectChange> findChanges(@Param("projectId") Long projectId,
+                                    @Param("since") long since,
+                                    @Param("until") long until);
+    
+    /**
+     * 보관 중인 가장 오래된 변경 버전 조회 (이력이 없으면 null)
+     */
+    @Query("SELECT MIN(c.version) FROM ProjectChange c WHERE c.projectId = :projectId")
+    Long findMinVersionByProjectId(@Param("projectId") Long projectId);
+    
+    /**
+     * 프로젝트 변경 이력 삭제
+     */
+    @Modifying
+    @Query("DELETE FROM ProjectChange c WHERE c.projectId = :projectId")
+    int deleteByProjectId(@Param("projectId") Long projectId);
+}
@@ -2,14 +2,18 @@ package com.liam.gantt.repository;
 
 import com.liam.gantt.entity.Project;
 import com.liam.gantt.entity.enums.ProjectStatus;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.math.BigDecimal;
 import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
@@ -39,6 +43,23 @@ public interface ProjectRepository extends JpaRepository<Project, Long> {
      */
     Page<Project> findByNameContainingIgnoreCase(String keyword, Pageable pageable);
     
+    /**
+     * 프로젝트 키셋 조회 - 첫 페이지 ((생성일시, ID) 오름차순)
+     */
+    @Query("SELECT p FROM Project p ORDER BY p.createdAt ASC, p.id ASC")
+    List<Project> findKeysetFirstPage(Limit limit);
+    
+    /**
+     * 프로젝트 키셋 조회 - 커서 이후 페이지 ((생성일시, ID) 오름차순)
+     */
+    @Query("SELECT p FROM Project p WHERE p.createdAt > :createdAt " +
+           "OR (p.createdAt = :createdAt AND p.id > :id) ORDER BY p.createdAt ASC, p.id ASC")
+    List<Project> findKeysetPageAfter(
+        @Param("createdAt") LocalDateTime createdAt,
+        @Param("id") Long id,
+        Limit limit
+    );
+    
     /**
      * 상태별 프로젝트 조회
      */
@@ -100,6 +121,64 @@ public interface ProjectRepository extends JpaRepository<Project, Long> {
         @Param("toDate") LocalDate toDate
     );
     
+    /**
+     * 프로젝트 데이터 버전 조회
+     */
+    @Query("SELECT p.dataVersion FROM Project p WHERE p.id = :id")
+    Optional<Long> findDataVersionById(@Param("id") Long id);
+    
+    /**
+     * 프로젝트 데이터 버전 증가
+     */
+    @Modifying
+    @Query(value = "UPDATE projects SET data_version = data_version + 1 WHERE id = :id", nativeQuery = true)
+    int incrementDataVersion(@Param("id") Long id);
+    
+    /**
+     * 프로젝트 태스크 집계 증감
+     */
+    @Modifying
+    @Query(value = "UPDATE projects SET task_count = task_count + :taskDelta, " +
+                   "completed_count = completed_count + :completedDelta, " +
+                   "progress_sum = progress_sum + :progressDelta WHERE id = :id", nativeQuery = true)
+    int addTaskRollup(
+        @Param("id") Long id,
+        @Param("taskDelta") int taskDelta,
+        @Param("completedDelta") int completedDelta,
+        @Param("progressDelta") BigDecimal progressDelta
+    );
+    
+    /**
+     * 프로젝트 태스크 집계 재계산
+     */
+    @Modifying
+    @Query(value = "UPDATE projects SET " +
+                   "task_count = (SELECT COUNT(*) FROM tasks t WHERE t.project_id = projects.id), " +
+                   "completed_count = (SELECT COUNT(*) FROM tasks t WHERE t.project_id = projects.id AND t.status = 'COMPLETED'), " +
+                   "progress_sum = (SELECT COALESCE(SUM(t.progress), 0) FROM tasks t WHERE t.project_id = projects.id) " +
+                   "WHERE id = :id", nativeQuery = true)
+    int recalculateTaskRollup(@Param("id") Long id);
+    
+    /**
+     * 프로젝트 태스크 집계 조회 {task_count, completed_count, progress_sum, weighted_progress}
+     */
+    @Query(value = "SELECT task_count, completed_count, progress_sum, weighted_progress FROM projects WHERE id = :id",
+           nativeQuery = true)
+    List<Object[]> findTaskRollupById(@Param("id") Long id);
+    
+    /**
+     * 프로젝트 기간 가중 진행률 저장
+     */
+    @Modifying
+    @Query(value = "UPDATE projects SET weighted_progress = :progress WHERE id = :id", nativeQuery = true)
+    int updateWeightedProgress(@Param("id") Long id, @Param("progress") BigDecimal progress);
+    
+    /**
+     * 전체 프로젝트 ID 조회 (집계 보정용)
+     */
+    @Query("SELECT p.id FROM Project p ORDER BY p.id")
+    List<Long> findAllIds();
+    
     /**
      * 프로젝트 상태별 개수 조회
      */
@@ -0,0 +1,134 @@
+package com.liam.gantt.repository;
+
+import com.liam.gantt.entity.Task;
+import com.liam.gantt.entity.TaskClosure;
+import com.liam.gantt.entity.TaskClosureId;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * 태스크 계층 클로저에 대한 데이터 액세스 인터페이스
+ *
+ * 조회는 모두 (ancestor_id, descendant_id) 기본 키 또는 (descendant_id, depth) 인덱스 한 번으로 처리됩니다.
+ * MariaDB는 DELETE 대상 테이블을 같은 문장의 하위 쿼리에서 직접 읽을 수 없으므로 파생 테이블로 감쌉니다.
+ */
+@Repository
+public interface TaskClosureRepository extends JpaRepository<TaskClosure, TaskClosureId> {
+
+    /**
+     * 하위 트리 조회 (자신 포함, 깊이 → 시작일 순)
+     */
+    @Query("SELECT t FROM TaskClosure c JOIN Task t ON t.id = c.descendantId " +
+           "WHERE c.ancestorId = :taskId ORDER BY c.depth, t.startDate, t.id")
+    List<Task> findSubtree(@Param("taskId") Long taskId);
+
+    /**
+     * 하위 트리 태스크 ID 조회 (자신 포함)
+     */
+    @Query("SELECT c.descendantId FROM TaskClosure c WHERE c.ancestorId = :taskId")
+    List<Long> findSubtreeIds(@Param("taskId") Long taskId);
+
+    /**
+     * 하위 트리 일정 행 조회 {id, startDate, endDate} (자신 포함)
+     */
+    @Query("SELECT t.id, t.startDate, t.endDate FROM TaskClosure c JOIN Task t ON t.id = c.descendantId " +
+           "WHERE c.ancestorId = :taskId")
+    List<Object[]> findSubtreeScheduleRows(@Param("taskId") Long taskId);
+
+    /**
+     * 상위 경로 조회 (루트부터 자신까지)
+     */
+    @Query("SELECT t FROM TaskClosure c JOIN Task t ON t.id = c.ancestorId " +
+           "WHERE c.descendantId = :taskId ORDER BY c.depth DESC")
+    List<Task> findAncestorPath(@Param("taskId") Long taskId);
+
+    /**
+     * 태스크 깊이 조회 (루트 태스크는 0)
+     */
+    @Query("SELECT MAX(c.depth) FROM TaskClosure c WHERE c.descendantId = :taskId")
+    Optional<Integer> findDepth(@Param("taskId") Long taskId);
+
+    /**
+     * 여러 태스크 깊이 조회 {taskId, depth}
+     */
+    @Query("SELECT c.descendantId, MAX(c.depth) FROM TaskClosure c " +
+           "WHERE c.descendantId IN :taskIds GROUP BY c.descendantId")
+    List<Object[]> findDepths(@Param("taskIds") Collection<Long> taskIds);
+
+    /**
+     * 프로젝트의 요약 태스크별 하위 리프 태스크 행 조회 {summaryTaskId, leafTaskId}
+     */
+    @Query("SELECT c.ancestorId, c.descendantId FROM TaskClosure c " +
+           "WHERE c.projectId = :projectId AND c.depth > 0 " +
+           "AND NOT EXISTS (SELECT 1 FROM TaskClosure d WHERE d.ancestorId = c.descendantId AND d.depth > 0)")
+    List<Object[]> findSummaryLeafRowsByProjectId(@Param("projectId") Long projectId);
+
+    /**
+     * 하위 태스크 존재 여부
+     */
+    @Query("SELECT COUNT(c) > 0 FROM TaskClosure c WHERE c.ancestorId = :taskId AND c.depth > 0")
+    boolean existsDescendants(@Param("taskId") Long taskId);
+
+    /**
+     * 새 태스크의 자기 자신 행 추가
+     */
+    @Modifying
+    @Query(value = "INSERT INTO task_closure (ancestor_id, descendant_id, project_id, depth) " +
+                   "VALUES (:taskId, :taskId, :projectId, 0)",
+           nativeQuery = true)
+    int insertSelf(@Param("projectId") Long projectId, @Param("taskId") Long taskId);
+
+    /**
+     * 새 태스크에 상위 태스크의 경로를 복사 (상위 태스크의 각 조상 → 새 태스크)
+     */
+    @Modifying
+    @Query(value = "INSERT INTO task_closure (ancestor_id, descendant_id, project_id, depth) " +
+                   "SELECT ancestor_id, :taskId, project_id, depth + 1 FROM task_closure " +
+                   "WHERE descendant_id = :parentTaskId",
+           nativeQuery = true)
+    int insertAncestorPaths(@Param("taskId") Long taskId, @Param("parentTaskId") Long parentTaskId);
+
+    /**
+     * 하위 트리를 기존 조상에서 분리 (하위 트리 내부 경로는 유지)
+     */
+    @Modifying
+    @Query(value = "DELETE FROM task_closure " +
+                   "WHERE descendant_id IN (SELECT d FROM (" +
+                   "  SELECT descendant_id AS d FROM task_closure WHERE ancestor_id = :taskId) subtree) " +
+                   "AND ancestor_id IN (SELECT a FROM (" +
+                   "  SELECT ancestor_id AS a FROM task_closure WHERE descendant_id = :taskId AND depth > 0) ancestors)",
+           nativeQuery = true)
+    int detachSubtree(@Param("taskId") Long taskId);
+
+    /**
+     * 분리된 하위 트리를 새 상위 태스크 아래에 연결 (새 조상 × 하위 트리 교차 행 추가)
+     */
+    @Modifying
+    @Query(value = "INSERT INTO task_closure (ancestor_id, descendant_id, project_id, depth) " +
+                   "SELECT p.ancestor_id, s.descendant_id, s.project_id, p.depth + s.depth + 1 " +
+                   "FROM task_closure p, task_closure s " +
+                   "WHERE p.descendant_id = :parentTaskId AND s.ancestor_id = :taskId",
+           nativeQuery = true)
+    int attachSubtree(@Param("taskId") Long taskId, @Param("parentTaskId") Long parentTaskId);
+
+    /**
+     * 리프 태스크 삭제 시 클로저 행 삭제
+     */
+    @Modifying
+    @Query("DELETE FROM TaskClosure c WHERE c.descendantId = :taskId OR c.ancestorId = :taskId")
+    int deleteByTaskId(@Param("taskId") Long taskId);
+
+    /**
+     * 프로젝트 클로저 행 삭제
+     */
+    @Modifying
+    @Query("DELETE FROM TaskClosure c WHERE c.projectId = :projectId")
+    int deleteByProjectId(@Param("projectId") Long projectId);
+}
@@ -0,0 +1,79 @@
+package com.liam.gantt.repository;
+
+import com.liam.gantt.dto.request.TaskDependencyRequestDto;
+import com.liam.gantt.entity.enums.DependencyType;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 태스크 의존성 대량 등록용 JDBC 배치 데이터 액세스 클래스
+ *
+ * 호출 측에서 유효성 검증(자기 참조, 프로젝트 소속, 중복, 순환)을 마친 요청만 전달해야 합니다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class TaskDependencyJdbcRepository {
+
+    static final int BATCH_SIZE = 500;
+
+    private static final String INSERT_SQL =
+            "INSERT INTO task_dependencies (predecessor_id, successor_id, dependency_type, lag_days, created_at, updated_at) " +
+            "VALUES (?, ?, ?, ?, ?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * 의존성 일괄 등록
+     *
+     * IDENTITY 키를 사용하므로 배치마다 생성된 키를 읽어 입력 순서대로 반환합니다.
+     *
+     * @return 요청 순서와 같은 생성 ID 목록
+     */
+    public List<Long> batchInsert(List<TaskDependencyRequestDto> dependencies) {
+        if (dependencies.isEmpty()) {
+            return List.of();
+        }
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        List<Long> ids = jdbcTemplate.execute((ConnectionCallback<List<Long>>) connection -> {
+            List<Long> generatedIds = new ArrayList<>(dependencies.size());
+            try (PreparedStatement ps = connection.prepareStatement(INSERT_SQL, Statement.RETURN_GENERATED_KEYS)) {
+                for (int i = 0; i < dependencies.size(); i++) {
+                    TaskDependencyRequestDto dependency = dependencies.get(i);
+                    DependencyType type = dependency.getDependencyType() != null
+                            ? dependency.getDependencyType() : DependencyType.FINISH_TO_START;
+                    ps.setLong(1, dependency.getPredecessorId());
+                    ps.setLong(2, dependency.getSuccessorId());
+                    ps.setString(3, type.name());
+                    ps.setInt(4, dependency.getLagDays() != null ? dependency.getLagDays() : 0);
+                    ps.setTimestamp(5, now);
+                    ps.setTimestamp(6, now);
+                    ps.addBatch();
+
+                    if ((i + 1) % BATCH_SIZE == 0 || i == dependencies.size() - 1) {
+                        ps.executeBatch();
+                        try (ResultSet keys = ps.getGeneratedKeys()) {
+                            while (keys.next()) {
+                                generatedIds.add(keys.getLong(1));
+                            }
+                        }
+                    }
+                }
+            }
+            return generatedIds;
+        });
+        if (ids == null || ids.size() != dependencies.size()) {
+            throw new IllegalStateException("생성된 의존성 ID 수가 요청 수와 다릅니다");
+        }
+        return ids;
+    }
+}
@@ -2,11 +2,13 @@ package com.liam.gantt.repository;
 
 import com.liam.gantt.entity.TaskDependency;
 import com.liam.gantt.entity.enums.DependencyType;
+import com.liam.gantt.repository.projection.GanttDependencyRow;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -43,10 +45,52 @@ public interface TaskDependencyRepository extends JpaRepository<TaskDependency,
      * 프로젝트의 모든 의존성 조회
      */
     @Query("SELECT td FROM TaskDependency td " +
-           "JOIN td.predecessor p " +
+           "JOIN FETCH td.predecessor p " +
+           "JOIN FETCH td.successor " +
            "WHERE p.project.id = :projectId")
     List<TaskDependency> findByProjectId(@Param("projectId") Long projectId);
     
+    /**
+     * 일정 계산용 의존성 행 조회 (선행 ID, 후행 ID, 유형, 지연일)
+     */
+    @Query("SELECT td.predecessor.id, td.successor.id, td.dependencyType, td.lagDays " +
+           "FROM TaskDependency td " +
+           "WHERE td.predecessor.project.id = :projectId")
+    List<Object[]> findScheduleRowsByProjectId(@Param("projectId") Long projectId);
+    
+    /**
+     * 증분 일정 전파용 후행 의존성 행 조회
+     * (선행 ID, 후행 ID, 유형, 지연일, 후행 시작일, 후행 종료일)
+     */
+    @Query("SELECT td.predecessor.id, s.id, td.dependencyType, td.lagDays, s.startDate, s.endDate " +
+           "FROM TaskDependency td " +
+           "JOIN td.successor s " +
+           "WHERE td.predecessor.id IN :predecessorIds")
+    List<Object[]> findSuccessorScheduleRows(@Param("predecessorIds") Collection<Long> predecessorIds);
+    
+    /**
+     * 간트 차트용 의존성 행 조회 (엔티티 생성 없이)
+     */
+    @Query("SELECT new com.liam.gantt.repository.projection.GanttDependencyRow(" +
+           "td.id, p.id, p.name, s.id, s.name, td.dependencyType, td.lagDays) " +
+           "FROM TaskDependency td " +
+           "JOIN td.predecessor p " +
+           "JOIN td.successor s " +
+           "WHERE p.project.id = :projectId")
+    List<GanttDependencyRow> findGanttRowsByProjectId(@Param("projectId") Long projectId);
+    
+    /**
+     * 간트 차트용 의존성 행 조회 (ID 목록 지정)
+     */
+    @Query("SELECT new com.liam.gantt.repository.projection.GanttDependencyRow(" +
+           "td.id, p.id, p.name, s.id, s.name, td.dependencyType, td.lagDays) " +
+           "FROM TaskDependency td " +
+           "JOIN td.predecessor p " +
+           "JOIN td.successor s " +
+           "WHERE p.project.id = :projectId AND td.id IN :ids")
+    List<GanttDependencyRow> findGanttRowsByProjectIdAndIdIn(@Param("projectId") Long projectId,
+                                                              @Param("ids") Collection<Long> ids);
+    
     /**
      * 특정 태스크와 관련된 모든 의존성 조회 (선행 + 후행)
      */
@@ -55,18 +99,11 @@ public interface TaskDependencyRepository extends JpaRepository<TaskDependency,
     List<TaskDependency> findAllByTaskId(@Param("taskId") Long taskId);
     
     /**
-     * 순환 의존성 체크를 위한 경로 조회
-     * 특정 태스크에서 시작하여 도달 가능한 모든 후행 태스크들
+     * 특정 태스크와 관련된 모든 의존성 ID 조회 (선행 + 후행)
      */
-    @Query(value = "WITH RECURSIVE dependency_chain AS (" +
-           "  SELECT successor_id, predecessor_id FROM task_dependencies " +
-           "  WHERE predecessor_id = :taskId " +
-           "  UNION ALL " +
-           "  SELECT td.successor_id, td.predecessor_id FROM task_dependencies td " +
-           "  INNER JOIN dependency_chain dc ON td.predecessor_id = dc.successor_id " +
-           ") SELECT DISTINCT successor_id FROM dependency_chain",
-           nativeQuery = true)
-    List<Long> findReachableSuccessorIds(@Param("taskId") Long taskId);
+    @Query("SELECT td.id FROM TaskDependency td " +
+           "WHERE td.predecessor.id = :taskId OR td.successor.id = :taskId")
+    List<Long> findIdsByTaskId(@Param("taskId") Long taskId);
     
     /**
      * 중복 의존성 체크
@@ -0,0 +1,264 @@
+package com.liam.gantt.repository;
+
+import com.liam.gantt.dto.request.TaskImportItemDto;
+import com.liam.gantt.entity.enums.TaskStatus;
+import com.liam.gantt.interval.TaskIntervalTree;
+import com.liam.gantt.repository.projection.TaskExportRow;
+import com.liam.gantt.scheduling.TaskDateChange;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.math.BigDecimal;
+import java.sql.Date;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+
+/**
+ * 태스크 대량 변경용 JDBC 배치 데이터 액세스 클래스
+ *
+ * 엔티티를 로딩하지 않고 JDBC 배치로 직접 갱신하므로,
+ * 같은 트랜잭션에서 이미 로딩된 Task 엔티티가 있다면 호출 측에서 영속성 컨텍스트를 정리해야 합니다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class TaskJdbcRepository {
+
+    static final int BATCH_SIZE = 500;
+    static final int EXPORT_FETCH_SIZE = 1_000;
+
+    private static final String UPDATE_DATES_SQL =
+            "UPDATE tasks SET start_date = ?, end_date = ?, updated_at = ? WHERE id = ?";
+
+    private static final String UPDATE_PROGRESS_SQL =
+            "UPDATE tasks SET progress = ?, updated_at = ? WHERE id = ?";
+
+    private static final String UPDATE_PROGRESS_STATUS_SQL =
+            "UPDATE tasks SET progress = ?, status = ?, updated_at = ? WHERE id = ?";
+
+    private static final String INSERT_SQL =
+            "INSERT INTO tasks (project_id, parent_task_id, name, description, start_date, end_date, " +
+            "duration, progress, status, created_at, updated_at) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+
+    private static final String INSERT_CLOSURE_SELF_SQL =
+            "INSERT INTO task_closure (ancestor_id, descendant_id, project_id, depth) VALUES (?, ?, ?, 0)";
+
+    private static final String INSERT_CLOSURE_PATHS_SQL =
+            "INSERT INTO task_closure (ancestor_id, descendant_id, project_id, depth) " +
+            "SELECT ancestor_id, ?, project_id, depth + 1 FROM task_closure WHERE descendant_id = ?";
+
+    private static final String INTERVAL_SQL =
+            "SELECT id, start_date, end_date FROM tasks WHERE project_id = ?";
+
+    private static final String EXPORT_SQL =
+            "SELECT t.id, t.project_id, t.parent_task_id, p.name AS parent_task_name, t.name, t.description, " +
+            "t.start_date, t.end_date, t.duration, t.progress, t.status, t.created_at, t.updated_at " +
+            "FROM tasks t LEFT JOIN tasks p ON p.id = t.parent_task_id " +
+            "WHERE t.project_id = ? ORDER BY t.id";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * 프로젝트 태스크를 전진 전용 커서로 한 행씩 전달
+     *
+     * fetch size 단위로 가져오므로 태스크 수와 관계없이 메모리 사용량이 일정합니다.
+     *
+     * @return 전달한 행 수
+     */
+    public long streamExportRows(Long projectId, Consumer<TaskExportRow> consumer) {
+        AtomicLong count = new AtomicLong();
+        jdbcTemplate.query(connection -> {
+            PreparedStatement ps = connection.prepareStatement(
+                    EXPORT_SQL, ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+            ps.setFetchSize(EXPORT_FETCH_SIZE);
+            ps.setLong(1, projectId);
+            return ps;
+        }, rs -> {
+            Timestamp createdAt = rs.getTimestamp("created_at");
+            Timestamp updatedAt = rs.getTimestamp("updated_at");
+            consumer.accept(new TaskExportRow(
+                    rs.getLong("id"),
+                    rs.getLong("project_id"),
+                    rs.getObject("parent_task_id", Long.class),
+                    rs.getString("parent_task_name"),
+                    rs.getString("name"),
+                    rs.getString("description"),
+                    rs.getDate("start_date").toLocalDate(),
+                    rs.getDate("end_date").toLocalDate(),
+                    rs.getInt("duration"),
+                    rs.getBigDecimal("progress"),
+                    TaskStatus.valueOf(rs.getString("status")),
+                    createdAt != null ? createdAt.toLocalDateTime() : null,
+                    updatedAt != null ? updatedAt.toLocalDateTime() : null));
+            count.incrementAndGet();
+        });
+        return count.get();
+    }
+
+    /**
+     * 프로젝트 태스크 기간으로 구간 트리 생성
+     *
+     * 행마다 객체를 만들지 않고 epoch day 배열에 바로 채웁니다.
+     */
+    public TaskIntervalTree loadIntervalTree(Long projectId) {
+        TaskIntervalTree.Builder builder = TaskIntervalTree.builder();
+        jdbcTemplate.query(connection -> {
+            PreparedStatement ps = connection.prepareStatement(
+                    INTERVAL_SQL, ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+            ps.setFetchSize(EXPORT_FETCH_SIZE);
+            ps.setLong(1, projectId);
+            return ps;
+        }, rs -> {
+            builder.add(rs.getLong(1),
+                    rs.getDate(2).toLocalDate().toEpochDay(),
+                    rs.getDate(3).toLocalDate().toEpochDay());
+        });
+        return builder.build();
+    }
+
+    /**
+     * 태스크 시작일/종료일 일괄 갱신
+     */
+    public void batchUpdateDates(List<TaskDateChange> changes) {
+        if (changes.isEmpty()) {
+            return;
+        }
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        jdbcTemplate.batchUpdate(UPDATE_DATES_SQL, changes, BATCH_SIZE, (ps, change) -> {
+            ps.setDate(1, Date.valueOf(change.startDate()));
+            ps.setDate(2, Date.valueOf(change.endDate()));
+            ps.setTimestamp(3, now);
+            ps.setLong(4, change.taskId());
+        });
+    }
+
+    /**
+     * 태스크 진행률 일괄 갱신
+     */
+    public void batchUpdateProgress(Map<Long, BigDecimal> progressById) {
+        if (progressById.isEmpty()) {
+            return;
+        }
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        jdbcTemplate.batchUpdate(UPDATE_PROGRESS_SQL, new ArrayList<>(progressById.entrySet()), BATCH_SIZE,
+                (ps, entry) -> {
+                    ps.setBigDecimal(1, entry.getValue());
+                    ps.setTimestamp(2, now);
+                    ps.setLong(3, entry.getKey());
+                });
+    }
+
+    /**
+     * 태스크 진행률/상태 일괄 갱신
+     */
+    public void batchUpdateProgressAndStatus(List<ProgressChange> changes) {
+        if (changes.isEmpty()) {
+            return;
+        }
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        jdbcTemplate.batchUpdate(UPDATE_PROGRESS_STATUS_SQL, changes, BATCH_SIZE, (ps, change) -> {
+            ps.setBigDecimal(1, change.progress());
+            ps.setString(2, change.status().name());
+            ps.setTimestamp(3, now);
+            ps.setLong(4, change.taskId());
+        });
+    }
+
+    /**
+     * 태스크 일괄 등록
+     *
+     * IDENTITY 키를 사용하므로 배치마다 생성된 키를 읽어 입력 순서대로 반환합니다.
+     *
+     * @param parentTaskIds 항목별 상위 태스크 ID (없으면 null)
+     * @return 항목 순서와 같은 생성 ID 목록
+     */
+    public List<Long> batchInsert(Long projectId, List<TaskImportItemDto> items, List<Long> parentTaskIds) {
+        if (items.isEmpty()) {
+            return List.of();
+        }
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        List<Long> ids = jdbcTemplate.execute((ConnectionCallback<List<Long>>) connection -> {
+            List<Long> generatedIds = new ArrayList<>(items.size());
+            try (PreparedStatement ps = connection.prepareStatement(INSERT_SQL, Statement.RETURN_GENERATED_KEYS)) {
+                for (int i = 0; i < items.size(); i++) {
+                    TaskImportItemDto item = items.get(i);
+                    Long parentTaskId = parentTaskIds.get(i);
+                    ps.setLong(1, projectId);
+                    if (parentTaskId != null) {
+                        ps.setLong(2, parentTaskId);
+                    } else {
+                        ps.setNull(2, Types.BIGINT);
+                    }
+                    ps.setString(3, item.getName());
+                    ps.setString(4, item.getDescription());
+                    ps.setDate(5, Date.valueOf(item.getStartDate()));
+                    ps.setDate(6, Date.valueOf(item.getEndDate()));
+                    ps.setInt(7, item.getDuration() != null ? item.getDuration() : item.calculateDuration());
+                    ps.setBigDecimal(8, item.getProgress() != null ? item.getProgress() : BigDecimal.ZERO);
+                    ps.setString(9, (item.getStatus() != null ? item.getStatus() : TaskStatus.NOT_STARTED).name());
+                    ps.setTimestamp(10, now);
+                    ps.setTimestamp(11, now);
+                    ps.addBatch();
+
+                    if ((i + 1) % BATCH_SIZE == 0 || i == items.size() - 1) {
+                        ps.executeBatch();
+                        try (ResultSet keys = ps.getGeneratedKeys()) {
+                            while (keys.next()) {
+                                generatedIds.add(keys.getLong(1));
+                            }
+                        }
+                    }
+                }
+            }
+            return generatedIds;
+        });
+        if (ids == null || ids.size() != items.size()) {
+            throw new IllegalStateException("생성된 태스크 ID 수가 요청 수와 다릅니다");
+        }
+        return ids;
+    }
+
+    /**
+     * 새로 등록한 태스크의 계층 클로저 행 일괄 추가
+     *
+     * 상위 태스크의 클로저 행을 복사하므로 상위 태스크가 먼저 등록되어 있어야 합니다.
+     *
+     * @param parentTaskIds 태스크별 상위 태스크 ID (없으면 null)
+     */
+    public void batchInsertClosure(Long projectId, List<Long> taskIds, List<Long> parentTaskIds) {
+        if (taskIds.isEmpty()) {
+            return;
+        }
+        jdbcTemplate.batchUpdate(INSERT_CLOSURE_SELF_SQL, taskIds, BATCH_SIZE, (ps, taskId) -> {
+            ps.setLong(1, taskId);
+            ps.setLong(2, taskId);
+            ps.setLong(3, projectId);
+        });
+        List<long[]> parentLinks = new ArrayList<>(taskIds.size());
+        for (int i = 0; i < taskIds.size(); i++) {
+            if (parentTaskIds.get(i) != null) {
+                parentLinks.add(new long[]{taskIds.get(i), parentTaskIds.get(i)});
+            }
+        }
+        jdbcTemplate.batchUpdate(INSERT_CLOSURE_PATHS_SQL, parentLinks, BATCH_SIZE, (ps, link) -> {
+            ps.setLong(1, link[0]);
+            ps.setLong(2, link[1]);
+        });
+    }
+
+    /**
+     * 진행률/상태 변경 항목
+     */
+    public record ProgressChange(long taskId, BigDecimal progress, TaskStatus status) {
+    }
+}
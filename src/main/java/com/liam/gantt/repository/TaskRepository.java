@@ -2,6 +2,8 @@ package com.liam.gantt.repository;
 
 import com.liam.gantt.entity.Task;
 import com.liam.gantt.entity.enums.TaskStatus;
+import com.liam.gantt.repository.projection.GanttTaskRow;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
@@ -12,6 +14,7 @@ import org.springframework.stereotype.Repository;
 
 import java.math.BigDecimal;
 import java.time.LocalDate;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -36,6 +39,26 @@ public interface TaskRepository extends JpaRepository<Task, Long> {
      */
     Page<Task> findByProjectId(Long projectId, Pageable pageable);
     
+    /**
+     * 프로젝트별 태스크 키셋 조회 - 첫 페이지 ((시작일, ID) 오름차순)
+     */
+    @Query("SELECT t FROM Task t LEFT JOIN FETCH t.parentTask WHERE t.project.id = :projectId " +
+           "ORDER BY t.startDate ASC, t.id ASC")
+    List<Task> findKeysetFirstPage(@Param("projectId") Long projectId, Limit limit);
+    
+    /**
+     * 프로젝트별 태스크 키셋 조회 - 커서 이후 페이지 ((시작일, ID) 오름차순)
+     */
+    @Query("SELECT t FROM Task t LEFT JOIN FETCH t.parentTask WHERE t.project.id = :projectId " +
+           "AND (t.startDate > :startDate OR (t.startDate = :startDate AND t.id > :id)) " +
+           "ORDER BY t.startDate ASC, t.id ASC")
+    List<Task> findKeysetPageAfter(
+        @Param("projectId") Long projectId,
+        @Param("startDate") LocalDate startDate,
+        @Param("id") Long id,
+        Limit limit
+    );
+    
     /**
      * 프로젝트와 상태별 태스크 조회
      */
@@ -61,6 +84,13 @@ public interface TaskRepository extends JpaRepository<Task, Long> {
      */
     List<Task> findByStartDateBetween(LocalDate startDate, LocalDate endDate);
     
+    /**
+     * 기간 [from, to]에 진행 중인 태스크 조회 (전체 프로젝트, 기간 겹침 기준)
+     */
+    @Query("SELECT t FROM Task t JOIN FETCH t.project LEFT JOIN FETCH t.parentTask " +
+           "WHERE t.startDate <= :to AND t.endDate >= :from ORDER BY t.startDate, t.id")
+    List<Task> findOverlapping(@Param("from") LocalDate from, @Param("to") LocalDate to);
+    
     /**
      * 프로젝트의 지연된 태스크 조회
      */
@@ -101,13 +131,109 @@ public interface TaskRepository extends JpaRepository<Task, Long> {
     );
     
     /**
-     * 임계 경로 태스크 조회 (의존성이 있는 태스크들)
+     * 간트 차트용 태스크 행 조회 (엔티티 생성 없이 차트 컬럼만)
      */
-    @Query("SELECT DISTINCT t FROM Task t " +
+    @Query("SELECT new com.liam.gantt.repository.projection.GanttTaskRow(" +
+           "t.id, p.id, t.name, t.startDate, t.endDate, t.progress, t.status) " +
+           "FROM Task t LEFT JOIN t.parentTask p " +
            "WHERE t.project.id = :projectId " +
-           "AND (EXISTS (SELECT 1 FROM TaskDependency td WHERE td.predecessor = t) " +
-           "OR EXISTS (SELECT 1 FROM TaskDependency td WHERE td.successor = t))")
-    List<Task> findCriticalPathTasks(@Param("projectId") Long projectId);
+           "ORDER BY t.startDate, t.id")
+    List<GanttTaskRow> findGanttRowsByProjectId(@Param("projectId") Long projectId);
+    
+    /**
+     * 간트 차트용 태스크 행 조회 (기간 [from, to]와 겹치는 태스크)
+     */
+    @Query("SELECT new com.liam.gantt.repository.projection.GanttTaskRow(" +
+           "t.id, p.id, t.name, t.startDate, t.endDate, t.progress, t.status) " +
+           "FROM Task t LEFT JOIN t.parentTask p " +
+           "WHERE t.project.id = :projectId AND t.startDate <= :to AND t.endDate >= :from " +
+           "ORDER BY t.startDate, t.id")
+    List<GanttTaskRow> findGanttRowsOverlapping(@Param("projectId") Long projectId,
+                                                @Param("from") LocalDate from,
+                                                @Param("to") LocalDate to);
+    
+    /**
+     * 간트 차트용 태스크 행 조회 (ID 목록 지정)
+     */
+    @Query("SELECT new com.liam.gantt.repository.projection.GanttTaskRow(" +
+           "t.id, p.id, t.name, t.startDate, t.endDate, t.progress, t.status) " +
+           "FROM Task t LEFT JOIN t.parentTask p " +
+           "WHERE t.project.id = :projectId AND t.id IN :ids " +
+           "ORDER BY t.startDate, t.id")
+    List<GanttTaskRow> findGanttRowsByProjectIdAndIdIn(@Param("projectId") Long projectId,
+                                                        @Param("ids") Collection<Long> ids);
+    
+    /**
+     * 프로젝트의 태스크 ID 목록 조회
+     */
+    @Query("SELECT t.id FROM Task t WHERE t.project.id = :projectId")
+    List<Long> findIdsByProjectId(@Param("projectId") Long projectId);
+    
+    /**
+     * 태스크 소속 프로젝트 ID 조회
+     */
+    @Query("SELECT t.project.id FROM Task t WHERE t.id = :taskId")
+    Optional<Long> findProjectIdById(@Param("taskId") Long taskId);
+    
+    /**
+     * 일정 계산용 태스크 행 조회 (엔티티 로딩 없이 id, 시작일, 종료일만)
+     */
+    @Query("SELECT t.id, t.startDate, t.endDate FROM Task t WHERE t.project.id = :projectId")
+    List<Object[]> findScheduleRowsByProjectId(@Param("projectId") Long projectId);
+    
+    /**
+     * 임계 경로 계산용 리프 태스크 행 조회 {id, startDate, endDate} (하위 태스크가 있는 요약 태스크 제외)
+     */
+    @Query("SELECT t.id, t.startDate, t.endDate FROM Task t WHERE t.project.id = :projectId " +
+           "AND NOT EXISTS (SELECT 1 FROM Task c WHERE c.parentTask = t)")
+    List<Object[]> findLeafScheduleRowsByProjectId(@Param("projectId") Long projectId);
+    
+    /**
+     * 진행률 집계용 태스크 행 조회 {id, parentId, duration, progress}
+     */
+    @Query("SELECT t.id, p.id, t.duration, t.progress FROM Task t LEFT JOIN t.parentTask p " +
+           "WHERE t.project.id = :projectId")
+    List<Object[]> findProgressRowsByProjectId(@Param("projectId") Long projectId);
+    
+    /**
+     * 태스크의 상위 태스크 ID와 진행률 조회 {parentId, progress}
+     */
+    @Query("SELECT p.id, t.progress FROM Task t LEFT JOIN t.parentTask p WHERE t.id = :taskId")
+    List<Object[]> findParentIdAndProgressById(@Param("taskId") Long taskId);
+    
+    /**
+     * 직계 하위 태스크 진행률 합계 조회 {진행률×기간 합, 기간 합, 진행률 합, 개수}
+     */
+    @Query("SELECT COALESCE(SUM(t.progress * t.duration), 0), COALESCE(SUM(t.duration), 0), " +
+           "COALESCE(SUM(t.progress), 0), COUNT(t) FROM Task t WHERE t.parentTask.id = :parentTaskId")
+    List<Object[]> sumChildProgress(@Param("parentTaskId") Long parentTaskId);
+    
+    /**
+     * 루트 태스크 진행률 합계 조회 {진행률×기간 합, 기간 합, 진행률 합, 개수}
+     */
+    @Query("SELECT COALESCE(SUM(t.progress * t.duration), 0), COALESCE(SUM(t.duration), 0), " +
+           "COALESCE(SUM(t.progress), 0), COUNT(t) FROM Task t " +
+           "WHERE t.project.id = :projectId AND t.parentTask IS NULL")
+    List<Object[]> sumRootProgress(@Param("projectId") Long projectId);
+    
+    /**
+     * 태스크 진행률만 업데이트 (상위 태스크 집계용)
+     */
+    @Modifying
+    @Query("UPDATE Task t SET t.progress = :progress WHERE t.id = :taskId")
+    int updateProgressOnly(@Param("taskId") Long taskId, @Param("progress") BigDecimal progress);
+    
+    /**
+     * 하위 트리(자신 포함) 전체 날짜를 일수만큼 이동
+     *
+     * 영속성 컨텍스트에 남은 이전 날짜가 다시 기록되지 않도록 실행 후 컨텍스트를 비웁니다.
+     */
+    @Modifying(clearAutomatically = true)
+    @Query(value = "UPDATE tasks SET start_date = TIMESTAMPADD(DAY, :dayOffset, start_date), " +
+                   "end_date = TIMESTAMPADD(DAY, :dayOffset, end_date), updated_at = CURRENT_TIMESTAMP " +
+                   "WHERE id IN (SELECT descendant_id FROM task_closure WHERE ancestor_id = :taskId)",
+           nativeQuery = true)
+    int shiftSubtreeDates(@Param("taskId") Long taskId, @Param("dayOffset") int dayOffset);
     
     /**
      * 프로젝트별 태스크 진행률 업데이트
@@ -135,15 +261,12 @@ public interface TaskRepository extends JpaRepository<Task, Long> {
     long countCompletedTasksByProjectId(@Param("projectId") Long projectId);
     
     /**
-     * 태스크 계층 구조 조회 (재귀 쿼리 시뮬레이션)
+     * 태스크 계층 구조 조회 (깊이 → 시작일 순, 깊이는 계층 클로저에서 조회)
      */
-    @Query(value = "WITH RECURSIVE task_hierarchy AS (" +
-           "  SELECT t.*, 0 as level FROM tasks t " +
-           "  WHERE t.project_id = :projectId AND t.parent_task_id IS NULL " +
-           "  UNION ALL " +
-           "  SELECT t.*, th.level + 1 FROM tasks t " +
-           "  INNER JOIN task_hierarchy th ON t.parent_task_id = th.id " +
-           ") SELECT * FROM task_hierarchy ORDER BY level, start_date",
+    @Query(value = "SELECT t.* FROM tasks t " +
+           "INNER JOIN (SELECT descendant_id, MAX(depth) AS level FROM task_closure " +
+           "  WHERE project_id = :projectId GROUP BY descendant_id) c ON c.descendant_id = t.id " +
+           "ORDER BY c.level, t.start_date",
            nativeQuery = true)
     List<Task> findTaskHierarchy(@Param("projectId") Long projectId);
 }
\ No newline at end of file
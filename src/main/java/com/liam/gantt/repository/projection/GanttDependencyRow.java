@@ -0,0 +1,16 @@
+package com.liam.gantt.repository.projection;
+
+import com.liam.gantt.entity.enums.DependencyType;
+
+/**
+ * 간트 차트 렌더링용 의존성 행
+ */
+public record GanttDependencyRow(
+        Long id,
+        Long predecessorId,
+        String predecessorName,
+        Long successorId,
+        String successorName,
+        DependencyType dependencyType,
+        Integer lagDays) {
+}
@@ -0,0 +1,21 @@
+package com.liam.gantt.repository.projection;
+
+import com.liam.gantt.entity.enums.TaskStatus;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+/**
+ * 간트 차트 렌더링용 태스크 행
+ *
+ * 차트가 사용하는 컬럼만 읽어 엔티티 생성과 영속성 컨텍스트 등록 없이 조회합니다.
+ */
+public record GanttTaskRow(
+        Long id,
+        Long parentId,
+        String name,
+        LocalDate startDate,
+        LocalDate endDate,
+        BigDecimal progress,
+        TaskStatus status) {
+}
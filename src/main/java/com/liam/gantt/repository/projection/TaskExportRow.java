@@ -0,0 +1,28 @@
+package com.liam.gantt.repository.projection;
+
+import com.liam.gantt.entity.enums.TaskStatus;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * 태스크 내보내기 행
+ *
+ * 커서로 한 행씩 읽어 바로 출력하므로 목록으로 모으지 않습니다.
+ */
+public record TaskExportRow(
+        Long id,
+        Long projectId,
+        Long parentTaskId,
+        String parentTaskName,
+        String name,
+        String description,
+        LocalDate startDate,
+        LocalDate endDate,
+        Integer duration,
+        BigDecimal progress,
+        TaskStatus status,
+        LocalDateTime createdAt,
+        LocalDateTime updatedAt) {
+}
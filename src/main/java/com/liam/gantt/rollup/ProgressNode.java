@@ -0,0 +1,12 @@
+package com.liam.gantt.rollup;
+
+import java.math.BigDecimal;
+
+/**
+ * 진행률 집계용 태스크 노드
+ *
+ * @param parentId 상위 태스크 ID (루트면 null)
+ * @param duration 가중치로 쓰는 기간 (일)
+ */
+public record ProgressNode(long id, Long parentId, int duration, BigDecimal progress) {
+}
@@ -0,0 +1,113 @@
+package com.liam.gantt.rollup;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 기간 가중 진행률 집계기
+ *
+ * 상위 태스크의 진행률은 직계 하위 태스크 진행률을 기간으로 가중 평균한 값이고,
+ * 프로젝트 진행률은 루트 태스크들을 같은 방식으로 가중 평균한 값입니다.
+ * 하위 태스크의 기간 합이 0이면 단순 평균을 사용합니다. 결과는 소수점 둘째 자리로 반올림합니다.
+ */
+public final class ProgressRollup {
+
+    static final int SCALE = 2;
+
+    private ProgressRollup() {
+    }
+
+    /**
+     * 전체 집계 결과
+     *
+     * @param summaryProgress 하위 태스크가 있는 태스크별 집계 진행률
+     * @param projectProgress 프로젝트 진행률
+     */
+    public record Result(Map<Long, BigDecimal> summaryProgress, BigDecimal projectProgress) {
+    }
+
+    /**
+     * 직계 하위 항목 합계로 가중 평균 계산
+     *
+     * @param weightedSum 진행률 × 기간 합
+     * @param totalWeight 기간 합
+     * @param progressSum 진행률 합
+     * @param count       하위 항목 수
+     */
+    public static BigDecimal weightedAverage(BigDecimal weightedSum, long totalWeight, BigDecimal progressSum, long count) {
+        if (count == 0) {
+            return BigDecimal.ZERO.setScale(SCALE);
+        }
+        if (totalWeight > 0) {
+            return weightedSum.divide(BigDecimal.valueOf(totalWeight), SCALE, RoundingMode.HALF_UP);
+        }
+        return progressSum.divide(BigDecimal.valueOf(count), SCALE, RoundingMode.HALF_UP);
+    }
+
+    /**
+     * 프로젝트 전체를 하위에서 상위로 집계
+     *
+     * 계층이 깊어도 스택이 넘치지 않도록 반복 후위 순회로 계산합니다.
+     * 상위 태스크가 목록에 없는 노드는 루트로 취급합니다.
+     */
+    public static Result rollup(Collection<ProgressNode> nodes) {
+        Map<Long, ProgressNode> byId = new HashMap<>(nodes.size() * 2);
+        for (ProgressNode node : nodes) {
+            byId.put(node.id(), node);
+        }
+        Map<Long, List<ProgressNode>> children = new HashMap<>();
+        List<ProgressNode> roots = new ArrayList<>();
+        for (ProgressNode node : nodes) {
+            if (node.parentId() != null && byId.containsKey(node.parentId())) {
+                children.computeIfAbsent(node.parentId(), id -> new ArrayList<>()).add(node);
+            } else {
+                roots.add(node);
+            }
+        }
+
+        Map<Long, BigDecimal> summaryProgress = new HashMap<>(children.size() * 2);
+        Deque<ProgressNode> stack = new ArrayDeque<>(roots);
+        Deque<ProgressNode> postOrder = new ArrayDeque<>(nodes.size());
+        while (!stack.isEmpty()) {
+            ProgressNode node = stack.pop();
+            postOrder.push(node);
+            List<ProgressNode> nodeChildren = children.get(node.id());
+            if (nodeChildren != null) {
+                nodeChildren.forEach(stack::push);
+            }
+        }
+        // postOrder는 하위 노드가 상위 노드보다 먼저 나오는 순서
+        for (ProgressNode node : postOrder) {
+            List<ProgressNode> nodeChildren = children.get(node.id());
+            if (nodeChildren != null) {
+                summaryProgress.put(node.id(), average(nodeChildren, summaryProgress));
+            }
+        }
+        return new Result(summaryProgress, average(roots, summaryProgress));
+    }
+
+    private static BigDecimal average(List<ProgressNode> nodes, Map<Long, BigDecimal> summaryProgress) {
+        BigDecimal weightedSum = BigDecimal.ZERO;
+        BigDecimal progressSum = BigDecimal.ZERO;
+        long totalWeight = 0;
+        for (ProgressNode node : nodes) {
+            BigDecimal progress = summaryProgress.getOrDefault(node.id(), zeroIfNull(node.progress()));
+            int weight = Math.max(node.duration(), 0);
+            weightedSum = weightedSum.add(progress.multiply(BigDecimal.valueOf(weight)));
+            progressSum = progressSum.add(progress);
+            totalWeight += weight;
+        }
+        return weightedAverage(weightedSum, totalWeight, progressSum, nodes.size());
+    }
+
+    private static BigDecimal zeroIfNull(BigDecimal value) {
+        return value != null ? value : BigDecimal.ZERO;
+    }
+}
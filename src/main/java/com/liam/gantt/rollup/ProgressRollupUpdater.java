@@ -0,0 +1,183 @@
+package com.liam.gantt.rollup;
+
+import com.liam.gantt.repository.ProjectRepository;
+import com.liam.gantt.repository.TaskJdbcRepository;
+import com.liam.gantt.repository.TaskRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 계층 진행률 집계 갱신기
+ *
+ * 태스크의 진행률이나 기간이 바뀌면 그 태스크의 상위 태스크부터 루트까지 경로만 따라 올라가며
+ * 각 상위 태스크 진행률을 직계 하위 태스크 합계 한 번으로 다시 계산하고, 마지막으로 프로젝트 진행률을 갱신합니다.
+ * 도중에 상위 태스크 진행률이 바뀌지 않으면 그 위는 영향이 없으므로 멈춥니다.
+ * 호출 측 트랜잭션 안에서 실행되며, 상위 태스크 진행률이 바뀐 만큼 프로젝트 진행률 합계(progress_sum)도 함께 보정합니다.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class ProgressRollupUpdater {
+
+    /** 잘못된 순환 계층 데이터로 인한 무한 반복 방지용 최대 깊이 */
+    static final int MAX_DEPTH = 10_000;
+
+    /** 일괄 변경에서 이보다 많은 상위 태스크가 영향을 받으면 경로별 갱신 대신 전체 재계산 */
+    static final int MAX_INCREMENTAL_PARENTS = 64;
+
+    private final TaskRepository taskRepository;
+    private final ProjectRepository projectRepository;
+    private final TaskJdbcRepository taskJdbcRepository;
+
+    /**
+     * 태스크 진행률/기간 변경 또는 생성/삭제 반영
+     *
+     * @param parentTaskId 변경된 태스크의 상위 태스크 ID (루트 태스크면 null)
+     */
+    public void taskChanged(Long projectId, Long parentTaskId) {
+        updateAncestors(projectId, parentTaskId);
+        updateProjectProgress(projectId);
+    }
+
+    /**
+     * 여러 태스크 변경을 한 번에 반영 (일괄 업데이트 후)
+     *
+     * 영향받는 상위 태스크가 적으면 경로별로 갱신하고, 많으면 프로젝트 전체를 한 번에 재계산합니다.
+     * 경로를 하나씩 갱신해도 각 단계가 현재 하위 태스크 합계로 계산되므로 결과는 같습니다.
+     *
+     * @param parentTaskIds 변경된 태스크들의 상위 태스크 ID (루트 태스크는 null)
+     */
+    public void tasksChanged(Long projectId, Collection<Long> parentTaskIds) {
+        Set<Long> parents = new HashSet<>(parentTaskIds);
+        parents.remove(null);
+        if (parents.size() > MAX_INCREMENTAL_PARENTS) {
+            recalculateProject(projectId);
+            return;
+        }
+        for (Long parentId : parents) {
+            updateAncestors(projectId, parentId);
+        }
+        updateProjectProgress(projectId);
+    }
+
+    private void updateAncestors(Long projectId, Long parentTaskId) {
+        Long current = parentTaskId;
+        int depth = 0;
+        while (current != null) {
+            if (++depth > MAX_DEPTH) {
+                throw new IllegalStateException("태스크 계층에 순환이 있습니다: taskId=" + current);
+            }
+            List<Object[]> rows = taskRepository.findParentIdAndProgressById(current);
+            if (rows.isEmpty()) {
+                break;
+            }
+            Long parentId = (Long) rows.get(0)[0];
+            BigDecimal previous = zeroIfNull((BigDecimal) rows.get(0)[1]);
+
+            Object[] sums = taskRepository.sumChildProgress(current).get(0);
+            if (((Number) sums[3]).longValue() == 0) {
+                // 마지막 하위 태스크가 삭제되어 일반 태스크가 된 경우 자신의 진행률을 유지
+                break;
+            }
+            BigDecimal progress = average(sums);
+            if (progress.compareTo(previous) == 0) {
+                break;
+            }
+            taskRepository.updateProgressOnly(current, progress);
+            projectRepository.addTaskRollup(projectId, 0, 0, progress.subtract(previous));
+            current = parentId;
+        }
+    }
+
+    private void updateProjectProgress(Long projectId) {
+        BigDecimal projectProgress = average(taskRepository.sumRootProgress(projectId).get(0));
+        projectRepository.updateWeightedProgress(projectId, projectProgress);
+    }
+
+    /**
+     * 프로젝트 전체 진행률 재계산 (일괄 등록 후)
+     *
+     * @return 프로젝트 진행률
+     */
+    public BigDecimal recalculateProject(Long projectId) {
+        return recalculateProjectWithChanges(projectId).projectProgress();
+    }
+
+    /**
+     * 프로젝트 전체 진행률 재계산 후 바뀐 값 반환 (집계 보정, 진행률 재계산 API에서 변경 기록용)
+     */
+    public Recalculation recalculateProjectWithChanges(Long projectId) {
+        List<Object[]> rollup = projectRepository.findTaskRollupById(projectId);
+        BigDecimal previousProjectProgress = rollup.isEmpty() || rollup.get(0)[3] == null
+                ? null : toBigDecimal(rollup.get(0)[3]);
+
+        List<Object[]> rows = taskRepository.findProgressRowsByProjectId(projectId);
+        List<ProgressNode> nodes = new ArrayList<>(rows.size());
+        Map<Long, BigDecimal> currentProgress = new HashMap<>(rows.size() * 2);
+        for (Object[] row : rows) {
+            Long id = (Long) row[0];
+            BigDecimal progress = (BigDecimal) row[3];
+            nodes.add(new ProgressNode(id, (Long) row[1], ((Number) row[2]).intValue(), progress));
+            currentProgress.put(id, zeroIfNull(progress));
+        }
+
+        ProgressRollup.Result result = ProgressRollup.rollup(nodes);
+        Map<Long, BigDecimal> changed = new HashMap<>();
+        result.summaryProgress().forEach((id, progress) -> {
+            if (progress.compareTo(currentProgress.get(id)) != 0) {
+                changed.put(id, progress);
+            }
+        });
+        if (!changed.isEmpty()) {
+            taskJdbcRepository.batchUpdateProgress(changed);
+            projectRepository.recalculateTaskRollup(projectId);
+        }
+        projectRepository.updateWeightedProgress(projectId, result.projectProgress());
+        log.debug("프로젝트 진행률 재계산: projectId={}, 진행률={}, 갱신 상위 태스크 수={}",
+                projectId, result.projectProgress(), changed.size());
+        boolean projectProgressChanged = previousProjectProgress == null
+                || previousProjectProgress.compareTo(result.projectProgress()) != 0;
+        return new Recalculation(result.projectProgress(), Set.copyOf(changed.keySet()), projectProgressChanged);
+    }
+
+    /**
+     * 프로젝트 전체 재계산 결과
+     *
+     * @param changedTaskIds         진행률이 바뀐 상위 태스크 ID
+     * @param projectProgressChanged 저장된 프로젝트 진행률(weighted_progress)이 바뀌었는지 여부
+     */
+    public record Recalculation(BigDecimal projectProgress, Set<Long> changedTaskIds,
+                                boolean projectProgressChanged) {
+    }
+
+    private static BigDecimal average(Object[] sums) {
+        // 대상 행이 없으면 SUM 결과는 NULL
+        long count = ((Number) sums[3]).longValue();
+        long totalWeight = sums[1] != null ? ((Number) sums[1]).longValue() : 0L;
+        return ProgressRollup.weightedAverage(toBigDecimal(sums[0]), totalWeight, toBigDecimal(sums[2]), count);
+    }
+
+    private static BigDecimal toBigDecimal(Object value) {
+        if (value == null) {
+            return BigDecimal.ZERO;
+        }
+        if (value instanceof BigDecimal decimal) {
+            return decimal;
+        }
+        return new BigDecimal(value.toString());
+    }
+
+    private static BigDecimal zeroIfNull(BigDecimal value) {
+        return value != null ? value : BigDecimal.ZERO;
+    }
+}
@@ -0,0 +1,83 @@
+package com.liam.gantt.rollup;
+
+import com.liam.gantt.repository.ProjectRepository;
+import com.liam.gantt.sync.ProjectChangeTracker;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * 프로젝트 태스크 집계 보정 작업
+ *
+ * 태스크 변경 경로에서 증감으로 유지하는 집계(task_count, completed_count, progress_sum)와
+ * 기간 가중 진행률을 태스크 테이블 기준으로 다시 계산합니다. 직접 SQL로 태스크를 바꾼 경우 등 어긋난 값을 바로잡기 위한 것으로,
+ * 프로젝트마다 별도 트랜잭션으로 처리하여 프로젝트 행 잠금을 짧게 유지합니다.
+ * 값이 바뀐 프로젝트는 변경 추적기에 기록하여 데이터 버전, 캐시, 변경 이벤트에 보정 결과가 반영되게 합니다.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class ProjectRollupRepairJob {
+
+    private final ProjectRepository projectRepository;
+    private final ProgressRollupUpdater progressRollupUpdater;
+    private final ProjectChangeTracker projectChangeTracker;
+    private final TransactionTemplate transactionTemplate;
+
+    /**
+     * 매일 새벽 전체 프로젝트 집계 재계산
+     */
+    @Scheduled(cron = "0 30 3 * * *")
+    public void repairAll() {
+        List<Long> projectIds = projectRepository.findAllIds();
+        log.info("프로젝트 태스크 집계 보정 시작: 프로젝트 수={}", projectIds.size());
+
+        int failed = 0;
+        for (Long projectId : projectIds) {
+            try {
+                repair(projectId);
+            } catch (RuntimeException e) {
+                failed++;
+                log.warn("프로젝트 태스크 집계 보정 실패: projectId={}, 원인={}", projectId, e.getMessage());
+            }
+        }
+        log.info("프로젝트 태스크 집계 보정 완료: 프로젝트 수={}, 실패={}", projectIds.size(), failed);
+    }
+
+    /**
+     * 프로젝트 하나의 집계 재계산
+     */
+    public void repair(Long projectId) {
+        transactionTemplate.executeWithoutResult(status -> {
+            List<Object[]> before = projectRepository.findTaskRollupById(projectId);
+            projectRepository.recalculateTaskRollup(projectId);
+            ProgressRollupUpdater.Recalculation result = progressRollupUpdater.recalculateProjectWithChanges(projectId);
+            List<Object[]> after = projectRepository.findTaskRollupById(projectId);
+
+            // 집계 열과 weighted_progress는 프로젝트 행 비교로, 상위 태스크 진행률은 재계산 결과로 판단
+            boolean projectRowChanged = !sameRow(before, after);
+            if (!result.changedTaskIds().isEmpty()) {
+                projectChangeTracker.tasksChanged(projectId, result.changedTaskIds());
+            }
+            if (projectRowChanged) {
+                projectChangeTracker.projectChanged(projectId);
+            }
+            if (projectRowChanged || !result.changedTaskIds().isEmpty()) {
+                log.info("프로젝트 태스크 집계 보정: projectId={}, 보정 상위 태스크 수={}",
+                        projectId, result.changedTaskIds().size());
+            }
+        });
+    }
+
+    private static boolean sameRow(List<Object[]> before, List<Object[]> after) {
+        if (before.isEmpty() || after.isEmpty()) {
+            return before.isEmpty() == after.isEmpty();
+        }
+        return Arrays.equals(before.get(0), after.get(0));
+    }
+}
@@ -0,0 +1,100 @@
+package com.liam.gantt.scheduling;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 의존성 기반 자동 일정 계산기
+ *
+ * CPM 전진 계산과 같은 규칙으로 각 태스크의 가장 이른 시작일을 구하고,
+ * 계획된 시작일과 달라진 태스크만 변경 목록으로 반환합니다.
+ * 계획된 시작일보다 앞당기지는 않으므로 선행 태스크 지연에 따른 후행 태스크 밀림만 반영됩니다.
+ * 기간(종료일 - 시작일)은 유지됩니다.
+ * 요약 태스크는 그래프에 넣지 않고 {@link #rollUpSummaries}로 하위 리프 태스크 기간에 맞춥니다.
+ */
+public final class AutoScheduler {
+
+    private AutoScheduler() {
+    }
+
+    /**
+     * 그래프 전체 재계산
+     *
+     * @return 날짜가 바뀐 태스크 목록 (위상 순서)
+     */
+    public static List<TaskDateChange> schedule(ScheduleGraph graph) {
+        int n = graph.size();
+        int[] order = graph.topologicalOrder();
+        int[] start = new int[n];
+        int[] finish = new int[n];
+        CriticalPathCalculator.forwardPass(graph, order, start, finish);
+
+        List<TaskDateChange> changes = new ArrayList<>();
+        for (int node : order) {
+            int shift = start[node] - graph.startDay(node);
+            if (shift != 0) {
+                changes.add(new TaskDateChange(graph.taskId(node), start[node], finish[node], shift));
+            }
+        }
+        return changes;
+    }
+
+    /**
+     * 리프 태스크 변경을 요약 태스크 기간에 반영
+     *
+     * 이동한 리프 태스크를 하나라도 포함하는 요약 태스크만 하위 리프 태스크 기간을 감싸도록 다시 계산합니다.
+     * 이동이 없는 요약 태스크는 저장된 기간을 그대로 둡니다.
+     *
+     * @param leafGraph   리프 태스크 그래프
+     * @param leafChanges {@link #schedule(ScheduleGraph)} 결과
+     * @param summaryRows 요약 태스크 {id, startDate, endDate}
+     * @param summaries   요약 태스크별 하위 리프 태스크
+     * @return 날짜가 바뀐 요약 태스크 목록
+     */
+    public static List<TaskDateChange> rollUpSummaries(ScheduleGraph leafGraph, List<TaskDateChange> leafChanges,
+                                                       List<Object[]> summaryRows, SummaryLeaves summaries) {
+        List<TaskDateChange> changes = new ArrayList<>();
+        if (leafChanges.isEmpty()) {
+            return changes;
+        }
+        LongIntHashMap changeIndexById = new LongIntHashMap(leafChanges.size());
+        for (int i = 0; i < leafChanges.size(); i++) {
+            changeIndexById.put(leafChanges.get(i).taskId(), i);
+        }
+
+        for (Object[] row : summaryRows) {
+            long summaryId = (Long) row[0];
+            boolean moved = false;
+            int start = Integer.MAX_VALUE;
+            int end = Integer.MIN_VALUE;
+            for (long leafId : summaries.leavesOf(summaryId)) {
+                int changeIndex = changeIndexById.get(leafId);
+                if (changeIndex != LongIntHashMap.MISSING) {
+                    TaskDateChange change = leafChanges.get(changeIndex);
+                    moved = true;
+                    start = Math.min(start, change.startDay());
+                    end = Math.max(end, change.endDay());
+                    continue;
+                }
+                int node = leafGraph.indexOf(leafId);
+                if (node != LongIntHashMap.MISSING) {
+                    start = Math.min(start, leafGraph.startDay(node));
+                    end = Math.max(end, leafGraph.endDay(node));
+                }
+            }
+            if (!moved) {
+                continue;
+            }
+
+            LocalDate startDate = (LocalDate) row[1];
+            LocalDate endDate = (LocalDate) row[2];
+            if (startDate == null || endDate == null) {
+                changes.add(new TaskDateChange(summaryId, start, end, 0));
+            } else if (start != startDate.toEpochDay() || end != endDate.toEpochDay()) {
+                changes.add(new TaskDateChange(summaryId, start, end, start - (int) startDate.toEpochDay()));
+            }
+        }
+        return changes;
+    }
+}
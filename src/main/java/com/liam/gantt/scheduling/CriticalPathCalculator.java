@@ -0,0 +1,78 @@
+package com.liam.gantt.scheduling;
+
+import com.liam.gantt.entity.enums.DependencyType;
+
+/**
+ * CPM(Critical Path Method) 계산기
+ *
+ * 위상 순서로 전진 계산(ES/EF)을, 역순으로 후진 계산(LS/LF)을 수행합니다.
+ * 의존성이 없는 태스크는 계획된 시작일을 가장 이른 시작일로 사용하며,
+ * 선행 태스크가 있는 경우에도 계획된 시작일보다 앞당기지 않습니다.
+ * 후진 계산의 기준일은 전체 태스크 중 가장 늦은 EF 입니다.
+ */
+public final class CriticalPathCalculator {
+
+    private CriticalPathCalculator() {
+    }
+
+    public static CriticalPathResult calculate(ScheduleGraph graph) {
+        int n = graph.size();
+        int[] order = graph.topologicalOrder();
+
+        int[] earlyStart = new int[n];
+        int[] earlyFinish = new int[n];
+        int[] lateStart = new int[n];
+        int[] lateFinish = new int[n];
+
+        int projectFinish = forwardPass(graph, order, earlyStart, earlyFinish);
+
+        // 후진 계산
+        for (int i = n - 1; i >= 0; i--) {
+            int node = order[i];
+            int duration = graph.duration(node);
+            int lf = projectFinish;
+            for (int p = graph.outBegin(node); p < graph.outEnd(node); p++) {
+                int edge = graph.outEdge(p);
+                int succ = graph.edgeTo(edge);
+                DependencyType type = graph.edgeType(edge);
+                int candidate = type.latestPredecessorFinish(
+                        lateStart[succ], lateFinish[succ], duration, graph.edgeLag(edge));
+                if (candidate < lf) {
+                    lf = candidate;
+                }
+            }
+            lateFinish[node] = lf;
+            lateStart[node] = lf - duration + 1;
+        }
+
+        return new CriticalPathResult(graph, order, earlyStart, earlyFinish, lateStart, lateFinish);
+    }
+
+    /**
+     * 전진 계산 - 위상 순서대로 ES/EF 계산
+     *
+     * @return 전체 태스크 중 가장 늦은 EF
+     */
+    static int forwardPass(ScheduleGraph graph, int[] order, int[] earlyStart, int[] earlyFinish) {
+        int projectFinish = Integer.MIN_VALUE;
+        for (int node : order) {
+            int duration = graph.duration(node);
+            int es = graph.startDay(node);
+            for (int p = graph.inBegin(node); p < graph.inEnd(node); p++) {
+                int edge = graph.inEdge(p);
+                int pred = graph.edgeFrom(edge);
+                int candidate = graph.edgeType(edge).earliestSuccessorStart(
+                        earlyStart[pred], earlyFinish[pred], duration, graph.edgeLag(edge));
+                if (candidate > es) {
+                    es = candidate;
+                }
+            }
+            earlyStart[node] = es;
+            earlyFinish[node] = es + duration - 1;
+            if (earlyFinish[node] > projectFinish) {
+                projectFinish = earlyFinish[node];
+            }
+        }
+        return projectFinish;
+    }
+}
@@ -0,0 +1,89 @@
+package com.liam.gantt.scheduling;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * CPM 계산 결과
+ *
+ * 모든 값은 {@link ScheduleGraph}의 태스크 인덱스 기준 배열이며, 날짜는 epoch day 입니다.
+ */
+public final class CriticalPathResult {
+
+    private final ScheduleGraph graph;
+    private final int[] order;
+    private final int[] earlyStart;
+    private final int[] earlyFinish;
+    private final int[] lateStart;
+    private final int[] lateFinish;
+
+    CriticalPathResult(ScheduleGraph graph, int[] order,
+                       int[] earlyStart, int[] earlyFinish, int[] lateStart, int[] lateFinish) {
+        this.graph = graph;
+        this.order = order;
+        this.earlyStart = earlyStart;
+        this.earlyFinish = earlyFinish;
+        this.lateStart = lateStart;
+        this.lateFinish = lateFinish;
+    }
+
+    public ScheduleGraph graph() {
+        return graph;
+    }
+
+    public int size() {
+        return graph.size();
+    }
+
+    public int earlyStart(int index) {
+        return earlyStart[index];
+    }
+
+    public int earlyFinish(int index) {
+        return earlyFinish[index];
+    }
+
+    public int lateStart(int index) {
+        return lateStart[index];
+    }
+
+    public int lateFinish(int index) {
+        return lateFinish[index];
+    }
+
+    /**
+     * 총 여유 (LS - ES)
+     */
+    public int totalFloat(int index) {
+        return lateStart[index] - earlyStart[index];
+    }
+
+    public boolean isCritical(int index) {
+        return totalFloat(index) <= 0;
+    }
+
+    /**
+     * 임계 경로 태스크 ID 목록 (위상 순서)
+     */
+    public List<Long> criticalTaskIds() {
+        List<Long> ids = new ArrayList<>();
+        for (int node : order) {
+            if (isCritical(node)) {
+                ids.add(graph.taskId(node));
+            }
+        }
+        return ids;
+    }
+
+    /**
+     * 위상 순서 (선행 태스크가 항상 먼저 나옴)
+     */
+    public int[] order() {
+        return order;
+    }
+
+    public static LocalDate toDate(int epochDay) {
+        return LocalDate.ofEpochDay(epochDay);
+    }
+}
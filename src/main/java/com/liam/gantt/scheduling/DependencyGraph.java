@@ -0,0 +1,445 @@
+package com.liam.gantt.scheduling;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * 순환 의존성 검사용 프로젝트 의존성 그래프
+ *
+ * 적재 시점의 간선은 CSR 배열로 보관하고, 이후의 추가/삭제는 노드별 보조 인접 배열과
+ * CSR 간선 위치별 삭제 표시 배열로 패치합니다. 패치가 기준 간선 수만큼 쌓이면 CSR을 다시 구성합니다.
+ * 도달 가능성 검사는 양방향 BFS로 수행하며 각 노드는 방향별로 한 번만 방문하므로
+ * 밀집 그래프에서도 O(V+E)를 넘지 않습니다.
+ * 모든 공개 메서드는 동기화되어 있어 여러 요청에서 공유할 수 있습니다.
+ */
+public final class DependencyGraph {
+
+    private static final int MIN_COMPACT_THRESHOLD = 1024;
+
+    private final LongIntHashMap indexById;
+    private long[] taskIds;
+    private int nodeCount;
+
+    // 기준 CSR (baseNodeCount 이전 노드만 해당)
+    private int baseNodeCount;
+    private int baseEdgeCount;
+    private int[] outOffsets;
+    private int[] outTargets;
+    private int[] inOffsets;
+    private int[] inSources;
+    // 들어오는 간선 위치 → 나가는 간선 위치 (삭제 표시는 나가는 간선 위치 기준)
+    private int[] inEdgePositions;
+
+    // 패치
+    private int[][] extraOut;
+    private int[] extraOutSize;
+    private int[][] extraIn;
+    private int[] extraInSize;
+    private boolean[] removedBase;
+    private int removedBaseCount;
+    private int patchCount;
+
+    // 탐색 상태 (stamp 방식으로 초기화 비용 제거)
+    private int[] forwardMark;
+    private int[] backwardMark;
+    private int stamp;
+
+    private DependencyGraph(int expectedNodes) {
+        int capacity = Math.max(expectedNodes, 16);
+        this.indexById = new LongIntHashMap(capacity);
+        this.taskIds = new long[capacity];
+    }
+
+    /**
+     * 의존성 행으로부터 그래프 생성
+     *
+     * @param dependencyRows 0번째 열이 선행 태스크 ID, 1번째 열이 후행 태스크 ID인 행 목록
+     */
+    public static DependencyGraph of(List<Object[]> dependencyRows) {
+        int m = dependencyRows.size();
+        DependencyGraph graph = new DependencyGraph(m);
+        int[] from = new int[m];
+        int[] to = new int[m];
+        for (int e = 0; e < m; e++) {
+            Object[] row = dependencyRows.get(e);
+            from[e] = graph.nodeIndex((Long) row[0]);
+            to[e] = graph.nodeIndex((Long) row[1]);
+        }
+        graph.rebuild(from, to, m);
+        return graph;
+    }
+
+    public synchronized int nodeCount() {
+        return nodeCount;
+    }
+
+    public synchronized int edgeCount() {
+        int extra = 0;
+        for (int i = 0; i < nodeCount; i++) {
+            extra += extraOutSize[i];
+        }
+        return baseEdgeCount - removedBaseCount + extra;
+    }
+
+    /**
+     * predecessorId → successorId 간선을 추가하면 순환이 생기는지 검사
+     */
+    public synchronized boolean wouldCreateCycle(long predecessorId, long successorId) {
+        if (predecessorId == successorId) {
+            return true;
+        }
+        int pred = indexById.get(predecessorId);
+        int succ = indexById.get(successorId);
+        if (pred == LongIntHashMap.MISSING || succ == LongIntHashMap.MISSING) {
+            return false;
+        }
+        return isReachable(succ, pred);
+    }
+
+    /**
+     * fromId에서 후행 방향으로 toId에 도달할 수 있는지 검사
+     */
+    public synchronized boolean isReachable(long fromId, long toId) {
+        int from = indexById.get(fromId);
+        int to = indexById.get(toId);
+        if (from == LongIntHashMap.MISSING || to == LongIntHashMap.MISSING) {
+            return false;
+        }
+        return isReachable(from, to);
+    }
+
+    public synchronized boolean hasEdge(long predecessorId, long successorId) {
+        int from = indexById.get(predecessorId);
+        int to = indexById.get(successorId);
+        if (from == LongIntHashMap.MISSING || to == LongIntHashMap.MISSING) {
+            return false;
+        }
+        for (int k = 0; k < extraOutSize[from]; k++) {
+            if (extraOut[from][k] == to) {
+                return true;
+            }
+        }
+        int position = baseEdgePosition(from, to);
+        return position >= 0 && !removedBase[position];
+    }
+
+    /**
+     * 그래프 전체에 순환이 있는지 검사 (Kahn 알고리즘, O(V+E))
+     */
+    public synchronized boolean hasCycle() {
+        int[] inDegree = new int[nodeCount];
+        for (int node = 0; node < nodeCount; node++) {
+            if (node < baseNodeCount) {
+                for (int p = outOffsets[node]; p < outOffsets[node + 1]; p++) {
+                    if (!removedBase[p]) {
+                        inDegree[outTargets[p]]++;
+                    }
+                }
+            }
+            for (int k = 0; k < extraOutSize[node]; k++) {
+                inDegree[extraOut[node][k]]++;
+            }
+        }
+
+        int[] queue = new int[nodeCount];
+        int tail = 0;
+        for (int node = 0; node < nodeCount; node++) {
+            if (inDegree[node] == 0) {
+                queue[tail++] = node;
+            }
+        }
+        for (int head = 0; head < tail; head++) {
+            int node = queue[head];
+            if (node < baseNodeCount) {
+                for (int p = outOffsets[node]; p < outOffsets[node + 1]; p++) {
+                    int next = outTargets[p];
+                    if (!removedBase[p] && --inDegree[next] == 0) {
+                        queue[tail++] = next;
+                    }
+                }
+            }
+            for (int k = 0; k < extraOutSize[node]; k++) {
+                int next = extraOut[node][k];
+                if (--inDegree[next] == 0) {
+                    queue[tail++] = next;
+                }
+            }
+        }
+        return tail < nodeCount;
+    }
+
+    /**
+     * 간선 추가 (이미 있는 간선이면 무시 — 적재 결과에 커밋된 간선이 이미 포함된 경우)
+     */
+    public synchronized void addEdge(long predecessorId, long successorId) {
+        if (hasEdge(predecessorId, successorId)) {
+            return;
+        }
+        int from = nodeIndex(predecessorId);
+        int to = nodeIndex(successorId);
+        int position = baseEdgePosition(from, to);
+        if (position >= 0) {
+            // 삭제 표시된 기준 간선 복원
+            removedBase[position] = false;
+            removedBaseCount--;
+        } else {
+            extraOut[from] = append(extraOut[from], extraOutSize[from]++, to);
+            extraIn[to] = append(extraIn[to], extraInSize[to]++, from);
+        }
+        afterPatch();
+    }
+
+    public synchronized void removeEdge(long predecessorId, long successorId) {
+        int from = indexById.get(predecessorId);
+        int to = indexById.get(successorId);
+        if (from == LongIntHashMap.MISSING || to == LongIntHashMap.MISSING) {
+            return;
+        }
+        boolean removedExtra = removeValue(extraOut[from], extraOutSize, from, to);
+        if (removedExtra) {
+            removeValue(extraIn[to], extraInSize, to, from);
+        } else {
+            int position = baseEdgePosition(from, to);
+            if (position >= 0 && !removedBase[position]) {
+                removedBase[position] = true;
+                removedBaseCount++;
+            }
+        }
+        afterPatch();
+    }
+
+    private boolean isReachable(int from, int to) {
+        if (from == to) {
+            return true;
+        }
+        int currentStamp = nextStamp();
+        int[] forwardQueue = new int[16];
+        int[] backwardQueue = new int[16];
+        int forwardHead = 0;
+        int forwardTail = 0;
+        int backwardHead = 0;
+        int backwardTail = 0;
+
+        forwardQueue[forwardTail++] = from;
+        forwardMark[from] = currentStamp;
+        backwardQueue[backwardTail++] = to;
+        backwardMark[to] = currentStamp;
+
+        while (forwardHead < forwardTail && backwardHead < backwardTail) {
+            // 남은 프론티어가 작은 쪽을 한 단계 확장
+            if (forwardTail - forwardHead <= backwardTail - backwardHead) {
+                int levelEnd = forwardTail;
+                while (forwardHead < levelEnd) {
+                    int node = forwardQueue[forwardHead++];
+                    if (node < baseNodeCount) {
+                        for (int p = outOffsets[node]; p < outOffsets[node + 1]; p++) {
+                            int next = outTargets[p];
+                            if (forwardMark[next] == currentStamp || removedBase[p]) {
+                                continue;
+                            }
+                            if (backwardMark[next] == currentStamp) {
+                                return true;
+                            }
+                            forwardMark[next] = currentStamp;
+                            forwardQueue = push(forwardQueue, forwardTail++, next);
+                        }
+                    }
+                    for (int k = 0; k < extraOutSize[node]; k++) {
+                        int next = extraOut[node][k];
+                        if (forwardMark[next] == currentStamp) {
+                            continue;
+                        }
+                        if (backwardMark[next] == currentStamp) {
+                            return true;
+                        }
+                        forwardMark[next] = currentStamp;
+                        forwardQueue = push(forwardQueue, forwardTail++, next);
+                    }
+                }
+            } else {
+                int levelEnd = backwardTail;
+                while (backwardHead < levelEnd) {
+                    int node = backwardQueue[backwardHead++];
+                    if (node < baseNodeCount) {
+                        for (int p = inOffsets[node]; p < inOffsets[node + 1]; p++) {
+                            int prev = inSources[p];
+                            if (backwardMark[prev] == currentStamp || removedBase[inEdgePositions[p]]) {
+                                continue;
+                            }
+                            if (forwardMark[prev] == currentStamp) {
+                                return true;
+                            }
+                            backwardMark[prev] = currentStamp;
+                            backwardQueue = push(backwardQueue, backwardTail++, prev);
+                        }
+                    }
+                    for (int k = 0; k < extraInSize[node]; k++) {
+                        int prev = extraIn[node][k];
+                        if (backwardMark[prev] == currentStamp) {
+                            continue;
+                        }
+                        if (forwardMark[prev] == currentStamp) {
+                            return true;
+                        }
+                        backwardMark[prev] = currentStamp;
+                        backwardQueue = push(backwardQueue, backwardTail++, prev);
+                    }
+                }
+            }
+        }
+        return false;
+    }
+
+    private int nodeIndex(long taskId) {
+        int index = indexById.get(taskId);
+        if (index != LongIntHashMap.MISSING) {
+            return index;
+        }
+        if (nodeCount == taskIds.length) {
+            taskIds = Arrays.copyOf(taskIds, nodeCount << 1);
+        }
+        ensureNodeCapacity(nodeCount + 1);
+        taskIds[nodeCount] = taskId;
+        indexById.put(taskId, nodeCount);
+        return nodeCount++;
+    }
+
+    private void ensureNodeCapacity(int required) {
+        if (extraOut != null && extraOut.length >= required) {
+            return;
+        }
+        int capacity = Math.max(required, extraOut == null ? 16 : extraOut.length << 1);
+        extraOut = extraOut == null ? new int[capacity][] : Arrays.copyOf(extraOut, capacity);
+        extraIn = extraIn == null ? new int[capacity][] : Arrays.copyOf(extraIn, capacity);
+        extraOutSize = extraOutSize == null ? new int[capacity] : Arrays.copyOf(extraOutSize, capacity);
+        extraInSize = extraInSize == null ? new int[capacity] : Arrays.copyOf(extraInSize, capacity);
+        forwardMark = forwardMark == null ? new int[capacity] : Arrays.copyOf(forwardMark, capacity);
+        backwardMark = backwardMark == null ? new int[capacity] : Arrays.copyOf(backwardMark, capacity);
+    }
+
+    private void afterPatch() {
+        patchCount++;
+        if (patchCount > Math.max(MIN_COMPACT_THRESHOLD, baseEdgeCount)) {
+            compact();
+        }
+    }
+
+    /**
+     * 패치를 반영하여 CSR 재구성
+     */
+    private void compact() {
+        int m = edgeCount();
+        int[] from = new int[m];
+        int[] to = new int[m];
+        int e = 0;
+        for (int node = 0; node < nodeCount; node++) {
+            if (node < baseNodeCount) {
+                for (int p = outOffsets[node]; p < outOffsets[node + 1]; p++) {
+                    if (!removedBase[p]) {
+                        from[e] = node;
+                        to[e++] = outTargets[p];
+                    }
+                }
+            }
+            for (int k = 0; k < extraOutSize[node]; k++) {
+                from[e] = node;
+                to[e++] = extraOut[node][k];
+            }
+        }
+        rebuild(from, to, e);
+    }
+
+    private void rebuild(int[] from, int[] to, int m) {
+        int n = nodeCount;
+        ensureNodeCapacity(Math.max(n, 1));
+        outOffsets = new int[n + 1];
+        inOffsets = new int[n + 1];
+        outTargets = new int[m];
+        inSources = new int[m];
+        inEdgePositions = new int[m];
+        for (int e = 0; e < m; e++) {
+            outOffsets[from[e] + 1]++;
+            inOffsets[to[e] + 1]++;
+        }
+        for (int i = 0; i < n; i++) {
+            outOffsets[i + 1] += outOffsets[i];
+            inOffsets[i + 1] += inOffsets[i];
+        }
+        int[] outCursor = Arrays.copyOf(outOffsets, n);
+        int[] inCursor = Arrays.copyOf(inOffsets, n);
+        for (int e = 0; e < m; e++) {
+            int outPosition = outCursor[from[e]]++;
+            int inPosition = inCursor[to[e]]++;
+            outTargets[outPosition] = to[e];
+            inSources[inPosition] = from[e];
+            inEdgePositions[inPosition] = outPosition;
+        }
+
+        baseNodeCount = n;
+        baseEdgeCount = m;
+        Arrays.fill(extraOut, null);
+        Arrays.fill(extraIn, null);
+        Arrays.fill(extraOutSize, 0);
+        Arrays.fill(extraInSize, 0);
+        removedBase = new boolean[m];
+        removedBaseCount = 0;
+        patchCount = 0;
+    }
+
+    /**
+     * 기준 CSR에서 간선 위치 (없으면 -1, 삭제 표시 여부와 무관)
+     */
+    private int baseEdgePosition(int from, int to) {
+        if (from >= baseNodeCount) {
+            return -1;
+        }
+        for (int p = outOffsets[from]; p < outOffsets[from + 1]; p++) {
+            if (outTargets[p] == to) {
+                return p;
+            }
+        }
+        return -1;
+    }
+
+    private int nextStamp() {
+        if (++stamp == Integer.MAX_VALUE) {
+            Arrays.fill(forwardMark, 0);
+            Arrays.fill(backwardMark, 0);
+            stamp = 1;
+        }
+        return stamp;
+    }
+
+    private static int[] append(int[] values, int size, int value) {
+        if (values == null) {
+            values = new int[4];
+        } else if (size == values.length) {
+            values = Arrays.copyOf(values, size << 1);
+        }
+        values[size] = value;
+        return values;
+    }
+
+    private static int[] push(int[] queue, int position, int value) {
+        if (position == queue.length) {
+            queue = Arrays.copyOf(queue, position << 1);
+        }
+        queue[position] = value;
+        return queue;
+    }
+
+    private static boolean removeValue(int[] values, int[] sizes, int owner, int value) {
+        if (values == null) {
+            return false;
+        }
+        int size = sizes[owner];
+        for (int k = 0; k < size; k++) {
+            if (values[k] == value) {
+                values[k] = values[size - 1];
+                sizes[owner] = size - 1;
+                return true;
+            }
+        }
+        return false;
+    }
+}
@@ -0,0 +1,135 @@
+package com.liam.gantt.scheduling;
+
+import com.liam.gantt.repository.TaskDependencyRepository;
+import com.liam.gantt.sync.AfterCommit;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * 프로젝트별 의존성 그래프 캐시
+ *
+ * 그래프는 최초 검사 시 프로젝트의 의존성 행을 한 번 조회하여 만들고,
+ * 이후 의존성 추가/삭제는 트랜잭션 커밋 후에 캐시된 그래프에 패치합니다.
+ * 최대 개수를 넘으면 가장 오래 사용되지 않은 프로젝트부터 제거합니다(LRU).
+ * 롤백된 변경은 반영되지 않으며, 적재 중에 어느 프로젝트든 커밋이 반영된 경우 적재 결과는 캐시하지 않습니다.
+ */
+@Component
+@Slf4j
+public class DependencyGraphCache {
+
+    static final int MAX_PROJECTS = 256;
+
+    private final int maxProjects;
+    private final Function<Long, DependencyGraph> loader;
+
+    /** 접근 순서 LinkedHashMap (this로 동기화) */
+    private final LinkedHashMap<Long, DependencyGraph> graphs;
+
+    /**
+     * 커밋 반영 세대 (this로 동기화)
+     *
+     * 프로젝트별로 두지 않고 캐시 전체에 하나만 두어 프로젝트 수와 무관하게 메모리가 일정합니다.
+     */
+    private long generation;
+
+    @Autowired
+    public DependencyGraphCache(TaskDependencyRepository dependencyRepository) {
+        this(MAX_PROJECTS, projectId -> DependencyGraph.of(dependencyRepository.findScheduleRowsByProjectId(projectId)));
+    }
+
+    DependencyGraphCache(int maxProjects, Function<Long, DependencyGraph> loader) {
+        this.maxProjects = maxProjects;
+        this.loader = loader;
+        this.graphs = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Long, DependencyGraph> eldest) {
+                return size() > DependencyGraphCache.this.maxProjects;
+            }
+        };
+    }
+
+    /**
+     * predecessorId → successorId 의존성을 추가하면 순환이 생기는지 검사
+     */
+    public boolean wouldCreateCycle(Long projectId, Long predecessorId, Long successorId) {
+        return getGraph(projectId).wouldCreateCycle(predecessorId, successorId);
+    }
+
+    /**
+     * 프로젝트 그래프 조회 (없으면 적재)
+     */
+    public DependencyGraph getGraph(Long projectId) {
+        long loadGeneration;
+        synchronized (this) {
+            DependencyGraph cached = graphs.get(projectId);
+            if (cached != null) {
+                return cached;
+            }
+            loadGeneration = generation;
+        }
+
+        DependencyGraph loaded = loader.apply(projectId);
+        log.debug("의존성 그래프 적재: projectId={}, 노드 수={}, 간선 수={}",
+                projectId, loaded.nodeCount(), loaded.edgeCount());
+
+        synchronized (this) {
+            // 적재 중 커밋된 변경은 적재 결과에 빠져 있을 수 있고 패치할 그래프도 없었으므로 캐시하지 않음
+            if (generation != loadGeneration) {
+                return loaded;
+            }
+            DependencyGraph existing = graphs.get(projectId);
+            if (existing != null) {
+                return existing;
+            }
+            graphs.put(projectId, loaded);
+            return loaded;
+        }
+    }
+
+    /**
+     * 커밋 후 의존성 추가 반영
+     */
+    public void dependencyAdded(Long projectId, Long predecessorId, Long successorId) {
+        AfterCommit.run(() -> {
+            synchronized (this) {
+                generation++;
+                DependencyGraph graph = graphs.get(projectId);
+                if (graph != null) {
+                    graph.addEdge(predecessorId, successorId);
+                }
+            }
+        });
+    }
+
+    /**
+     * 커밋 후 의존성 삭제 반영
+     */
+    public void dependencyRemoved(Long projectId, Long predecessorId, Long successorId) {
+        AfterCommit.run(() -> {
+            synchronized (this) {
+                generation++;
+                DependencyGraph graph = graphs.get(projectId);
+                if (graph != null) {
+                    graph.removeEdge(predecessorId, successorId);
+                }
+            }
+        });
+    }
+
+    /**
+     * 커밋 후 프로젝트 그래프 폐기 (태스크 삭제 등 여러 간선이 한꺼번에 바뀌는 경우)
+     */
+    public void invalidate(Long projectId) {
+        AfterCommit.run(() -> {
+            synchronized (this) {
+                generation++;
+                graphs.remove(projectId);
+            }
+        });
+    }
+}
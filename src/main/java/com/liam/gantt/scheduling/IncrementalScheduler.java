@@ -0,0 +1,108 @@
+package com.liam.gantt.scheduling;
+
+import com.liam.gantt.entity.enums.DependencyType;
+import com.liam.gantt.exception.InvalidRequestException;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+
+/**
+ * 증분 일정 전파기
+ *
+ * 날짜가 바뀐 태스크에서 출발하여 후행 방향으로만 일정을 밀어냅니다.
+ * 후행 간선은 단계(frontier)별로 한 번씩 조회하며, 날짜가 바뀌지 않은 태스크에서는 전파를 멈추므로
+ * 비용은 프로젝트 크기가 아니라 실제로 영향을 받은 하위 영역 크기에 비례합니다.
+ * {@link AutoScheduler}와 같은 규칙(계획된 시작일보다 앞당기지 않음, 기간 유지)을 따릅니다.
+ */
+public final class IncrementalScheduler {
+
+    /** 순환 데이터로 인한 무한 전파 방지용 최대 단계 수 */
+    static final int MAX_ROUNDS = 100_000;
+
+    private IncrementalScheduler() {
+    }
+
+    /**
+     * 후행 일정 전파
+     *
+     * @param taskId          날짜가 바뀐 태스크 ID
+     * @param startDate       바뀐 시작일
+     * @param endDate         바뀐 종료일
+     * @param successorLoader 선행 태스크 ID 목록을 받아
+     *                        {predecessorId, successorId, dependencyType, lagDays, successorStart, successorEnd}
+     *                        행을 반환하는 조회 함수
+     * @return 함께 이동해야 하는 후행 태스크 목록 (출발 태스크 제외, 최초 변경 순서)
+     */
+    public static List<TaskDateChange> propagate(long taskId, LocalDate startDate, LocalDate endDate,
+                                                 Function<Collection<Long>, List<Object[]>> successorLoader) {
+        Map<Long, int[]> seeds = new LinkedHashMap<>();
+        seeds.put(taskId, new int[]{(int) startDate.toEpochDay(), (int) endDate.toEpochDay()});
+        List<TaskDateChange> changes = propagate(seeds, successorLoader);
+        changes.removeIf(change -> change.taskId() == taskId);
+        return changes;
+    }
+
+    /**
+     * 여러 태스크 날짜가 함께 바뀐 경우의 후행 일정 전파 (하위 트리 이동 등)
+     *
+     * @param seeds           태스크 ID → 바뀐 {시작일, 종료일} (epoch day)
+     * @param successorLoader {@link #propagate(long, LocalDate, LocalDate, Function)}와 같은 조회 함수
+     * @return 추가로 이동해야 하는 태스크 목록 (다른 출발 태스크의 후행이라 더 밀린 출발 태스크 포함)
+     */
+    public static List<TaskDateChange> propagate(Map<Long, int[]> seeds,
+                                                 Function<Collection<Long>, List<Object[]>> successorLoader) {
+        // 이번 전파에서 확정된 날짜 {start, end, originalStart}
+        Map<Long, int[]> dates = new LinkedHashMap<>(seeds.size() * 2);
+        seeds.forEach((id, range) -> dates.put(id, new int[]{range[0], range[1], range[0]}));
+
+        Set<Long> frontier = new LinkedHashSet<>(seeds.keySet());
+        int rounds = 0;
+
+        while (!frontier.isEmpty()) {
+            if (++rounds > MAX_ROUNDS) {
+                throw new InvalidRequestException("순환 의존성이 존재하여 일정을 전파할 수 없습니다");
+            }
+            Set<Long> next = new LinkedHashSet<>();
+            for (Object[] row : successorLoader.apply(frontier)) {
+                long predecessorId = (Long) row[0];
+                long successorId = (Long) row[1];
+                DependencyType type = row[2] != null ? (DependencyType) row[2] : DependencyType.FINISH_TO_START;
+                int lag = row[3] != null ? (Integer) row[3] : 0;
+
+                int[] pred = dates.get(predecessorId);
+                int[] succ = dates.get(successorId);
+                if (succ == null) {
+                    int succStart = (int) ((LocalDate) row[4]).toEpochDay();
+                    int succEnd = (int) ((LocalDate) row[5]).toEpochDay();
+                    succ = new int[]{succStart, succEnd, succStart};
+                }
+
+                int duration = succ[1] - succ[0] + 1;
+                int earliest = type.earliestSuccessorStart(pred[0], pred[1], duration, lag);
+                if (earliest > succ[0]) {
+                    succ[0] = earliest;
+                    succ[1] = earliest + duration - 1;
+                    dates.put(successorId, succ);
+                    next.add(successorId);
+                }
+            }
+            frontier = next;
+        }
+
+        List<TaskDateChange> changes = new ArrayList<>();
+        for (Map.Entry<Long, int[]> entry : dates.entrySet()) {
+            int[] value = entry.getValue();
+            if (value[0] != value[2]) {
+                changes.add(new TaskDateChange(entry.getKey(), value[0], value[1], value[0] - value[2]));
+            }
+        }
+        return changes;
+    }
+}
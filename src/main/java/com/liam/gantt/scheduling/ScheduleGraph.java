@@ -0,0 +1,330 @@
+package com.liam.gantt.scheduling;
+
+import com.liam.gantt.entity.enums.DependencyType;
+import com.liam.gantt.exception.InvalidRequestException;
+
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * 프로젝트 일정 계산용 인메모리 의존성 그래프
+ *
+ * 태스크는 0부터 시작하는 인덱스로, 날짜는 epoch day(int)로 표현합니다.
+ * 간선은 CSR(Compressed Sparse Row) 형식으로 선행→후행, 후행→선행 양방향 모두 보관하므로
+ * 전진/후진 계산 모두 추가 할당 없이 O(V+E)로 순회할 수 있습니다.
+ * 생성 후에는 변경되지 않습니다.
+ */
+public final class ScheduleGraph {
+
+    private static final DependencyType[] TYPES = DependencyType.values();
+
+    private final long[] taskIds;
+    private final LongIntHashMap indexById;
+    private final int[] startDays;
+    private final int[] endDays;
+
+    private final int[] edgeFrom;
+    private final int[] edgeTo;
+    private final byte[] edgeType;
+    private final int[] edgeLag;
+
+    private final int[] outOffsets;
+    private final int[] outEdges;
+    private final int[] inOffsets;
+    private final int[] inEdges;
+
+    private ScheduleGraph(Builder builder) {
+        int n = builder.taskCount;
+        int m = builder.edgeCount;
+        this.taskIds = Arrays.copyOf(builder.taskIds, n);
+        this.indexById = builder.indexById;
+        this.startDays = Arrays.copyOf(builder.startDays, n);
+        this.endDays = Arrays.copyOf(builder.endDays, n);
+        this.edgeFrom = Arrays.copyOf(builder.edgeFrom, m);
+        this.edgeTo = Arrays.copyOf(builder.edgeTo, m);
+        this.edgeType = Arrays.copyOf(builder.edgeType, m);
+        this.edgeLag = Arrays.copyOf(builder.edgeLag, m);
+
+        this.outOffsets = new int[n + 1];
+        this.inOffsets = new int[n + 1];
+        this.outEdges = new int[m];
+        this.inEdges = new int[m];
+        buildCsr(edgeFrom, outOffsets, outEdges);
+        buildCsr(edgeTo, inOffsets, inEdges);
+    }
+
+    /**
+     * 조회 결과 행으로부터 그래프 생성
+     *
+     * @param taskRows       {id, startDate, endDate}
+     * @param dependencyRows {predecessorId, successorId, dependencyType, lagDays}
+     */
+    public static ScheduleGraph of(List<Object[]> taskRows, List<Object[]> dependencyRows) {
+        Builder builder = builder(taskRows.size(), dependencyRows.size());
+        for (Object[] row : taskRows) {
+            builder.addTask((Long) row[0], (LocalDate) row[1], (LocalDate) row[2]);
+        }
+        for (Object[] row : dependencyRows) {
+            builder.addDependency((Long) row[0], (Long) row[1], (DependencyType) row[2], (Integer) row[3]);
+        }
+        return builder.build();
+    }
+
+    /**
+     * 리프 태스크 행으로부터 그래프 생성 (요약 태스크에 걸린 의존성은 하위 리프 태스크로 펼침)
+     *
+     * @param taskRows       리프 태스크 {id, startDate, endDate}
+     * @param dependencyRows {predecessorId, successorId, dependencyType, lagDays}
+     * @param summaries      요약 태스크별 하위 리프 태스크
+     */
+    public static ScheduleGraph of(List<Object[]> taskRows, List<Object[]> dependencyRows, SummaryLeaves summaries) {
+        Builder builder = builder(taskRows.size(), dependencyRows.size());
+        for (Object[] row : taskRows) {
+            builder.addTask((Long) row[0], (LocalDate) row[1], (LocalDate) row[2]);
+        }
+        for (Object[] row : dependencyRows) {
+            builder.addDependency((Long) row[0], (Long) row[1], (DependencyType) row[2], (Integer) row[3], summaries);
+        }
+        return builder.build();
+    }
+
+    public static Builder builder(int expectedTasks, int expectedDependencies) {
+        return new Builder(expectedTasks, expectedDependencies);
+    }
+
+    public int size() {
+        return taskIds.length;
+    }
+
+    public int edgeCount() {
+        return edgeFrom.length;
+    }
+
+    /**
+     * 태스크 ID의 인덱스 조회 (없으면 {@link LongIntHashMap#MISSING})
+     */
+    public int indexOf(long taskId) {
+        return indexById.get(taskId);
+    }
+
+    public long taskId(int index) {
+        return taskIds[index];
+    }
+
+    public int startDay(int index) {
+        return startDays[index];
+    }
+
+    public int endDay(int index) {
+        return endDays[index];
+    }
+
+    /**
+     * 달력일 기준 기간 (시작일, 종료일 포함)
+     */
+    public int duration(int index) {
+        return endDays[index] - startDays[index] + 1;
+    }
+
+    public int outBegin(int index) {
+        return outOffsets[index];
+    }
+
+    public int outEnd(int index) {
+        return outOffsets[index + 1];
+    }
+
+    /**
+     * 후행 방향 CSR 위치의 간선 번호
+     */
+    public int outEdge(int position) {
+        return outEdges[position];
+    }
+
+    public int inBegin(int index) {
+        return inOffsets[index];
+    }
+
+    public int inEnd(int index) {
+        return inOffsets[index + 1];
+    }
+
+    /**
+     * 선행 방향 CSR 위치의 간선 번호
+     */
+    public int inEdge(int position) {
+        return inEdges[position];
+    }
+
+    public int edgeFrom(int edge) {
+        return edgeFrom[edge];
+    }
+
+    public int edgeTo(int edge) {
+        return edgeTo[edge];
+    }
+
+    public DependencyType edgeType(int edge) {
+        return TYPES[edgeType[edge]];
+    }
+
+    public int edgeLag(int edge) {
+        return edgeLag[edge];
+    }
+
+    /**
+     * 위상 정렬 (Kahn 알고리즘)
+     *
+     * @throws InvalidRequestException 순환 의존성이 존재하는 경우
+     */
+    public int[] topologicalOrder() {
+        int n = size();
+        int[] inDegree = new int[n];
+        for (int i = 0; i < n; i++) {
+            inDegree[i] = inOffsets[i + 1] - inOffsets[i];
+        }
+
+        int[] order = new int[n];
+        int head = 0;
+        int tail = 0;
+        for (int i = 0; i < n; i++) {
+            if (inDegree[i] == 0) {
+                order[tail++] = i;
+            }
+        }
+        while (head < tail) {
+            int node = order[head++];
+            for (int p = outOffsets[node]; p < outOffsets[node + 1]; p++) {
+                int next = edgeTo[outEdges[p]];
+                if (--inDegree[next] == 0) {
+                    order[tail++] = next;
+                }
+            }
+        }
+
+        if (tail < n) {
+            throw new InvalidRequestException("순환 의존성이 존재하여 일정을 계산할 수 없습니다");
+        }
+        return order;
+    }
+
+    private static void buildCsr(int[] keys, int[] offsets, int[] positions) {
+        for (int key : keys) {
+            offsets[key + 1]++;
+        }
+        for (int i = 0; i < offsets.length - 1; i++) {
+            offsets[i + 1] += offsets[i];
+        }
+        int[] cursor = Arrays.copyOf(offsets, offsets.length - 1);
+        for (int edge = 0; edge < keys.length; edge++) {
+            positions[cursor[keys[edge]]++] = edge;
+        }
+    }
+
+    /**
+     * 그래프 빌더
+     *
+     * 존재하지 않는 태스크를 참조하는 의존성은 무시합니다.
+     */
+    public static final class Builder {
+
+        private final LongIntHashMap indexById;
+        private long[] taskIds;
+        private int[] startDays;
+        private int[] endDays;
+        private int taskCount;
+
+        private int[] edgeFrom;
+        private int[] edgeTo;
+        private byte[] edgeType;
+        private int[] edgeLag;
+        private int edgeCount;
+
+        private Builder(int expectedTasks, int expectedDependencies) {
+            int taskCapacity = Math.max(expectedTasks, 4);
+            int edgeCapacity = Math.max(expectedDependencies, 4);
+            this.indexById = new LongIntHashMap(taskCapacity);
+            this.taskIds = new long[taskCapacity];
+            this.startDays = new int[taskCapacity];
+            this.endDays = new int[taskCapacity];
+            this.edgeFrom = new int[edgeCapacity];
+            this.edgeTo = new int[edgeCapacity];
+            this.edgeType = new byte[edgeCapacity];
+            this.edgeLag = new int[edgeCapacity];
+        }
+
+        public Builder addTask(long taskId, LocalDate startDate, LocalDate endDate) {
+            return addTask(taskId, (int) startDate.toEpochDay(), (int) endDate.toEpochDay());
+        }
+
+        public Builder addTask(long taskId, int startDay, int endDay) {
+            if (indexById.containsKey(taskId)) {
+                return this;
+            }
+            if (taskCount == taskIds.length) {
+                int capacity = taskCount << 1;
+                taskIds = Arrays.copyOf(taskIds, capacity);
+                startDays = Arrays.copyOf(startDays, capacity);
+                endDays = Arrays.copyOf(endDays, capacity);
+            }
+            taskIds[taskCount] = taskId;
+            startDays[taskCount] = startDay;
+            endDays[taskCount] = endDay;
+            indexById.put(taskId, taskCount);
+            taskCount++;
+            return this;
+        }
+
+        public Builder addDependency(long predecessorId, long successorId, DependencyType type, Integer lagDays) {
+            int from = indexById.get(predecessorId);
+            int to = indexById.get(successorId);
+            if (from == LongIntHashMap.MISSING || to == LongIntHashMap.MISSING) {
+                return this;
+            }
+            if (edgeCount == edgeFrom.length) {
+                int capacity = edgeCount << 1;
+                edgeFrom = Arrays.copyOf(edgeFrom, capacity);
+                edgeTo = Arrays.copyOf(edgeTo, capacity);
+                edgeType = Arrays.copyOf(edgeType, capacity);
+                edgeLag = Arrays.copyOf(edgeLag, capacity);
+            }
+            edgeFrom[edgeCount] = from;
+            edgeTo[edgeCount] = to;
+            edgeType[edgeCount] = (byte) (type != null ? type : DependencyType.FINISH_TO_START).ordinal();
+            edgeLag[edgeCount] = lagDays != null ? lagDays : 0;
+            edgeCount++;
+            return this;
+        }
+
+        /**
+         * 의존성 추가 (요약 태스크 끝점은 하위 리프 태스크 전체로 펼침)
+         *
+         * 요약 태스크 기간은 하위 리프 태스크를 감싸므로, 선행 요약 태스크는 모든 리프가 제약을 만족해야 끝나고
+         * 후행 요약 태스크는 모든 리프가 제약을 만족해야 시작합니다. 가장 이른 리프 하나로 충분한 경우
+         * (시작 기준 선행, 종료 기준 후행)도 리프 전체에 걸어 보수적으로 계산합니다.
+         * 상위 태스크와 그 하위 태스크 사이의 의존성은 펼치면 자기 자신에 대한 간선이 되므로 무시합니다.
+         */
+        public Builder addDependency(long predecessorId, long successorId, DependencyType type, Integer lagDays,
+                                     SummaryLeaves summaries) {
+            if (!summaries.isSummary(predecessorId) && !summaries.isSummary(successorId)) {
+                return addDependency(predecessorId, successorId, type, lagDays);
+            }
+            if (summaries.isRelated(predecessorId, successorId)) {
+                return this;
+            }
+            long[] predecessors = summaries.leavesOf(predecessorId);
+            long[] successors = summaries.leavesOf(successorId);
+            for (long predecessor : predecessors) {
+                for (long successor : successors) {
+                    addDependency(predecessor, successor, type, lagDays);
+                }
+            }
+            return this;
+        }
+
+        public ScheduleGraph build() {
+            return new ScheduleGraph(this);
+        }
+    }
+}
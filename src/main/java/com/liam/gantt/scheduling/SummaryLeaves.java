@@ -0,0 +1,126 @@
+package com.liam.gantt.scheduling;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * 요약 태스크 → 하위 리프 태스크 매핑
+ *
+ * 일정 계산은 리프 태스크 그래프에서만 하므로, 요약(상위) 태스크에 걸린 의존성은
+ * 그 요약 태스크의 하위 리프 태스크 전체로 펼쳐서 반영합니다.
+ * 리프 ID는 요약 태스크별로 CSR 형식의 한 배열에 보관합니다. 생성 후에는 변경되지 않습니다.
+ */
+public final class SummaryLeaves {
+
+    private static final SummaryLeaves EMPTY = new SummaryLeaves(new LongIntHashMap(0), new long[0], new int[1], new long[0]);
+
+    private final LongIntHashMap indexBySummaryId;
+    private final long[] summaryIds;
+    private final int[] offsets;
+    private final long[] leafIds;
+
+    private SummaryLeaves(LongIntHashMap indexBySummaryId, long[] summaryIds, int[] offsets, long[] leafIds) {
+        this.indexBySummaryId = indexBySummaryId;
+        this.summaryIds = summaryIds;
+        this.offsets = offsets;
+        this.leafIds = leafIds;
+    }
+
+    public static SummaryLeaves empty() {
+        return EMPTY;
+    }
+
+    /**
+     * 조회 결과 행으로부터 생성
+     *
+     * @param rows {summaryTaskId, leafTaskId}
+     */
+    public static SummaryLeaves of(List<Object[]> rows) {
+        if (rows.isEmpty()) {
+            return EMPTY;
+        }
+        int m = rows.size();
+        long[] ancestors = new long[m];
+        long[] leaves = new long[m];
+        for (int i = 0; i < m; i++) {
+            Object[] row = rows.get(i);
+            ancestors[i] = (Long) row[0];
+            leaves[i] = (Long) row[1];
+        }
+        return of(ancestors, leaves, m);
+    }
+
+    /**
+     * (요약 태스크, 리프 태스크) 쌍 배열로부터 생성
+     */
+    private static SummaryLeaves of(long[] ancestors, long[] leaves, int count) {
+        LongIntHashMap indexById = new LongIntHashMap(count);
+        long[] ids = new long[Math.max(count, 1)];
+        int[] counts = new int[count + 1];
+        int n = 0;
+        for (int i = 0; i < count; i++) {
+            int index = indexById.get(ancestors[i]);
+            if (index == LongIntHashMap.MISSING) {
+                index = n++;
+                indexById.put(ancestors[i], index);
+                ids[index] = ancestors[i];
+            }
+            counts[index + 1]++;
+        }
+
+        int[] offsets = Arrays.copyOf(counts, n + 1);
+        for (int i = 0; i < n; i++) {
+            offsets[i + 1] += offsets[i];
+        }
+        int[] cursor = Arrays.copyOf(offsets, n);
+        long[] leafIds = new long[count];
+        for (int i = 0; i < count; i++) {
+            leafIds[cursor[indexById.get(ancestors[i])]++] = leaves[i];
+        }
+        return new SummaryLeaves(indexById, Arrays.copyOf(ids, n), offsets, leafIds);
+    }
+
+    public int size() {
+        return summaryIds.length;
+    }
+
+    public boolean isSummary(long taskId) {
+        return indexBySummaryId.containsKey(taskId);
+    }
+
+    /**
+     * 태스크가 차지하는 리프 태스크 ID (요약 태스크면 하위 리프 전체, 아니면 자기 자신)
+     */
+    public long[] leavesOf(long taskId) {
+        int index = indexBySummaryId.get(taskId);
+        if (index == LongIntHashMap.MISSING) {
+            return new long[]{taskId};
+        }
+        return Arrays.copyOfRange(leafIds, offsets[index], offsets[index + 1]);
+    }
+
+    /**
+     * 한 태스크가 다른 태스크의 상위(또는 같은) 태스크인지 확인
+     *
+     * 계층은 트리이므로 두 태스크의 리프 집합은 서로소이거나 한쪽이 다른 쪽을 포함합니다.
+     * 따라서 한쪽의 리프 하나가 다른 쪽에 속하는지만 보면 됩니다.
+     */
+    public boolean isRelated(long taskId, long otherTaskId) {
+        if (taskId == otherTaskId) {
+            return true;
+        }
+        long[] leaves = leavesOf(taskId);
+        long[] otherLeaves = leavesOf(otherTaskId);
+        return leaves.length > 0 && otherLeaves.length > 0
+                && (contains(leaves, otherLeaves[0]) || contains(otherLeaves, leaves[0]));
+    }
+
+    private static boolean contains(long[] values, long value) {
+        for (long v : values) {
+            if (v == value) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
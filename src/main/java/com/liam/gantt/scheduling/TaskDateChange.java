@@ -0,0 +1,22 @@
+package com.liam.gantt.scheduling;
+
+import java.time.LocalDate;
+
+/**
+ * 일정 재계산으로 변경된 태스크 날짜
+ *
+ * @param taskId    태스크 ID
+ * @param startDay  새 시작일 (epoch day)
+ * @param endDay    새 종료일 (epoch day)
+ * @param shiftDays 이동한 일 수 (양수면 뒤로 밀림)
+ */
+public record TaskDateChange(long taskId, int startDay, int endDay, int shiftDays) {
+
+    public LocalDate startDate() {
+        return LocalDate.ofEpochDay(startDay);
+    }
+
+    public LocalDate endDate() {
+        return LocalDate.ofEpochDay(endDay);
+    }
+}
@@ -1,9 +1,20 @@
 package com.liam.gantt.service;
 
+import com.liam.gantt.cache.GanttTileCache;
 import com.liam.gantt.dto.request.TaskDependencyRequestDto;
+import com.liam.gantt.dto.response.CacheStatsDto;
+import com.liam.gantt.dto.response.DependencyBatchResultDto;
 import com.liam.gantt.dto.response.GanttChartDto;
+import com.liam.gantt.dto.response.GanttWindowDto;
+import com.liam.gantt.dto.response.ProjectChangesDto;
+import com.liam.gantt.dto.response.ScheduleChangeSummaryDto;
 import com.liam.gantt.dto.response.TaskDependencyResponseDto;
+import com.liam.gantt.dto.response.TaskScheduleDto;
+import com.liam.gantt.render.GanttRenderLayout;
+import com.liam.gantt.render.GanttTileRenderer;
 
+import java.time.LocalDate;
+import java.util.Collection;
 import java.util.List;
 
 /**
@@ -12,14 +23,54 @@ import java.util.List;
 public interface GanttService {
     
     /**
-     * 프로젝트의 간트 차트 데이터 조회
+     * 프로젝트의 간트 차트 데이터 조회 (현재 데이터 버전 이상으로 만든 차트, 버전은 dataVersion)
      */
     GanttChartDto getGanttChart(Long projectId);
     
+    /**
+     * 간트 차트 화면 영역 조회 (펼친 계층의 행 범위와 기간에 걸치는 막대, 이와 연결된 의존성, 전체 행 수)
+     *
+     * @param from             조회 시작일 (null이면 제한 없음)
+     * @param to               조회 종료일 (null이면 제한 없음)
+     * @param collapsedTaskIds 접힌 태스크 ID (하위 태스크는 행에서 제외)
+     */
+    GanttWindowDto getGanttWindow(Long projectId, LocalDate from, LocalDate to,
+                                  int rowOffset, int rowLimit, Collection<Long> collapsedTaskIds);
+    
+    /**
+     * 간트 차트 렌더링 배치 조회 (전체 SVG 출력용, 현재 데이터 버전 이상으로 만든 배치)
+     */
+    GanttRenderLayout getGanttRenderLayout(Long projectId);
+    
+    /**
+     * 간트 차트 타일 조회 (캐시에 없거나 현재 데이터 버전보다 오래되었으면 렌더링)
+     */
+    GanttTileCache.Tile getGanttTile(Long projectId, GanttTileRenderer.Format format, int zoom, int x, int y);
+    
+    /**
+     * 간트 차트 캐시 통계 조회
+     */
+    CacheStatsDto getGanttChartCacheStats();
+    
+    /**
+     * 간트 차트 타일 캐시 통계 조회
+     */
+    CacheStatsDto getGanttTileCacheStats();
+    
+    /**
+     * 지정 버전 이후의 프로젝트 변경분 조회 (삭제 대상은 ID로 반환)
+     */
+    ProjectChangesDto getChangesSince(Long projectId, long sinceVersion);
+    
     /**
      * 태스크 의존성 추가
      */
     TaskDependencyResponseDto addDependency(TaskDependencyRequestDto requestDto);
+    
+    /**
+     * 태스크 의존성 일괄 추가 (전체 검증 후 한 번에 등록)
+     */
+    DependencyBatchResultDto addDependencies(Long projectId, List<TaskDependencyRequestDto> requestDtos);
 
     /**
      * 태스크 의존성 추가 (테스트 호환성)
@@ -61,13 +112,18 @@ public interface GanttService {
      */
     List<Long> calculateCriticalPath(Long projectId);
     
+    /**
+     * CPM 일정 계산 (태스크별 ES/EF/LS/LF 및 총 여유)
+     */
+    List<TaskScheduleDto> calculateSchedule(Long projectId);
+    
     /**
      * 순환 의존성 체크
      */
     boolean hasCircularDependency(Long predecessorId, Long successorId);
     
     /**
-     * 프로젝트 일정 재계산
+     * 프로젝트 일정 재계산 (의존성 기준으로 후행 태스크 일정 이동)
      */
-    void recalculateProjectSchedule(Long projectId);
+    ScheduleChangeSummaryDto recalculateProjectSchedule(Long projectId);
 }
\ No newline at end of file
@@ -1,6 +1,7 @@
 package com.liam.gantt.service;
 
 import com.liam.gantt.dto.request.ProjectRequestDto;
+import com.liam.gantt.dto.response.CursorPageDto;
 import com.liam.gantt.dto.response.ProjectResponseDto;
 import com.liam.gantt.entity.enums.ProjectStatus;
 import org.springframework.data.domain.Page;
@@ -69,9 +70,15 @@ public interface ProjectService {
      */
     ProjectResponseDto calculateProjectProgress(Long id);
     
+    /**
+     * 프로젝트 데이터 버전 조회 (태스크 테이블을 조회하지 않음)
+     */
+    long getDataVersion(Long id);
+    
     // 새로 추가된 메서드들
     List<ProjectResponseDto> findAll();
     Page<ProjectResponseDto> findAllWithPaging(Pageable pageable);
+    CursorPageDto<ProjectResponseDto> findAllWithCursor(String cursor, int size, boolean includeTotal);
     ProjectResponseDto findById(Long id);
     ProjectResponseDto findByIdWithTasks(Long id);
     ProjectResponseDto create(ProjectRequestDto request);
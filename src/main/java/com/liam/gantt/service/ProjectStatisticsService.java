@@ -0,0 +1,14 @@
+package com.liam.gantt.service;
+
+import com.liam.gantt.dto.response.ProjectStatisticsDto;
+
+/**
+ * 프로젝트 통계 인터페이스
+ */
+public interface ProjectStatisticsService {
+
+    /**
+     * 상태별 프로젝트 통계 조회 (짧은 시간 동안 캐시된 값일 수 있음)
+     */
+    ProjectStatisticsDto getStatistics();
+}
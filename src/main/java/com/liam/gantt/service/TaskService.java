@@ -1,12 +1,20 @@
 package com.liam.gantt.service;
 
+import com.liam.gantt.dto.request.TaskImportItemDto;
+import com.liam.gantt.dto.request.TaskProgressUpdateDto;
 import com.liam.gantt.dto.request.TaskRequestDto;
+import com.liam.gantt.dto.request.TaskSubtreeMoveRequestDto;
+import com.liam.gantt.dto.response.CursorPageDto;
+import com.liam.gantt.dto.response.TaskImportResultDto;
+import com.liam.gantt.dto.response.TaskProgressBatchResultDto;
 import com.liam.gantt.dto.response.TaskResponseDto;
 import com.liam.gantt.entity.enums.TaskStatus;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 
 import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.Collection;
 import java.util.List;
 
 /**
@@ -24,6 +32,11 @@ public interface TaskService {
      */
     Page<TaskResponseDto> findByProjectIdWithPaging(Long projectId, Pageable pageable);
 
+    /**
+     * 프로젝트별 태스크 목록 커서 조회 ((시작일, ID) 순, cursor가 없으면 첫 페이지)
+     */
+    CursorPageDto<TaskResponseDto> findByProjectIdWithCursor(Long projectId, String cursor, int size, boolean includeTotal);
+
     /**
      * 태스크 단건 조회
      */
@@ -39,6 +52,11 @@ public interface TaskService {
      */
     TaskResponseDto create(Long projectId, TaskRequestDto request);
 
+    /**
+     * 태스크 일괄 가져오기 (WBS 트리)
+     */
+    TaskImportResultDto importTasks(Long projectId, List<TaskImportItemDto> items);
+
     /**
      * 태스크 수정
      */
@@ -54,11 +72,41 @@ public interface TaskService {
      */
     List<TaskResponseDto> findTaskHierarchyByProjectId(Long projectId);
 
+    /**
+     * 간트 차트용 태스크 계층구조 조회 (차트 컬럼만 프로젝션으로 조회)
+     */
+    List<TaskResponseDto> findGanttTaskTree(Long projectId);
+
+    /**
+     * 간트 차트용 태스크 평면 목록 조회 (하위 태스크 연결 없음)
+     */
+    List<TaskResponseDto> findGanttTasks(Long projectId);
+
+    /**
+     * 간트 차트용 태스크 평면 목록 조회 (ID 목록 지정, 없는 ID는 제외)
+     */
+    List<TaskResponseDto> findGanttTasksByIds(Long projectId, Collection<Long> taskIds);
+
+    /**
+     * 기간 [from, to]에 진행 중인 프로젝트 태스크 조회 (기간 겹침 기준, 시작일 순)
+     */
+    List<TaskResponseDto> findActiveTasks(Long projectId, LocalDate from, LocalDate to);
+
+    /**
+     * 기간 [from, to]에 진행 중인 전체 프로젝트 태스크 조회 (기간 겹침 기준, 시작일 순)
+     */
+    List<TaskResponseDto> findActiveTasks(LocalDate from, LocalDate to);
+
     /**
      * 태스크 진행률 업데이트
      */
     TaskResponseDto updateProgress(Long id, BigDecimal progress);
 
+    /**
+     * 프로젝트 태스크 진행률 일괄 업데이트
+     */
+    TaskProgressBatchResultDto updateProgressBatch(Long projectId, List<TaskProgressUpdateDto> items);
+
     /**
      * 태스크 상태 변경
      */
@@ -84,6 +132,11 @@ public interface TaskService {
      */
     TaskResponseDto moveTask(Long id, Integer dayOffset);
 
+    /**
+     * 하위 트리 이동 (상위 태스크 변경 및 하위 태스크 포함 날짜 이동)
+     */
+    TaskResponseDto moveSubtree(Long id, TaskSubtreeMoveRequestDto requestDto);
+
     /**
      * 태스크 검색
      */
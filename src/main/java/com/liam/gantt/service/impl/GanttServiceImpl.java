@@ -1,27 +1,54 @@
 package com.liam.gantt.service.impl;
 
+import com.liam.gantt.cache.GanttChartCache;
+import com.liam.gantt.cache.GanttTileCache;
 import com.liam.gantt.dto.request.TaskDependencyRequestDto;
+import com.liam.gantt.dto.response.CacheStatsDto;
+import com.liam.gantt.dto.response.DependencyBatchResultDto;
 import com.liam.gantt.dto.response.GanttChartDto;
+import com.liam.gantt.dto.response.GanttWindowDto;
+import com.liam.gantt.dto.response.ProjectChangesDto;
 import com.liam.gantt.dto.response.ProjectResponseDto;
+import com.liam.gantt.dto.response.ScheduleChangeSummaryDto;
 import com.liam.gantt.dto.response.TaskDependencyResponseDto;
 import com.liam.gantt.dto.response.TaskResponseDto;
+import com.liam.gantt.dto.response.TaskScheduleDto;
 import com.liam.gantt.entity.Project;
+import com.liam.gantt.entity.ProjectChange;
 import com.liam.gantt.entity.Task;
 import com.liam.gantt.entity.TaskDependency;
+import com.liam.gantt.entity.enums.DependencyType;
 import com.liam.gantt.exception.InvalidRequestException;
 import com.liam.gantt.exception.ProjectNotFoundException;
 import com.liam.gantt.exception.TaskNotFoundException;
+import com.liam.gantt.repository.ProjectChangeRepository;
 import com.liam.gantt.repository.ProjectRepository;
+import com.liam.gantt.repository.TaskClosureRepository;
+import com.liam.gantt.repository.TaskDependencyJdbcRepository;
 import com.liam.gantt.repository.TaskDependencyRepository;
+import com.liam.gantt.repository.TaskJdbcRepository;
 import com.liam.gantt.repository.TaskRepository;
+import com.liam.gantt.render.GanttRenderLayout;
+import com.liam.gantt.render.GanttTileRenderer;
+import com.liam.gantt.repository.projection.GanttDependencyRow;
+import com.liam.gantt.scheduling.AutoScheduler;
+import com.liam.gantt.scheduling.CriticalPathCalculator;
+import com.liam.gantt.scheduling.CriticalPathResult;
+import com.liam.gantt.scheduling.DependencyGraph;
+import com.liam.gantt.scheduling.DependencyGraphCache;
+import com.liam.gantt.scheduling.ScheduleGraph;
+import com.liam.gantt.scheduling.SummaryLeaves;
+import com.liam.gantt.scheduling.TaskDateChange;
 import com.liam.gantt.service.GanttService;
 import com.liam.gantt.service.ProjectService;
 import com.liam.gantt.service.TaskService;
+import com.liam.gantt.sync.ProjectChangeTracker;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDate;
 import java.util.*;
 import java.util.stream.Collectors;
 
@@ -34,40 +61,264 @@ import java.util.stream.Collectors;
 @Slf4j
 public class GanttServiceImpl implements GanttService {
     
+    /** 의존성 일괄 등록 최대 건수 */
+    static final int MAX_DEPENDENCY_BATCH_SIZE = 10_000;
+    
+    /** ID 목록 조회 시 IN 절 최대 크기 */
+    static final int IN_CLAUSE_CHUNK_SIZE = 1_000;
+    
+    /** 화면 영역 조회 최대 행 수 */
+    static final int MAX_WINDOW_ROWS = 2_000;
+    
     private final ProjectRepository projectRepository;
     private final TaskRepository taskRepository;
+    private final TaskClosureRepository taskClosureRepository;
     private final TaskDependencyRepository dependencyRepository;
+    private final TaskDependencyJdbcRepository dependencyJdbcRepository;
+    private final TaskJdbcRepository taskJdbcRepository;
+    private final ProjectChangeRepository changeRepository;
+    private final DependencyGraphCache dependencyGraphCache;
+    private final GanttChartCache ganttChartCache;
+    private final GanttTileCache ganttTileCache;
+    private final ProjectChangeTracker projectChangeTracker;
     private final ProjectService projectService;
     private final TaskService taskService;
     
     @Override
     public GanttChartDto getGanttChart(Long projectId) {
         log.info("간트 차트 데이터 조회: projectId={}", projectId);
+        // 커밋 후 캐시 무효화가 반영되기 전에도 현재 버전보다 오래된 차트를 반환하지 않도록 버전을 먼저 읽음
+        long currentVersion = projectService.getDataVersion(projectId);
+        return ganttChartCache.get(projectId, currentVersion, id -> loadGanttChart(id, currentVersion));
+    }
+    
+    @Override
+    public GanttWindowDto getGanttWindow(Long projectId, LocalDate from, LocalDate to,
+                                         int rowOffset, int rowLimit, Collection<Long> collapsedTaskIds) {
+        log.debug("간트 차트 화면 영역 조회: projectId={}, from={}, to={}, rowOffset={}, rowLimit={}",
+                projectId, from, to, rowOffset, rowLimit);
+    
+        if (from != null && to != null && from.isAfter(to)) {
+            throw new IllegalArgumentException("종료일은 시작일보다 같거나 늦어야 합니다");
+        }
+        if (rowOffset < 0 || rowLimit <= 0 || rowLimit > MAX_WINDOW_ROWS) {
+            throw new IllegalArgumentException("행 범위가 올바르지 않습니다: rowOffset=" + rowOffset + ", rowLimit=" + rowLimit);
+        }
+    
+        // 캐시된 트리를 펼친 순서(전위 순회)로 걸으며 행 번호를 매기고, 행 범위 안의 막대만 기간과 비교
+        GanttChartDto chart = getGanttChart(projectId);
+        Set<Long> collapsed = collapsedTaskIds != null ? new HashSet<>(collapsedTaskIds) : Set.of();
+        int rowEnd = (int) Math.min((long) rowOffset + rowLimit, Integer.MAX_VALUE);
+        List<GanttWindowDto.Bar> bars = new ArrayList<>();
+        Set<Long> visibleIds = new HashSet<>();
+        int rowIndex = 0;
+    
+        Deque<TaskResponseDto> stack = new ArrayDeque<>();
+        pushReversed(stack, chart.getTasks());
+        while (!stack.isEmpty()) {
+            TaskResponseDto task = stack.pop();
+            if (rowIndex >= rowOffset && rowIndex < rowEnd && overlaps(task, from, to)) {
+                // 캐시된 DTO는 공유되므로 하위 태스크를 뺀 복사본을 반환
+                bars.add(new GanttWindowDto.Bar(rowIndex, task.toBuilder().subTasks(List.of()).build()));
+                visibleIds.add(task.getId());
+            }
+            rowIndex++;
+            if (!collapsed.contains(task.getId())) {
+                pushReversed(stack, task.getSubTasks());
+            }
+        }
+    
+        List<TaskDependencyResponseDto> dependencies = new ArrayList<>();
+        if (!visibleIds.isEmpty()) {
+            for (TaskDependencyResponseDto dependency : chart.getDependencies()) {
+                if (visibleIds.contains(dependency.getPredecessorId()) || visibleIds.contains(dependency.getSuccessorId())) {
+                    dependencies.add(dependency);
+                }
+            }
+        }
+    
+        return GanttWindowDto.builder()
+                .projectId(projectId)
+                .timeline(chart.getTimeline())
+                .from(from)
+                .to(to)
+                .rowOffset(rowOffset)
+                .rowLimit(rowLimit)
+                .totalRowCount(rowIndex)
+                .dataVersion(chart.getDataVersion())
+                .bars(bars)
+                .dependencies(dependencies)
+                .build();
+    }
+    
+    @Override
+    public GanttRenderLayout getGanttRenderLayout(Long projectId) {
+        long currentVersion = projectService.getDataVersion(projectId);
+        return ganttTileCache.getLayout(projectId, currentVersion, id -> GanttRenderLayout.of(getGanttChart(id)));
+    }
+    
+    @Override
+    public GanttTileCache.Tile getGanttTile(Long projectId, GanttTileRenderer.Format format, int zoom, int x, int y) {
+        log.debug("간트 차트 타일 조회: projectId={}, format={}, zoom={}, x={}, y={}", projectId, format, zoom, x, y);
+        long currentVersion = projectService.getDataVersion(projectId);
+        return ganttTileCache.getTile(new GanttTileCache.TileKey(projectId, format, zoom, x, y), currentVersion,
+                id -> GanttRenderLayout.of(getGanttChart(id)));
+    }
+    
+    @Override
+    public CacheStatsDto getGanttChartCacheStats() {
+        return ganttChartCache.stats();
+    }
+    
+    @Override
+    public CacheStatsDto getGanttTileCacheStats() {
+        return ganttTileCache.stats();
+    }
+    
+    @Override
+    public ProjectChangesDto getChangesSince(Long projectId, long sinceVersion) {
+        log.debug("프로젝트 변경분 조회: projectId={}, since={}", projectId, sinceVersion);
         
-        // 프로젝트 조회
-        Project project = projectRepository.findByIdWithTasks(projectId)
-                .orElseThrow(() -> new ProjectNotFoundException("프로젝트를 찾을 수 없습니다: " + projectId));
+        // 버전을 먼저 읽고 그 이후 데이터를 조회하므로, 응답 데이터는 currentVersion보다 새로울 수는 있어도 오래되지 않음
+        long currentVersion = projectService.getDataVersion(projectId);
+        if (!canComputeDelta(projectId, sinceVersion, currentVersion)) {
+            return loadSnapshot(projectId, sinceVersion, currentVersion);
+        }
+        
+        // 대상별로 모아 생성/수정과 삭제를 구분 (IDENTITY 키라 삭제된 ID가 다시 생기지 않음)
+        boolean projectChanged = false;
+        Set<Long> changedTaskIds = new LinkedHashSet<>();
+        Set<Long> deletedTaskIds = new LinkedHashSet<>();
+        Set<Long> changedDependencyIds = new LinkedHashSet<>();
+        Set<Long> deletedDependencyIds = new LinkedHashSet<>();
+        for (ProjectChange change : changeRepository.findChanges(projectId, sinceVersion, currentVersion)) {
+            switch (change.getEntityType()) {
+                case PROJECT -> projectChanged = true;
+                case TASK -> (change.isDeleted() ? deletedTaskIds : changedTaskIds).add(change.getEntityId());
+                case DEPENDENCY -> (change.isDeleted() ? deletedDependencyIds : changedDependencyIds).add(change.getEntityId());
+            }
+        }
+        changedTaskIds.removeAll(deletedTaskIds);
+        changedDependencyIds.removeAll(deletedDependencyIds);
         
-        // 프로젝트 DTO 생성
+        List<TaskResponseDto> tasks = taskService.findGanttTasksByIds(projectId, changedTaskIds);
+        List<TaskDependencyResponseDto> dependencies = findDependenciesByIds(projectId, changedDependencyIds);
+        
+        // 버전 조회 이후 삭제되어 찾을 수 없는 대상도 tombstone으로 반환
+        tasks.forEach(task -> changedTaskIds.remove(task.getId()));
+        dependencies.forEach(dependency -> changedDependencyIds.remove(dependency.getId()));
+        deletedTaskIds.addAll(changedTaskIds);
+        deletedDependencyIds.addAll(changedDependencyIds);
+        
+        return ProjectChangesDto.builder()
+                .projectId(projectId)
+                .sinceVersion(sinceVersion)
+                .currentVersion(currentVersion)
+                .fullSnapshot(false)
+                .project(projectChanged ? projectService.findById(projectId) : null)
+                .tasks(tasks)
+                .dependencies(dependencies)
+                .deletedTaskIds(new ArrayList<>(deletedTaskIds))
+                .deletedDependencyIds(new ArrayList<>(deletedDependencyIds))
+                .build();
+    }
+    
+    /**
+     * 변경 이력으로 변경분을 계산할 수 있는지 확인
+     *
+     * 버전이 증가할 때마다 이력이 남으므로, since 다음 버전부터의 이력이 모두 보관되어 있어야 합니다.
+     */
+    private boolean canComputeDelta(Long projectId, long sinceVersion, long currentVersion) {
+        if (sinceVersion <= 0 || sinceVersion > currentVersion) {
+            return false;
+        }
+        if (sinceVersion == currentVersion) {
+            return true;
+        }
+        Long minVersion = changeRepository.findMinVersionByProjectId(projectId);
+        return minVersion != null && minVersion <= sinceVersion + 1;
+    }
+    
+    /**
+     * 전체 데이터 조회 (변경분을 계산할 수 없는 경우)
+     */
+    private ProjectChangesDto loadSnapshot(Long projectId, long sinceVersion, long currentVersion) {
+        List<TaskResponseDto> tasks = taskService.findGanttTasks(projectId);
+        List<GanttDependencyRow> dependencyRows = dependencyRepository.findGanttRowsByProjectId(projectId);
+        List<TaskDependencyResponseDto> dependencies = new ArrayList<>(dependencyRows.size());
+        for (GanttDependencyRow row : dependencyRows) {
+            dependencies.add(convertToDto(row));
+        }
+        return ProjectChangesDto.builder()
+                .projectId(projectId)
+                .sinceVersion(sinceVersion)
+                .currentVersion(currentVersion)
+                .fullSnapshot(true)
+                .project(projectService.findById(projectId))
+                .tasks(tasks)
+                .dependencies(dependencies)
+                .deletedTaskIds(List.of())
+                .deletedDependencyIds(List.of())
+                .build();
+    }
+    
+    /**
+     * ID 목록으로 의존성 조회 (IN 절 크기 제한)
+     */
+    private List<TaskDependencyResponseDto> findDependenciesByIds(Long projectId, Collection<Long> dependencyIds) {
+        List<Long> ids = new ArrayList<>(dependencyIds);
+        List<TaskDependencyResponseDto> dependencies = new ArrayList<>(ids.size());
+        for (int from = 0; from < ids.size(); from += IN_CLAUSE_CHUNK_SIZE) {
+            List<Long> chunk = ids.subList(from, Math.min(from + IN_CLAUSE_CHUNK_SIZE, ids.size()));
+            for (GanttDependencyRow row : dependencyRepository.findGanttRowsByProjectIdAndIdIn(projectId, chunk)) {
+                dependencies.add(convertToDto(row));
+            }
+        }
+        return dependencies;
+    }
+    
+    /**
+     * 간트 차트 조립 (캐시 미스 시, dataVersion은 조회 전에 읽은 버전이므로 차트 데이터는 이 버전보다 오래되지 않음)
+     */
+    private GanttChartDto loadGanttChart(Long projectId, long dataVersion) {
+        // 프로젝트 조회 (1회)
         ProjectResponseDto projectDto = projectService.findById(projectId);
         
-        // 태스크 계층구조 조회
-        List<TaskResponseDto> tasks = taskService.findTaskHierarchyByProjectId(projectId);
+        // 태스크 계층구조 조회 (프로젝션 평면 조회 1회 후 메모리에서 트리 구성)
+        List<TaskResponseDto> tasks = taskService.findGanttTaskTree(projectId);
         
-        // 의존성 조회
-        List<TaskDependencyResponseDto> dependencies = getProjectDependencies(projectId);
+        // 의존성 조회 (프로젝션)
+        List<GanttDependencyRow> dependencyRows = dependencyRepository.findGanttRowsByProjectId(projectId);
+        List<TaskDependencyResponseDto> dependencies = new ArrayList<>(dependencyRows.size());
+        for (GanttDependencyRow row : dependencyRows) {
+            dependencies.add(convertToDto(row));
+        }
         
         // 타임라인 정보 생성
         GanttChartDto.TimelineInfo timeline = GanttChartDto.TimelineInfo.of(
-                project.getStartDate(),
-                project.getEndDate()
+                projectDto.getStartDate(),
+                projectDto.getEndDate()
         );
         
-        // 임계 경로 계산
-        List<Long> criticalPathIds = calculateCriticalPath(projectId);
-        List<TaskResponseDto> criticalPath = tasks.stream()
-                .filter(task -> criticalPathIds.contains(task.getId()))
-                .collect(Collectors.toList());
+        // 임계 경로 계산 (이미 조회한 태스크와 의존성으로 그래프를 구성하므로 추가 조회 없음, 리프 태스크만 사용하고
+        // 요약 태스크에 걸린 의존성은 하위 리프 태스크로 펼침)
+        List<TaskResponseDto> flatTasks = new ArrayList<>();
+        flattenTasks(tasks, flatTasks);
+        List<TaskResponseDto> leafTasks = new ArrayList<>(flatTasks.size());
+        for (TaskResponseDto task : flatTasks) {
+            if (task.getSubTasks() == null || task.getSubTasks().isEmpty()) {
+                leafTasks.add(task);
+            }
+        }
+        Set<Long> criticalPathIds = new HashSet<>(
+                CriticalPathCalculator.calculate(toScheduleGraph(leafTasks, dependencies, toSummaryLeaves(tasks)))
+                        .criticalTaskIds());
+        List<TaskResponseDto> criticalPath = new ArrayList<>();
+        for (TaskResponseDto task : flatTasks) {
+            if (criticalPathIds.contains(task.getId())) {
+                criticalPath.add(task);
+            }
+        }
         
         return GanttChartDto.builder()
                 .project(projectDto)
@@ -75,6 +326,7 @@ public class GanttServiceImpl implements GanttService {
                 .dependencies(dependencies)
                 .timeline(timeline)
                 .criticalPath(criticalPath)
+                .dataVersion(dataVersion)
                 .build();
     }
     
@@ -108,7 +360,8 @@ public class GanttServiceImpl implements GanttService {
         }
         
         // 순환 의존성 체크
-        if (hasCircularDependency(requestDto.getPredecessorId(), requestDto.getSuccessorId())) {
+        Long projectId = predecessor.getProject().getId();
+        if (dependencyGraphCache.wouldCreateCycle(projectId, requestDto.getPredecessorId(), requestDto.getSuccessorId())) {
             throw new InvalidRequestException("순환 의존성이 발생합니다");
         }
         
@@ -121,21 +374,78 @@ public class GanttServiceImpl implements GanttService {
                 .build();
         
         TaskDependency savedDependency = dependencyRepository.save(dependency);
+        dependencyGraphCache.dependencyAdded(projectId, predecessor.getId(), successor.getId());
+        projectChangeTracker.dependencyChanged(projectId, savedDependency.getId());
         log.info("태스크 의존성 추가 완료: id={}", savedDependency.getId());
         
         return convertToDto(savedDependency);
     }
     
+    @Override
+    @Transactional
+    public DependencyBatchResultDto addDependencies(Long projectId, List<TaskDependencyRequestDto> requestDtos) {
+        log.info("태스크 의존성 일괄 추가: projectId={}, 요청 수={}", projectId, requestDtos.size());
+        
+        if (!projectRepository.existsById(projectId)) {
+            throw new ProjectNotFoundException("프로젝트를 찾을 수 없습니다: " + projectId);
+        }
+        if (requestDtos.size() > MAX_DEPENDENCY_BATCH_SIZE) {
+            throw new InvalidRequestException("한 번에 등록할 수 있는 의존성은 최대 " + MAX_DEPENDENCY_BATCH_SIZE + "건입니다");
+        }
+        
+        // 프로젝트 태스크와 기존 의존성을 한 번씩 조회하여 메모리에서 검증
+        Set<Long> projectTaskIds = new HashSet<>(taskRepository.findIdsByProjectId(projectId));
+        List<Object[]> existingRows = dependencyRepository.findScheduleRowsByProjectId(projectId);
+        DependencyGraph graph = DependencyGraph.of(existingRows);
+        
+        for (int i = 0; i < requestDtos.size(); i++) {
+            TaskDependencyRequestDto requestDto = requestDtos.get(i);
+            Long predecessorId = requestDto.getPredecessorId();
+            Long successorId = requestDto.getSuccessorId();
+            
+            if (requestDto.isSelfReference()) {
+                throw new InvalidRequestException(batchError(i, "태스크는 자기 자신에 의존할 수 없습니다"));
+            }
+            if (!projectTaskIds.contains(predecessorId) || !projectTaskIds.contains(successorId)) {
+                throw new InvalidRequestException(batchError(i, "프로젝트에 속하지 않는 태스크입니다"));
+            }
+            if (graph.hasEdge(predecessorId, successorId)) {
+                throw new InvalidRequestException(batchError(i, "이미 존재하는 의존성입니다"));
+            }
+            graph.addEdge(predecessorId, successorId);
+        }
+        
+        // 기존 그래프는 순환이 없으므로, 순환이 생겼다면 새 간선 때문
+        if (graph.hasCycle()) {
+            int index = findFirstCyclicRequest(existingRows, requestDtos);
+            throw new InvalidRequestException(batchError(index, "순환 의존성이 발생합니다"));
+        }
+        
+        List<Long> dependencyIds = dependencyJdbcRepository.batchInsert(requestDtos);
+        dependencyGraphCache.invalidate(projectId);
+        projectChangeTracker.dependenciesChanged(projectId, dependencyIds);
+        
+        log.info("태스크 의존성 일괄 추가 완료: projectId={}, 등록 수={}", projectId, requestDtos.size());
+        return DependencyBatchResultDto.builder()
+                .projectId(projectId)
+                .createdCount(dependencyIds.size())
+                .dependencyIds(dependencyIds)
+                .build();
+    }
+    
     @Override
     @Transactional
     public void removeDependency(Long dependencyId) {
         log.info("태스크 의존성 제거: id={}", dependencyId);
         
-        if (!dependencyRepository.existsById(dependencyId)) {
-            throw new InvalidRequestException("태스크 의존성을 찾을 수 없습니다: " + dependencyId);
-        }
+        TaskDependency dependency = dependencyRepository.findById(dependencyId)
+                .orElseThrow(() -> new InvalidRequestException("태스크 의존성을 찾을 수 없습니다: " + dependencyId));
         
-        dependencyRepository.deleteById(dependencyId);
+        Long projectId = dependency.getPredecessor().getProject().getId();
+        dependencyRepository.delete(dependency);
+        dependencyGraphCache.dependencyRemoved(projectId,
+                dependency.getPredecessor().getId(), dependency.getSuccessor().getId());
+        projectChangeTracker.dependencyDeleted(projectId, dependencyId);
         log.info("태스크 의존성 제거 완료: id={}", dependencyId);
     }
     
@@ -163,39 +473,73 @@ public class GanttServiceImpl implements GanttService {
     public List<Long> calculateCriticalPath(Long projectId) {
         log.info("임계 경로 계산: projectId={}", projectId);
         
-        // 간단한 구현 - 의존성이 있는 태스크들만 반환
-        // 실제로는 CPM (Critical Path Method) 알고리즘 구현 필요
-        List<Task> criticalTasks = taskRepository.findCriticalPathTasks(projectId);
+        CriticalPathResult result = CriticalPathCalculator.calculate(loadLeafScheduleGraph(projectId));
+        List<Long> criticalTaskIds = result.criticalTaskIds();
         
-        return criticalTasks.stream()
-                .map(Task::getId)
-                .collect(Collectors.toList());
+        log.info("임계 경로 계산 완료: projectId={}, 태스크 수={}, 임계 태스크 수={}", 
+                projectId, result.size(), criticalTaskIds.size());
+        return criticalTaskIds;
+    }
+    
+    @Override
+    public List<TaskScheduleDto> calculateSchedule(Long projectId) {
+        log.info("CPM 일정 계산: projectId={}", projectId);
+        
+        if (!projectRepository.existsById(projectId)) {
+            throw new ProjectNotFoundException("프로젝트를 찾을 수 없습니다: " + projectId);
+        }
+        
+        CriticalPathResult result = CriticalPathCalculator.calculate(loadLeafScheduleGraph(projectId));
+        
+        List<TaskScheduleDto> schedules = new ArrayList<>(result.size());
+        for (int node : result.order()) {
+            schedules.add(TaskScheduleDto.builder()
+                    .taskId(result.graph().taskId(node))
+                    .earlyStart(CriticalPathResult.toDate(result.earlyStart(node)))
+                    .earlyFinish(CriticalPathResult.toDate(result.earlyFinish(node)))
+                    .lateStart(CriticalPathResult.toDate(result.lateStart(node)))
+                    .lateFinish(CriticalPathResult.toDate(result.lateFinish(node)))
+                    .totalFloat(result.totalFloat(node))
+                    .critical(result.isCritical(node))
+                    .build());
+        }
+        return schedules;
     }
     
     @Override
     public boolean hasCircularDependency(Long predecessorId, Long successorId) {
         log.debug("순환 의존성 체크: {} -> {}", predecessorId, successorId);
         
-        // successorId에서 도달 가능한 모든 후행 태스크 조회
-        List<Long> reachableIds = dependencyRepository.findReachableSuccessorIds(successorId);
+        if (predecessorId.equals(successorId)) {
+            return true;
+        }
         
-        // predecessorId가 도달 가능한 태스크에 포함되면 순환 의존성
-        return reachableIds.contains(predecessorId);
+        // 프로젝트 의존성 그래프에서 successorId → predecessorId 경로가 있으면 순환 의존성
+        Long projectId = taskRepository.findProjectIdById(successorId).orElse(null);
+        if (projectId == null) {
+            return false;
+        }
+        return dependencyGraphCache.wouldCreateCycle(projectId, predecessorId, successorId);
     }
     
     @Override
     @Transactional
-    public void recalculateProjectSchedule(Long projectId) {
+    public ScheduleChangeSummaryDto recalculateProjectSchedule(Long projectId) {
         log.info("프로젝트 일정 재계산: projectId={}", projectId);
         
-        // 프로젝트의 모든 태스크 조회
-        List<Task> tasks = taskRepository.findByProjectId(projectId);
+        if (!projectRepository.existsById(projectId)) {
+            throw new ProjectNotFoundException("프로젝트를 찾을 수 없습니다: " + projectId);
+        }
         
-        // 의존성 기반으로 태스크 일정 재계산
-        // 실제 구현은 복잡한 스케줄링 알고리즘 필요
-        // Forward Pass, Backward Pass 등
+        // 리프 태스크 그래프에서 의존성 기반 전진 계산 후 날짜가 바뀐 태스크만 배치 갱신
+        List<TaskDateChange> changes = scheduleLeafTasks(projectId);
+        taskJdbcRepository.batchUpdateDates(changes);
         
-        log.info("프로젝트 일정 재계산 완료: projectId={}", projectId);
+        ScheduleChangeSummaryDto summary = summarize(projectId, changes);
+        projectChangeTracker.tasksChanged(projectId, summary.getMovedTaskIds());
+        log.info("프로젝트 일정 재계산 완료: projectId={}, 이동 태스크 수={}, 최대 지연일={}", 
+                projectId, summary.getMovedTaskCount(), summary.getMaxSlipDays());
+        return summary;
     }
 
     @Override
@@ -233,6 +577,15 @@ public class GanttServiceImpl implements GanttService {
                 .orElseThrow(() -> new TaskNotFoundException("후행 태스크를 찾을 수 없습니다: " + requestDto.getSuccessorId()));
 
         // 의존성 업데이트
+        dependencyGraphCache.dependencyRemoved(dependency.getPredecessor().getProject().getId(),
+                dependency.getPredecessor().getId(), dependency.getSuccessor().getId());
+        dependencyGraphCache.dependencyAdded(predecessor.getProject().getId(),
+                predecessor.getId(), successor.getId());
+        Long previousProjectId = dependency.getPredecessor().getProject().getId();
+        if (!previousProjectId.equals(predecessor.getProject().getId())) {
+            projectChangeTracker.dependencyDeleted(previousProjectId, dependencyId);
+        }
+        projectChangeTracker.dependencyChanged(predecessor.getProject().getId(), dependencyId);
         dependency.setPredecessor(predecessor);
         dependency.setSuccessor(successor);
         dependency.setDependencyType(requestDto.getDependencyType());
@@ -265,6 +618,186 @@ public class GanttServiceImpl implements GanttService {
                 .build();
     }
 
+    /**
+     * 프로젝트 자동 일정 계산 (리프 태스크만)
+     *
+     * 요약 태스크를 일반 노드로 넣으면 하위 태스크와 따로 움직여 계층이 어긋나므로, 리프 태스크 그래프에서
+     * 요약 태스크에 걸린 의존성을 하위 리프로 펼쳐 계산한 뒤 요약 태스크 기간을 하위 태스크에 맞춥니다.
+     */
+    private List<TaskDateChange> scheduleLeafTasks(Long projectId) {
+        List<Object[]> taskRows = taskRepository.findScheduleRowsByProjectId(projectId);
+        if (taskRows.isEmpty()) {
+            return List.of();
+        }
+        SummaryLeaves summaries = SummaryLeaves.of(taskClosureRepository.findSummaryLeafRowsByProjectId(projectId));
+        List<Object[]> leafRows = new ArrayList<>(taskRows.size());
+        List<Object[]> summaryRows = new ArrayList<>(summaries.size());
+        for (Object[] row : taskRows) {
+            if (summaries.isSummary((Long) row[0])) {
+                summaryRows.add(row);
+            } else {
+                leafRows.add(row);
+            }
+        }
+        
+        List<Object[]> dependencyRows = dependencyRepository.findScheduleRowsByProjectId(projectId);
+        ScheduleGraph graph = ScheduleGraph.of(leafRows, dependencyRows, summaries);
+        List<TaskDateChange> changes = new ArrayList<>(AutoScheduler.schedule(graph));
+        changes.addAll(AutoScheduler.rollUpSummaries(graph, changes, summaryRows, summaries));
+        return changes;
+    }
+    
+    /**
+     * CPM용 일정 그래프 조회 (리프 태스크만)
+     *
+     * 상위 태스크 기간은 하위 태스크를 감싸는 요약이므로 일반 노드로 넣으면 프로젝트 전체에 걸친 상위 태스크가
+     * 항상 여유 0으로 임계 경로에 포함됩니다. 상위 태스크에 걸린 의존성은 클로저 테이블로 하위 리프 태스크를 구해 펼칩니다.
+     */
+    private ScheduleGraph loadLeafScheduleGraph(Long projectId) {
+        List<Object[]> taskRows = taskRepository.findLeafScheduleRowsByProjectId(projectId);
+        if (taskRows.isEmpty()) {
+            return ScheduleGraph.of(taskRows, List.of());
+        }
+        List<Object[]> dependencyRows = dependencyRepository.findScheduleRowsByProjectId(projectId);
+        if (dependencyRows.isEmpty()) {
+            return ScheduleGraph.of(taskRows, dependencyRows);
+        }
+        SummaryLeaves summaries = SummaryLeaves.of(taskClosureRepository.findSummaryLeafRowsByProjectId(projectId));
+        return ScheduleGraph.of(taskRows, dependencyRows, summaries);
+    }
+    
+    /**
+     * 순환을 만드는 첫 번째 요청 위치 탐색 (검증 실패 시에만 호출)
+     */
+    private int findFirstCyclicRequest(List<Object[]> existingRows, List<TaskDependencyRequestDto> requestDtos) {
+        DependencyGraph graph = DependencyGraph.of(existingRows);
+        for (int i = 0; i < requestDtos.size(); i++) {
+            TaskDependencyRequestDto requestDto = requestDtos.get(i);
+            if (graph.wouldCreateCycle(requestDto.getPredecessorId(), requestDto.getSuccessorId())) {
+                return i;
+            }
+            graph.addEdge(requestDto.getPredecessorId(), requestDto.getSuccessorId());
+        }
+        return requestDtos.size() - 1;
+    }
+    
+    private static String batchError(int index, String message) {
+        return String.format("dependencies[%d]: %s", index, message);
+    }
+    
+    /**
+     * 날짜 변경 목록 요약
+     */
+    private ScheduleChangeSummaryDto summarize(Long projectId, List<TaskDateChange> changes) {
+        List<Long> movedTaskIds = new ArrayList<>(changes.size());
+        int maxSlipDays = 0;
+        for (TaskDateChange change : changes) {
+            movedTaskIds.add(change.taskId());
+            maxSlipDays = Math.max(maxSlipDays, change.shiftDays());
+        }
+        return ScheduleChangeSummaryDto.builder()
+                .projectId(projectId)
+                .movedTaskCount(changes.size())
+                .maxSlipDays(maxSlipDays)
+                .movedTaskIds(movedTaskIds)
+                .build();
+    }
+    
+    /**
+     * 계층구조를 전위 순회 순서의 평면 목록으로 변환
+     */
+    private void flattenTasks(List<TaskResponseDto> tasks, List<TaskResponseDto> result) {
+        if (tasks == null) {
+            return;
+        }
+        for (TaskResponseDto task : tasks) {
+            result.add(task);
+            flattenTasks(task.getSubTasks(), result);
+        }
+    }
+    
+    /**
+     * 자식 태스크를 역순으로 스택에 추가 (꺼낼 때 원래 순서가 되도록)
+     */
+    private static void pushReversed(Deque<TaskResponseDto> stack, List<TaskResponseDto> tasks) {
+        if (tasks == null) {
+            return;
+        }
+        for (int i = tasks.size() - 1; i >= 0; i--) {
+            stack.push(tasks.get(i));
+        }
+    }
+    
+    /**
+     * 태스크 기간이 [from, to]와 겹치는지 확인 (null인 경계는 열린 구간)
+     */
+    private static boolean overlaps(TaskResponseDto task, LocalDate from, LocalDate to) {
+        if (task.getStartDate() == null || task.getEndDate() == null) {
+            return from == null && to == null;
+        }
+        return (from == null || !task.getEndDate().isBefore(from))
+                && (to == null || !task.getStartDate().isAfter(to));
+    }
+    
+    /**
+     * 조회된 태스크 계층에서 요약 태스크별 하위 리프 태스크 매핑 생성
+     */
+    private static SummaryLeaves toSummaryLeaves(List<TaskResponseDto> roots) {
+        List<Object[]> rows = new ArrayList<>();
+        collectSummaryLeaves(roots, new ArrayDeque<>(), rows);
+        return SummaryLeaves.of(rows);
+    }
+    
+    private static void collectSummaryLeaves(List<TaskResponseDto> tasks, Deque<Long> ancestors, List<Object[]> rows) {
+        for (TaskResponseDto task : tasks) {
+            if (task.getSubTasks() == null || task.getSubTasks().isEmpty()) {
+                for (Long ancestor : ancestors) {
+                    rows.add(new Object[]{ancestor, task.getId()});
+                }
+            } else {
+                ancestors.push(task.getId());
+                collectSummaryLeaves(task.getSubTasks(), ancestors, rows);
+                ancestors.pop();
+            }
+        }
+    }
+    
+    /**
+     * 조회된 태스크/의존성 DTO로 일정 그래프 생성
+     */
+    private ScheduleGraph toScheduleGraph(List<TaskResponseDto> tasks, List<TaskDependencyResponseDto> dependencies,
+                                          SummaryLeaves summaries) {
+        ScheduleGraph.Builder builder = ScheduleGraph.builder(tasks.size(), dependencies.size());
+        for (TaskResponseDto task : tasks) {
+            if (task.getId() != null && task.getStartDate() != null && task.getEndDate() != null) {
+                builder.addTask(task.getId(), task.getStartDate(), task.getEndDate());
+            }
+        }
+        for (TaskDependencyResponseDto dependency : dependencies) {
+            builder.addDependency(dependency.getPredecessorId(), dependency.getSuccessorId(),
+                    dependency.getDependencyType(), dependency.getLagDays(), summaries);
+        }
+        return builder.build();
+    }
+    
+    /**
+     * 간트 차트용 의존성 행을 DTO로 변환
+     */
+    private TaskDependencyResponseDto convertToDto(GanttDependencyRow row) {
+        DependencyType type = row.dependencyType();
+        return TaskDependencyResponseDto.builder()
+                .id(row.id())
+                .predecessorId(row.predecessorId())
+                .predecessorName(row.predecessorName())
+                .successorId(row.successorId())
+                .successorName(row.successorName())
+                .dependencyType(type)
+                .dependencyTypeCode(type.getCode())
+                .dependencyTypeDescription(type.getDescription())
+                .lagDays(row.lagDays())
+                .build();
+    }
+    
     /**
      * Entity를 DTO로 변환
      */
@@ -1,6 +1,7 @@
 package com.liam.gantt.service.impl;
 
 import com.liam.gantt.dto.request.ProjectRequestDto;
+import com.liam.gantt.dto.response.CursorPageDto;
 import com.liam.gantt.dto.response.ProjectResponseDto;
 import com.liam.gantt.entity.Project;
 import com.liam.gantt.entity.enums.ProjectStatus;
@@ -8,11 +9,17 @@ import com.liam.gantt.exception.DuplicateProjectNameException;
 import com.liam.gantt.exception.InvalidProjectDateException;
 import com.liam.gantt.exception.ProjectNotFoundException;
 import com.liam.gantt.mapper.ProjectMapper;
+import com.liam.gantt.pagination.KeysetCursor;
 import com.liam.gantt.repository.ProjectRepository;
+import com.liam.gantt.repository.TaskClosureRepository;
 import com.liam.gantt.repository.TaskRepository;
+import com.liam.gantt.rollup.ProgressRollupUpdater;
+import com.liam.gantt.scheduling.DependencyGraphCache;
 import com.liam.gantt.service.ProjectService;
+import com.liam.gantt.sync.ProjectChangeTracker;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
@@ -34,6 +41,10 @@ public class ProjectServiceImpl implements ProjectService {
     private final ProjectRepository projectRepository;
     private final TaskRepository taskRepository;
     private final ProjectMapper projectMapper;
+    private final DependencyGraphCache dependencyGraphCache;
+    private final ProjectChangeTracker projectChangeTracker;
+    private final ProgressRollupUpdater progressRollupUpdater;
+    private final TaskClosureRepository taskClosureRepository;
     
     @Override
     @Transactional
@@ -59,6 +70,12 @@ public class ProjectServiceImpl implements ProjectService {
         return projectMapper.toResponseDto(savedProject);
     }
     
+    @Override
+    public long getDataVersion(Long id) {
+        return projectRepository.findDataVersionById(id)
+                .orElseThrow(() -> new ProjectNotFoundException("프로젝트를 찾을 수 없습니다: " + id));
+    }
+    
     @Override
     public ProjectResponseDto findById(Long id) {
         log.debug("프로젝트 조회: id={}", id);
@@ -77,6 +94,37 @@ public class ProjectServiceImpl implements ProjectService {
         return projects.map(projectMapper::toResponseDto);
     }
     
+    @Override
+    public CursorPageDto<ProjectResponseDto> findAllWithCursor(String cursor, int size, boolean includeTotal) {
+        log.debug("모든 프로젝트 커서 조회: size={}", size);
+        
+        // 한 건 더 읽어 다음 페이지 존재 여부 판단
+        Limit limit = Limit.of(size + 1);
+        List<Project> projects;
+        if (cursor == null || cursor.isBlank()) {
+            projects = projectRepository.findKeysetFirstPage(limit);
+        } else {
+            KeysetCursor after = KeysetCursor.decode(cursor);
+            projects = projectRepository.findKeysetPageAfter(after.dateTimeKey(), after.id(), limit);
+        }
+        
+        boolean hasNext = projects.size() > size;
+        List<Project> page = hasNext ? projects.subList(0, size) : projects;
+        String nextCursor = null;
+        if (hasNext) {
+            Project last = page.get(page.size() - 1);
+            nextCursor = KeysetCursor.of(last.getCreatedAt(), last.getId()).encode();
+        }
+        
+        return CursorPageDto.<ProjectResponseDto>builder()
+                .content(page.stream().map(projectMapper::toResponseDto).collect(Collectors.toList()))
+                .size(page.size())
+                .hasNext(hasNext)
+                .nextCursor(nextCursor)
+                .totalCount(includeTotal ? projectRepository.count() : null)
+                .build();
+    }
+    
     @Override
     @Transactional
     public ProjectResponseDto update(Long id, ProjectRequestDto requestDto) {
@@ -99,6 +147,7 @@ public class ProjectServiceImpl implements ProjectService {
         projectMapper.updateEntity(project, requestDto);
         
         Project updatedProject = projectRepository.save(project);
+        projectChangeTracker.projectChanged(id);
         log.info("프로젝트 수정 완료: id={}", id);
         
         return projectMapper.toResponseDto(updatedProject);
@@ -113,7 +162,10 @@ public class ProjectServiceImpl implements ProjectService {
             throw new ProjectNotFoundException("프로젝트를 찾을 수 없습니다: " + id);
         }
         
+        taskClosureRepository.deleteByProjectId(id);
         projectRepository.deleteById(id);
+        dependencyGraphCache.invalidate(id);
+        projectChangeTracker.projectDeleted(id);
         log.info("프로젝트 삭제 완료: id={}", id);
     }
     
@@ -253,6 +305,7 @@ public class ProjectServiceImpl implements ProjectService {
         
         project.setStatus(status);
         Project updatedProject = projectRepository.save(project);
+        projectChangeTracker.projectChanged(id);
         
         log.info("프로젝트 상태 변경 완료: id={}, status={}", id, status);
         return projectMapper.toResponseDto(updatedProject);
@@ -273,21 +326,34 @@ public class ProjectServiceImpl implements ProjectService {
     public ProjectResponseDto calculateProjectProgress(Long id) {
         log.info("프로젝트 진행률 계산: id={}", id);
         
-        Project project = projectRepository.findByIdWithTasks(id)
+        Project project = projectRepository.findById(id)
                 .orElseThrow(() -> new ProjectNotFoundException("프로젝트를 찾을 수 없습니다: " + id));
         
-        Double progress = project.calculateProgress();
+        // 태스크 계층을 따라 기간 가중으로 다시 집계
+        ProgressRollupUpdater.Recalculation recalculation = progressRollupUpdater.recalculateProjectWithChanges(id);
+        double progress = recalculation.projectProgress().doubleValue();
+        boolean projectChanged = recalculation.projectProgressChanged();
         
         // 진행률에 따른 상태 자동 업데이트
         if (progress >= 100.0 && project.getStatus() != ProjectStatus.COMPLETED) {
             project.setStatus(ProjectStatus.COMPLETED);
             projectRepository.save(project);
+            projectChanged = true;
         } else if (progress > 0 && progress < 100 && project.getStatus() == ProjectStatus.PLANNING) {
             project.setStatus(ProjectStatus.IN_PROGRESS);
             projectRepository.save(project);
+            projectChanged = true;
         }
         
-        ProjectResponseDto responseDto = convertToDto(project);
+        // 재계산으로 바뀐 상위 태스크와 프로젝트를 기록하여 버전, 캐시, 변경 이벤트에 반영
+        if (!recalculation.changedTaskIds().isEmpty()) {
+            projectChangeTracker.tasksChanged(id, recalculation.changedTaskIds());
+        }
+        if (projectChanged) {
+            projectChangeTracker.projectChanged(id);
+        }
+        
+        ProjectResponseDto responseDto = projectMapper.toResponseDto(project);
         responseDto.setProgress(progress);
         
         log.info("프로젝트 진행률 계산 완료: id={}, progress={}%", id, progress);
@@ -322,26 +388,4 @@ public class ProjectServiceImpl implements ProjectService {
     public void deleteProject(Long id) {
         delete(id); // 기존의 delete 메서드 호출
     }
-
-    /**
-     * Entity를 DTO로 변환
-     */
-    private ProjectResponseDto convertToDto(Project project) {
-        long taskCount = project.getTasks() != null ? project.getTasks().size() : 0;
-        
-        return ProjectResponseDto.builder()
-                .id(project.getId())
-                .name(project.getName())
-                .description(project.getDescription())
-                .startDate(project.getStartDate())
-                .endDate(project.getEndDate())
-                .status(project.getStatus())
-                .progress(project.calculateProgress())
-                .taskCount((int) taskCount)
-                .durationInDays(project.getDurationInDays())
-                .isOverdue(project.isOverdue())
-                .createdAt(project.getCreatedAt())
-                .updatedAt(project.getUpdatedAt())
-                .build();
-    }
-}
\ No newline at end of file
+}
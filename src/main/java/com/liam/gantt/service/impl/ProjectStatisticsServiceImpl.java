@@ -0,0 +1,108 @@
+package com.liam.gantt.service.impl;
+
+import com.liam.gantt.dto.response.ProjectStatisticsDto;
+import com.liam.gantt.entity.enums.ProjectStatus;
+import com.liam.gantt.repository.ProjectRepository;
+import com.liam.gantt.service.ProjectStatisticsService;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.LongSupplier;
+
+/**
+ * 프로젝트 통계 서비스 구현체
+ *
+ * 상태별 개수를 GROUP BY 한 번으로 집계하고 결과를 짧은 시간 동안 보관합니다.
+ * 보관 시간이 지나면 기존 값을 그대로 반환하면서 백그라운드에서 한 번만 다시 집계하므로,
+ * 대시보드 요청이 몰려도 집계 쿼리는 보관 시간당 최대 한 번 실행되고 요청은 집계를 기다리지 않습니다.
+ */
+@Service
+@Slf4j
+public class ProjectStatisticsServiceImpl implements ProjectStatisticsService {
+
+    static final Duration TIME_TO_LIVE = Duration.ofSeconds(30);
+
+    private final ProjectRepository projectRepository;
+    private final long timeToLiveNanos;
+    private final LongSupplier nanoClock;
+    private final Executor refreshExecutor;
+
+    private final AtomicReference<Snapshot> snapshot = new AtomicReference<>();
+    private final AtomicBoolean refreshing = new AtomicBoolean();
+
+    @Autowired
+    public ProjectStatisticsServiceImpl(ProjectRepository projectRepository) {
+        this(projectRepository, TIME_TO_LIVE, System::nanoTime,
+                task -> Thread.ofVirtual().name("project-statistics-refresh").start(task));
+    }
+
+    ProjectStatisticsServiceImpl(ProjectRepository projectRepository, Duration timeToLive,
+                                 LongSupplier nanoClock, Executor refreshExecutor) {
+        this.projectRepository = projectRepository;
+        this.timeToLiveNanos = timeToLive.toNanos();
+        this.nanoClock = nanoClock;
+        this.refreshExecutor = refreshExecutor;
+    }
+
+    @Override
+    public ProjectStatisticsDto getStatistics() {
+        Snapshot current = snapshot.get();
+        if (current == null) {
+            // 최초 조회는 집계가 끝날 때까지 대기
+            return load().statistics();
+        }
+        if (nanoClock.getAsLong() - current.loadedAt() >= timeToLiveNanos && refreshing.compareAndSet(false, true)) {
+            refreshExecutor.execute(this::refresh);
+        }
+        return current.statistics();
+    }
+
+    private void refresh() {
+        try {
+            load();
+        } catch (RuntimeException e) {
+            log.warn("프로젝트 통계 갱신 실패, 이전 값 유지: {}", e.getMessage());
+        } finally {
+            refreshing.set(false);
+        }
+    }
+
+    private Snapshot load() {
+        long loadedAt = nanoClock.getAsLong();
+        Map<ProjectStatus, Long> counts = new EnumMap<>(ProjectStatus.class);
+        long total = 0;
+        for (Object[] row : projectRepository.countByStatus()) {
+            long count = ((Number) row[1]).longValue();
+            total += count;
+            if (row[0] != null) {
+                counts.put((ProjectStatus) row[0], count);
+            }
+        }
+
+        ProjectStatisticsDto statistics = ProjectStatisticsDto.builder()
+                .totalProjects(total)
+                .planningProjects(counts.getOrDefault(ProjectStatus.PLANNING, 0L))
+                .inProgressProjects(counts.getOrDefault(ProjectStatus.IN_PROGRESS, 0L))
+                .completedProjects(counts.getOrDefault(ProjectStatus.COMPLETED, 0L))
+                .onHoldProjects(counts.getOrDefault(ProjectStatus.ON_HOLD, 0L))
+                .cancelledProjects(counts.getOrDefault(ProjectStatus.CANCELLED, 0L))
+                .calculatedAt(LocalDateTime.now())
+                .build();
+
+        Snapshot loaded = new Snapshot(statistics, loadedAt);
+        snapshot.set(loaded);
+        log.debug("프로젝트 통계 집계: 전체 {}개", total);
+        return loaded;
+    }
+
+    private record Snapshot(ProjectStatisticsDto statistics, long loadedAt) {
+    }
+}
@@ -1,19 +1,37 @@
 package com.liam.gantt.service.impl;
 
+import com.liam.gantt.dto.request.TaskImportItemDto;
+import com.liam.gantt.dto.request.TaskProgressUpdateDto;
 import com.liam.gantt.dto.request.TaskRequestDto;
+import com.liam.gantt.dto.request.TaskSubtreeMoveRequestDto;
+import com.liam.gantt.dto.response.CursorPageDto;
+import com.liam.gantt.dto.response.TaskImportResultDto;
+import com.liam.gantt.dto.response.TaskProgressBatchResultDto;
 import com.liam.gantt.dto.response.TaskResponseDto;
 import com.liam.gantt.entity.Project;
 import com.liam.gantt.entity.Task;
+import com.liam.gantt.entity.TaskClosureId;
 import com.liam.gantt.entity.enums.TaskStatus;
 import com.liam.gantt.exception.TaskNotFoundException;
 import com.liam.gantt.exception.ProjectNotFoundException;
+import com.liam.gantt.interval.TaskIntervalIndex;
 import com.liam.gantt.mapper.TaskMapper;
+import com.liam.gantt.pagination.KeysetCursor;
 import com.liam.gantt.repository.ProjectRepository;
+import com.liam.gantt.repository.TaskClosureRepository;
 import com.liam.gantt.repository.TaskDependencyRepository;
+import com.liam.gantt.repository.TaskJdbcRepository;
 import com.liam.gantt.repository.TaskRepository;
+import com.liam.gantt.repository.projection.GanttTaskRow;
+import com.liam.gantt.rollup.ProgressRollupUpdater;
+import com.liam.gantt.scheduling.DependencyGraphCache;
+import com.liam.gantt.scheduling.IncrementalScheduler;
+import com.liam.gantt.scheduling.TaskDateChange;
 import com.liam.gantt.service.TaskService;
+import com.liam.gantt.sync.ProjectChangeTracker;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
@@ -21,8 +39,20 @@ import org.springframework.transaction.annotation.Transactional;
 
 import java.math.BigDecimal;
 import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayDeque;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 /**
@@ -34,9 +64,24 @@ import java.util.stream.Collectors;
 @Slf4j
 public class TaskServiceImpl implements TaskService {
     
+    /** 태스크 일괄 가져오기 최대 건수 */
+    static final int MAX_IMPORT_SIZE = 50_000;
+    
+    /** 진행률 일괄 업데이트 최대 건수 */
+    static final int MAX_PROGRESS_BATCH_SIZE = 10_000;
+    
+    /** ID 목록 조회 시 IN 절 최대 크기 */
+    static final int IN_CLAUSE_CHUNK_SIZE = 1_000;
+    
     private final TaskRepository taskRepository;
     private final ProjectRepository projectRepository;
     private final TaskDependencyRepository dependencyRepository;
+    private final TaskJdbcRepository taskJdbcRepository;
+    private final TaskClosureRepository taskClosureRepository;
+    private final DependencyGraphCache dependencyGraphCache;
+    private final ProjectChangeTracker projectChangeTracker;
+    private final ProgressRollupUpdater progressRollupUpdater;
+    private final TaskIntervalIndex taskIntervalIndex;
     private final TaskMapper taskMapper;
     
     @Override
@@ -71,11 +116,104 @@ public class TaskServiceImpl implements TaskService {
         task.setParentTask(parentTask);
         
         Task savedTask = taskRepository.save(task);
+        taskClosureRepository.insertSelf(projectId, savedTask.getId());
+        if (parentTask != null) {
+            taskClosureRepository.insertAncestorPaths(savedTask.getId(), parentTask.getId());
+        }
+        applyTaskRollup(projectId, 1, null, null, savedTask.getStatus(), savedTask.getProgress());
+        progressRollupUpdater.taskChanged(projectId, parentTask != null ? parentTask.getId() : null);
+        projectChangeTracker.taskChanged(projectId, savedTask.getId());
         log.info("태스크 생성 완료: id={}, name={}", savedTask.getId(), savedTask.getName());
         
         return taskMapper.toResponseDto(savedTask);
     }
     
+    @Override
+    @Transactional
+    public TaskImportResultDto importTasks(Long projectId, List<TaskImportItemDto> items) {
+        log.info("태스크 일괄 가져오기 시작: projectId={}, 항목 수={}", projectId, items.size());
+        
+        if (!projectRepository.existsById(projectId)) {
+            throw new ProjectNotFoundException("프로젝트를 찾을 수 없습니다: " + projectId);
+        }
+        if (items.size() > MAX_IMPORT_SIZE) {
+            throw new IllegalArgumentException("한 번에 가져올 수 있는 태스크는 최대 " + MAX_IMPORT_SIZE + "건입니다");
+        }
+        
+        // 임시 ID 색인 및 항목 검증
+        Map<String, Integer> indexByTempId = new HashMap<>(items.size() * 2);
+        boolean hasExistingParent = false;
+        for (int i = 0; i < items.size(); i++) {
+            TaskImportItemDto item = items.get(i);
+            if (indexByTempId.put(item.getTempId(), i) != null) {
+                throw new IllegalArgumentException(importError(i, "중복된 임시 ID입니다: " + item.getTempId()));
+            }
+            if (!item.isValidDateRange()) {
+                throw new IllegalArgumentException(importError(i, "종료일은 시작일보다 같거나 늦어야 합니다"));
+            }
+            if (item.getParentTempId() != null && item.getParentTaskId() != null) {
+                throw new IllegalArgumentException(importError(i, "상위 태스크는 임시 ID와 태스크 ID 중 하나만 지정할 수 있습니다"));
+            }
+            hasExistingParent |= item.getParentTaskId() != null;
+        }
+        
+        // 기존 상위 태스크는 프로젝트 태스크 ID를 한 번 조회하여 확인
+        Set<Long> projectTaskIds = hasExistingParent
+                ? new HashSet<>(taskRepository.findIdsByProjectId(projectId)) : Set.of();
+        int[] parentIndex = new int[items.size()];
+        for (int i = 0; i < items.size(); i++) {
+            TaskImportItemDto item = items.get(i);
+            parentIndex[i] = -1;
+            if (item.getParentTempId() != null) {
+                Integer index = indexByTempId.get(item.getParentTempId());
+                if (index == null) {
+                    throw new IllegalArgumentException(importError(i, "상위 태스크 임시 ID를 찾을 수 없습니다: " + item.getParentTempId()));
+                }
+                parentIndex[i] = index;
+            } else if (item.getParentTaskId() != null && !projectTaskIds.contains(item.getParentTaskId())) {
+                throw new IllegalArgumentException(importError(i, "상위 태스크는 같은 프로젝트에 속해야 합니다"));
+            }
+        }
+        
+        // 깊이별로 나누어 상위 태스크부터 일괄 등록
+        List<List<Integer>> levels = groupByDepth(parentIndex);
+        Long[] createdIds = new Long[items.size()];
+        for (List<Integer> level : levels) {
+            List<TaskImportItemDto> levelItems = new ArrayList<>(level.size());
+            List<Long> parentTaskIds = new ArrayList<>(level.size());
+            for (int index : level) {
+                TaskImportItemDto item = items.get(index);
+                levelItems.add(item);
+                parentTaskIds.add(parentIndex[index] >= 0 ? createdIds[parentIndex[index]] : item.getParentTaskId());
+            }
+            List<Long> ids = taskJdbcRepository.batchInsert(projectId, levelItems, parentTaskIds);
+            taskJdbcRepository.batchInsertClosure(projectId, ids, parentTaskIds);
+            for (int k = 0; k < level.size(); k++) {
+                createdIds[level.get(k)] = ids.get(k);
+            }
+        }
+        
+        Map<String, Long> taskIds = new LinkedHashMap<>(items.size() * 2);
+        int completedCount = 0;
+        BigDecimal progressSum = BigDecimal.ZERO;
+        for (int i = 0; i < items.size(); i++) {
+            TaskImportItemDto item = items.get(i);
+            taskIds.put(item.getTempId(), createdIds[i]);
+            completedCount += item.getStatus() == TaskStatus.COMPLETED ? 1 : 0;
+            progressSum = progressSum.add(zeroIfNull(item.getProgress()));
+        }
+        projectRepository.addTaskRollup(projectId, items.size(), completedCount, progressSum);
+        progressRollupUpdater.recalculateProject(projectId);
+        projectChangeTracker.tasksChanged(projectId, Arrays.asList(createdIds));
+        log.info("태스크 일괄 가져오기 완료: projectId={}, 생성 수={}, 깊이={}", projectId, items.size(), levels.size());
+        
+        return TaskImportResultDto.builder()
+                .projectId(projectId)
+                .createdCount(items.size())
+                .taskIds(taskIds)
+                .build();
+    }
+    
     @Override
     public TaskResponseDto findById(Long id) {
         log.debug("태스크 조회: id={}", id);
@@ -83,7 +221,7 @@ public class TaskServiceImpl implements TaskService {
         Task task = taskRepository.findById(id)
                 .orElseThrow(() -> new TaskNotFoundException("태스크를 찾을 수 없습니다: " + id));
         
-        return taskMapper.toResponseDto(task);
+        return withHierarchyInfo(taskMapper.toResponseDto(task));
     }
     
     @Override
@@ -104,6 +242,38 @@ public class TaskServiceImpl implements TaskService {
         return tasks.map(taskMapper::toResponseDto);
     }
     
+    @Override
+    public CursorPageDto<TaskResponseDto> findByProjectIdWithCursor(Long projectId, String cursor, int size,
+                                                                    boolean includeTotal) {
+        log.debug("프로젝트의 태스크 커서 조회: projectId={}, size={}", projectId, size);
+        
+        // 한 건 더 읽어 다음 페이지 존재 여부 판단
+        Limit limit = Limit.of(size + 1);
+        List<Task> tasks;
+        if (cursor == null || cursor.isBlank()) {
+            tasks = taskRepository.findKeysetFirstPage(projectId, limit);
+        } else {
+            KeysetCursor after = KeysetCursor.decode(cursor);
+            tasks = taskRepository.findKeysetPageAfter(projectId, after.dateKey(), after.id(), limit);
+        }
+        
+        boolean hasNext = tasks.size() > size;
+        List<Task> page = hasNext ? tasks.subList(0, size) : tasks;
+        String nextCursor = null;
+        if (hasNext) {
+            Task last = page.get(page.size() - 1);
+            nextCursor = KeysetCursor.of(last.getStartDate(), last.getId()).encode();
+        }
+        
+        return CursorPageDto.<TaskResponseDto>builder()
+                .content(page.stream().map(taskMapper::toResponseDto).collect(Collectors.toList()))
+                .size(page.size())
+                .hasNext(hasNext)
+                .nextCursor(nextCursor)
+                .totalCount(includeTotal ? taskRepository.countByProjectId(projectId) : null)
+                .build();
+    }
+    
     @Override
     @Transactional
     public TaskResponseDto update(Long id, TaskRequestDto requestDto) {
@@ -117,13 +287,33 @@ public class TaskServiceImpl implements TaskService {
             throw new IllegalArgumentException("종료일은 시작일보다 같거나 늦어야 합니다");
         }
         
+        LocalDate previousStartDate = task.getStartDate();
+        LocalDate previousEndDate = task.getEndDate();
+        TaskStatus previousStatus = task.getStatus();
+        BigDecimal previousProgress = task.getProgress();
+        Integer previousDuration = task.getDuration();
+        
         // 엔티티 업데이트 (매퍼 사용)
         taskMapper.updateEntity(task, requestDto);
         
         Task updatedTask = taskRepository.save(task);
+        applyTaskRollup(updatedTask.getProject().getId(), 0, previousStatus, previousProgress,
+                updatedTask.getStatus(), updatedTask.getProgress());
+        if (!sameProgress(previousProgress, updatedTask.getProgress())
+                || !Objects.equals(previousDuration, updatedTask.getDuration())) {
+            progressRollupUpdater.taskChanged(updatedTask.getProject().getId(), parentIdOf(updatedTask));
+        }
         log.info("태스크 수정 완료: id={}", id);
         
-        return taskMapper.toResponseDto(updatedTask);
+        TaskResponseDto responseDto = taskMapper.toResponseDto(updatedTask);
+        List<Long> changedTaskIds = List.of(id);
+        if (!Objects.equals(previousStartDate, updatedTask.getStartDate()) 
+                || !Objects.equals(previousEndDate, updatedTask.getEndDate())) {
+            changedTaskIds = propagateSchedule(updatedTask);
+            responseDto.setAffectedTaskIds(changedTaskIds);
+        }
+        projectChangeTracker.tasksChanged(updatedTask.getProject().getId(), changedTaskIds);
+        return responseDto;
     }
     
     @Override
@@ -135,14 +325,20 @@ public class TaskServiceImpl implements TaskService {
                 .orElseThrow(() -> new TaskNotFoundException("태스크를 찾을 수 없습니다: " + id));
         
         // 하위 태스크가 있는 경우 삭제 불가
-        if (!task.getSubTasks().isEmpty()) {
+        if (taskClosureRepository.existsDescendants(id)) {
             throw new IllegalArgumentException("하위 태스크가 있는 태스크는 삭제할 수 없습니다");
         }
         
         // 의존성 제거
+        List<Long> dependencyIds = dependencyRepository.findIdsByTaskId(id);
         dependencyRepository.deleteByPredecessorIdOrSuccessorId(id, id);
+        dependencyGraphCache.invalidate(task.getProject().getId());
         
+        taskClosureRepository.deleteByTaskId(id);
         taskRepository.deleteById(id);
+        applyTaskRollup(task.getProject().getId(), -1, task.getStatus(), task.getProgress(), null, null);
+        progressRollupUpdater.taskChanged(task.getProject().getId(), parentIdOf(task));
+        projectChangeTracker.taskDeleted(task.getProject().getId(), id, dependencyIds);
         log.info("태스크 삭제 완료: id={}", id);
     }
     
@@ -158,15 +354,95 @@ public class TaskServiceImpl implements TaskService {
         Task task = taskRepository.findById(id)
                 .orElseThrow(() -> new TaskNotFoundException("태스크를 찾을 수 없습니다: " + id));
         
+        TaskStatus previousStatus = task.getStatus();
+        BigDecimal previousProgress = task.getProgress();
         task.setProgress(progress);
         updateTaskStatusByProgress(task);
         
         Task updatedTask = taskRepository.save(task);
+        applyTaskRollup(updatedTask.getProject().getId(), 0, previousStatus, previousProgress,
+                updatedTask.getStatus(), updatedTask.getProgress());
+        if (!sameProgress(previousProgress, updatedTask.getProgress())) {
+            progressRollupUpdater.taskChanged(updatedTask.getProject().getId(), parentIdOf(updatedTask));
+        }
+        projectChangeTracker.taskChanged(updatedTask.getProject().getId(), id);
         log.info("태스크 진행률 업데이트 완료: id={}, progress={}%", id, progress);
         
         return taskMapper.toResponseDto(updatedTask);
     }
     
+    @Override
+    @Transactional
+    public TaskProgressBatchResultDto updateProgressBatch(Long projectId, List<TaskProgressUpdateDto> items) {
+        log.info("태스크 진행률 일괄 업데이트 시작: projectId={}, 항목 수={}", projectId, items.size());
+        
+        if (!projectRepository.existsById(projectId)) {
+            throw new ProjectNotFoundException("프로젝트를 찾을 수 없습니다: " + projectId);
+        }
+        if (items.size() > MAX_PROGRESS_BATCH_SIZE) {
+            throw new IllegalArgumentException("한 번에 업데이트할 수 있는 태스크는 최대 " + MAX_PROGRESS_BATCH_SIZE + "건입니다");
+        }
+        
+        Map<Long, BigDecimal> progressById = new LinkedHashMap<>(items.size() * 2);
+        for (TaskProgressUpdateDto item : items) {
+            BigDecimal progress = item.getProgress();
+            if (progress.compareTo(BigDecimal.ZERO) < 0 || progress.compareTo(BigDecimal.valueOf(100)) > 0) {
+                throw new IllegalArgumentException("진행률은 0-100 사이여야 합니다: taskId=" + item.getTaskId());
+            }
+            if (progressById.put(item.getTaskId(), progress) != null) {
+                throw new IllegalArgumentException("중복된 태스크 ID입니다: " + item.getTaskId());
+            }
+        }
+        
+        // 현재 진행률/상태를 엔티티 로딩 없이 조회하여 변경 항목만 추림
+        List<Long> ids = new ArrayList<>(progressById.keySet());
+        List<TaskJdbcRepository.ProgressChange> changes = new ArrayList<>(ids.size());
+        List<Long> parentIds = new ArrayList<>();
+        int found = 0;
+        int completedDelta = 0;
+        BigDecimal progressDelta = BigDecimal.ZERO;
+        for (int from = 0; from < ids.size(); from += IN_CLAUSE_CHUNK_SIZE) {
+            List<Long> chunk = ids.subList(from, Math.min(from + IN_CLAUSE_CHUNK_SIZE, ids.size()));
+            for (GanttTaskRow row : taskRepository.findGanttRowsByProjectIdAndIdIn(projectId, chunk)) {
+                found++;
+                BigDecimal progress = progressById.get(row.id());
+                TaskStatus status = statusForProgress(row.status(), progress);
+                boolean progressChanged = !sameProgress(row.progress(), progress);
+                if (!progressChanged && status == row.status()) {
+                    continue;
+                }
+                changes.add(new TaskJdbcRepository.ProgressChange(row.id(), progress, status));
+                completedDelta += (status == TaskStatus.COMPLETED ? 1 : 0) - (row.status() == TaskStatus.COMPLETED ? 1 : 0);
+                progressDelta = progressDelta.add(progress.subtract(zeroIfNull(row.progress())));
+                if (progressChanged) {
+                    parentIds.add(row.parentId());
+                }
+            }
+        }
+        if (found != ids.size()) {
+            throw new TaskNotFoundException("프로젝트에 없는 태스크가 포함되어 있습니다: projectId=" + projectId);
+        }
+        
+        if (!changes.isEmpty()) {
+            taskJdbcRepository.batchUpdateProgressAndStatus(changes);
+            // 집계는 배치 전체의 증감을 한 번에 반영
+            projectRepository.addTaskRollup(projectId, 0, completedDelta, progressDelta);
+            if (!parentIds.isEmpty()) {
+                progressRollupUpdater.tasksChanged(projectId, parentIds);
+            }
+            projectChangeTracker.tasksChanged(projectId,
+                    changes.stream().map(TaskJdbcRepository.ProgressChange::taskId).toList());
+        }
+        log.info("태스크 진행률 일괄 업데이트 완료: projectId={}, 요청 수={}, 변경 수={}",
+                projectId, items.size(), changes.size());
+        
+        return TaskProgressBatchResultDto.builder()
+                .projectId(projectId)
+                .requestedCount(items.size())
+                .updatedCount(changes.size())
+                .build();
+    }
+    
     @Override
     @Transactional
     public TaskResponseDto updateStatus(Long id, TaskStatus status) {
@@ -175,6 +451,8 @@ public class TaskServiceImpl implements TaskService {
         Task task = taskRepository.findById(id)
                 .orElseThrow(() -> new TaskNotFoundException("태스크를 찾을 수 없습니다: " + id));
         
+        TaskStatus previousStatus = task.getStatus();
+        BigDecimal previousProgress = task.getProgress();
         task.setStatus(status);
         
         // 상태에 따른 진행률 자동 조정
@@ -185,6 +463,12 @@ public class TaskServiceImpl implements TaskService {
         }
         
         Task updatedTask = taskRepository.save(task);
+        applyTaskRollup(updatedTask.getProject().getId(), 0, previousStatus, previousProgress,
+                updatedTask.getStatus(), updatedTask.getProgress());
+        if (!sameProgress(previousProgress, updatedTask.getProgress())) {
+            progressRollupUpdater.taskChanged(updatedTask.getProject().getId(), parentIdOf(updatedTask));
+        }
+        projectChangeTracker.taskChanged(updatedTask.getProject().getId(), id);
         log.info("태스크 상태 변경 완료: id={}, status={}", id, status);
         
         return taskMapper.toResponseDto(updatedTask);
@@ -206,16 +490,108 @@ public class TaskServiceImpl implements TaskService {
     public List<TaskResponseDto> findRootTasks(Long projectId) {
         log.debug("루트 태스크 조회: projectId={}", projectId);
         
-        List<Task> tasks = taskRepository.findByProjectIdAndParentTaskIsNull(projectId);
-        return buildTaskHierarchy(tasks);
+        // 루트에서 지연 로딩된 subTasks를 따라가면 노드마다 조회가 발생하므로 평면 조회 한 번으로 트리 구성
+        return findTaskHierarchyByProjectId(projectId);
     }
     
     @Override
     public List<TaskResponseDto> findTaskHierarchyByProjectId(Long projectId) {
         log.debug("태스크 계층구조 조회: projectId={}", projectId);
         
-        List<Task> rootTasks = taskRepository.findByProjectIdAndParentTaskIsNull(projectId);
-        return buildTaskHierarchy(rootTasks);
+        // 프로젝트 태스크를 한 번에 조회한 뒤 메모리에서 트리 구성
+        List<Task> tasks = taskRepository.findByProjectIdOrderByStartDateAsc(projectId);
+        List<TaskResponseDto> dtos = new ArrayList<>(tasks.size());
+        for (Task task : tasks) {
+            dtos.add(taskMapper.toResponseDto(task));
+        }
+        return linkTaskTree(dtos);
+    }
+    
+    @Override
+    public List<TaskResponseDto> findGanttTaskTree(Long projectId) {
+        log.debug("간트 차트 태스크 계층구조 조회: projectId={}", projectId);
+        
+        return linkTaskTree(findGanttTasks(projectId));
+    }
+    
+    @Override
+    public List<TaskResponseDto> findGanttTasks(Long projectId) {
+        // 엔티티 대신 차트 컬럼만 프로젝션으로 조회
+        List<GanttTaskRow> rows = taskRepository.findGanttRowsByProjectId(projectId);
+        List<TaskResponseDto> dtos = new ArrayList<>(rows.size());
+        for (GanttTaskRow row : rows) {
+            dtos.add(toGanttDto(projectId, row));
+        }
+        return dtos;
+    }
+    
+    @Override
+    public List<TaskResponseDto> findGanttTasksByIds(Long projectId, Collection<Long> taskIds) {
+        log.debug("간트 차트 태스크 ID 목록 조회: projectId={}, 요청 수={}", projectId, taskIds.size());
+        
+        List<Long> ids = new ArrayList<>(taskIds);
+        List<TaskResponseDto> dtos = new ArrayList<>(ids.size());
+        for (int from = 0; from < ids.size(); from += IN_CLAUSE_CHUNK_SIZE) {
+            List<Long> chunk = ids.subList(from, Math.min(from + IN_CLAUSE_CHUNK_SIZE, ids.size()));
+            for (GanttTaskRow row : taskRepository.findGanttRowsByProjectIdAndIdIn(projectId, chunk)) {
+                dtos.add(toGanttDto(projectId, row));
+            }
+        }
+        return dtos;
+    }
+    
+    @Override
+    public List<TaskResponseDto> findActiveTasks(Long projectId, LocalDate from, LocalDate to) {
+        log.debug("기간 내 진행 태스크 조회: projectId={}, 기간={} ~ {}", projectId, from, to);
+        
+        validateDateRange(from, to);
+        Project project = projectRepository.findById(projectId)
+                .orElseThrow(() -> new ProjectNotFoundException("프로젝트를 찾을 수 없습니다: " + projectId));
+        
+        // 너무 큰 프로젝트는 인덱스를 만들지 않고 DB 겹침 조회 사용
+        if (project.getTaskCount() != null && project.getTaskCount() > TaskIntervalIndex.MAX_INDEXED_TASKS) {
+            List<GanttTaskRow> rows = taskRepository.findGanttRowsOverlapping(projectId, from, to);
+            List<TaskResponseDto> dtos = new ArrayList<>(rows.size());
+            for (GanttTaskRow row : rows) {
+                dtos.add(toGanttDto(projectId, row));
+            }
+            return dtos;
+        }
+        long[] ids = taskIntervalIndex.findOverlapping(projectId, from, to);
+        return findGanttTasksByIds(projectId, Arrays.stream(ids).boxed().toList());
+    }
+    
+    @Override
+    public List<TaskResponseDto> findActiveTasks(LocalDate from, LocalDate to) {
+        log.debug("기간 내 진행 태스크 조회 (전체 프로젝트): 기간={} ~ {}", from, to);
+        
+        validateDateRange(from, to);
+        return taskRepository.findOverlapping(from, to).stream()
+                .map(taskMapper::toResponseDto)
+                .collect(Collectors.toList());
+    }
+    
+    private static void validateDateRange(LocalDate from, LocalDate to) {
+        if (to.isBefore(from)) {
+            throw new IllegalArgumentException("종료일은 시작일보다 같거나 늦어야 합니다");
+        }
+    }
+    
+    /**
+     * 간트 차트 프로젝션 행을 DTO로 변환
+     */
+    private TaskResponseDto toGanttDto(Long projectId, GanttTaskRow row) {
+        TaskResponseDto dto = TaskResponseDto.forGanttChart(
+                row.id(), row.name(), row.startDate(), row.endDate(), row.progress());
+        dto.setProjectId(projectId);
+        dto.setParentTaskId(row.parentId());
+        dto.setStatus(row.status());
+        dto.setDuration((int) ChronoUnit.DAYS.between(row.startDate(), row.endDate()) + 1);
+        boolean completed = row.status() == TaskStatus.COMPLETED
+                || (row.progress() != null && row.progress().compareTo(BigDecimal.valueOf(100)) >= 0);
+        dto.setIsCompleted(completed);
+        dto.setIsOverdue(!completed && LocalDate.now().isAfter(row.endDate()));
+        return dto;
     }
     
     @Override
@@ -245,7 +621,123 @@ public class TaskServiceImpl implements TaskService {
         Task updatedTask = taskRepository.save(task);
         log.info("태스크 이동 완료: id={}, 새 기간={} ~ {}", id, newStartDate, newEndDate);
         
-        return taskMapper.toResponseDto(updatedTask);
+        TaskResponseDto responseDto = taskMapper.toResponseDto(updatedTask);
+        List<Long> changedTaskIds = List.of(id);
+        if (dayOffset != 0) {
+            changedTaskIds = propagateSchedule(updatedTask);
+            responseDto.setAffectedTaskIds(changedTaskIds);
+        }
+        projectChangeTracker.tasksChanged(updatedTask.getProject().getId(), changedTaskIds);
+        return responseDto;
+    }
+    
+    @Override
+    @Transactional
+    public TaskResponseDto moveSubtree(Long id, TaskSubtreeMoveRequestDto requestDto) {
+        log.info("하위 트리 이동: id={}, parentTaskId={}, toRoot={}, dayOffset={}",
+                id, requestDto.getParentTaskId(), requestDto.isToRoot(), requestDto.getDayOffset());
+        
+        if (requestDto.isToRoot() && requestDto.getParentTaskId() != null) {
+            throw new IllegalArgumentException("상위 태스크 ID와 루트 이동은 함께 지정할 수 없습니다");
+        }
+        Task task = taskRepository.findById(id)
+                .orElseThrow(() -> new TaskNotFoundException("태스크를 찾을 수 없습니다: " + id));
+        Long projectId = task.getProject().getId();
+        Long previousParentId = parentIdOf(task);
+        
+        // 상위 태스크 변경
+        boolean reparent = requestDto.isToRoot()
+                ? previousParentId != null
+                : requestDto.getParentTaskId() != null && !requestDto.getParentTaskId().equals(previousParentId);
+        Long newParentId = requestDto.isToRoot() ? null
+                : requestDto.getParentTaskId() != null ? requestDto.getParentTaskId() : previousParentId;
+        if (reparent) {
+            Task newParent = null;
+            if (newParentId != null) {
+                newParent = taskRepository.findById(newParentId)
+                        .orElseThrow(() -> new TaskNotFoundException("상위 태스크를 찾을 수 없습니다: " + newParentId));
+                if (!newParent.getProject().getId().equals(projectId)) {
+                    throw new IllegalArgumentException("상위 태스크는 같은 프로젝트에 속해야 합니다");
+                }
+                // 자기 자신 또는 하위 트리 아래로 옮기면 계층 순환
+                if (taskClosureRepository.existsById(new TaskClosureId(id, newParentId))) {
+                    throw new IllegalArgumentException("태스크를 자신의 하위 트리 아래로 이동할 수 없습니다");
+                }
+            }
+            task.setParentTask(newParent);
+            taskRepository.saveAndFlush(task);
+            taskClosureRepository.detachSubtree(id);
+            if (newParentId != null) {
+                taskClosureRepository.attachSubtree(id, newParentId);
+            }
+            progressRollupUpdater.tasksChanged(projectId, Arrays.asList(previousParentId, newParentId));
+        }
+        
+        // 하위 트리 날짜를 한 번에 이동한 뒤 하위 트리 밖 후행 태스크로 일정 전파
+        int dayOffset = requestDto.getDayOffset();
+        List<Long> changedTaskIds = List.of(id);
+        if (dayOffset != 0) {
+            List<Object[]> subtree = taskClosureRepository.findSubtreeScheduleRows(id);
+            taskRepository.shiftSubtreeDates(id, dayOffset);
+            
+            Map<Long, int[]> seeds = new LinkedHashMap<>(subtree.size() * 2);
+            for (Object[] row : subtree) {
+                seeds.put((Long) row[0], new int[]{
+                        (int) ((LocalDate) row[1]).toEpochDay() + dayOffset,
+                        (int) ((LocalDate) row[2]).toEpochDay() + dayOffset});
+            }
+            List<TaskDateChange> propagated = IncrementalScheduler.propagate(seeds, this::findSuccessorScheduleRows);
+            taskJdbcRepository.batchUpdateDates(propagated);
+            
+            Set<Long> affected = new LinkedHashSet<>(seeds.keySet());
+            propagated.forEach(change -> affected.add(change.taskId()));
+            changedTaskIds = new ArrayList<>(affected);
+            log.info("하위 트리 날짜 이동 완료: id={}, 하위 트리 수={}, 전파 수={}", id, seeds.size(), propagated.size());
+        }
+        
+        Task movedTask = taskRepository.findById(id)
+                .orElseThrow(() -> new TaskNotFoundException("태스크를 찾을 수 없습니다: " + id));
+        TaskResponseDto responseDto = taskMapper.toResponseDto(movedTask);
+        responseDto.setAffectedTaskIds(changedTaskIds);
+        projectChangeTracker.tasksChanged(projectId, changedTaskIds);
+        log.info("하위 트리 이동 완료: id={}, 상위 태스크={}", id, newParentId);
+        return responseDto;
+    }
+    
+    /**
+     * 후행 일정 행 조회 (IN 절 크기 제한 단위로 나누어 조회)
+     */
+    private List<Object[]> findSuccessorScheduleRows(Collection<Long> predecessorIds) {
+        if (predecessorIds.size() <= IN_CLAUSE_CHUNK_SIZE) {
+            return dependencyRepository.findSuccessorScheduleRows(predecessorIds);
+        }
+        List<Long> ids = new ArrayList<>(predecessorIds);
+        List<Object[]> rows = new ArrayList<>();
+        for (int from = 0; from < ids.size(); from += IN_CLAUSE_CHUNK_SIZE) {
+            rows.addAll(dependencyRepository.findSuccessorScheduleRows(
+                    ids.subList(from, Math.min(from + IN_CLAUSE_CHUNK_SIZE, ids.size()))));
+        }
+        return rows;
+    }
+    
+    /**
+     * 변경된 태스크의 후행 태스크들에만 일정 전파
+     *
+     * @return 날짜가 바뀐 태스크 ID 목록 (변경된 태스크 자신 포함)
+     */
+    private List<Long> propagateSchedule(Task task) {
+        List<TaskDateChange> changes = IncrementalScheduler.propagate(
+                task.getId(), task.getStartDate(), task.getEndDate(),
+                this::findSuccessorScheduleRows);
+        
+        List<Long> affectedTaskIds = new ArrayList<>(changes.size() + 1);
+        affectedTaskIds.add(task.getId());
+        if (!changes.isEmpty()) {
+            taskJdbcRepository.batchUpdateDates(changes);
+            changes.forEach(change -> affectedTaskIds.add(change.taskId()));
+            log.info("후행 태스크 일정 전파 완료: taskId={}, 이동 태스크 수={}", task.getId(), changes.size());
+        }
+        return affectedTaskIds;
     }
     
     /**
@@ -261,76 +753,90 @@ public class TaskServiceImpl implements TaskService {
         return convertToDtoWithDependencies(task);
     }
 
-    private void updateTaskStatusByProgress(Task task) {
-        BigDecimal progress = task.getProgress();
-        
-        if (progress.compareTo(BigDecimal.ZERO) == 0) {
-            task.setStatus(TaskStatus.NOT_STARTED);
-        } else if (progress.compareTo(BigDecimal.valueOf(100)) == 0) {
-            task.setStatus(TaskStatus.COMPLETED);
-        } else {
-            if (task.getStatus() == TaskStatus.NOT_STARTED || 
-                task.getStatus() == TaskStatus.COMPLETED) {
-                task.setStatus(TaskStatus.IN_PROGRESS);
-            }
+    /**
+     * 프로젝트 태스크 집계 반영 (변경 전후 상태와 진행률 차이만큼 증감, 생성/삭제는 null과 비교)
+     */
+    private void applyTaskRollup(Long projectId, int taskDelta,
+                                 TaskStatus previousStatus, BigDecimal previousProgress,
+                                 TaskStatus status, BigDecimal progress) {
+        int completedDelta = (status == TaskStatus.COMPLETED ? 1 : 0) - (previousStatus == TaskStatus.COMPLETED ? 1 : 0);
+        BigDecimal progressDelta = zeroIfNull(progress).subtract(zeroIfNull(previousProgress));
+        if (taskDelta != 0 || completedDelta != 0 || progressDelta.signum() != 0) {
+            projectRepository.addTaskRollup(projectId, taskDelta, completedDelta, progressDelta);
         }
     }
     
+    private static BigDecimal zeroIfNull(BigDecimal value) {
+        return value != null ? value : BigDecimal.ZERO;
+    }
+    
+    private static boolean sameProgress(BigDecimal previous, BigDecimal current) {
+        return zeroIfNull(previous).compareTo(zeroIfNull(current)) == 0;
+    }
+    
+    private static Long parentIdOf(Task task) {
+        return task.getParentTask() != null ? task.getParentTask().getId() : null;
+    }
+
+    private void updateTaskStatusByProgress(Task task) {
+        task.setStatus(statusForProgress(task.getStatus(), task.getProgress()));
+    }
+    
     /**
-     * 태스크 계층구조 빌드
+     * 진행률에 따른 상태 결정 (보류/취소 상태는 진행 중 진행률이면 유지)
      */
-    private List<TaskResponseDto> buildTaskHierarchy(List<Task> rootTasks) {
-        List<TaskResponseDto> result = new ArrayList<>();
-        
-        for (Task rootTask : rootTasks) {
-            TaskResponseDto dto = taskMapper.toResponseDto(rootTask);
-            dto.setLevel(0);
-            dto.setSubTasks(buildSubTaskHierarchy(rootTask.getSubTasks(), 1));
-            result.add(dto);
+    private static TaskStatus statusForProgress(TaskStatus current, BigDecimal progress) {
+        if (progress.compareTo(BigDecimal.ZERO) == 0) {
+            return TaskStatus.NOT_STARTED;
         }
-        
-        return result;
+        if (progress.compareTo(BigDecimal.valueOf(100)) == 0) {
+            return TaskStatus.COMPLETED;
+        }
+        if (current == TaskStatus.NOT_STARTED || current == TaskStatus.COMPLETED) {
+            return TaskStatus.IN_PROGRESS;
+        }
+        return current;
     }
     
     /**
-     * 하위 태스크 계층구조 빌드 (재귀)
+     * 평면 태스크 DTO 목록을 계층구조로 연결
+     *
+     * id → DTO 맵으로 부모를 연결하므로 추가 조회 없이 O(n)에 구성됩니다.
+     * 형제 순서는 입력 순서를 따르며, 상위 태스크 이름도 함께 채웁니다.
      */
-    private List<TaskResponseDto> buildSubTaskHierarchy(List<Task> subTasks, int level) {
-        List<TaskResponseDto> result = new ArrayList<>();
+    private List<TaskResponseDto> linkTaskTree(List<TaskResponseDto> dtos) {
+        Map<Long, TaskResponseDto> dtoById = new HashMap<>(dtos.size() * 2);
+        for (TaskResponseDto dto : dtos) {
+            dto.setSubTasks(new ArrayList<>());
+            dtoById.put(dto.getId(), dto);
+        }
         
-        for (Task subTask : subTasks) {
-            TaskResponseDto dto = taskMapper.toResponseDto(subTask);
-            dto.setLevel(level);
-            dto.setSubTasks(buildSubTaskHierarchy(subTask.getSubTasks(), level + 1));
-            result.add(dto);
+        List<TaskResponseDto> roots = new ArrayList<>();
+        for (TaskResponseDto dto : dtos) {
+            TaskResponseDto parent = dto.getParentTaskId() != null ? dtoById.get(dto.getParentTaskId()) : null;
+            if (parent != null) {
+                parent.getSubTasks().add(dto);
+                dto.setParentTaskName(parent.getName());
+            } else {
+                roots.add(dto);
+            }
         }
         
-        return result;
-    }
-    
-    /**
-     * Entity를 DTO로 변환
-     */
-    private TaskResponseDto convertToDto(Task task) {
-        return TaskResponseDto.builder()
-                .id(task.getId())
-                .projectId(task.getProject().getId())
-                .projectName(task.getProject().getName())
-                .parentTaskId(task.getParentTask() != null ? task.getParentTask().getId() : null)
-                .name(task.getName())
-                .description(task.getDescription())
-                .startDate(task.getStartDate())
-                .endDate(task.getEndDate())
-                .duration(task.getDuration())
-                .progress(task.getProgress())
-                .status(task.getStatus())
-                .level(task.getLevel())
-                .isLeaf(task.isLeafTask())
-                .isOverdue(task.isOverdue())
-                .isCompleted(task.isCompleted())
-                .createdAt(task.getCreatedAt())
-                .updatedAt(task.getUpdatedAt())
-                .build();
+        // 레벨 및 리프 여부 설정 (반복 DFS)
+        Deque<TaskResponseDto> stack = new ArrayDeque<>();
+        for (TaskResponseDto root : roots) {
+            root.setLevel(0);
+            stack.push(root);
+        }
+        while (!stack.isEmpty()) {
+            TaskResponseDto dto = stack.pop();
+            dto.setIsLeaf(dto.getSubTasks().isEmpty());
+            for (TaskResponseDto child : dto.getSubTasks()) {
+                child.setLevel(dto.getLevel() + 1);
+                stack.push(child);
+            }
+        }
+        return roots;
     }
     
     /**
@@ -380,11 +886,58 @@ public class TaskServiceImpl implements TaskService {
     }
 
     private TaskResponseDto convertToDtoWithDependencies(Task task) {
-        TaskResponseDto dto = taskMapper.toResponseDto(task);
+        TaskResponseDto dto = withHierarchyInfo(taskMapper.toResponseDto(task));
 
         // 의존성 정보는 별도 서비스에서 처리
         // GanttService에서 관리
 
         return dto;
     }
-}
\ No newline at end of file
+
+    /**
+     * 단건 DTO에 계층 깊이와 리프 여부 설정 (클로저 테이블 조회, 상위/하위 태스크는 로딩하지 않음)
+     */
+    private TaskResponseDto withHierarchyInfo(TaskResponseDto dto) {
+        dto.setLevel(taskClosureRepository.findDepth(dto.getId()).orElse(0));
+        dto.setIsLeaf(!taskClosureRepository.existsDescendants(dto.getId()));
+        return dto;
+    }
+    
+    /**
+     * 임시 상위 참조를 따라 깊이를 계산하여 깊이 순으로 항목 인덱스 묶기
+     */
+    private static List<List<Integer>> groupByDepth(int[] parentIndex) {
+        int n = parentIndex.length;
+        int[] depth = new int[n];
+        Arrays.fill(depth, -1);
+        int[] path = new int[n];
+        List<List<Integer>> levels = new ArrayList<>();
+        
+        for (int i = 0; i < n; i++) {
+            // 깊이가 정해진 조상까지 올라간 뒤 내려오며 깊이 확정
+            int length = 0;
+            int node = i;
+            while (node >= 0 && depth[node] < 0) {
+                if (depth[node] == -2) {
+                    throw new IllegalArgumentException(importError(node, "상위 태스크 참조에 순환이 있습니다"));
+                }
+                depth[node] = -2;
+                path[length++] = node;
+                node = parentIndex[node];
+            }
+            int base = node >= 0 ? depth[node] : -1;
+            for (int k = length - 1; k >= 0; k--) {
+                depth[path[k]] = ++base;
+                while (levels.size() <= base) {
+                    levels.add(new ArrayList<>());
+                }
+                levels.get(base).add(path[k]);
+            }
+        }
+        return levels;
+    }
+    
+    private static String importError(int index, String message) {
+        return String.format("tasks[%d]: %s", index, message);
+    }
+}
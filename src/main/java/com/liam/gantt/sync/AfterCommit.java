@@ -0,0 +1,29 @@
+package com.liam.gantt.sync;
+
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * 트랜잭션 커밋 후 실행 도우미
+ *
+ * 활성 트랜잭션이 있으면 커밋 후에만 실행하여 롤백된 변경이 캐시나 구독자에게 전달되지 않도록 하고,
+ * 트랜잭션 밖에서 호출되면 즉시 실행합니다.
+ */
+public final class AfterCommit {
+
+    private AfterCommit() {
+    }
+
+    public static void run(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+}
@@ -0,0 +1,31 @@
+package com.liam.gantt.sync;
+
+import com.liam.gantt.entity.enums.ChangeEntityType;
+
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * 프로젝트 변경 이벤트 (SSE 구독자에게 전달)
+ *
+ * 대상 ID가 너무 많으면 목록을 비우고 truncated를 표시하며,
+ * 클라이언트는 이 경우 변경분 조회 API로 version까지 동기화합니다.
+ */
+public record ProjectChangeEvent(
+        Long projectId,
+        long version,
+        ChangeEntityType entityType,
+        List<Long> entityIds,
+        boolean deleted,
+        boolean truncated) {
+
+    static final int MAX_ENTITY_IDS = 1_000;
+
+    public static ProjectChangeEvent of(Long projectId, long version, ChangeEntityType entityType,
+                                        Collection<Long> entityIds, boolean deleted) {
+        if (entityIds.size() > MAX_ENTITY_IDS) {
+            return new ProjectChangeEvent(projectId, version, entityType, List.of(), deleted, true);
+        }
+        return new ProjectChangeEvent(projectId, version, entityType, List.copyOf(entityIds), deleted, false);
+    }
+}
@@ -0,0 +1,122 @@
+package com.liam.gantt.sync;
+
+import com.liam.gantt.cache.GanttChartCache;
+import com.liam.gantt.cache.GanttTileCache;
+import com.liam.gantt.entity.enums.ChangeEntityType;
+import com.liam.gantt.interval.TaskIntervalIndex;
+import com.liam.gantt.repository.ProjectChangeJdbcRepository;
+import com.liam.gantt.repository.ProjectChangeRepository;
+import com.liam.gantt.repository.ProjectRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * 프로젝트 변경 추적기
+ *
+ * 태스크, 의존성, 프로젝트 변경 시 호출 측 트랜잭션 안에서 프로젝트 데이터 버전을 증가시키고
+ * 바뀐 대상을 변경 이력에 기록한 뒤, 커밋 후 간트 차트 캐시와 타일 캐시, 태스크 구간 인덱스를 무효화하고 SSE 구독자에게 변경 이벤트를 발행합니다.
+ * 버전은 projects 행에서 증가하므로 같은 프로젝트의 쓰기 트랜잭션은 커밋 순서대로 버전을 받으며,
+ * 버전이 증가할 때마다 이력이 최소 한 행 남습니다.
+ */
+@Component
+@RequiredArgsConstructor
+public class ProjectChangeTracker {
+
+    private final ProjectRepository projectRepository;
+    private final ProjectChangeRepository changeRepository;
+    private final ProjectChangeJdbcRepository changeJdbcRepository;
+    private final GanttChartCache ganttChartCache;
+    private final GanttTileCache ganttTileCache;
+    private final TaskIntervalIndex taskIntervalIndex;
+    private final ProjectEventBroadcaster eventBroadcaster;
+
+    /**
+     * 프로젝트 정보 변경 기록
+     */
+    public void projectChanged(Long projectId) {
+        record(projectId, ChangeEntityType.PROJECT, List.of(projectId), false);
+    }
+
+    /**
+     * 태스크 생성/수정 기록
+     */
+    public void taskChanged(Long projectId, Long taskId) {
+        tasksChanged(projectId, List.of(taskId));
+    }
+
+    /**
+     * 태스크 일괄 생성/수정 기록
+     */
+    public void tasksChanged(Long projectId, Collection<Long> taskIds) {
+        record(projectId, ChangeEntityType.TASK, taskIds, false);
+    }
+
+    /**
+     * 태스크 삭제 기록 (함께 삭제된 의존성 포함)
+     */
+    public void taskDeleted(Long projectId, Long taskId, Collection<Long> dependencyIds) {
+        long version = nextVersion(projectId);
+        changeJdbcRepository.batchInsert(projectId, version, ChangeEntityType.TASK, List.of(taskId), true);
+        changeJdbcRepository.batchInsert(projectId, version, ChangeEntityType.DEPENDENCY, dependencyIds, true);
+        ganttChartCache.invalidate(projectId);
+        taskIntervalIndex.invalidate(projectId);
+        ganttTileCache.invalidate(projectId);
+        if (!dependencyIds.isEmpty()) {
+            eventBroadcaster.publishAfterCommit(
+                    ProjectChangeEvent.of(projectId, version, ChangeEntityType.DEPENDENCY, dependencyIds, true));
+        }
+        eventBroadcaster.publishAfterCommit(
+                ProjectChangeEvent.of(projectId, version, ChangeEntityType.TASK, List.of(taskId), true));
+    }
+
+    /**
+     * 의존성 생성/수정 기록
+     */
+    public void dependencyChanged(Long projectId, Long dependencyId) {
+        dependenciesChanged(projectId, List.of(dependencyId));
+    }
+
+    /**
+     * 의존성 일괄 생성 기록
+     */
+    public void dependenciesChanged(Long projectId, Collection<Long> dependencyIds) {
+        record(projectId, ChangeEntityType.DEPENDENCY, dependencyIds, false);
+    }
+
+    /**
+     * 의존성 삭제 기록
+     */
+    public void dependencyDeleted(Long projectId, Long dependencyId) {
+        record(projectId, ChangeEntityType.DEPENDENCY, List.of(dependencyId), true);
+    }
+
+    /**
+     * 프로젝트 삭제 기록 (변경 이력도 함께 삭제)
+     */
+    public void projectDeleted(Long projectId) {
+        changeRepository.deleteByProjectId(projectId);
+        ganttChartCache.invalidate(projectId);
+        taskIntervalIndex.invalidate(projectId);
+        ganttTileCache.invalidate(projectId);
+    }
+
+    private void record(Long projectId, ChangeEntityType entityType, Collection<Long> entityIds, boolean deleted) {
+        if (entityIds.isEmpty()) {
+            return;
+        }
+        long version = nextVersion(projectId);
+        changeJdbcRepository.batchInsert(projectId, version, entityType, entityIds, deleted);
+        ganttChartCache.invalidate(projectId);
+        taskIntervalIndex.invalidate(projectId);
+        ganttTileCache.invalidate(projectId);
+        eventBroadcaster.publishAfterCommit(ProjectChangeEvent.of(projectId, version, entityType, entityIds, deleted));
+    }
+
+    private long nextVersion(Long projectId) {
+        projectRepository.incrementDataVersion(projectId);
+        return projectRepository.findDataVersionById(projectId).orElse(0L);
+    }
+}
@@ -0,0 +1,182 @@
+package com.liam.gantt.sync;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.Map;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * 프로젝트 변경 이벤트 SSE 브로드캐스터
+ *
+ * 구독은 비동기 요청(SseEmitter)으로 유지되므로 대기 중인 연결은 스레드를 점유하지 않습니다.
+ * 발행 측은 구독자별 큐에 이벤트를 넣기만 하고, 전송은 구독자마다 하나씩 가상 스레드가 큐를 비우는 방식이라
+ * 느린 클라이언트가 커밋 스레드나 다른 구독자를 막지 않으며 구독자별 이벤트 순서가 유지됩니다.
+ * 큐가 한도를 넘은 구독자는 연결을 종료하고, 클라이언트는 재연결 후 변경분 조회 API로 동기화합니다.
+ */
+@Component
+@Slf4j
+public class ProjectEventBroadcaster implements DisposableBean {
+
+    static final Duration EMITTER_TIMEOUT = Duration.ofMinutes(30);
+    static final Duration HEARTBEAT_INTERVAL = Duration.ofSeconds(25);
+    static final int MAX_PENDING_EVENTS = 256;
+
+    private final Supplier<SseEmitter> emitterFactory;
+    private final Map<Long, Set<Subscriber>> subscribers = new ConcurrentHashMap<>();
+    private final ExecutorService sender = Executors.newVirtualThreadPerTaskExecutor();
+    private final ScheduledExecutorService heartbeat = Executors.newSingleThreadScheduledExecutor(
+            Thread.ofVirtual().name("sse-heartbeat").factory());
+
+    public ProjectEventBroadcaster() {
+        this(() -> new SseEmitter(EMITTER_TIMEOUT.toMillis()));
+    }
+
+    ProjectEventBroadcaster(Supplier<SseEmitter> emitterFactory) {
+        this.emitterFactory = emitterFactory;
+        long interval = HEARTBEAT_INTERVAL.toMillis();
+        heartbeat.scheduleAtFixedRate(this::sendHeartbeats, interval, interval, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * 프로젝트 변경 이벤트 구독 (연결 직후 현재 버전을 connected 이벤트로 전송)
+     */
+    public SseEmitter subscribe(Long projectId, long currentVersion) {
+        SseEmitter emitter = emitterFactory.get();
+        Subscriber subscriber = new Subscriber(projectId, emitter);
+        emitter.onCompletion(() -> remove(subscriber));
+        emitter.onTimeout(() -> remove(subscriber));
+        emitter.onError(e -> remove(subscriber));
+
+        subscribers.computeIfAbsent(projectId, id -> ConcurrentHashMap.newKeySet()).add(subscriber);
+        subscriber.enqueue(new Outbound("connected", String.valueOf(currentVersion), currentVersion));
+        log.debug("SSE 구독 시작: projectId={}, 구독자 수={}", projectId, subscribers.get(projectId).size());
+        return emitter;
+    }
+
+    /**
+     * 커밋 후 프로젝트 구독자에게 변경 이벤트 발행
+     */
+    public void publishAfterCommit(ProjectChangeEvent event) {
+        AfterCommit.run(() -> publish(event));
+    }
+
+    /**
+     * 프로젝트 구독자에게 변경 이벤트 발행 (전송을 기다리지 않음)
+     */
+    public void publish(ProjectChangeEvent event) {
+        Set<Subscriber> targets = subscribers.get(event.projectId());
+        if (targets == null) {
+            return;
+        }
+        Outbound outbound = new Outbound("change", String.valueOf(event.version()), event);
+        for (Subscriber subscriber : targets) {
+            subscriber.enqueue(outbound);
+        }
+    }
+
+    /**
+     * 전체 구독자 수
+     */
+    public int subscriberCount() {
+        return subscribers.values().stream().mapToInt(Set::size).sum();
+    }
+
+    @Override
+    public void destroy() {
+        heartbeat.shutdownNow();
+        subscribers.values().forEach(set -> set.forEach(subscriber -> subscriber.emitter.complete()));
+        subscribers.clear();
+        sender.shutdownNow();
+    }
+
+    private void sendHeartbeats() {
+        Outbound ping = new Outbound(null, null, null);
+        subscribers.values().forEach(set -> set.forEach(subscriber -> subscriber.enqueue(ping)));
+    }
+
+    private void remove(Subscriber subscriber) {
+        subscriber.closed = true;
+        subscribers.computeIfPresent(subscriber.projectId, (id, set) -> {
+            set.remove(subscriber);
+            return set.isEmpty() ? null : set;
+        });
+    }
+
+    /**
+     * 전송 대기 이벤트 (name이 없으면 하트비트 주석)
+     *
+     * SseEventBuilder는 build 시 내부 상태가 바뀌므로 구독자마다 전송 직전에 새로 만듭니다.
+     */
+    private record Outbound(String name, String id, Object data) {
+
+        SseEmitter.SseEventBuilder toEvent() {
+            if (name == null) {
+                return SseEmitter.event().comment("ping");
+            }
+            return SseEmitter.event().name(name).id(id).data(data);
+        }
+    }
+
+    private final class Subscriber {
+
+        private final Long projectId;
+        private final SseEmitter emitter;
+        private final Queue<Outbound> pending = new ConcurrentLinkedQueue<>();
+        private final AtomicInteger pendingCount = new AtomicInteger();
+        private final AtomicBoolean draining = new AtomicBoolean();
+        private volatile boolean closed;
+
+        private Subscriber(Long projectId, SseEmitter emitter) {
+            this.projectId = projectId;
+            this.emitter = emitter;
+        }
+
+        void enqueue(Outbound outbound) {
+            if (closed) {
+                return;
+            }
+            if (pendingCount.incrementAndGet() > MAX_PENDING_EVENTS) {
+                log.warn("SSE 전송 지연으로 구독 종료: projectId={}", projectId);
+                remove(this);
+                emitter.complete();
+                return;
+            }
+            pending.add(outbound);
+            if (draining.compareAndSet(false, true)) {
+                sender.execute(this::drain);
+            }
+        }
+
+        private void drain() {
+            try {
+                do {
+                    Outbound outbound;
+                    while (!closed && (outbound = pending.poll()) != null) {
+                        pendingCount.decrementAndGet();
+                        emitter.send(outbound.toEvent());
+                    }
+                    draining.set(false);
+                } while (!closed && !pending.isEmpty() && draining.compareAndSet(false, true));
+            } catch (IOException | IllegalStateException e) {
+                log.debug("SSE 전송 실패로 구독 종료: projectId={}, 원인={}", projectId, e.getMessage());
+                remove(this);
+                emitter.completeWithError(e);
+            }
+        }
+    }
+}
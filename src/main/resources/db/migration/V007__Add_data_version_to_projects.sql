@@ -0,0 +1,5 @@
+-- V007: Add data_version column to projects table
+-- 프로젝트 및 소속 태스크/의존성이 변경될 때마다 증가하는 버전 (ETag 등 조건부 조회에 사용)
+
+ALTER TABLE projects
+ADD COLUMN data_version BIGINT NOT NULL DEFAULT 0;
@@ -0,0 +1,18 @@
+-- V008: Create project_changes table
+-- 프로젝트 데이터 버전별 변경 대상 이력 (변경분 동기화 API에서 사용)
+
+CREATE TABLE project_changes (
+    id BIGINT AUTO_INCREMENT PRIMARY KEY,
+    project_id BIGINT NOT NULL,
+    version BIGINT NOT NULL,
+    entity_type VARCHAR(20) NOT NULL,
+    entity_id BIGINT NOT NULL,
+    deleted BOOLEAN NOT NULL DEFAULT FALSE,
+    created_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
+    
+    -- Business constraints
+    CONSTRAINT chk_change_entity_type CHECK (entity_type IN ('PROJECT', 'TASK', 'DEPENDENCY'))
+);
+
+-- Performance indexes
+CREATE INDEX idx_project_changes_version ON project_changes(project_id, version);
@@ -0,0 +1,6 @@
+-- 키셋 페이지네이션 인덱스
+-- 태스크: 프로젝트 내 (start_date, id) 순으로 이어서 읽기
+CREATE INDEX idx_tasks_project_start_id ON tasks(project_id, start_date, id);
+
+-- 프로젝트: (created_at, id) 순으로 이어서 읽기
+CREATE INDEX idx_projects_created_id ON projects(created_at, id);
@@ -0,0 +1,12 @@
+-- V010: Add task rollup columns to projects table
+-- 태스크 변경 시 증감으로 유지하는 프로젝트별 집계 (목록 조회 시 태스크를 읽지 않기 위함)
+
+ALTER TABLE projects ADD COLUMN task_count INT NOT NULL DEFAULT 0;
+ALTER TABLE projects ADD COLUMN completed_count INT NOT NULL DEFAULT 0;
+ALTER TABLE projects ADD COLUMN progress_sum DECIMAL(15,2) NOT NULL DEFAULT 0;
+
+-- 기존 데이터 집계
+UPDATE projects SET
+    task_count = (SELECT COUNT(*) FROM tasks t WHERE t.project_id = projects.id),
+    completed_count = (SELECT COUNT(*) FROM tasks t WHERE t.project_id = projects.id AND t.status = 'COMPLETED'),
+    progress_sum = (SELECT COALESCE(SUM(t.progress), 0) FROM tasks t WHERE t.project_id = projects.id);
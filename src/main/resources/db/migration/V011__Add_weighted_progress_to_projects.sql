@@ -0,0 +1,4 @@
+-- V011: Add weighted_progress column to projects table
+-- 태스크 계층을 따라 기간으로 가중 평균한 프로젝트 진행률 (NULL이면 아직 집계되지 않음, 집계 보정 작업이 채움)
+
+ALTER TABLE projects ADD COLUMN weighted_progress DECIMAL(5,2);
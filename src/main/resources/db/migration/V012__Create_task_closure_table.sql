@@ -0,0 +1,33 @@
+-- V012: Create task_closure table
+-- 태스크 계층의 모든 (상위, 하위) 쌍과 거리 (하위 트리/상위 경로/깊이 조회용)
+
+CREATE TABLE task_closure (
+    ancestor_id BIGINT NOT NULL,
+    descendant_id BIGINT NOT NULL,
+    project_id BIGINT NOT NULL,
+    depth INT NOT NULL,
+    
+    PRIMARY KEY (ancestor_id, descendant_id),
+    
+    -- Foreign keys
+    FOREIGN KEY (ancestor_id) REFERENCES tasks(id) ON DELETE CASCADE,
+    FOREIGN KEY (descendant_id) REFERENCES tasks(id) ON DELETE CASCADE,
+    
+    -- Business constraints
+    CONSTRAINT chk_task_closure_depth CHECK (depth >= 0)
+);
+
+-- Performance indexes
+CREATE INDEX idx_task_closure_descendant ON task_closure(descendant_id, depth);
+CREATE INDEX idx_task_closure_project ON task_closure(project_id);
+
+-- 기존 태스크 계층 채우기
+INSERT INTO task_closure (ancestor_id, descendant_id, project_id, depth)
+WITH RECURSIVE paths (ancestor_id, descendant_id, project_id, depth) AS (
+    SELECT id, id, project_id, 0 FROM tasks
+    UNION ALL
+    SELECT p.ancestor_id, t.id, t.project_id, p.depth + 1
+    FROM paths p
+    INNER JOIN tasks t ON t.parent_task_id = p.descendant_id
+)
+SELECT ancestor_id, descendant_id, project_id, depth FROM paths;
@@ -7,6 +7,8 @@
  */
 
 class GanttChartCore {
+    static COLUMNAR_MEDIA_TYPE = 'application/vnd.liam-gantt.columnar';
+
     constructor(options = {}) {
         this.options = {
             container: null,
@@ -72,6 +74,116 @@ class GanttChartCore {
         }
     }
 
+    // 화면 영역 데이터 조회 (보이는 행 범위와 기간의 막대만 요청)
+    async loadGanttWindow(projectId, { from, to, rowOffset = 0, rowLimit = 200, collapsed = [] } = {}) {
+        const params = new URLSearchParams({ rowOffset, rowLimit });
+        if (from) params.set('from', from);
+        if (to) params.set('to', to);
+        collapsed.forEach(id => params.append('collapsed', id));
+
+        try {
+            const response = await fetch(`${this.options.apiUrl}/projects/${projectId}/gantt/window?${params}`);
+            const windowData = await response.json();
+
+            this.emit('windowLoaded', windowData);
+            return windowData;
+        } catch (error) {
+            this.emit('error', { type: 'windowLoad', error });
+            throw error;
+        }
+    }
+
+    // 간트 차트 열 단위 이진 데이터 조회 (대용량 프로젝트용, 형식은 서버의 GanttColumnarEncoder 참고)
+    async loadGanttColumnar(projectId) {
+        try {
+            const response = await fetch(`${this.options.apiUrl}/projects/${projectId}/gantt`, {
+                headers: { Accept: GanttChartCore.COLUMNAR_MEDIA_TYPE }
+            });
+            const chart = GanttChartCore.decodeColumnar(await response.arrayBuffer());
+
+            this.emit('columnarLoaded', chart);
+            return chart;
+        } catch (error) {
+            this.emit('error', { type: 'columnarLoad', error });
+            throw error;
+        }
+    }
+
+    // 열 단위 이진 데이터 디코딩 (태스크와 의존성은 필드별 배열, 날짜는 epoch day, 의존성은 태스크 행 번호 쌍)
+    static decodeColumnar(buffer) {
+        const view = new DataView(buffer);
+        const bytes = new Uint8Array(buffer);
+        const decoder = new TextDecoder();
+        let offset = 0;
+
+        // 부호 없는 가변 길이 정수 (2^53 미만)와 zigzag 정수
+        const varint = () => {
+            let result = 0;
+            let multiplier = 1;
+            let byte;
+            do {
+                byte = bytes[offset++];
+                result += (byte & 0x7f) * multiplier;
+                multiplier *= 128;
+            } while (byte & 0x80);
+            return result;
+        };
+        const zigzag = () => {
+            const value = varint();
+            return value % 2 === 0 ? value / 2 : -(value + 1) / 2;
+        };
+        const byte = () => bytes[offset++];
+        const column = (count, read) => {
+            const values = new Array(count);
+            for (let i = 0; i < count; i++) values[i] = read();
+            return values;
+        };
+        const deltas = values => {
+            for (let i = 1; i < values.length; i++) values[i] += values[i - 1];
+            return values;
+        };
+
+        if (decoder.decode(bytes.subarray(0, 4)) !== 'GNTC' || bytes[4] !== 1) {
+            throw new Error('지원하지 않는 간트 차트 데이터 형식입니다');
+        }
+        offset = 5;
+
+        const strings = column(varint(), () => {
+            const length = varint();
+            const value = decoder.decode(bytes.subarray(offset, offset + length));
+            offset += length;
+            return value;
+        });
+
+        const project = { id: varint(), name: strings[varint()] };
+        const baseDay = view.getInt32(offset);
+        offset += 4;
+        project.startDay = baseDay;
+        project.endDay = baseDay + varint();
+        project.progress = byte();
+        project.status = byte();
+
+        const taskCount = varint();
+        const tasks = { ids: deltas(column(taskCount, zigzag)) };
+        tasks.parentRows = column(taskCount, () => varint() - 1);
+        tasks.startDays = column(taskCount, () => baseDay + zigzag());
+        tasks.endDays = tasks.startDays.map(start => start + varint());
+        tasks.progress = column(taskCount, byte);
+        tasks.statuses = column(taskCount, byte);
+        tasks.names = column(taskCount, () => strings[varint()]);
+
+        const dependencyCount = varint();
+        const dependencies = { ids: deltas(column(dependencyCount, zigzag)) };
+        dependencies.fromRows = column(dependencyCount, varint);
+        dependencies.toRows = column(dependencyCount, varint);
+        dependencies.types = column(dependencyCount, byte);
+        dependencies.lagDays = column(dependencyCount, zigzag);
+
+        const criticalRows = column(varint(), varint);
+
+        return { project, tasks, dependencies, criticalRows };
+    }
+
     // 필터링
     applyFilters(filters) {
         this.setState({ filters });
@@ -182,14 +294,51 @@ class GanttChartCore {
 
         if (projectId) {
             await this.loadProjectData(projectId);
+            this.subscribeChanges(projectId);
         }
 
         this.render();
         this.emit('initialized', this.getState());
     }
 
+    // 실시간 변경 구독 (SSE) - 커밋된 변경이 오면 묶어서 한 번만 다시 불러옴
+    subscribeChanges(projectId) {
+        this.unsubscribeChanges();
+        if (typeof EventSource === 'undefined') {
+            return;
+        }
+
+        const reload = GanttUtils.debounce(() => {
+            this.loadProjectData(projectId).then(() => this.render()).catch(() => {});
+        }, 300);
+
+        this.eventSource = new EventSource(`${this.options.apiUrl}/projects/${projectId}/events`);
+        this.eventSource.addEventListener('connected', (event) => {
+            const version = Number(event.data);
+            // 재연결 시 끊긴 동안의 변경이 있었으면 다시 불러옴
+            if (this.dataVersion !== undefined && version !== this.dataVersion) {
+                reload();
+            }
+            this.dataVersion = version;
+        });
+        this.eventSource.addEventListener('change', (event) => {
+            const change = JSON.parse(event.data);
+            this.dataVersion = change.version;
+            this.emit('remoteChange', change);
+            reload();
+        });
+    }
+
+    unsubscribeChanges() {
+        if (this.eventSource) {
+            this.eventSource.close();
+            this.eventSource = null;
+        }
+    }
+
     // 정리
     destroy() {
+        this.unsubscribeChanges();
         this.emit('destroyed');
         // 이벤트 리스너 정리
         this.events = new EventTarget();
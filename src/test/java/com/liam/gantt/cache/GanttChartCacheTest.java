@@ -0,0 +1,118 @@
+package com.liam.gantt.cache;
+
+import com.liam.gantt.dto.response.CacheStatsDto;
+import com.liam.gantt.dto.response.GanttChartDto;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("GanttChartCache 단위 테스트")
+class GanttChartCacheTest {
+
+    private final AtomicLong clock = new AtomicLong();
+    private final AtomicInteger loads = new AtomicInteger();
+
+    private final Function<Long, GanttChartDto> loader = projectId -> {
+        loads.incrementAndGet();
+        return GanttChartDto.builder().build();
+    };
+
+    @Test
+    @DisplayName("두 번째 조회는 캐시에서 반환")
+    void get_HitAfterMiss() {
+        GanttChartCache cache = new GanttChartCache(4, Duration.ofMinutes(10), clock::get);
+
+        GanttChartDto first = cache.get(1L, 0L, loader);
+        GanttChartDto second = cache.get(1L, 0L, loader);
+
+        assertThat(second).isSameAs(first);
+        assertThat(loads.get()).isEqualTo(1);
+        CacheStatsDto stats = cache.stats();
+        assertThat(stats.getHitCount()).isEqualTo(1);
+        assertThat(stats.getMissCount()).isEqualTo(1);
+        assertThat(stats.getHitRate()).isEqualTo(0.5);
+    }
+
+    @Test
+    @DisplayName("최대 개수를 넘으면 가장 오래 사용되지 않은 항목 제거")
+    void get_EvictsLeastRecentlyUsed() {
+        GanttChartCache cache = new GanttChartCache(2, Duration.ofMinutes(10), clock::get);
+
+        cache.get(1L, 0L, loader);
+        cache.get(2L, 0L, loader);
+        cache.get(1L, 0L, loader);
+        cache.get(3L, 0L, loader);
+
+        cache.get(1L, 0L, loader);
+        assertThat(loads.get()).isEqualTo(3);
+        cache.get(2L, 0L, loader);
+        assertThat(loads.get()).isEqualTo(4);
+        assertThat(cache.stats().getEvictionCount()).isEqualTo(2);
+        assertThat(cache.stats().getSize()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("무효화 후에는 다시 적재")
+    void invalidate_ForcesReload() {
+        GanttChartCache cache = new GanttChartCache(4, Duration.ofMinutes(10), clock::get);
+
+        cache.get(1L, 0L, loader);
+        cache.invalidate(1L);
+        cache.get(1L, 0L, loader);
+
+        assertThat(loads.get()).isEqualTo(2);
+        assertThat(cache.stats().getInvalidationCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("적재 중에 무효화되면 적재 결과를 캐시하지 않음")
+    void get_SkipsCachingWhenInvalidatedDuringLoad() {
+        GanttChartCache cache = new GanttChartCache(4, Duration.ofMinutes(10), clock::get);
+
+        cache.get(1L, 0L, projectId -> {
+            cache.invalidate(projectId);
+            return loader.apply(projectId);
+        });
+        cache.get(1L, 0L, loader);
+
+        assertThat(loads.get()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("요구 버전보다 오래된 차트는 무효화 전이라도 다시 적재")
+    void get_ReloadsOlderThanRequestedVersion() {
+        GanttChartCache cache = new GanttChartCache(4, Duration.ofMinutes(10), clock::get);
+        Function<Long, GanttChartDto> versionedLoader = projectId -> {
+            loads.incrementAndGet();
+            return GanttChartDto.builder().dataVersion(loads.get() + 2L).build();
+        };
+
+        GanttChartDto first = cache.get(1L, 3L, versionedLoader);
+        // 커밋으로 버전이 4가 되었지만 커밋 후 무효화는 아직 반영되지 않은 시점
+        GanttChartDto second = cache.get(1L, 4L, versionedLoader);
+        GanttChartDto third = cache.get(1L, 4L, versionedLoader);
+
+        assertThat(first.getDataVersion()).isEqualTo(3L);
+        assertThat(second.getDataVersion()).isEqualTo(4L);
+        assertThat(third).isSameAs(second);
+        assertThat(loads.get()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("만료 시간이 지나면 다시 적재")
+    void get_ReloadsAfterTimeToLive() {
+        GanttChartCache cache = new GanttChartCache(4, Duration.ofMinutes(10), clock::get);
+
+        cache.get(1L, 0L, loader);
+        clock.addAndGet(Duration.ofMinutes(11).toNanos());
+        cache.get(1L, 0L, loader);
+
+        assertThat(loads.get()).isEqualTo(2);
+    }
+}
@@ -0,0 +1,98 @@
+package com.liam.gantt.cache;
+
+import com.liam.gantt.dto.response.GanttChartDto;
+import com.liam.gantt.render.GanttRenderLayout;
+import com.liam.gantt.render.GanttTileRenderer;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("GanttTileCache 단위 테스트")
+class GanttTileCacheTest {
+
+    private final AtomicInteger loads = new AtomicInteger();
+
+    private final Function<Long, GanttRenderLayout> loader = projectId -> {
+        loads.incrementAndGet();
+        return GanttRenderLayout.of(GanttChartDto.builder()
+                .tasks(List.of())
+                .timeline(GanttChartDto.TimelineInfo.of(LocalDate.of(2024, 1, 1), LocalDate.of(2024, 1, 31)))
+                .build());
+    };
+
+    @Test
+    @DisplayName("같은 타일은 캐시에서 반환하고 배치는 프로젝트당 한 번만 적재")
+    void getTile_HitAfterMiss() {
+        GanttTileCache cache = new GanttTileCache(4, 16);
+
+        GanttTileCache.Tile first = cache.getTile(key(1L, 0, 0), 0L, loader);
+        GanttTileCache.Tile second = cache.getTile(key(1L, 0, 0), 0L, loader);
+        cache.getTile(key(1L, 1, 0), 0L, loader);
+
+        assertThat(second).isSameAs(first);
+        assertThat(loads.get()).isEqualTo(1);
+        assertThat(cache.stats().getHitCount()).isEqualTo(1);
+        assertThat(cache.stats().getMissCount()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("무효화하면 해당 프로젝트의 배치와 타일만 제거")
+    void invalidate_RemovesProjectTiles() {
+        GanttTileCache cache = new GanttTileCache(4, 16);
+        GanttTileCache.Tile tile = cache.getTile(key(1L, 0, 0), 0L, loader);
+        GanttTileCache.Tile otherTile = cache.getTile(key(2L, 0, 0), 0L, loader);
+
+        cache.invalidate(1L);
+
+        assertThat(cache.getTile(key(1L, 0, 0), 0L, loader)).isNotSameAs(tile);
+        assertThat(cache.getTile(key(2L, 0, 0), 0L, loader)).isSameAs(otherTile);
+        assertThat(loads.get()).isEqualTo(3);
+        assertThat(cache.stats().getInvalidationCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("요구 버전보다 오래된 배치와 타일은 무효화 전이라도 다시 렌더링")
+    void getTile_RerendersOlderThanRequestedVersion() {
+        GanttTileCache cache = new GanttTileCache(4, 16);
+        Function<Long, GanttRenderLayout> versionedLoader = projectId -> {
+            loads.incrementAndGet();
+            return GanttRenderLayout.of(GanttChartDto.builder()
+                    .tasks(List.of())
+                    .timeline(GanttChartDto.TimelineInfo.of(LocalDate.of(2024, 1, 1), LocalDate.of(2024, 1, 31)))
+                    .dataVersion(loads.get() + 2L)
+                    .build());
+        };
+
+        GanttTileCache.Tile first = cache.getTile(key(1L, 0, 0), 3L, versionedLoader);
+        GanttTileCache.Tile second = cache.getTile(key(1L, 0, 0), 4L, versionedLoader);
+
+        assertThat(first.dataVersion()).isEqualTo(3L);
+        assertThat(second.dataVersion()).isEqualTo(4L);
+        assertThat(cache.getTile(key(1L, 0, 0), 4L, versionedLoader)).isSameAs(second);
+        assertThat(cache.getLayout(1L, 4L, versionedLoader).dataVersion()).isEqualTo(4L);
+        assertThat(loads.get()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("최대 개수를 넘으면 가장 오래 사용되지 않은 타일 제거")
+    void getTile_EvictsLeastRecentlyUsed() {
+        GanttTileCache cache = new GanttTileCache(4, 2);
+
+        cache.getTile(key(1L, 0, 0), 0L, loader);
+        cache.getTile(key(1L, 1, 0), 0L, loader);
+        cache.getTile(key(1L, 2, 0), 0L, loader);
+
+        assertThat(cache.stats().getSize()).isEqualTo(2);
+        assertThat(cache.stats().getEvictionCount()).isEqualTo(1);
+    }
+
+    private static GanttTileCache.TileKey key(long projectId, int x, int y) {
+        return new GanttTileCache.TileKey(projectId, GanttTileRenderer.Format.SVG, 2, x, y);
+    }
+}
@@ -0,0 +1,138 @@
+package com.liam.gantt.controller.api.v1;
+
+import com.liam.gantt.dto.response.DependencyBatchResultDto;
+import com.liam.gantt.dto.response.GanttChartDto;
+import com.liam.gantt.dto.response.ProjectResponseDto;
+import com.liam.gantt.exception.InvalidRequestException;
+import com.liam.gantt.service.GanttService;
+import com.liam.gantt.service.ProjectService;
+import com.liam.gantt.sync.ProjectEventBroadcaster;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@WebMvcTest(GanttController.class)
+@DisplayName("GanttController 테스트")
+class GanttControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockBean
+    private GanttService ganttService;
+
+    @MockBean
+    private ProjectService projectService;
+
+    @MockBean
+    private ProjectEventBroadcaster eventBroadcaster;
+
+    private static final String BATCH_BODY = """
+            [{"predecessorId": 1, "successorId": 2}, {"predecessorId": 2, "successorId": 3}]
+            """;
+
+    @Test
+    @DisplayName("ETag가 응답 차트의 버전과 같으면 304 반환")
+    void getGanttChart_NotModified() throws Exception {
+        // given
+        given(ganttService.getGanttChart(1L)).willReturn(chart(3L));
+        String eTag = fetchETag();
+
+        // when & then
+        mockMvc.perform(get("/api/v1/projects/1/gantt")
+                        .accept(MediaType.APPLICATION_JSON)
+                        .header(HttpHeaders.IF_NONE_MATCH, eTag))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string(HttpHeaders.ETAG, eTag))
+                .andExpect(content().string(""));
+
+        // ETag는 방금 읽은 버전이 아니라 차트를 만든 버전으로 생성
+        verifyNoInteractions(projectService);
+    }
+
+    @Test
+    @DisplayName("변경으로 차트 버전이 오르면 이전 ETag로 조회해도 200과 새 ETag를 반환")
+    void getGanttChart_ModifiedAfterMutation() throws Exception {
+        // given: 태스크/의존성 변경 시 ProjectChangeTracker가 data_version을 올리고 서비스는 새 버전으로 차트를 다시 만듦
+        given(ganttService.getGanttChart(1L)).willReturn(chart(3L), chart(4L));
+        String before = fetchETag();
+
+        // when
+        String after = mockMvc.perform(get("/api/v1/projects/1/gantt")
+                        .accept(MediaType.APPLICATION_JSON)
+                        .header(HttpHeaders.IF_NONE_MATCH, before))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.project.id").value(1))
+                .andExpect(jsonPath("$.dataVersion").value(4))
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+        // then
+        assertThat(after).isNotNull().isNotEqualTo(before);
+        verify(ganttService, times(2)).getGanttChart(1L);
+    }
+
+    @Test
+    @DisplayName("의존성 일괄 추가 - 생성된 ID를 요청 순서대로 반환")
+    void addDependencies_ReturnsCreatedIds() throws Exception {
+        given(ganttService.addDependencies(eq(1L), anyList())).willReturn(DependencyBatchResultDto.builder()
+                .projectId(1L)
+                .createdCount(2)
+                .dependencyIds(List.of(11L, 12L))
+                .build());
+
+        mockMvc.perform(post("/api/v1/projects/1/dependencies/batch")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(BATCH_BODY))
+                .andExpect(status().isCreated())
+                .andExpect(jsonPath("$.createdCount").value(2))
+                .andExpect(jsonPath("$.dependencyIds[0]").value(11))
+                .andExpect(jsonPath("$.dependencyIds[1]").value(12));
+    }
+
+    @Test
+    @DisplayName("의존성 일괄 추가 - 검증 실패는 400 반환")
+    void addDependencies_InvalidRequest_BadRequest() throws Exception {
+        given(ganttService.addDependencies(eq(1L), anyList()))
+                .willThrow(new InvalidRequestException("dependencies[1]: 순환 의존성이 발생합니다"));
+
+        mockMvc.perform(post("/api/v1/projects/1/dependencies/batch")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(BATCH_BODY))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.status").value("error"))
+                .andExpect(jsonPath("$.error.code").value("INVALID_REQUEST"));
+    }
+
+    private static GanttChartDto chart(long dataVersion) {
+        return GanttChartDto.builder()
+                .project(ProjectResponseDto.builder().id(1L).name("테스트 프로젝트").build())
+                .dataVersion(dataVersion)
+                .build();
+    }
+
+    private String fetchETag() throws Exception {
+        String eTag = mockMvc.perform(get("/api/v1/projects/1/gantt").accept(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+        assertThat(eTag).isNotNull();
+        return eTag;
+    }
+}
@@ -0,0 +1,179 @@
+package com.liam.gantt.export;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.liam.gantt.dto.response.GanttChartDto;
+import com.liam.gantt.dto.response.ProjectResponseDto;
+import com.liam.gantt.dto.response.TaskDependencyResponseDto;
+import com.liam.gantt.dto.response.TaskResponseDto;
+import com.liam.gantt.entity.enums.DependencyType;
+import com.liam.gantt.entity.enums.ProjectStatus;
+import com.liam.gantt.entity.enums.TaskStatus;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("GanttColumnarEncoder 단위 테스트")
+class GanttColumnarEncoderTest {
+
+    private static final LocalDate PROJECT_START = LocalDate.of(2024, 1, 1);
+
+    @Test
+    @DisplayName("펼친 행 순서로 열별 출력, 이름은 문자열 표, 의존성은 행 번호 쌍")
+    void write_EncodesColumns() throws IOException {
+        // given: 10 설계 > 12 상세 설계, 11 설계 (이름 중복)
+        TaskResponseDto detail = task(12L, "상세 설계", PROJECT_START.plusDays(2), 3, "40.6", TaskStatus.IN_PROGRESS);
+        TaskResponseDto design = task(10L, "설계", PROJECT_START, 5, "100", TaskStatus.COMPLETED);
+        design.getSubTasks().add(detail);
+        TaskResponseDto review = task(11L, "설계", PROJECT_START.plusDays(5), 1, "0", TaskStatus.NOT_STARTED);
+        GanttChartDto chart = chart(List.of(design, review),
+                List.of(TaskDependencyResponseDto.builder()
+                        .id(7L).predecessorId(12L).successorId(11L)
+                        .dependencyType(DependencyType.FINISH_TO_START).lagDays(-1).build()),
+                List.of(design, review));
+
+        // when
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        int count = GanttColumnarEncoder.write(chart, out);
+
+        // then
+        assertThat(count).isEqualTo(3);
+        Reader reader = new Reader(out.toByteArray());
+        assertThat(reader.bytes(4)).isEqualTo(GanttColumnarEncoder.MAGIC);
+        assertThat(reader.in.readByte()).isEqualTo((byte) GanttColumnarEncoder.VERSION);
+        assertThat(reader.strings()).containsExactly("프로젝트", "설계", "상세 설계");
+
+        assertThat(reader.varint()).isEqualTo(1L);
+        assertThat(reader.varint()).isZero();
+        assertThat(reader.in.readInt()).isEqualTo((int) PROJECT_START.toEpochDay());
+        assertThat(reader.varint()).isEqualTo(30L);
+        assertThat(reader.in.readByte()).isEqualTo((byte) 47);
+        assertThat(reader.in.readByte()).isEqualTo((byte) ProjectStatus.IN_PROGRESS.ordinal());
+
+        assertThat(reader.varint()).isEqualTo(3L);
+        assertThat(List.of(reader.zigzag(), reader.zigzag(), reader.zigzag())).containsExactly(10L, 2L, -1L);
+        assertThat(List.of(reader.varint(), reader.varint(), reader.varint())).containsExactly(0L, 1L, 0L);
+        assertThat(List.of(reader.zigzag(), reader.zigzag(), reader.zigzag())).containsExactly(0L, 2L, 5L);
+        assertThat(List.of(reader.varint(), reader.varint(), reader.varint())).containsExactly(4L, 2L, 0L);
+        assertThat(reader.bytes(3)).containsExactly(100, 41, 0);
+        assertThat(reader.bytes(3)).containsExactly(
+                TaskStatus.COMPLETED.ordinal(), TaskStatus.IN_PROGRESS.ordinal(), TaskStatus.NOT_STARTED.ordinal());
+        assertThat(List.of(reader.varint(), reader.varint(), reader.varint())).containsExactly(1L, 2L, 1L);
+
+        assertThat(reader.varint()).isEqualTo(1L);
+        assertThat(reader.zigzag()).isEqualTo(7L);
+        assertThat(List.of(reader.varint(), reader.varint())).containsExactly(1L, 2L);
+        assertThat(reader.in.readByte()).isEqualTo((byte) DependencyType.FINISH_TO_START.ordinal());
+        assertThat(reader.zigzag()).isEqualTo(-1L);
+
+        assertThat(reader.varint()).isEqualTo(2L);
+        assertThat(List.of(reader.varint(), reader.varint())).containsExactly(0L, 2L);
+        assertThat(reader.in.available()).isZero();
+    }
+
+    @Test
+    @DisplayName("같은 차트의 JSON보다 10배 이상 작음")
+    void write_SmallerThanJson() throws IOException {
+        // given
+        List<TaskResponseDto> tasks = new ArrayList<>();
+        List<TaskDependencyResponseDto> dependencies = new ArrayList<>();
+        for (int i = 0; i < 1_000; i++) {
+            tasks.add(task(1_000L + i, "작업 " + (i % 50), PROJECT_START.plusDays(i % 300), 5, "50",
+                    TaskStatus.IN_PROGRESS));
+            if (i > 0) {
+                dependencies.add(TaskDependencyResponseDto.builder()
+                        .id(5_000L + i).predecessorId(999L + i).successorId(1_000L + i)
+                        .predecessorName("작업").successorName("작업")
+                        .dependencyType(DependencyType.FINISH_TO_START)
+                        .dependencyTypeCode("FS").dependencyTypeDescription("완료-시작").lagDays(0).build());
+            }
+        }
+        GanttChartDto chart = chart(tasks, dependencies, List.of());
+
+        // when
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        GanttColumnarEncoder.write(chart, out);
+        byte[] json = new ObjectMapper().findAndRegisterModules().writeValueAsBytes(chart);
+
+        // then
+        assertThat(out.size() * 10).isLessThan(json.length);
+    }
+
+    private static TaskResponseDto task(long id, String name, LocalDate startDate, int days, String progress,
+                                        TaskStatus status) {
+        TaskResponseDto task = TaskResponseDto.forGanttChart(
+                id, name, startDate, startDate.plusDays(days - 1), new BigDecimal(progress));
+        task.setStatus(status);
+        return task;
+    }
+
+    private static GanttChartDto chart(List<TaskResponseDto> tasks, List<TaskDependencyResponseDto> dependencies,
+                                       List<TaskResponseDto> criticalPath) {
+        ProjectResponseDto project = ProjectResponseDto.builder()
+                .id(1L)
+                .name("프로젝트")
+                .startDate(PROJECT_START)
+                .endDate(PROJECT_START.plusDays(30))
+                .status(ProjectStatus.IN_PROGRESS)
+                .progress(46.5)
+                .build();
+        return GanttChartDto.builder()
+                .project(project)
+                .tasks(tasks)
+                .dependencies(dependencies)
+                .criticalPath(criticalPath)
+                .build();
+    }
+
+    /**
+     * 테스트용 가변 길이 정수 읽기
+     */
+    private static final class Reader {
+
+        private final DataInputStream in;
+
+        private Reader(byte[] bytes) {
+            this.in = new DataInputStream(new ByteArrayInputStream(bytes));
+        }
+
+        private long varint() throws IOException {
+            long result = 0;
+            int shift = 0;
+            int b;
+            do {
+                b = in.readUnsignedByte();
+                result |= (long) (b & 0x7F) << shift;
+                shift += 7;
+            } while ((b & 0x80) != 0);
+            return result;
+        }
+
+        private long zigzag() throws IOException {
+            long value = varint();
+            return (value >>> 1) ^ -(value & 1);
+        }
+
+        private byte[] bytes(int length) throws IOException {
+            return in.readNBytes(length);
+        }
+
+        private List<String> strings() throws IOException {
+            int count = (int) varint();
+            List<String> strings = new ArrayList<>();
+            for (int i = 0; i < count; i++) {
+                strings.add(new String(bytes((int) varint()), StandardCharsets.UTF_8));
+            }
+            return strings;
+        }
+    }
+}
@@ -0,0 +1,76 @@
+package com.liam.gantt.export;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.liam.gantt.entity.enums.TaskStatus;
+import com.liam.gantt.repository.TaskJdbcRepository;
+import com.liam.gantt.repository.projection.TaskExportRow;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.function.Consumer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+@DisplayName("TaskJsonExporter 단위 테스트")
+class TaskJsonExporterTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper()
+            .findAndRegisterModules()
+            .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+
+    @Test
+    @SuppressWarnings("unchecked")
+    @DisplayName("커서에서 받은 행을 JSON 배열로 출력")
+    void writeTasks_WritesJsonArray() throws Exception {
+        TaskJdbcRepository repository = mock(TaskJdbcRepository.class);
+        LocalDateTime createdAt = LocalDateTime.of(2024, 1, 1, 9, 0, 0);
+        when(repository.streamExportRows(eq(1L), any())).thenAnswer(invocation -> {
+            Consumer<TaskExportRow> consumer = invocation.getArgument(1);
+            consumer.accept(new TaskExportRow(10L, 1L, null, null, "설계", null,
+                    LocalDate.of(2024, 1, 1), LocalDate.of(2024, 1, 5), 5,
+                    new BigDecimal("50.00"), TaskStatus.IN_PROGRESS, createdAt, null));
+            consumer.accept(new TaskExportRow(11L, 1L, 10L, "설계", "상세 설계", "설명",
+                    LocalDate.of(2024, 1, 2), LocalDate.of(2024, 1, 3), 2,
+                    BigDecimal.ZERO, TaskStatus.NOT_STARTED, createdAt, createdAt));
+            return 2L;
+        });
+        TaskJsonExporter exporter = new TaskJsonExporter(repository, objectMapper);
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        long count = exporter.writeTasks(1L, out);
+
+        assertThat(count).isEqualTo(2);
+        JsonNode tasks = objectMapper.readTree(out.toByteArray());
+        assertThat(tasks.isArray()).isTrue();
+        assertThat(tasks).hasSize(2);
+        assertThat(tasks.get(0).get("id").asLong()).isEqualTo(10L);
+        assertThat(tasks.get(0).get("parentTaskId").isNull()).isTrue();
+        assertThat(tasks.get(0).get("startDate").asText()).isEqualTo("2024-01-01");
+        assertThat(tasks.get(0).get("status").asText()).isEqualTo("IN_PROGRESS");
+        assertThat(tasks.get(1).get("parentTaskId").asLong()).isEqualTo(10L);
+        assertThat(tasks.get(1).get("parentTaskName").asText()).isEqualTo("설계");
+    }
+
+    @Test
+    @DisplayName("태스크가 없으면 빈 배열 출력")
+    void writeTasks_EmptyProject() throws Exception {
+        TaskJdbcRepository repository = mock(TaskJdbcRepository.class);
+        when(repository.streamExportRows(eq(1L), any())).thenReturn(0L);
+        TaskJsonExporter exporter = new TaskJsonExporter(repository, objectMapper);
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        exporter.writeTasks(1L, out);
+
+        assertThat(out.toString()).isEqualTo("[]");
+    }
+}
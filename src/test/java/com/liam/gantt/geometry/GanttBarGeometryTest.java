@@ -0,0 +1,84 @@
+package com.liam.gantt.geometry;
+
+import com.liam.gantt.dto.response.TaskResponseDto;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("GanttBarGeometry 단위 테스트")
+class GanttBarGeometryTest {
+
+    @Test
+    @DisplayName("프로젝트 기간 대비 왼쪽 위치와 폭을 0.1% 단위로 계산")
+    void compute_ScalesToProjectDuration() {
+        // given: 프로젝트 0~39일 (40일), 태스크 0~9, 10~29, 38~39
+        int[] starts = {0, 10, 38};
+        int[] ends = {9, 29, 39};
+        int[] progress = {100, 50, 0};
+
+        // when
+        GanttBarGeometry geometry = GanttBarGeometry.compute(0, 39, starts, ends, progress);
+
+        // then
+        assertThat(geometry.getLeft()).containsExactly(0, 250, 950);
+        assertThat(geometry.getWidth()).containsExactly(250, 500, 50);
+        assertThat(geometry.getProgress()).containsExactly(100, 50, 0);
+    }
+
+    @Test
+    @DisplayName("프로젝트 시작 전 태스크는 0부터, 짧은 막대는 최소 폭, 진행률은 0~100으로 제한")
+    void compute_ClampsValues() {
+        // given: 프로젝트 0~999일, 태스크 -5~2, 500~500
+        GanttBarGeometry geometry = GanttBarGeometry.compute(
+                0, 999, new int[]{-5, 500}, new int[]{2, 500}, new int[]{-10, 150});
+
+        // then
+        assertThat(geometry.getLeft()).containsExactly(0, 500);
+        assertThat(geometry.getWidth()).containsExactly(GanttBarGeometry.MIN_WIDTH, GanttBarGeometry.MIN_WIDTH);
+        assertThat(geometry.getProgress()).containsExactly(0, 100);
+    }
+
+    @Test
+    @DisplayName("태스크 DTO의 날짜와 진행률로 계산")
+    void of_UsesTaskDates() {
+        // given
+        LocalDate projectStart = LocalDate.of(2024, 1, 1);
+        List<TaskResponseDto> tasks = List.of(
+                TaskResponseDto.forGanttChart(1L, "설계", LocalDate.of(2024, 1, 11), LocalDate.of(2024, 1, 20),
+                        new BigDecimal("33.7")));
+
+        // when
+        GanttBarGeometry geometry = GanttBarGeometry.of(projectStart, LocalDate.of(2024, 2, 9), tasks);
+
+        // then
+        assertThat(geometry.size()).isEqualTo(1);
+        assertThat(geometry.getLeft()).containsExactly(250);
+        assertThat(geometry.getWidth()).containsExactly(250);
+        assertThat(geometry.getProgress()).containsExactly(33);
+    }
+
+    @Test
+    @DisplayName("프로젝트 날짜가 없으면 태스크 날짜 범위로 계산")
+    void of_WithoutProjectDates_UsesTaskRange() {
+        // given: 태스크 1/1~1/10, 1/31~2/9, 날짜 없음 → 범위 1/1~2/9 (40일)
+        List<TaskResponseDto> tasks = List.of(
+                TaskResponseDto.forGanttChart(1L, "설계", LocalDate.of(2024, 1, 1), LocalDate.of(2024, 1, 10),
+                        BigDecimal.ZERO),
+                TaskResponseDto.forGanttChart(2L, "구현", LocalDate.of(2024, 1, 31), LocalDate.of(2024, 2, 9),
+                        BigDecimal.ZERO),
+                TaskResponseDto.forGanttChart(3L, "미정", null, null, BigDecimal.ZERO));
+
+        // when
+        GanttBarGeometry geometry = GanttBarGeometry.of(null, null, tasks);
+
+        // then
+        assertThat(geometry.getLeft()).containsExactly(0, 750, 0);
+        assertThat(geometry.getWidth()).containsExactly(250, 250, 25);
+        assertThat(GanttBarGeometry.of(null, null, List.of()).size()).isZero();
+    }
+}
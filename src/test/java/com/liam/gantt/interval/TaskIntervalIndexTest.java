@@ -0,0 +1,70 @@
+package com.liam.gantt.interval;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("TaskIntervalIndex 단위 테스트")
+class TaskIntervalIndexTest {
+
+    private static final LocalDate BASE = LocalDate.of(2025, 1, 1);
+
+    private final AtomicInteger loads = new AtomicInteger();
+
+    private final Function<Long, TaskIntervalTree> loader = projectId -> {
+        loads.incrementAndGet();
+        long day = BASE.toEpochDay();
+        return TaskIntervalTree.builder()
+                .add(1L, day, day + 9)
+                .add(2L, day + 20, day + 29)
+                .build();
+    };
+
+    @Test
+    @DisplayName("같은 프로젝트는 한 번만 적재")
+    void findOverlapping_LoadsOnce() {
+        TaskIntervalIndex index = new TaskIntervalIndex(4, loader);
+
+        long[] first = index.findOverlapping(1L, BASE.plusDays(5), BASE.plusDays(25));
+        long[] second = index.findOverlapping(1L, BASE.plusDays(25), BASE.plusDays(40));
+
+        assertThat(first).containsExactly(1L, 2L);
+        assertThat(second).containsExactly(2L);
+        assertThat(loads.get()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("무효화 후에는 다시 적재")
+    void invalidate_ForcesReload() {
+        TaskIntervalIndex index = new TaskIntervalIndex(4, loader);
+
+        index.tree(1L);
+        index.invalidate(1L);
+        index.tree(1L);
+
+        assertThat(loads.get()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("적재 중에 무효화되면 적재 결과를 캐시하지 않음")
+    void tree_SkipsCachingWhenInvalidatedDuringLoad() {
+        TaskIntervalIndex[] holder = new TaskIntervalIndex[1];
+        holder[0] = new TaskIntervalIndex(4, projectId -> {
+            if (loads.get() == 0) {
+                holder[0].invalidate(projectId);
+            }
+            return loader.apply(projectId);
+        });
+
+        holder[0].tree(1L);
+        holder[0].tree(1L);
+        holder[0].tree(1L);
+
+        assertThat(loads.get()).isEqualTo(2);
+    }
+}
@@ -0,0 +1,63 @@
+package com.liam.gantt.interval;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("TaskIntervalTree 단위 테스트")
+class TaskIntervalTreeTest {
+
+    @Test
+    @DisplayName("조회 기간 전에 시작해 기간에 걸친 태스크도 포함")
+    void findOverlapping_IncludesSpanningTasks() {
+        // given: 1(0~30), 2(5~6), 3(10~12), 4(20~25)
+        TaskIntervalTree tree = TaskIntervalTree.builder()
+                .add(3L, 10, 12)
+                .add(1L, 0, 30)
+                .add(4L, 20, 25)
+                .add(2L, 5, 6)
+                .build();
+
+        // when & then
+        assertThat(tree.findOverlapping(11, 15)).containsExactly(1L, 3L);
+        assertThat(tree.findOverlapping(6, 6)).containsExactly(1L, 2L);
+        assertThat(tree.findOverlapping(31, 40)).isEmpty();
+        assertThat(tree.findOverlapping(15, 11)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("무작위 기간에서 전수 비교와 같은 결과")
+    void findOverlapping_MatchesBruteForce() {
+        // given
+        Random random = new Random(42);
+        int size = 2_000;
+        long[] ids = new long[size];
+        int[] starts = new int[size];
+        int[] ends = new int[size];
+        for (int i = 0; i < size; i++) {
+            ids[i] = i + 1;
+            starts[i] = random.nextInt(1_000);
+            ends[i] = starts[i] + random.nextInt(60);
+        }
+        TaskIntervalTree tree = TaskIntervalTree.of(ids, starts, ends);
+
+        for (int q = 0; q < 200; q++) {
+            int from = random.nextInt(1_100);
+            int to = from + random.nextInt(30);
+
+            // when
+            long[] found = tree.findOverlapping(from, to);
+
+            // then
+            long[] expected = IntStream.range(0, size)
+                    .filter(i -> starts[i] <= to && ends[i] >= from)
+                    .mapToLong(i -> ids[i])
+                    .toArray();
+            assertThat(found).containsExactlyInAnyOrder(expected);
+        }
+    }
+}
@@ -8,6 +8,7 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
+import java.math.BigDecimal;
 import java.time.LocalDate;
 
 import static org.assertj.core.api.Assertions.*;
@@ -81,6 +82,24 @@ class ProjectMapperTest {
             assertThat(result.getStatus()).isEqualTo(testProject.getStatus());
         }
 
+        @Test
+        @DisplayName("태스크 수와 평균 진행률은 집계 컬럼으로 계산")
+        void toResponseDto_UsesTaskRollup() {
+            // Given
+            testProject.setTaskCount(4);
+            testProject.setCompletedCount(1);
+            testProject.setProgressSum(BigDecimal.valueOf(250));
+
+            // When
+            ProjectResponseDto result = projectMapper.toResponseDto(testProject);
+
+            // Then
+            assertThat(result.getTaskCount()).isEqualTo(4);
+            assertThat(result.getCompletedTaskCount()).isEqualTo(1);
+            assertThat(result.getProgress()).isEqualTo(62.5);
+            assertThat(result.getAverageProgress()).isEqualTo(62.5);
+        }
+
         @Test
         @DisplayName("null Entity를 변환 시 null 반환")
         void toResponseDto_NullEntity_ReturnsNull() {
@@ -0,0 +1,105 @@
+package com.liam.gantt.render;
+
+import com.liam.gantt.dto.response.GanttChartDto;
+import com.liam.gantt.dto.response.TaskResponseDto;
+import com.liam.gantt.entity.enums.TaskStatus;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import javax.imageio.ImageIO;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.StringWriter;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("GanttTileRenderer 단위 테스트")
+class GanttTileRendererTest {
+
+    private static final LocalDate START = LocalDate.of(2024, 1, 1);
+
+    @Test
+    @DisplayName("타일에 걸치는 막대만 타일 기준 좌표로 출력")
+    void renderSvgTile_ClipsToTile() {
+        // given: zoom 3 (하루 8px), 행 0은 0~9일, 행 1은 40~49일 (x = 320px, 두 번째 타일 열)
+        GanttRenderLayout layout = layout(
+                task(1L, "설계 & 검토", START, 10, "50", TaskStatus.IN_PROGRESS),
+                task(2L, "구현", START.plusDays(40), 10, "0", TaskStatus.NOT_STARTED));
+
+        // when
+        String first = new String(GanttTileRenderer.renderTile(layout, GanttTileRenderer.Format.SVG, 3, 0, 0),
+                StandardCharsets.UTF_8);
+        String second = new String(GanttTileRenderer.renderTile(layout, GanttTileRenderer.Format.SVG, 3, 1, 0),
+                StandardCharsets.UTF_8);
+
+        // then
+        assertThat(first).contains("<rect x=\"0\" y=\"4\" width=\"80\" height=\"16\" rx=\"3\" fill=\"#17a2b8\"")
+                .contains("width=\"40\" height=\"16\" rx=\"3\" fill=\"#17a2b8\"/>")
+                .contains("설계 &amp; 검토")
+                .doesNotContain("구현");
+        assertThat(second).contains("<rect x=\"64\" y=\"28\" width=\"80\"")
+                .contains("구현")
+                .doesNotContain("설계");
+    }
+
+    @Test
+    @DisplayName("PNG 타일은 256픽셀 정사각형이고 막대 위치에 상태 색을 칠함")
+    void renderPngTile_DrawsBars() throws IOException {
+        // given: zoom 2 (하루 4px), 5일짜리 완료 태스크 → x 0~19, y 4~19
+        GanttRenderLayout layout = layout(task(1L, "완료", START, 5, "100", TaskStatus.COMPLETED));
+
+        // when
+        byte[] png = GanttTileRenderer.renderTile(layout, GanttTileRenderer.Format.PNG, 2, 0, 0);
+        BufferedImage image = ImageIO.read(new ByteArrayInputStream(png));
+
+        // then
+        assertThat(image.getWidth()).isEqualTo(GanttTileRenderer.TILE_SIZE);
+        assertThat(image.getHeight()).isEqualTo(GanttTileRenderer.TILE_SIZE);
+        assertThat(image.getRGB(10, 12) & 0xFFFFFF).isEqualTo(0x28a745);
+        assertThat(image.getRGB(100, 100) >>> 24).isZero();
+    }
+
+    @Test
+    @DisplayName("전체 SVG는 모든 행을 출력하고 잘못된 확대 단계는 거부")
+    void writeSvg_WritesAllRows() throws IOException {
+        // given
+        List<TaskResponseDto> tasks = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            tasks.add(task(i + 1L, "작업 " + i, START.plusDays(i % 20), 3, "0", TaskStatus.NOT_STARTED));
+        }
+        GanttRenderLayout layout = layout(tasks.toArray(TaskResponseDto[]::new));
+        StringWriter out = new StringWriter();
+
+        // when
+        GanttTileRenderer.writeSvg(layout, 1, out);
+
+        // then
+        String svg = out.toString();
+        assertThat(svg).startsWith("<svg").endsWith("</svg>\n").contains("height=\"2400\"");
+        assertThat(svg.split("<g>", -1)).hasSize(101);
+        assertThatThrownBy(() -> GanttTileRenderer.renderTile(layout, GanttTileRenderer.Format.SVG, 7, 0, 0))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private static TaskResponseDto task(long id, String name, LocalDate startDate, int days, String progress,
+                                        TaskStatus status) {
+        TaskResponseDto task = TaskResponseDto.forGanttChart(
+                id, name, startDate, startDate.plusDays(days - 1), new BigDecimal(progress));
+        task.setStatus(status);
+        return task;
+    }
+
+    private static GanttRenderLayout layout(TaskResponseDto... tasks) {
+        return GanttRenderLayout.of(GanttChartDto.builder()
+                .tasks(List.of(tasks))
+                .timeline(GanttChartDto.TimelineInfo.of(START, START.plusDays(59)))
+                .build());
+    }
+}
@@ -0,0 +1,118 @@
+package com.liam.gantt.repository;
+
+import com.liam.gantt.entity.Project;
+import com.liam.gantt.entity.Task;
+import com.liam.gantt.entity.enums.ProjectStatus;
+import com.liam.gantt.entity.enums.TaskStatus;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * TaskClosureRepository 통합 테스트
+ */
+@DataJpaTest
+@ActiveProfiles("test")
+@DisplayName("TaskClosureRepository 통합 테스트")
+class TaskClosureRepositoryTest {
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private TaskClosureRepository taskClosureRepository;
+
+    private Project project;
+    private Task phase;
+    private Task work;
+    private Task detail;
+    private Task other;
+
+    @BeforeEach
+    void setUp() {
+        project = Project.builder()
+                .name("클로저 테스트 프로젝트")
+                .startDate(LocalDate.of(2024, 1, 1))
+                .endDate(LocalDate.of(2024, 3, 31))
+                .status(ProjectStatus.IN_PROGRESS)
+                .build();
+        entityManager.persistAndFlush(project);
+
+        // phase > work > detail, other
+        phase = saveTask("단계", null, LocalDate.of(2024, 1, 1));
+        work = saveTask("작업", phase, LocalDate.of(2024, 1, 2));
+        detail = saveTask("세부 작업", work, LocalDate.of(2024, 1, 3));
+        other = saveTask("다른 단계", null, LocalDate.of(2024, 2, 1));
+    }
+
+    @Test
+    @DisplayName("하위 트리, 상위 경로, 깊이 조회")
+    void findSubtreeAndAncestorPath() {
+        // when
+        List<Task> subtree = taskClosureRepository.findSubtree(phase.getId());
+        List<Task> path = taskClosureRepository.findAncestorPath(detail.getId());
+
+        // then
+        assertThat(subtree).extracting(Task::getName).containsExactly("단계", "작업", "세부 작업");
+        assertThat(path).extracting(Task::getName).containsExactly("단계", "작업", "세부 작업");
+        assertThat(taskClosureRepository.findDepth(detail.getId())).contains(2);
+        assertThat(taskClosureRepository.findDepth(other.getId())).contains(0);
+        assertThat(taskClosureRepository.existsDescendants(work.getId())).isTrue();
+        assertThat(taskClosureRepository.existsDescendants(detail.getId())).isFalse();
+    }
+
+    @Test
+    @DisplayName("하위 트리를 다른 상위 태스크 아래로 이동")
+    void detachAndAttachSubtree() {
+        // when
+        taskClosureRepository.detachSubtree(work.getId());
+        taskClosureRepository.attachSubtree(work.getId(), other.getId());
+
+        // then
+        assertThat(taskClosureRepository.findSubtreeIds(phase.getId())).containsExactly(phase.getId());
+        assertThat(taskClosureRepository.findAncestorPath(detail.getId()))
+                .extracting(Task::getName).containsExactly("다른 단계", "작업", "세부 작업");
+        assertThat(taskClosureRepository.findDepth(detail.getId())).contains(2);
+    }
+
+    @Test
+    @DisplayName("리프 태스크 클로저 행 삭제")
+    void deleteByTaskId() {
+        // when
+        taskClosureRepository.deleteByTaskId(detail.getId());
+
+        // then
+        assertThat(taskClosureRepository.findSubtreeIds(phase.getId()))
+                .containsExactlyInAnyOrder(phase.getId(), work.getId());
+        assertThat(taskClosureRepository.existsDescendants(work.getId())).isFalse();
+    }
+
+    private Task saveTask(String name, Task parent, LocalDate startDate) {
+        Task task = Task.builder()
+                .project(project)
+                .parentTask(parent)
+                .name(name)
+                .startDate(startDate)
+                .endDate(startDate.plusDays(4))
+                .duration(5)
+                .progress(BigDecimal.ZERO)
+                .status(TaskStatus.NOT_STARTED)
+                .build();
+        entityManager.persistAndFlush(task);
+        taskClosureRepository.insertSelf(project.getId(), task.getId());
+        if (parent != null) {
+            taskClosureRepository.insertAncestorPaths(task.getId(), parent.getId());
+        }
+        return task;
+    }
+}
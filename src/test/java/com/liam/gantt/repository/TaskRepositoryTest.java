@@ -11,6 +11,7 @@ import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
 import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
@@ -239,6 +240,22 @@ class TaskRepositoryTest {
             assertThat(taskPage.getTotalElements()).isEqualTo(5);
             assertThat(taskPage.getTotalPages()).isEqualTo(2);
         }
+
+        @Test
+        @DisplayName("프로젝트별 태스크 키셋 조회 테스트 (같은 시작일은 ID 순)")
+        void findKeysetPages_Success() {
+            // When
+            List<Task> firstPage = taskRepository.findKeysetFirstPage(testProject.getId(), Limit.of(3));
+            Task last = firstPage.get(firstPage.size() - 1);
+            List<Task> secondPage = taskRepository.findKeysetPageAfter(
+                    testProject.getId(), last.getStartDate(), last.getId(), Limit.of(3));
+
+            // Then
+            assertThat(firstPage).extracting(Task::getName)
+                    .containsExactly("요구사항 분석", "시스템 설계", "개발 구현");
+            assertThat(secondPage).extracting(Task::getName)
+                    .containsExactly("전체 테스트", "단위 테스트");
+        }
     }
 
     @Nested
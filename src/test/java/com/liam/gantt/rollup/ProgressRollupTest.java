@@ -0,0 +1,69 @@
+package com.liam.gantt.rollup;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("ProgressRollup 단위 테스트")
+class ProgressRollupTest {
+
+    @Test
+    @DisplayName("상위 태스크 진행률은 하위 태스크 기간으로 가중 평균")
+    void rollup_WeightsByDuration() {
+        // given
+        List<ProgressNode> nodes = List.of(
+                new ProgressNode(1L, null, 10, BigDecimal.ZERO),
+                new ProgressNode(2L, 1L, 2, new BigDecimal("100")),
+                new ProgressNode(3L, 1L, 8, BigDecimal.ZERO));
+
+        // when
+        ProgressRollup.Result result = ProgressRollup.rollup(nodes);
+
+        // then
+        assertThat(result.summaryProgress()).containsOnlyKeys(1L);
+        assertThat(result.summaryProgress().get(1L)).isEqualByComparingTo("20.00");
+        assertThat(result.projectProgress()).isEqualByComparingTo("20.00");
+    }
+
+    @Test
+    @DisplayName("여러 단계 계층은 하위에서 상위로 집계")
+    void rollup_NestedHierarchy() {
+        // given
+        List<ProgressNode> nodes = List.of(
+                new ProgressNode(1L, null, 4, BigDecimal.ZERO),
+                new ProgressNode(2L, 1L, 2, BigDecimal.ZERO),
+                new ProgressNode(3L, 2L, 1, new BigDecimal("100")),
+                new ProgressNode(4L, 2L, 1, BigDecimal.ZERO),
+                new ProgressNode(5L, 1L, 2, new BigDecimal("100")),
+                new ProgressNode(6L, null, 4, BigDecimal.ZERO));
+
+        // when
+        ProgressRollup.Result result = ProgressRollup.rollup(nodes);
+
+        // then
+        assertThat(result.summaryProgress().get(2L)).isEqualByComparingTo("50.00");
+        assertThat(result.summaryProgress().get(1L)).isEqualByComparingTo("75.00");
+        assertThat(result.projectProgress()).isEqualByComparingTo("37.50");
+    }
+
+    @Test
+    @DisplayName("기간 합이 0이면 단순 평균")
+    void weightedAverage_FallsBackToMean() {
+        BigDecimal progress = ProgressRollup.weightedAverage(BigDecimal.ZERO, 0, new BigDecimal("150"), 2);
+
+        assertThat(progress).isEqualByComparingTo("75.00");
+    }
+
+    @Test
+    @DisplayName("태스크가 없으면 0")
+    void rollup_Empty() {
+        ProgressRollup.Result result = ProgressRollup.rollup(List.of());
+
+        assertThat(result.summaryProgress()).isEmpty();
+        assertThat(result.projectProgress()).isEqualByComparingTo("0");
+    }
+}
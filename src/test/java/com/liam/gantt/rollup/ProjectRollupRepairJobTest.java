@@ -0,0 +1,116 @@
+package com.liam.gantt.rollup;
+
+import com.liam.gantt.repository.ProjectRepository;
+import com.liam.gantt.sync.ProjectChangeTracker;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Consumer;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ProjectRollupRepairJob 단위 테스트")
+class ProjectRollupRepairJobTest {
+
+    @Mock
+    private ProjectRepository projectRepository;
+
+    @Mock
+    private ProgressRollupUpdater progressRollupUpdater;
+
+    @Mock
+    private ProjectChangeTracker projectChangeTracker;
+
+    @Mock
+    private TransactionTemplate transactionTemplate;
+
+    @InjectMocks
+    private ProjectRollupRepairJob repairJob;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        doAnswer(invocation -> {
+            ((Consumer<TransactionStatus>) invocation.getArgument(0)).accept(null);
+            return null;
+        }).when(transactionTemplate).executeWithoutResult(any());
+    }
+
+    @Test
+    @DisplayName("보정으로 바뀐 상위 태스크와 프로젝트 집계를 변경 기록")
+    void repair_Changed_RecordsChanges() {
+        // given: progress_sum과 상위 태스크 7의 진행률이 어긋나 있었음
+        given(projectRepository.findTaskRollupById(1L)).willReturn(
+                rows(3, 1, new BigDecimal("150.00"), new BigDecimal("40.00")),
+                rows(3, 1, new BigDecimal("160.00"), new BigDecimal("45.00")));
+        given(progressRollupUpdater.recalculateProjectWithChanges(1L)).willReturn(
+                new ProgressRollupUpdater.Recalculation(new BigDecimal("45.00"), Set.of(7L), true));
+
+        // when
+        repairJob.repair(1L);
+
+        // then
+        verify(projectRepository).recalculateTaskRollup(1L);
+        verify(projectChangeTracker).tasksChanged(1L, Set.of(7L));
+        verify(projectChangeTracker).projectChanged(1L);
+    }
+
+    @Test
+    @DisplayName("집계 열만 어긋난 경우 프로젝트 변경만 기록")
+    void repair_CountersOnly_RecordsProjectChange() {
+        // given
+        given(projectRepository.findTaskRollupById(1L)).willReturn(
+                rows(2, 1, new BigDecimal("150.00"), new BigDecimal("45.00")),
+                rows(3, 1, new BigDecimal("150.00"), new BigDecimal("45.00")));
+        given(progressRollupUpdater.recalculateProjectWithChanges(1L)).willReturn(
+                new ProgressRollupUpdater.Recalculation(new BigDecimal("45.00"), Set.of(), false));
+
+        // when
+        repairJob.repair(1L);
+
+        // then
+        verify(projectChangeTracker).projectChanged(1L);
+        verify(projectChangeTracker, never()).tasksChanged(any(), any());
+    }
+
+    @Test
+    @DisplayName("바뀐 값이 없으면 버전을 올리지 않음")
+    void repair_Unchanged_NoChangeRecorded() {
+        // given
+        given(projectRepository.findTaskRollupById(1L)).willReturn(
+                rows(3, 1, new BigDecimal("160.00"), new BigDecimal("45.00")),
+                rows(3, 1, new BigDecimal("160.00"), new BigDecimal("45.00")));
+        given(progressRollupUpdater.recalculateProjectWithChanges(1L)).willReturn(
+                new ProgressRollupUpdater.Recalculation(new BigDecimal("45.00"), Set.of(), false));
+
+        // when
+        repairJob.repair(1L);
+
+        // then
+        verifyNoInteractions(projectChangeTracker);
+    }
+
+    private static List<Object[]> rows(int taskCount, int completedCount, BigDecimal progressSum,
+                                       BigDecimal weightedProgress) {
+        List<Object[]> rows = new ArrayList<>();
+        rows.add(new Object[]{taskCount, completedCount, progressSum, weightedProgress});
+        return rows;
+    }
+}
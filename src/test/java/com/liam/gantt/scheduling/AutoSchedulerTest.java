@@ -0,0 +1,84 @@
+package com.liam.gantt.scheduling;
+
+import com.liam.gantt.entity.enums.DependencyType;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("AutoScheduler 단위 테스트")
+class AutoSchedulerTest {
+
+    private static final LocalDate BASE = LocalDate.of(2025, 1, 1);
+
+    private static int day(int offset) {
+        return (int) BASE.plusDays(offset).toEpochDay();
+    }
+
+    @Test
+    @DisplayName("선행 태스크 지연 시 후행 태스크만 기간을 유지한 채 이동")
+    void schedule_PushesSuccessors() {
+        // A(0~9)가 지연되어 B(5~7)와 겹침, C는 B 이후 충분한 여유
+        ScheduleGraph graph = ScheduleGraph.builder(3, 2)
+                .addTask(1L, day(0), day(9))
+                .addTask(2L, day(5), day(7))
+                .addTask(3L, day(20), day(21))
+                .addDependency(1L, 2L, DependencyType.FINISH_TO_START, 1)
+                .addDependency(2L, 3L, DependencyType.FINISH_TO_START, 0)
+                .build();
+
+        List<TaskDateChange> changes = AutoScheduler.schedule(graph);
+
+        assertThat(changes).hasSize(1);
+        TaskDateChange change = changes.get(0);
+        assertThat(change.taskId()).isEqualTo(2L);
+        assertThat(change.startDay()).isEqualTo(day(11));
+        assertThat(change.endDay()).isEqualTo(day(13));
+        assertThat(change.shiftDays()).isEqualTo(6);
+    }
+
+    @Test
+    @DisplayName("제약을 만족하는 일정은 변경하지 않음")
+    void schedule_NoChangesWhenSatisfied() {
+        ScheduleGraph graph = ScheduleGraph.builder(2, 1)
+                .addTask(1L, day(0), day(4))
+                .addTask(2L, day(8), day(9))
+                .addDependency(1L, 2L, DependencyType.FINISH_TO_START, 0)
+                .build();
+
+        assertThat(AutoScheduler.schedule(graph)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("이동한 리프 태스크를 포함하는 요약 태스크만 하위 태스크 기간에 맞춤")
+    void rollUpSummaries_FitsMovedSummaries() {
+        // A(0~4) -> 요약 10 = {B(2~6), C(3~4)}, 요약 20 = {D(10~12)}는 이동 없음
+        SummaryLeaves summaries = SummaryLeaves.of(List.of(
+                new Object[]{10L, 2L},
+                new Object[]{10L, 3L},
+                new Object[]{20L, 4L}));
+        ScheduleGraph graph = ScheduleGraph.builder(4, 1)
+                .addTask(1L, day(0), day(4))
+                .addTask(2L, day(2), day(6))
+                .addTask(3L, day(3), day(4))
+                .addTask(4L, day(10), day(12))
+                .addDependency(1L, 10L, DependencyType.FINISH_TO_START, 0, summaries)
+                .build();
+
+        List<TaskDateChange> leafChanges = AutoScheduler.schedule(graph);
+        List<TaskDateChange> summaryChanges = AutoScheduler.rollUpSummaries(graph, leafChanges, List.of(
+                new Object[]{10L, BASE.plusDays(2), BASE.plusDays(6)},
+                new Object[]{20L, BASE.plusDays(9), BASE.plusDays(12)}), summaries);
+
+        assertThat(leafChanges).extracting(TaskDateChange::taskId).containsExactlyInAnyOrder(2L, 3L);
+        assertThat(summaryChanges).hasSize(1);
+        TaskDateChange change = summaryChanges.get(0);
+        assertThat(change.taskId()).isEqualTo(10L);
+        assertThat(change.startDay()).isEqualTo(day(5));
+        assertThat(change.endDay()).isEqualTo(day(9));
+        assertThat(change.shiftDays()).isEqualTo(3);
+    }
+}
@@ -0,0 +1,118 @@
+package com.liam.gantt.scheduling;
+
+import com.liam.gantt.entity.enums.DependencyType;
+import com.liam.gantt.exception.InvalidRequestException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("CriticalPathCalculator 단위 테스트")
+class CriticalPathCalculatorTest {
+
+    private static final LocalDate BASE = LocalDate.of(2025, 1, 1);
+
+    private static int day(int offset) {
+        return (int) BASE.plusDays(offset).toEpochDay();
+    }
+
+    @Test
+    @DisplayName("FS 의존성 체인과 병렬 분기의 여유 계산")
+    void calculate_FinishToStartChain() {
+        // A(0~4) -> C, B(0~1) -> C, C(5~9)
+        ScheduleGraph graph = ScheduleGraph.builder(3, 2)
+                .addTask(1L, day(0), day(4))
+                .addTask(2L, day(0), day(1))
+                .addTask(3L, day(5), day(9))
+                .addDependency(1L, 3L, DependencyType.FINISH_TO_START, 0)
+                .addDependency(2L, 3L, DependencyType.FINISH_TO_START, 0)
+                .build();
+
+        CriticalPathResult result = CriticalPathCalculator.calculate(graph);
+
+        int b = graph.indexOf(2L);
+        assertThat(result.earlyFinish(b)).isEqualTo(day(1));
+        assertThat(result.lateFinish(b)).isEqualTo(day(4));
+        assertThat(result.totalFloat(b)).isEqualTo(3);
+        assertThat(result.criticalTaskIds()).containsExactly(1L, 3L);
+    }
+
+    @Test
+    @DisplayName("지연일(lag)이 후행 태스크를 뒤로 민다")
+    void calculate_LagPushesSuccessor() {
+        ScheduleGraph graph = ScheduleGraph.builder(2, 1)
+                .addTask(1L, day(0), day(2))
+                .addTask(2L, day(0), day(0))
+                .addDependency(1L, 2L, DependencyType.FINISH_TO_START, 2)
+                .build();
+
+        CriticalPathResult result = CriticalPathCalculator.calculate(graph);
+
+        int succ = graph.indexOf(2L);
+        assertThat(result.earlyStart(succ)).isEqualTo(day(5));
+        assertThat(result.earlyFinish(succ)).isEqualTo(day(5));
+        assertThat(result.criticalTaskIds()).containsExactly(1L, 2L);
+    }
+
+    @Test
+    @DisplayName("SS / FF / SF 의존성 유형 처리")
+    void calculate_AllDependencyTypes() {
+        ScheduleGraph graph = ScheduleGraph.builder(4, 3)
+                .addTask(1L, day(0), day(9))
+                .addTask(2L, day(0), day(2))
+                .addTask(3L, day(0), day(2))
+                .addTask(4L, day(0), day(2))
+                .addDependency(1L, 2L, DependencyType.START_TO_START, 3)
+                .addDependency(1L, 3L, DependencyType.FINISH_TO_FINISH, 1)
+                .addDependency(1L, 4L, DependencyType.START_TO_FINISH, 5)
+                .build();
+
+        CriticalPathResult result = CriticalPathCalculator.calculate(graph);
+
+        assertThat(result.earlyStart(graph.indexOf(2L))).isEqualTo(day(3));
+        assertThat(result.earlyFinish(graph.indexOf(3L))).isEqualTo(day(10));
+        // SF는 FS와 같은 종료일 포함 기준: 선행 시작(0) + 지연(5) 전날에 끝남
+        assertThat(result.earlyFinish(graph.indexOf(4L))).isEqualTo(day(4));
+        assertThat(result.criticalTaskIds()).containsExactly(1L, 3L);
+    }
+
+    @Test
+    @DisplayName("요약 태스크에 걸린 의존성은 하위 리프 태스크로 펼쳐진다")
+    void calculate_SummaryDependencyExpandsToLeaves() {
+        // 요약 태스크 10 = {A(0~4), B(0~1)}, 10 -> C(5~9), 10 -> A는 상위-하위 관계이므로 무시
+        SummaryLeaves summaries = SummaryLeaves.of(List.of(
+                new Object[]{10L, 1L},
+                new Object[]{10L, 2L}));
+        ScheduleGraph graph = ScheduleGraph.builder(3, 2)
+                .addTask(1L, day(0), day(4))
+                .addTask(2L, day(0), day(1))
+                .addTask(3L, day(5), day(9))
+                .addDependency(10L, 3L, DependencyType.FINISH_TO_START, 0, summaries)
+                .addDependency(10L, 1L, DependencyType.FINISH_TO_START, 0, summaries)
+                .build();
+
+        CriticalPathResult result = CriticalPathCalculator.calculate(graph);
+
+        assertThat(graph.edgeCount()).isEqualTo(2);
+        assertThat(result.totalFloat(graph.indexOf(2L))).isEqualTo(3);
+        assertThat(result.criticalTaskIds()).containsExactly(1L, 3L);
+    }
+
+    @Test
+    @DisplayName("순환 의존성이 있으면 예외 발생")
+    void calculate_CycleThrows() {
+        ScheduleGraph graph = ScheduleGraph.builder(2, 2)
+                .addTask(1L, day(0), day(1))
+                .addTask(2L, day(2), day(3))
+                .addDependency(1L, 2L, DependencyType.FINISH_TO_START, 0)
+                .addDependency(2L, 1L, DependencyType.FINISH_TO_START, 0)
+                .build();
+
+        assertThatThrownBy(() -> CriticalPathCalculator.calculate(graph))
+                .isInstanceOf(InvalidRequestException.class);
+    }
+}
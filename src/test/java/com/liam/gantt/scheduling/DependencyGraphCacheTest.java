@@ -0,0 +1,110 @@
+package com.liam.gantt.scheduling;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("DependencyGraphCache 단위 테스트")
+class DependencyGraphCacheTest {
+
+    /** 프로젝트별 "DB" 간선 (선행, 후행 순) */
+    private final Map<Long, List<Object[]>> rows = new ConcurrentHashMap<>();
+    private final AtomicInteger loads = new AtomicInteger();
+
+    private final Function<Long, DependencyGraph> loader = projectId -> {
+        loads.incrementAndGet();
+        return DependencyGraph.of(rows.getOrDefault(projectId, List.of()));
+    };
+
+    private void addRow(long projectId, long predecessorId, long successorId) {
+        rows.computeIfAbsent(projectId, id -> new ArrayList<>()).add(new Object[]{predecessorId, successorId});
+    }
+
+    @Test
+    @DisplayName("커밋 후 추가된 간선은 캐시된 그래프에 패치된다")
+    void dependencyAdded_PatchesCachedGraph() {
+        DependencyGraphCache cache = new DependencyGraphCache(4, loader);
+        addRow(1L, 1L, 2L);
+        cache.getGraph(1L);
+
+        addRow(1L, 2L, 3L);
+        cache.dependencyAdded(1L, 2L, 3L);
+
+        assertThat(cache.wouldCreateCycle(1L, 3L, 1L)).isTrue();
+        assertThat(loads.get()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("적재 중에 커밋이 반영되면 적재 결과를 캐시하지 않는다")
+    void getGraph_CommitDuringLoad_NotCached() {
+        addRow(1L, 1L, 2L);
+        DependencyGraphCache[] holder = new DependencyGraphCache[1];
+        // 조회를 마친 직후 다른 트랜잭션이 2 -> 3을 커밋 (패치할 그래프가 아직 없음)
+        DependencyGraphCache cache = new DependencyGraphCache(4, projectId -> {
+            DependencyGraph loaded = loader.apply(projectId);
+            if (loads.get() == 1) {
+                addRow(1L, 2L, 3L);
+                holder[0].dependencyAdded(1L, 2L, 3L);
+            }
+            return loaded;
+        });
+        holder[0] = cache;
+
+        DependencyGraph stale = cache.getGraph(1L);
+
+        assertThat(stale.hasEdge(2L, 3L)).isFalse();
+        assertThat(cache.wouldCreateCycle(1L, 3L, 1L)).isTrue();
+        assertThat(loads.get()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("적재 결과에 이미 포함된 간선의 패치는 중복 추가되지 않는다")
+    void dependencyAdded_AlreadyLoaded_Idempotent() {
+        DependencyGraphCache cache = new DependencyGraphCache(4, loader);
+        addRow(1L, 1L, 2L);
+        addRow(1L, 2L, 3L);
+        cache.getGraph(1L);
+
+        cache.dependencyAdded(1L, 2L, 3L);
+        cache.dependencyRemoved(1L, 2L, 3L);
+
+        assertThat(cache.getGraph(1L).hasEdge(2L, 3L)).isFalse();
+        assertThat(cache.wouldCreateCycle(1L, 3L, 1L)).isFalse();
+    }
+
+    @Test
+    @DisplayName("최대 개수를 넘으면 가장 오래 사용되지 않은 프로젝트 제거")
+    void getGraph_EvictsLeastRecentlyUsed() {
+        DependencyGraphCache cache = new DependencyGraphCache(2, loader);
+
+        cache.getGraph(1L);
+        cache.getGraph(2L);
+        cache.getGraph(1L);
+        cache.getGraph(3L);
+
+        cache.getGraph(1L);
+        assertThat(loads.get()).isEqualTo(3);
+        cache.getGraph(2L);
+        assertThat(loads.get()).isEqualTo(4);
+    }
+
+    @Test
+    @DisplayName("무효화 후에는 다시 적재")
+    void invalidate_Reloads() {
+        DependencyGraphCache cache = new DependencyGraphCache(4, loader);
+        cache.getGraph(1L);
+
+        cache.invalidate(1L);
+        cache.getGraph(1L);
+
+        assertThat(loads.get()).isEqualTo(2);
+    }
+}
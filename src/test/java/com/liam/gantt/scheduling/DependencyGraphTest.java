@@ -0,0 +1,97 @@
+package com.liam.gantt.scheduling;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("DependencyGraph 단위 테스트")
+class DependencyGraphTest {
+
+    private static List<Object[]> edges(long... pairs) {
+        List<Object[]> rows = new ArrayList<>();
+        for (int i = 0; i < pairs.length; i += 2) {
+            rows.add(new Object[]{pairs[i], pairs[i + 1]});
+        }
+        return rows;
+    }
+
+    @Test
+    @DisplayName("후행 경로가 있으면 역방향 간선은 순환")
+    void wouldCreateCycle_PathExists() {
+        // 1 -> 2 -> 3 -> 4
+        DependencyGraph graph = DependencyGraph.of(edges(1, 2, 2, 3, 3, 4));
+
+        assertThat(graph.wouldCreateCycle(4L, 1L)).isTrue();
+        assertThat(graph.wouldCreateCycle(3L, 2L)).isTrue();
+        assertThat(graph.wouldCreateCycle(1L, 4L)).isFalse();
+        assertThat(graph.wouldCreateCycle(1L, 1L)).isTrue();
+    }
+
+    @Test
+    @DisplayName("그래프에 없는 태스크는 순환을 만들지 않는다")
+    void wouldCreateCycle_UnknownTask() {
+        DependencyGraph graph = DependencyGraph.of(edges(1, 2));
+
+        assertThat(graph.wouldCreateCycle(2L, 99L)).isFalse();
+        assertThat(graph.wouldCreateCycle(99L, 1L)).isFalse();
+    }
+
+    @Test
+    @DisplayName("추가/삭제 패치가 도달 가능성에 반영된다")
+    void patches_AffectReachability() {
+        DependencyGraph graph = DependencyGraph.of(edges(1, 2, 2, 3));
+
+        graph.addEdge(3L, 5L);
+        assertThat(graph.wouldCreateCycle(5L, 1L)).isTrue();
+
+        graph.removeEdge(2L, 3L);
+        assertThat(graph.wouldCreateCycle(5L, 1L)).isFalse();
+        assertThat(graph.wouldCreateCycle(5L, 3L)).isTrue();
+
+        graph.addEdge(2L, 3L);
+        assertThat(graph.wouldCreateCycle(5L, 1L)).isTrue();
+        assertThat(graph.edgeCount()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("패치가 누적되어 재구성되어도 간선이 유지된다")
+    void patches_CompactPreservesEdges() {
+        DependencyGraph graph = DependencyGraph.of(edges());
+        int chain = 3000;
+        for (long id = 1; id < chain; id++) {
+            graph.addEdge(id, id + 1);
+        }
+
+        assertThat(graph.edgeCount()).isEqualTo(chain - 1);
+        assertThat(graph.wouldCreateCycle(chain, 1L)).isTrue();
+        assertThat(graph.isReachable(1L, chain)).isTrue();
+
+        graph.removeEdge(1500L, 1501L);
+        assertThat(graph.isReachable(1L, chain)).isFalse();
+    }
+
+    @Test
+    @DisplayName("다이아몬드 구조에서 각 노드는 한 번만 방문된다")
+    void isReachable_DenseLayers() {
+        // 층마다 50개 노드, 인접 층 간 완전 연결
+        int layers = 20;
+        int width = 50;
+        List<Object[]> rows = new ArrayList<>();
+        for (int layer = 0; layer < layers - 1; layer++) {
+            for (int a = 0; a < width; a++) {
+                for (int b = 0; b < width; b++) {
+                    rows.add(new Object[]{(long) (layer * width + a), (long) ((layer + 1) * width + b)});
+                }
+            }
+        }
+        DependencyGraph graph = DependencyGraph.of(rows);
+
+        assertThat(graph.isReachable(0L, (long) (layers * width - 1))).isTrue();
+        assertThat(graph.wouldCreateCycle((long) (layers * width - 1), 0L)).isTrue();
+        assertThat(graph.isReachable((long) (layers * width - 1), 0L)).isFalse();
+    }
+}
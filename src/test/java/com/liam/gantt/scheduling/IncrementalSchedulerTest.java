@@ -0,0 +1,86 @@
+package com.liam.gantt.scheduling;
+
+import com.liam.gantt.entity.enums.DependencyType;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("IncrementalScheduler 단위 테스트")
+class IncrementalSchedulerTest {
+
+    private static final LocalDate BASE = LocalDate.of(2025, 1, 1);
+
+    /** {predecessorId, successorId, type, lag, successorStart, successorEnd} */
+    private final List<Object[]> edges = new ArrayList<>();
+    private final List<Collection<Long>> requestedFrontiers = new ArrayList<>();
+
+    private List<Object[]> load(Collection<Long> predecessorIds) {
+        requestedFrontiers.add(List.copyOf(predecessorIds));
+        return edges.stream()
+                .filter(row -> predecessorIds.contains((Long) row[0]))
+                .toList();
+    }
+
+    private void edge(long pred, long succ, int succStartOffset, int succEndOffset) {
+        edges.add(new Object[]{pred, succ, DependencyType.FINISH_TO_START, 0,
+                BASE.plusDays(succStartOffset), BASE.plusDays(succEndOffset)});
+    }
+
+    @Test
+    @DisplayName("지연이 후행 체인을 따라 전파")
+    void propagate_Chain() {
+        // 1(0~4) -> 2(5~6) -> 3(7~9)
+        edge(1L, 2L, 5, 6);
+        edge(2L, 3L, 7, 9);
+
+        List<TaskDateChange> changes = IncrementalScheduler.propagate(
+                1L, BASE, BASE.plusDays(5), this::load);
+
+        assertThat(changes).extracting(TaskDateChange::taskId).containsExactly(2L, 3L);
+        assertThat(changes).extracting(TaskDateChange::shiftDays).containsExactly(1, 1);
+        assertThat(changes.get(1).startDate()).isEqualTo(BASE.plusDays(8));
+    }
+
+    @Test
+    @DisplayName("여유가 있는 후행 태스크에서 전파 중단")
+    void propagate_StopsAtUnchangedTask() {
+        // 1(0~4) -> 2(10~11) -> 3(12~13)
+        edge(1L, 2L, 10, 11);
+        edge(2L, 3L, 12, 13);
+
+        List<TaskDateChange> changes = IncrementalScheduler.propagate(
+                1L, BASE, BASE.plusDays(6), this::load);
+
+        assertThat(changes).isEmpty();
+        assertThat(requestedFrontiers).hasSize(1);
+    }
+
+    @Test
+    @DisplayName("여러 태스크가 함께 이동하면 바깥 후행 태스크만 추가로 이동")
+    void propagate_MultipleSeeds() {
+        // 하위 트리 1(0~4) -> 2(5~6)가 함께 3일 이동, 2 -> 3(7~9)은 바깥 태스크
+        edge(1L, 2L, 5, 6);
+        edge(2L, 3L, 7, 9);
+        Map<Long, int[]> seeds = new LinkedHashMap<>();
+        seeds.put(1L, new int[]{day(3), day(7)});
+        seeds.put(2L, new int[]{day(8), day(9)});
+
+        List<TaskDateChange> changes = IncrementalScheduler.propagate(seeds, this::load);
+
+        assertThat(changes).extracting(TaskDateChange::taskId).containsExactly(3L);
+        assertThat(changes.get(0).startDate()).isEqualTo(BASE.plusDays(10));
+        assertThat(requestedFrontiers.get(0)).containsExactly(1L, 2L);
+    }
+
+    private static int day(int offset) {
+        return (int) BASE.plusDays(offset).toEpochDay();
+    }
+}
@@ -1,19 +1,28 @@
 package com.liam.gantt.service;
 
+import com.liam.gantt.cache.GanttChartCache;
 import com.liam.gantt.dto.response.GanttChartDto;
+import com.liam.gantt.dto.response.GanttWindowDto;
+import com.liam.gantt.dto.response.ProjectChangesDto;
 import com.liam.gantt.dto.response.ProjectResponseDto;
 import com.liam.gantt.dto.response.TaskResponseDto;
 import com.liam.gantt.entity.Project;
+import com.liam.gantt.entity.ProjectChange;
 import com.liam.gantt.entity.Task;
+import com.liam.gantt.entity.enums.ChangeEntityType;
+import com.liam.gantt.entity.enums.DependencyType;
 import com.liam.gantt.entity.enums.ProjectStatus;
 import com.liam.gantt.entity.enums.TaskStatus;
 import com.liam.gantt.exception.ProjectNotFoundException;
+import com.liam.gantt.repository.ProjectChangeRepository;
 import com.liam.gantt.repository.ProjectRepository;
 import com.liam.gantt.repository.TaskRepository;
 import com.liam.gantt.repository.TaskDependencyRepository;
+import com.liam.gantt.repository.projection.GanttDependencyRow;
 import com.liam.gantt.service.ProjectService;
 import com.liam.gantt.service.TaskService;
 import com.liam.gantt.service.impl.GanttServiceImpl;
+import com.liam.gantt.sync.ProjectChangeTracker;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
@@ -21,18 +30,25 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.math.BigDecimal;
 import java.time.LocalDate;
 import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 
 import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 
 /**
@@ -53,6 +69,9 @@ class GanttServiceImplTest {
     
     @Mock
     private TaskDependencyRepository dependencyRepository;
+
+    @Mock
+    private ProjectChangeRepository changeRepository;
     
     @Mock
     private ProjectService projectService;
@@ -60,6 +79,12 @@ class GanttServiceImplTest {
     @Mock
     private TaskService taskService;
 
+    @Spy
+    private GanttChartCache ganttChartCache = new GanttChartCache();
+
+    @Mock
+    private ProjectChangeTracker projectChangeTracker;
+
     @InjectMocks
     private GanttServiceImpl ganttService;
 
@@ -154,11 +179,9 @@ class GanttServiceImplTest {
                     .build()
             );
             
-            given(projectRepository.findByIdWithTasks(projectId)).willReturn(Optional.of(testProject));
             given(projectService.findById(projectId)).willReturn(mockProjectDto);
-            given(taskService.findTaskHierarchyByProjectId(projectId)).willReturn(mockTaskDtos);
-            given(dependencyRepository.findByProjectId(projectId)).willReturn(List.of());
-            given(taskRepository.findCriticalPathTasks(projectId)).willReturn(List.of());
+            given(taskService.findGanttTaskTree(projectId)).willReturn(mockTaskDtos);
+            given(dependencyRepository.findGanttRowsByProjectId(projectId)).willReturn(List.of());
 
             // When
             GanttChartDto result = ganttService.getGanttChart(projectId);
@@ -182,9 +205,8 @@ class GanttServiceImplTest {
             assertThat(tasks.get(1).getName()).isEqualTo("개발 단계");
             assertThat(tasks.get(2).getName()).isEqualTo("테스트 단계");
 
-            verify(projectRepository).findByIdWithTasks(projectId);
             verify(projectService).findById(projectId);
-            verify(taskService).findTaskHierarchyByProjectId(projectId);
+            verify(taskService).findGanttTaskTree(projectId);
         }
 
         @Test
@@ -192,14 +214,15 @@ class GanttServiceImplTest {
         void getGanttChartData_ProjectNotFound_ThrowsException() {
             // Given
             Long projectId = 999L;
-            given(projectRepository.findByIdWithTasks(projectId)).willReturn(Optional.empty());
+            given(projectService.findById(projectId))
+                    .willThrow(new ProjectNotFoundException("프로젝트를 찾을 수 없습니다: " + projectId));
 
             // When & Then
             assertThatThrownBy(() -> ganttService.getGanttChart(projectId))
                     .isInstanceOf(ProjectNotFoundException.class)
                     .hasMessageContaining("프로젝트를 찾을 수 없습니다");
 
-            verify(projectRepository).findByIdWithTasks(projectId);
+            verify(taskService, never()).findGanttTaskTree(any());
         }
 
         @Test
@@ -217,11 +240,9 @@ class GanttServiceImplTest {
                     .status(ProjectStatus.IN_PROGRESS)
                     .build();
             
-            given(projectRepository.findByIdWithTasks(projectId)).willReturn(Optional.of(testProject));
             given(projectService.findById(projectId)).willReturn(mockProjectDto);
-            given(taskService.findTaskHierarchyByProjectId(projectId)).willReturn(List.of());
-            given(dependencyRepository.findByProjectId(projectId)).willReturn(List.of());
-            given(taskRepository.findCriticalPathTasks(projectId)).willReturn(List.of());
+            given(taskService.findGanttTaskTree(projectId)).willReturn(List.of());
+            given(dependencyRepository.findGanttRowsByProjectId(projectId)).willReturn(List.of());
 
             // When
             GanttChartDto result = ganttService.getGanttChart(projectId);
@@ -235,9 +256,8 @@ class GanttServiceImplTest {
             List<TaskResponseDto> tasks = result.getTasks();
             assertThat(tasks).isEmpty();
 
-            verify(projectRepository).findByIdWithTasks(projectId);
             verify(projectService).findById(projectId);
-            verify(taskService).findTaskHierarchyByProjectId(projectId);
+            verify(taskService).findGanttTaskTree(projectId);
         }
     }
 
@@ -284,11 +304,9 @@ class GanttServiceImplTest {
                     .build()
             );
             
-            given(projectRepository.findByIdWithTasks(projectId)).willReturn(Optional.of(testProject));
             given(projectService.findById(projectId)).willReturn(mockProjectDto);
-            given(taskService.findTaskHierarchyByProjectId(projectId)).willReturn(mockTaskDtos);
-            given(dependencyRepository.findByProjectId(projectId)).willReturn(List.of());
-            given(taskRepository.findCriticalPathTasks(projectId)).willReturn(List.of());
+            given(taskService.findGanttTaskTree(projectId)).willReturn(mockTaskDtos);
+            given(dependencyRepository.findGanttRowsByProjectId(projectId)).willReturn(List.of());
 
             // When
             GanttChartDto result = ganttService.getGanttChart(projectId);
@@ -361,11 +379,9 @@ class GanttServiceImplTest {
                     .build()
             );
             
-            given(projectRepository.findByIdWithTasks(projectId)).willReturn(Optional.of(testProject));
             given(projectService.findById(projectId)).willReturn(mockProjectDto);
-            given(taskService.findTaskHierarchyByProjectId(projectId)).willReturn(mockTaskDtos);
-            given(dependencyRepository.findByProjectId(projectId)).willReturn(List.of());
-            given(taskRepository.findCriticalPathTasks(projectId)).willReturn(List.of());
+            given(taskService.findGanttTaskTree(projectId)).willReturn(mockTaskDtos);
+            given(dependencyRepository.findGanttRowsByProjectId(projectId)).willReturn(List.of());
 
             // When
             GanttChartDto result = ganttService.getGanttChart(projectId);
@@ -410,11 +426,9 @@ class GanttServiceImplTest {
                     .build()
             );
             
-            given(projectRepository.findByIdWithTasks(projectId)).willReturn(Optional.of(testProject));
             given(projectService.findById(projectId)).willReturn(mockProjectDto);
-            given(taskService.findTaskHierarchyByProjectId(projectId)).willReturn(mockTaskDtos);
-            given(dependencyRepository.findByProjectId(projectId)).willReturn(List.of());
-            given(taskRepository.findCriticalPathTasks(projectId)).willReturn(List.of());
+            given(taskService.findGanttTaskTree(projectId)).willReturn(mockTaskDtos);
+            given(dependencyRepository.findGanttRowsByProjectId(projectId)).willReturn(List.of());
 
             // When
             GanttChartDto result = ganttService.getGanttChart(projectId);
@@ -447,11 +461,9 @@ class GanttServiceImplTest {
                     .status(ProjectStatus.IN_PROGRESS)
                     .build();
             
-            given(projectRepository.findByIdWithTasks(projectId)).willReturn(Optional.of(testProject));
             given(projectService.findById(projectId)).willReturn(mockProjectDto);
-            given(taskService.findTaskHierarchyByProjectId(projectId)).willReturn(List.of());
-            given(dependencyRepository.findByProjectId(projectId)).willReturn(List.of());
-            given(taskRepository.findCriticalPathTasks(projectId)).willReturn(List.of());
+            given(taskService.findGanttTaskTree(projectId)).willReturn(List.of());
+            given(dependencyRepository.findGanttRowsByProjectId(projectId)).willReturn(List.of());
 
             // When
             GanttChartDto result = ganttService.getGanttChart(projectId);
@@ -482,11 +494,9 @@ class GanttServiceImplTest {
                     .status(ProjectStatus.IN_PROGRESS)
                     .build();
             
-            given(projectRepository.findByIdWithTasks(projectId)).willReturn(Optional.of(testProject));
             given(projectService.findById(projectId)).willReturn(mockProjectDto);
-            given(taskService.findTaskHierarchyByProjectId(projectId)).willReturn(List.of());
-            given(dependencyRepository.findByProjectId(projectId)).willReturn(List.of());
-            given(taskRepository.findCriticalPathTasks(projectId)).willReturn(List.of());
+            given(taskService.findGanttTaskTree(projectId)).willReturn(List.of());
+            given(dependencyRepository.findGanttRowsByProjectId(projectId)).willReturn(List.of());
 
             // When
             GanttChartDto result = ganttService.getGanttChart(projectId);
@@ -508,4 +518,180 @@ class GanttServiceImplTest {
             }
         }
     }
-}
\ No newline at end of file
+
+    @Nested
+    @DisplayName("프로젝트 변경분 조회 테스트")
+    class GetChangesSinceTest {
+
+        private ProjectChange change(long version, ChangeEntityType type, long entityId, boolean deleted) {
+            return ProjectChange.builder()
+                    .projectId(1L)
+                    .version(version)
+                    .entityType(type)
+                    .entityId(entityId)
+                    .deleted(deleted)
+                    .build();
+        }
+
+        @Test
+        @DisplayName("변경 이력으로 수정 대상과 tombstone 반환")
+        void getChangesSince_ReturnsDeltaWithTombstones() {
+            // Given
+            Long projectId = 1L;
+            given(projectService.getDataVersion(projectId)).willReturn(5L);
+            given(changeRepository.findMinVersionByProjectId(projectId)).willReturn(1L);
+            given(changeRepository.findChanges(projectId, 3L, 5L)).willReturn(List.of(
+                    change(4, ChangeEntityType.TASK, 10L, false),
+                    change(4, ChangeEntityType.TASK, 11L, false),
+                    change(5, ChangeEntityType.TASK, 11L, true),
+                    change(5, ChangeEntityType.DEPENDENCY, 20L, true),
+                    change(5, ChangeEntityType.TASK, 12L, false)));
+            TaskResponseDto task10 = TaskResponseDto.builder().id(10L).name("태스크 10").build();
+            given(taskService.findGanttTasksByIds(projectId, new LinkedHashSet<>(List.of(10L, 12L))))
+                    .willReturn(new ArrayList<>(List.of(task10)));
+
+            // When
+            ProjectChangesDto result = ganttService.getChangesSince(projectId, 3L);
+
+            // Then
+            assertThat(result.isFullSnapshot()).isFalse();
+            assertThat(result.getCurrentVersion()).isEqualTo(5L);
+            assertThat(result.getProject()).isNull();
+            assertThat(result.getTasks()).extracting(TaskResponseDto::getId).containsExactly(10L);
+            // 12번은 버전 조회 이후 삭제되어 조회되지 않았으므로 tombstone
+            assertThat(result.getDeletedTaskIds()).containsExactly(11L, 12L);
+            assertThat(result.getDeletedDependencyIds()).containsExactly(20L);
+            verify(taskService, never()).findGanttTasks(any());
+        }
+
+        @Test
+        @DisplayName("이력이 보관되지 않은 버전이면 전체 데이터 반환")
+        void getChangesSince_FallsBackToSnapshot() {
+            // Given
+            Long projectId = 1L;
+            ProjectResponseDto projectDto = ProjectResponseDto.builder().id(projectId).name("테스트 프로젝트").build();
+            given(projectService.getDataVersion(projectId)).willReturn(5L);
+            given(changeRepository.findMinVersionByProjectId(projectId)).willReturn(4L);
+            given(projectService.findById(projectId)).willReturn(projectDto);
+            given(taskService.findGanttTasks(projectId)).willReturn(List.of());
+            given(dependencyRepository.findGanttRowsByProjectId(projectId)).willReturn(List.of());
+
+            // When
+            ProjectChangesDto result = ganttService.getChangesSince(projectId, 2L);
+
+            // Then
+            assertThat(result.isFullSnapshot()).isTrue();
+            assertThat(result.getProject()).isEqualTo(projectDto);
+            verify(changeRepository, never()).findChanges(any(), anyLong(), anyLong());
+        }
+    }
+
+    @Test
+    @DisplayName("간트 차트 임계 경로는 리프 태스크로만 계산 (프로젝트 전체에 걸친 상위 태스크는 제외)")
+    void getGanttChart_CriticalPathExcludesSummaryTasks() {
+        // Given: 1 전체 (1/1~1/31) > 2 설계 (1/1~1/10), 3 구현 (1/21~1/31), 의존성 없음
+        TaskResponseDto design = TaskResponseDto.builder()
+                .id(2L).name("설계").startDate(LocalDate.of(2024, 1, 1)).endDate(LocalDate.of(2024, 1, 10)).build();
+        TaskResponseDto build = TaskResponseDto.builder()
+                .id(3L).name("구현").startDate(LocalDate.of(2024, 1, 21)).endDate(LocalDate.of(2024, 1, 31)).build();
+        TaskResponseDto summary = TaskResponseDto.builder()
+                .id(1L).name("전체").startDate(LocalDate.of(2024, 1, 1)).endDate(LocalDate.of(2024, 1, 31))
+                .subTasks(new ArrayList<>(List.of(design, build))).build();
+        given(projectService.findById(1L)).willReturn(ProjectResponseDto.builder()
+                .id(1L).startDate(projectStartDate).endDate(projectEndDate).build());
+        given(taskService.findGanttTaskTree(1L)).willReturn(List.of(summary));
+        given(dependencyRepository.findGanttRowsByProjectId(1L)).willReturn(List.of());
+
+        // When
+        GanttChartDto result = ganttService.getGanttChart(1L);
+
+        // Then: 여유가 없는 리프 태스크(구현)만 임계 경로
+        assertThat(result.getCriticalPath()).extracting(TaskResponseDto::getId).containsExactly(3L);
+    }
+
+    @Test
+    @DisplayName("커밋 후 무효화가 반영되기 전이라도 버전이 오르면 차트를 다시 만듦")
+    void getGanttChart_ReloadsWhenVersionAdvancesBeforeInvalidation() {
+        // Given: 두 번째 조회 전에 다른 트랜잭션이 커밋되어 버전이 4가 됨 (캐시 무효화는 아직 실행되지 않음)
+        given(projectService.getDataVersion(1L)).willReturn(3L, 4L, 4L);
+        given(projectService.findById(1L)).willReturn(ProjectResponseDto.builder()
+                .id(1L).startDate(projectStartDate).endDate(projectEndDate).build());
+        given(taskService.findGanttTaskTree(1L)).willReturn(List.of());
+        given(dependencyRepository.findGanttRowsByProjectId(1L)).willReturn(List.of());
+
+        // When
+        GanttChartDto first = ganttService.getGanttChart(1L);
+        GanttChartDto second = ganttService.getGanttChart(1L);
+        GanttChartDto third = ganttService.getGanttChart(1L);
+
+        // Then
+        assertThat(first.getDataVersion()).isEqualTo(3L);
+        assertThat(second.getDataVersion()).isEqualTo(4L);
+        assertThat(third).isSameAs(second);
+        verify(taskService, times(2)).findGanttTaskTree(1L);
+    }
+
+    @Nested
+    @DisplayName("간트 차트 화면 영역 조회 테스트")
+    class GetGanttWindowTest {
+
+        private TaskResponseDto task(long id, String name, LocalDate startDate, int days, TaskResponseDto... subTasks) {
+            return TaskResponseDto.builder()
+                    .id(id)
+                    .name(name)
+                    .startDate(startDate)
+                    .endDate(startDate.plusDays(days - 1))
+                    .subTasks(new ArrayList<>(List.of(subTasks)))
+                    .build();
+        }
+
+        @BeforeEach
+        void setUpChart() {
+            // 1 기획 > (2 요구사항, 3 설계), 4 개발 > 5 구현, 6 테스트 → 펼친 행: 1, 2, 3, 4, 5, 6
+            List<TaskResponseDto> tree = List.of(
+                    task(1L, "기획", LocalDate.of(2024, 1, 1), 10,
+                            task(2L, "요구사항", LocalDate.of(2024, 1, 1), 5),
+                            task(3L, "설계", LocalDate.of(2024, 1, 6), 5)),
+                    task(4L, "개발", LocalDate.of(2024, 1, 11), 10,
+                            task(5L, "구현", LocalDate.of(2024, 1, 11), 10)),
+                    task(6L, "테스트", LocalDate.of(2024, 1, 21), 11));
+            given(projectService.findById(1L)).willReturn(ProjectResponseDto.builder()
+                    .id(1L).startDate(projectStartDate).endDate(projectEndDate).build());
+            given(taskService.findGanttTaskTree(1L)).willReturn(tree);
+            given(dependencyRepository.findGanttRowsByProjectId(1L)).willReturn(List.of(
+                    new GanttDependencyRow(10L, 2L, "요구사항", 3L, "설계", DependencyType.FINISH_TO_START, 0),
+                    new GanttDependencyRow(11L, 3L, "설계", 5L, "구현", DependencyType.FINISH_TO_START, 0),
+                    new GanttDependencyRow(12L, 5L, "구현", 6L, "테스트", DependencyType.FINISH_TO_START, 0)));
+        }
+
+        @Test
+        @DisplayName("행 범위와 기간에 걸치는 막대와 연결된 의존성만 반환")
+        void getGanttWindow_FiltersRowsAndDates() {
+            // When: 행 2~4(설계, 개발, 구현) 중 1월 6~10일에 걸치는 막대
+            GanttWindowDto result = ganttService.getGanttWindow(
+                    1L, LocalDate.of(2024, 1, 6), LocalDate.of(2024, 1, 10), 2, 3, null);
+
+            // Then
+            assertThat(result.getTotalRowCount()).isEqualTo(6);
+            assertThat(result.getBars()).extracting(GanttWindowDto.Bar::getRowIndex).containsExactly(2);
+            assertThat(result.getBars().get(0).getTask().getName()).isEqualTo("설계");
+            assertThat(result.getDependencies()).extracting(dependency -> dependency.getId())
+                    .containsExactly(10L, 11L);
+        }
+
+        @Test
+        @DisplayName("접힌 태스크의 하위 행은 행 번호와 전체 행 수에서 제외")
+        void getGanttWindow_SkipsCollapsedSubtrees() {
+            // When
+            GanttWindowDto result = ganttService.getGanttWindow(1L, null, null, 0, 10, List.of(1L));
+
+            // Then
+            assertThat(result.getTotalRowCount()).isEqualTo(4);
+            assertThat(result.getBars()).extracting(bar -> bar.getTask().getId()).containsExactly(1L, 4L, 5L, 6L);
+            assertThat(result.getBars()).extracting(GanttWindowDto.Bar::getRowIndex).containsExactly(0, 1, 2, 3);
+            // 캐시된 트리는 변경하지 않고 하위 태스크를 뺀 복사본을 반환
+            assertThat(result.getBars().get(0).getTask().getSubTasks()).isEmpty();
+            assertThat(ganttService.getGanttChart(1L).getTasks().get(0).getSubTasks()).hasSize(2);
+        }
+    }
+}
@@ -8,7 +8,11 @@ import com.liam.gantt.exception.DuplicateProjectNameException;
 import com.liam.gantt.exception.ProjectNotFoundException;
 import com.liam.gantt.mapper.ProjectMapper;
 import com.liam.gantt.repository.ProjectRepository;
+import com.liam.gantt.repository.TaskClosureRepository;
+import com.liam.gantt.rollup.ProgressRollupUpdater;
+import com.liam.gantt.scheduling.DependencyGraphCache;
 import com.liam.gantt.service.impl.ProjectServiceImpl;
+import com.liam.gantt.sync.ProjectChangeTracker;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
@@ -46,6 +50,18 @@ class ProjectServiceImplTest {
     @Mock
     private ProjectMapper projectMapper;
 
+    @Mock
+    private DependencyGraphCache dependencyGraphCache;
+
+    @Mock
+    private ProjectChangeTracker projectChangeTracker;
+
+    @Mock
+    private ProgressRollupUpdater progressRollupUpdater;
+
+    @Mock
+    private TaskClosureRepository taskClosureRepository;
+
     @InjectMocks
     private ProjectServiceImpl projectService;
 
@@ -256,6 +272,20 @@ class ProjectServiceImplTest {
             verify(projectMapper).updateEntity(testProject, updateRequestDto);
             verify(projectRepository).save(testProject);
             verify(projectMapper).toResponseDto(testProject);
+            verify(projectChangeTracker).projectChanged(projectId);
+        }
+
+        @Test
+        @DisplayName("프로젝트 데이터 버전 조회")
+        void getDataVersion_Success() {
+            // Given
+            given(projectRepository.findDataVersionById(1L)).willReturn(Optional.of(7L));
+            given(projectRepository.findDataVersionById(999L)).willReturn(Optional.empty());
+
+            // When & Then
+            assertThat(projectService.getDataVersion(1L)).isEqualTo(7L);
+            assertThatThrownBy(() -> projectService.getDataVersion(999L))
+                    .isInstanceOf(ProjectNotFoundException.class);
         }
 
         @Test
@@ -8,11 +8,16 @@ import com.liam.gantt.entity.enums.ProjectStatus;
 import com.liam.gantt.entity.enums.TaskStatus;
 import com.liam.gantt.exception.ProjectNotFoundException;
 import com.liam.gantt.exception.TaskNotFoundException;
+import com.liam.gantt.interval.TaskIntervalIndex;
 import com.liam.gantt.mapper.TaskMapper;
 import com.liam.gantt.repository.ProjectRepository;
+import com.liam.gantt.repository.TaskClosureRepository;
 import com.liam.gantt.repository.TaskRepository;
 import com.liam.gantt.repository.TaskDependencyRepository;
+import com.liam.gantt.rollup.ProgressRollupUpdater;
+import com.liam.gantt.scheduling.DependencyGraphCache;
 import com.liam.gantt.service.impl.TaskServiceImpl;
+import com.liam.gantt.sync.ProjectChangeTracker;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
@@ -57,6 +62,21 @@ class TaskServiceImplTest {
     @Mock
     private TaskMapper taskMapper;
 
+    @Mock
+    private DependencyGraphCache dependencyGraphCache;
+
+    @Mock
+    private ProjectChangeTracker projectChangeTracker;
+
+    @Mock
+    private ProgressRollupUpdater progressRollupUpdater;
+
+    @Mock
+    private TaskClosureRepository taskClosureRepository;
+
+    @Mock
+    private TaskIntervalIndex taskIntervalIndex;
+
     @InjectMocks
     private TaskServiceImpl taskService;
 
@@ -366,6 +386,7 @@ class TaskServiceImplTest {
             assertThat(result).isNotNull();
             verify(taskRepository).findById(taskId);
             verify(taskRepository).save(testTask);
+            verify(projectRepository).addTaskRollup(1L, 0, 0, new BigDecimal("45.0"));
         }
 
         @Test
@@ -386,6 +407,7 @@ class TaskServiceImplTest {
             assertThat(result).isNotNull();
             verify(taskRepository).findById(taskId);
             verify(taskRepository).save(testTask);
+            verify(projectRepository).addTaskRollup(1L, 0, 1, new BigDecimal("70.0"));
         }
     }
 
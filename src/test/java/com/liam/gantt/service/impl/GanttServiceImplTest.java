@@ -1,8 +1,11 @@
 package com.liam.gantt.service.impl;
 
+import com.liam.gantt.cache.GanttChartCache;
 import com.liam.gantt.dto.request.TaskDependencyRequestDto;
+import com.liam.gantt.dto.response.DependencyBatchResultDto;
 import com.liam.gantt.dto.response.GanttChartDto;
 import com.liam.gantt.dto.response.ProjectResponseDto;
+import com.liam.gantt.dto.response.ScheduleChangeSummaryDto;
 import com.liam.gantt.dto.response.TaskDependencyResponseDto;
 import com.liam.gantt.dto.response.TaskResponseDto;
 import com.liam.gantt.entity.Project;
@@ -17,14 +20,22 @@ import com.liam.gantt.exception.TaskNotFoundException;
 import com.liam.gantt.mapper.ProjectMapper;
 import com.liam.gantt.mapper.TaskMapper;
 import com.liam.gantt.repository.ProjectRepository;
+import com.liam.gantt.repository.TaskClosureRepository;
+import com.liam.gantt.repository.TaskDependencyJdbcRepository;
 import com.liam.gantt.repository.TaskDependencyRepository;
+import com.liam.gantt.repository.TaskJdbcRepository;
 import com.liam.gantt.repository.TaskRepository;
+import com.liam.gantt.scheduling.DependencyGraphCache;
+import com.liam.gantt.scheduling.TaskDateChange;
+import com.liam.gantt.sync.ProjectChangeTracker;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.math.BigDecimal;
@@ -51,6 +62,9 @@ class GanttServiceImplTest {
     @Mock
     private TaskRepository taskRepository;
 
+    @Mock
+    private TaskClosureRepository taskClosureRepository;
+
     @Mock
     private TaskDependencyRepository taskDependencyRepository;
 
@@ -60,6 +74,21 @@ class GanttServiceImplTest {
     @Mock
     private TaskMapper taskMapper;
 
+    @Mock
+    private TaskDependencyJdbcRepository taskDependencyJdbcRepository;
+
+    @Mock
+    private TaskJdbcRepository taskJdbcRepository;
+
+    @Mock
+    private DependencyGraphCache dependencyGraphCache;
+
+    @Spy
+    private GanttChartCache ganttChartCache = new GanttChartCache();
+
+    @Mock
+    private ProjectChangeTracker projectChangeTracker;
+
     @InjectMocks
     private GanttServiceImpl ganttService;
 
@@ -317,6 +346,72 @@ class GanttServiceImplTest {
         // 현재 구현에서는 순환 의존성 체크가 없으므로 통과할 수 있음
     }
 
+    @Test
+    @DisplayName("태스크 의존성 일괄 추가 - 성공")
+    void addDependencies_Success() {
+        // Given
+        List<TaskDependencyRequestDto> requests = Arrays.asList(
+                TaskDependencyRequestDto.builder().predecessorId(1L).successorId(3L).build(),
+                TaskDependencyRequestDto.builder().predecessorId(2L).successorId(3L).build());
+
+        given(projectRepository.existsById(1L)).willReturn(true);
+        given(taskRepository.findIdsByProjectId(1L)).willReturn(Arrays.asList(1L, 2L, 3L));
+        given(taskDependencyRepository.findScheduleRowsByProjectId(1L))
+                .willReturn(Collections.singletonList(new Object[]{1L, 2L, DependencyType.FINISH_TO_START, 0}));
+        given(taskDependencyJdbcRepository.batchInsert(requests)).willReturn(Arrays.asList(11L, 12L));
+
+        // When
+        DependencyBatchResultDto result = ganttService.addDependencies(1L, requests);
+
+        // Then
+        assertThat(result.getCreatedCount()).isEqualTo(2);
+        assertThat(result.getDependencyIds()).containsExactly(11L, 12L);
+        verify(taskDependencyJdbcRepository).batchInsert(requests);
+        verify(dependencyGraphCache).invalidate(1L);
+        verify(taskRepository, never()).findById(any());
+    }
+
+    @Test
+    @DisplayName("태스크 의존성 일괄 추가 - 새 의존성끼리 순환")
+    void addDependencies_CycleAmongNewEdges() {
+        // Given (기존 1 -> 2 에 2 -> 3, 3 -> 1 추가)
+        List<TaskDependencyRequestDto> requests = Arrays.asList(
+                TaskDependencyRequestDto.builder().predecessorId(2L).successorId(3L).build(),
+                TaskDependencyRequestDto.builder().predecessorId(3L).successorId(1L).build());
+
+        given(projectRepository.existsById(1L)).willReturn(true);
+        given(taskRepository.findIdsByProjectId(1L)).willReturn(Arrays.asList(1L, 2L, 3L));
+        given(taskDependencyRepository.findScheduleRowsByProjectId(1L))
+                .willReturn(Collections.singletonList(new Object[]{1L, 2L, DependencyType.FINISH_TO_START, 0}));
+
+        // When & Then
+        assertThatThrownBy(() -> ganttService.addDependencies(1L, requests))
+                .isInstanceOf(InvalidRequestException.class)
+                .hasMessageContaining("dependencies[1]")
+                .hasMessageContaining("순환 의존성");
+
+        verify(taskDependencyJdbcRepository, never()).batchInsert(any());
+    }
+
+    @Test
+    @DisplayName("태스크 의존성 일괄 추가 - 요청 내 중복")
+    void addDependencies_DuplicateInBatch() {
+        // Given
+        List<TaskDependencyRequestDto> requests = Arrays.asList(
+                TaskDependencyRequestDto.builder().predecessorId(2L).successorId(3L).build(),
+                TaskDependencyRequestDto.builder().predecessorId(2L).successorId(3L).build());
+
+        given(projectRepository.existsById(1L)).willReturn(true);
+        given(taskRepository.findIdsByProjectId(1L)).willReturn(Arrays.asList(1L, 2L, 3L));
+        given(taskDependencyRepository.findScheduleRowsByProjectId(1L)).willReturn(Collections.emptyList());
+
+        // When & Then
+        assertThatThrownBy(() -> ganttService.addDependencies(1L, requests))
+                .isInstanceOf(InvalidRequestException.class)
+                .hasMessageContaining("dependencies[1]")
+                .hasMessageContaining("이미 존재하는 의존성입니다");
+    }
+
     @Test
     @DisplayName("태스크 의존성 삭제 - 성공")
     void removeTaskDependency_Success() {
@@ -351,11 +446,13 @@ class GanttServiceImplTest {
     @DisplayName("임계 경로 계산")
     void calculateCriticalPath_Success() {
         // Given
-        given(projectRepository.findById(1L)).willReturn(Optional.of(testProject));
-        given(taskRepository.findCriticalPathTasks(1L)).willReturn(Arrays.asList(task1, task2, task3));
-        given(taskMapper.toResponseDto(task1)).willReturn(taskResponseDto1);
-        given(taskMapper.toResponseDto(task2)).willReturn(taskResponseDto2);
-        given(taskMapper.toResponseDto(task3)).willReturn(taskResponseDto3);
+        given(taskRepository.findLeafScheduleRowsByProjectId(1L)).willReturn(Arrays.asList(
+                new Object[]{1L, task1.getStartDate(), task1.getEndDate()},
+                new Object[]{2L, task2.getStartDate(), task2.getEndDate()},
+                new Object[]{3L, task3.getStartDate(), task3.getEndDate()}));
+        given(taskDependencyRepository.findScheduleRowsByProjectId(1L)).willReturn(Arrays.asList(
+                new Object[]{1L, 2L, DependencyType.FINISH_TO_START, 0},
+                new Object[]{2L, 3L, DependencyType.FINISH_TO_START, 0}));
 
         // When
         List<Long> result = ganttService.calculateCriticalPath(1L);
@@ -364,8 +461,82 @@ class GanttServiceImplTest {
         assertThat(result).hasSize(3);
         assertThat(result).containsExactly(1L, 2L, 3L);
 
-        verify(projectRepository).findById(1L);
-        verify(taskRepository).findCriticalPathTasks(1L);
+        verify(taskRepository).findLeafScheduleRowsByProjectId(1L);
+        verify(taskDependencyRepository).findScheduleRowsByProjectId(1L);
+    }
+
+    @Test
+    @DisplayName("임계 경로 계산 - 여유가 있는 태스크는 제외")
+    void calculateCriticalPath_ExcludesTasksWithFloat() {
+        // Given - 태스크 2는 태스크 1과 병렬로 진행되며 태스크 3 시작 전까지 여유가 있음
+        given(taskRepository.findLeafScheduleRowsByProjectId(1L)).willReturn(Arrays.asList(
+                new Object[]{1L, LocalDate.of(2025, 1, 1), LocalDate.of(2025, 1, 31)},
+                new Object[]{2L, LocalDate.of(2025, 1, 1), LocalDate.of(2025, 1, 10)},
+                new Object[]{3L, LocalDate.of(2025, 2, 1), LocalDate.of(2025, 2, 28)}));
+        given(taskDependencyRepository.findScheduleRowsByProjectId(1L)).willReturn(Arrays.asList(
+                new Object[]{1L, 3L, DependencyType.FINISH_TO_START, 0},
+                new Object[]{2L, 3L, DependencyType.FINISH_TO_START, 0}));
+
+        // When
+        List<Long> result = ganttService.calculateCriticalPath(1L);
+
+        // Then
+        assertThat(result).containsExactly(1L, 3L);
+    }
+
+    @Test
+    @DisplayName("임계 경로 계산 - 요약 태스크에 걸린 의존성은 하위 리프 태스크로 펼침")
+    void calculateCriticalPath_ExpandsSummaryDependencies() {
+        // Given - 요약 태스크 10 = {1, 2}, 10 -> 3, 태스크 1이 요약 태스크 기간을 결정
+        given(taskRepository.findLeafScheduleRowsByProjectId(1L)).willReturn(Arrays.asList(
+                new Object[]{1L, LocalDate.of(2025, 1, 1), LocalDate.of(2025, 1, 31)},
+                new Object[]{2L, LocalDate.of(2025, 1, 1), LocalDate.of(2025, 1, 10)},
+                new Object[]{3L, LocalDate.of(2025, 2, 1), LocalDate.of(2025, 2, 28)}));
+        given(taskDependencyRepository.findScheduleRowsByProjectId(1L)).willReturn(Collections.singletonList(
+                new Object[]{10L, 3L, DependencyType.FINISH_TO_START, 0}));
+        given(taskClosureRepository.findSummaryLeafRowsByProjectId(1L)).willReturn(Arrays.asList(
+                new Object[]{10L, 1L},
+                new Object[]{10L, 2L}));
+
+        // When
+        List<Long> result = ganttService.calculateCriticalPath(1L);
+
+        // Then
+        assertThat(result).containsExactly(1L, 3L);
+    }
+
+    @Test
+    @DisplayName("일정 재계산 - 리프 태스크만 이동하고 요약 태스크는 하위 태스크 기간에 맞춤")
+    @SuppressWarnings("unchecked")
+    void recalculateProjectSchedule_MovesLeavesAndRollsUpSummary() {
+        // Given - 태스크 3(1/1~1/5) -> 요약 태스크 10(1/3~1/7) = {1(1/3~1/7), 2(1/4~1/5)}
+        given(projectRepository.existsById(1L)).willReturn(true);
+        given(taskRepository.findScheduleRowsByProjectId(1L)).willReturn(Arrays.asList(
+                new Object[]{10L, LocalDate.of(2025, 1, 3), LocalDate.of(2025, 1, 7)},
+                new Object[]{1L, LocalDate.of(2025, 1, 3), LocalDate.of(2025, 1, 7)},
+                new Object[]{2L, LocalDate.of(2025, 1, 4), LocalDate.of(2025, 1, 5)},
+                new Object[]{3L, LocalDate.of(2025, 1, 1), LocalDate.of(2025, 1, 5)}));
+        given(taskClosureRepository.findSummaryLeafRowsByProjectId(1L)).willReturn(Arrays.asList(
+                new Object[]{10L, 1L},
+                new Object[]{10L, 2L}));
+        given(taskDependencyRepository.findScheduleRowsByProjectId(1L)).willReturn(Collections.singletonList(
+                new Object[]{3L, 10L, DependencyType.FINISH_TO_START, 0}));
+
+        // When
+        ScheduleChangeSummaryDto result = ganttService.recalculateProjectSchedule(1L);
+
+        // Then
+        ArgumentCaptor<List<TaskDateChange>> captor = ArgumentCaptor.forClass(List.class);
+        verify(taskJdbcRepository).batchUpdateDates(captor.capture());
+        assertThat(captor.getValue()).extracting(TaskDateChange::taskId).containsExactlyInAnyOrder(1L, 2L, 10L);
+        TaskDateChange summaryChange = captor.getValue().stream()
+                .filter(change -> change.taskId() == 10L)
+                .findFirst()
+                .orElseThrow();
+        assertThat(summaryChange.startDate()).isEqualTo(LocalDate.of(2025, 1, 6));
+        assertThat(summaryChange.endDate()).isEqualTo(LocalDate.of(2025, 1, 10));
+        assertThat(result.getMovedTaskCount()).isEqualTo(3);
+        assertThat(result.getMaxSlipDays()).isEqualTo(3);
     }
 
     // @Test
@@ -9,7 +9,11 @@ import com.liam.gantt.entity.enums.TaskStatus;
 import com.liam.gantt.exception.ProjectNotFoundException;
 import com.liam.gantt.mapper.ProjectMapper;
 import com.liam.gantt.repository.ProjectRepository;
+import com.liam.gantt.repository.TaskClosureRepository;
 import com.liam.gantt.repository.TaskRepository;
+import com.liam.gantt.rollup.ProgressRollupUpdater;
+import com.liam.gantt.scheduling.DependencyGraphCache;
+import com.liam.gantt.sync.ProjectChangeTracker;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -28,6 +32,7 @@ import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
@@ -49,6 +54,18 @@ class ProjectServiceImplTest {
     @Mock
     private ProjectMapper projectMapper;
 
+    @Mock
+    private DependencyGraphCache dependencyGraphCache;
+
+    @Mock
+    private ProjectChangeTracker projectChangeTracker;
+
+    @Mock
+    private ProgressRollupUpdater progressRollupUpdater;
+
+    @Mock
+    private TaskClosureRepository taskClosureRepository;
+
     @InjectMocks
     private ProjectServiceImpl projectService;
 
@@ -358,19 +375,17 @@ class ProjectServiceImplTest {
     }
 
     @Test
-    @DisplayName("프로젝트 진행률 계산")
+    @DisplayName("프로젝트 진행률 계산 - 재계산으로 바뀐 상위 태스크와 프로젝트를 변경 기록")
     void calculateProjectProgress_Success() {
-        // Given
-        testProject.setTasks(testTasks);
+        // Given: 상위 태스크 5의 진행률과 프로젝트 진행률이 보정됨
         ProjectResponseDto responseWithProgress = ProjectResponseDto.builder()
                 .id(1L)
                 .name("테스트 프로젝트")
-                .averageProgress(75.0) // (100 + 50) / 2
                 .build();
 
         given(projectRepository.findById(1L)).willReturn(Optional.of(testProject));
-        given(taskRepository.findByProjectId(1L)).willReturn(testTasks);
-        given(projectRepository.save(any(Project.class))).willReturn(testProject);
+        given(progressRollupUpdater.recalculateProjectWithChanges(1L)).willReturn(
+                new ProgressRollupUpdater.Recalculation(BigDecimal.valueOf(75), Set.of(5L), true));
         given(projectMapper.toResponseDto(any(Project.class))).willReturn(responseWithProgress);
 
         // When
@@ -378,11 +393,27 @@ class ProjectServiceImplTest {
 
         // Then
         assertThat(result).isNotNull();
-        assertThat(result.getAverageProgress()).isEqualTo(BigDecimal.valueOf(75));
+        assertThat(result.getProgress()).isEqualTo(75.0);
 
-        verify(projectRepository).findById(1L);
-        verify(taskRepository).findByProjectId(1L);
-        verify(projectRepository).save(any(Project.class));
+        verify(projectChangeTracker).tasksChanged(1L, Set.of(5L));
+        verify(projectChangeTracker).projectChanged(1L);
+        verify(projectRepository, never()).save(any(Project.class));
+    }
+
+    @Test
+    @DisplayName("프로젝트 진행률 계산 - 바뀐 값이 없으면 변경 기록 없음")
+    void calculateProjectProgress_Unchanged_NoChangeRecorded() {
+        // Given
+        given(projectRepository.findById(1L)).willReturn(Optional.of(testProject));
+        given(progressRollupUpdater.recalculateProjectWithChanges(1L)).willReturn(
+                new ProgressRollupUpdater.Recalculation(BigDecimal.valueOf(75), Set.of(), false));
+        given(projectMapper.toResponseDto(any(Project.class))).willReturn(testResponseDto);
+
+        // When
+        projectService.calculateProjectProgress(1L);
+
+        // Then
+        verifyNoInteractions(projectChangeTracker);
     }
 
     @Test
@@ -0,0 +1,93 @@
+package com.liam.gantt.service.impl;
+
+import com.liam.gantt.dto.response.ProjectStatisticsDto;
+import com.liam.gantt.entity.enums.ProjectStatus;
+import com.liam.gantt.repository.ProjectRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ProjectStatisticsServiceImpl 단위 테스트")
+class ProjectStatisticsServiceImplTest {
+
+    @Mock
+    private ProjectRepository projectRepository;
+
+    private final AtomicLong clock = new AtomicLong();
+    private final List<Runnable> refreshTasks = new ArrayList<>();
+
+    private ProjectStatisticsServiceImpl statisticsService;
+
+    @BeforeEach
+    void setUp() {
+        statisticsService = new ProjectStatisticsServiceImpl(
+                projectRepository, Duration.ofSeconds(30), clock::get, refreshTasks::add);
+    }
+
+    @Test
+    @DisplayName("GROUP BY 결과 한 번으로 상태별 개수 집계")
+    void getStatistics_AggregatesSingleQuery() {
+        given(projectRepository.countByStatus()).willReturn(List.<Object[]>of(
+                new Object[]{ProjectStatus.PLANNING, 2L},
+                new Object[]{ProjectStatus.IN_PROGRESS, 3L},
+                new Object[]{ProjectStatus.COMPLETED, 1L}));
+
+        ProjectStatisticsDto statistics = statisticsService.getStatistics();
+
+        assertThat(statistics.getTotalProjects()).isEqualTo(6);
+        assertThat(statistics.getPlanningProjects()).isEqualTo(2);
+        assertThat(statistics.getInProgressProjects()).isEqualTo(3);
+        assertThat(statistics.getCompletedProjects()).isEqualTo(1);
+        assertThat(statistics.getOnHoldProjects()).isZero();
+        assertThat(statistics.getCancelledProjects()).isZero();
+        verify(projectRepository, times(1)).countByStatus();
+    }
+
+    @Test
+    @DisplayName("보관 시간 안에는 다시 집계하지 않음")
+    void getStatistics_ReturnsCachedWithinTimeToLive() {
+        given(projectRepository.countByStatus()).willReturn(List.<Object[]>of(new Object[]{ProjectStatus.PLANNING, 1L}));
+
+        ProjectStatisticsDto first = statisticsService.getStatistics();
+        clock.addAndGet(Duration.ofSeconds(10).toNanos());
+        ProjectStatisticsDto second = statisticsService.getStatistics();
+
+        assertThat(second).isSameAs(first);
+        assertThat(refreshTasks).isEmpty();
+        verify(projectRepository, times(1)).countByStatus();
+    }
+
+    @Test
+    @DisplayName("보관 시간이 지나면 이전 값을 반환하고 백그라운드에서 한 번만 갱신")
+    void getStatistics_RefreshesAsynchronouslyWhenStale() {
+        given(projectRepository.countByStatus())
+                .willReturn(List.<Object[]>of(new Object[]{ProjectStatus.PLANNING, 1L}))
+                .willReturn(List.<Object[]>of(new Object[]{ProjectStatus.PLANNING, 4L}));
+
+        ProjectStatisticsDto first = statisticsService.getStatistics();
+        clock.addAndGet(Duration.ofSeconds(31).toNanos());
+
+        assertThat(statisticsService.getStatistics()).isSameAs(first);
+        assertThat(statisticsService.getStatistics()).isSameAs(first);
+        assertThat(refreshTasks).hasSize(1);
+
+        refreshTasks.get(0).run();
+
+        assertThat(statisticsService.getStatistics().getTotalProjects()).isEqualTo(4);
+        verify(projectRepository, times(2)).countByStatus();
+    }
+}
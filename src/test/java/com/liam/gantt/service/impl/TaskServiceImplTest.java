@@ -1,20 +1,35 @@
 package com.liam.gantt.service.impl;
 
+import com.liam.gantt.dto.request.TaskImportItemDto;
+import com.liam.gantt.dto.request.TaskProgressUpdateDto;
 import com.liam.gantt.dto.request.TaskRequestDto;
+import com.liam.gantt.dto.request.TaskSubtreeMoveRequestDto;
+import com.liam.gantt.dto.response.CursorPageDto;
 import com.liam.gantt.dto.response.TaskDependencyResponseDto;
+import com.liam.gantt.dto.response.TaskImportResultDto;
+import com.liam.gantt.dto.response.TaskProgressBatchResultDto;
 import com.liam.gantt.dto.response.TaskResponseDto;
 import com.liam.gantt.entity.Project;
 import com.liam.gantt.entity.Task;
+import com.liam.gantt.entity.TaskClosureId;
 import com.liam.gantt.entity.TaskDependency;
 import com.liam.gantt.entity.enums.DependencyType;
 import com.liam.gantt.entity.enums.ProjectStatus;
 import com.liam.gantt.entity.enums.TaskStatus;
 import com.liam.gantt.exception.ProjectNotFoundException;
 import com.liam.gantt.exception.TaskNotFoundException;
+import com.liam.gantt.interval.TaskIntervalIndex;
 import com.liam.gantt.mapper.TaskMapper;
+import com.liam.gantt.pagination.KeysetCursor;
 import com.liam.gantt.repository.ProjectRepository;
+import com.liam.gantt.repository.TaskClosureRepository;
 import com.liam.gantt.repository.TaskDependencyRepository;
+import com.liam.gantt.repository.TaskJdbcRepository;
 import com.liam.gantt.repository.TaskRepository;
+import com.liam.gantt.repository.projection.GanttTaskRow;
+import com.liam.gantt.rollup.ProgressRollupUpdater;
+import com.liam.gantt.scheduling.DependencyGraphCache;
+import com.liam.gantt.sync.ProjectChangeTracker;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -37,6 +52,7 @@ import java.util.Optional;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.Mockito.*;
@@ -57,6 +73,24 @@ class TaskServiceImplTest {
     @Mock
     private TaskMapper taskMapper;
 
+    @Mock
+    private TaskJdbcRepository taskJdbcRepository;
+
+    @Mock
+    private DependencyGraphCache dependencyGraphCache;
+
+    @Mock
+    private ProjectChangeTracker projectChangeTracker;
+
+    @Mock
+    private ProgressRollupUpdater progressRollupUpdater;
+
+    @Mock
+    private TaskClosureRepository taskClosureRepository;
+
+    @Mock
+    private TaskIntervalIndex taskIntervalIndex;
+
     @InjectMocks
     private TaskServiceImpl taskService;
 
@@ -220,6 +254,23 @@ class TaskServiceImplTest {
         verify(taskRepository).findById(999L);
     }
 
+    @Test
+    @DisplayName("태스크 ID로 조회 - 깊이와 리프 여부는 클로저 테이블에서 조회")
+    void findById_HierarchyInfoFromClosure() {
+        // Given
+        given(taskRepository.findById(1L)).willReturn(Optional.of(testTask));
+        given(taskMapper.toResponseDto(testTask)).willReturn(testResponseDto);
+        given(taskClosureRepository.findDepth(1L)).willReturn(Optional.of(2));
+        given(taskClosureRepository.existsDescendants(1L)).willReturn(true);
+
+        // When
+        TaskResponseDto result = taskService.findById(1L);
+
+        // Then
+        assertThat(result.getLevel()).isEqualTo(2);
+        assertThat(result.getIsLeaf()).isFalse();
+    }
+
     @Test
     @DisplayName("프로젝트별 태스크 목록 조회")
     void findByProjectId_Success() {
@@ -267,6 +318,63 @@ class TaskServiceImplTest {
         verify(taskRepository).findByProjectId(1L, pageable);
     }
 
+    @Test
+    @DisplayName("프로젝트별 태스크 커서 조회 - 한 건 더 읽어 다음 페이지 커서 생성")
+    void findByProjectIdWithCursor_FirstPage() {
+        // Given: (시작일, ID) 순으로 size + 1건 반환
+        given(taskRepository.findKeysetFirstPage(eq(1L), argThat(limit -> limit.max() == 3)))
+                .willReturn(Arrays.asList(parentTask, testTask, childTask));
+        given(taskMapper.toResponseDto(any(Task.class))).willReturn(testResponseDto);
+
+        // When
+        CursorPageDto<TaskResponseDto> result = taskService.findByProjectIdWithCursor(1L, null, 2, false);
+
+        // Then
+        assertThat(result.getContent()).hasSize(2);
+        assertThat(result.getSize()).isEqualTo(2);
+        assertThat(result.isHasNext()).isTrue();
+        assertThat(KeysetCursor.decode(result.getNextCursor()))
+                .isEqualTo(KeysetCursor.of(LocalDate.of(2025, 1, 15), 1L));
+        assertThat(result.getTotalCount()).isNull();
+
+        verify(taskMapper, never()).toResponseDto(childTask);
+        verify(taskRepository, never()).countByProjectId(any());
+    }
+
+    @Test
+    @DisplayName("프로젝트별 태스크 커서 조회 - 커서 이후 마지막 페이지")
+    void findByProjectIdWithCursor_LastPage() {
+        // Given
+        String cursor = KeysetCursor.of(LocalDate.of(2025, 1, 15), 1L).encode();
+        given(taskRepository.findKeysetPageAfter(eq(1L), eq(LocalDate.of(2025, 1, 15)), eq(1L),
+                argThat(limit -> limit.max() == 3)))
+                .willReturn(List.of(childTask));
+        given(taskMapper.toResponseDto(childTask)).willReturn(testResponseDto);
+        given(taskRepository.countByProjectId(1L)).willReturn(3L);
+
+        // When
+        CursorPageDto<TaskResponseDto> result = taskService.findByProjectIdWithCursor(1L, cursor, 2, true);
+
+        // Then
+        assertThat(result.getContent()).hasSize(1);
+        assertThat(result.isHasNext()).isFalse();
+        assertThat(result.getNextCursor()).isNull();
+        assertThat(result.getTotalCount()).isEqualTo(3L);
+
+        verify(taskRepository, never()).findKeysetFirstPage(any(), any());
+    }
+
+    @Test
+    @DisplayName("프로젝트별 태스크 커서 조회 - 잘못된 커서")
+    void findByProjectIdWithCursor_InvalidCursor() {
+        // When & Then
+        assertThatThrownBy(() -> taskService.findByProjectIdWithCursor(1L, "not-a-cursor", 2, false))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("잘못된 커서");
+
+        verifyNoInteractions(taskRepository);
+    }
+
     @Test
     @DisplayName("부모 태스크 ID로 하위 태스크 조회")
     void findByParentTaskId_Success() {
@@ -413,11 +521,10 @@ class TaskServiceImplTest {
     }
 
     @Test
-    @DisplayName("루트 태스크 조회")
+    @DisplayName("루트 태스크 조회 - 평면 조회 한 번으로 하위 계층까지 구성")
     void findRootTasks_Success() {
-        // Given
-        List<Task> rootTasks = Arrays.asList(parentTask);
-        given(taskRepository.findByProjectIdAndParentTaskIsNull(1L)).willReturn(rootTasks);
+        // Given: 부모 태스크(2) > 테스트 태스크(1)
+        given(taskRepository.findByProjectIdOrderByStartDateAsc(1L)).willReturn(Arrays.asList(parentTask, testTask));
         given(taskMapper.toResponseDto(parentTask)).willReturn(
                 TaskResponseDto.builder()
                         .id(2L)
@@ -425,6 +532,13 @@ class TaskServiceImplTest {
                         .parentTaskId(null)
                         .build()
         );
+        given(taskMapper.toResponseDto(testTask)).willReturn(
+                TaskResponseDto.builder()
+                        .id(1L)
+                        .name("테스트 태스크")
+                        .parentTaskId(2L)
+                        .build()
+        );
 
         // When
         List<TaskResponseDto> result = taskService.findRootTasks(1L);
@@ -432,8 +546,12 @@ class TaskServiceImplTest {
         // Then
         assertThat(result).hasSize(1);
         assertThat(result.get(0).getParentTaskId()).isNull();
+        assertThat(result.get(0).getSubTasks()).extracting(TaskResponseDto::getId).containsExactly(1L);
+        assertThat(result.get(0).getSubTasks().get(0).getLevel()).isEqualTo(1);
+        assertThat(result.get(0).getSubTasks().get(0).getParentTaskName()).isEqualTo("부모 태스크");
 
-        verify(taskRepository).findByProjectIdAndParentTaskIsNull(1L);
+        verify(taskRepository).findByProjectIdOrderByStartDateAsc(1L);
+        verify(taskRepository, never()).findByProjectIdAndParentTaskIsNull(any());
     }
 
     @Test
@@ -581,4 +699,202 @@ class TaskServiceImplTest {
         verify(taskRepository).findById(1L);
         verify(taskRepository).save(any(Task.class));
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("태스크 계층구조 조회 - 평면 조회 1회로 트리 구성")
+    void findTaskHierarchyByProjectId_BuildsTreeFromFlatQuery() {
+        // Given
+        given(taskRepository.findByProjectIdOrderByStartDateAsc(1L)).willReturn(Arrays.asList(parentTask, testTask));
+        given(taskMapper.toResponseDto(parentTask)).willReturn(
+                TaskResponseDto.builder().id(2L).name("부모 태스크").build());
+        given(taskMapper.toResponseDto(testTask)).willReturn(
+                TaskResponseDto.builder().id(1L).name("테스트 태스크").parentTaskId(2L).build());
+
+        // When
+        List<TaskResponseDto> result = taskService.findTaskHierarchyByProjectId(1L);
+
+        // Then
+        assertThat(result).hasSize(1);
+        assertThat(result.get(0).getLevel()).isEqualTo(0);
+        assertThat(result.get(0).getIsLeaf()).isFalse();
+        assertThat(result.get(0).getSubTasks()).extracting(TaskResponseDto::getId).containsExactly(1L);
+        assertThat(result.get(0).getSubTasks().get(0).getLevel()).isEqualTo(1);
+
+        verify(taskRepository).findByProjectIdOrderByStartDateAsc(1L);
+        verify(taskRepository, never()).findByProjectIdAndParentTaskIsNull(any());
+    }
+
+    @Test
+    @DisplayName("간트 차트 태스크 계층구조 조회 - 프로젝션 행으로 트리 구성")
+    void findGanttTaskTree_BuildsTreeFromRows() {
+        // Given
+        given(taskRepository.findGanttRowsByProjectId(1L)).willReturn(Arrays.asList(
+                new GanttTaskRow(2L, null, "부모 태스크", LocalDate.of(2025, 1, 1), LocalDate.of(2025, 1, 31),
+                        BigDecimal.valueOf(100), TaskStatus.COMPLETED),
+                new GanttTaskRow(1L, 2L, "테스트 태스크", LocalDate.of(2025, 1, 1), LocalDate.of(2025, 1, 10),
+                        BigDecimal.ZERO, TaskStatus.NOT_STARTED)));
+
+        // When
+        List<TaskResponseDto> result = taskService.findGanttTaskTree(1L);
+
+        // Then
+        assertThat(result).hasSize(1);
+        TaskResponseDto child = result.get(0).getSubTasks().get(0);
+        assertThat(child.getParentTaskName()).isEqualTo("부모 태스크");
+        assertThat(child.getDuration()).isEqualTo(10);
+        assertThat(child.getLevel()).isEqualTo(1);
+        assertThat(result.get(0).getIsCompleted()).isTrue();
+
+        verify(taskRepository, never()).findByProjectIdOrderByStartDateAsc(any());
+        verifyNoInteractions(taskMapper);
+    }
+
+    @Test
+    @DisplayName("태스크 일괄 가져오기 - 상위 태스크부터 깊이별 등록")
+    void importTasks_InsertsByDepth() {
+        // Given (자식이 부모보다 먼저 나와도 부모부터 등록)
+        List<TaskImportItemDto> items = Arrays.asList(
+                importItem("child", "root"),
+                importItem("root", null),
+                importItem("grandchild", "child"));
+
+        given(projectRepository.existsById(1L)).willReturn(true);
+        given(taskJdbcRepository.batchInsert(eq(1L), any(), any()))
+                .willReturn(List.of(100L))
+                .willReturn(List.of(101L))
+                .willReturn(List.of(102L));
+
+        // When
+        TaskImportResultDto result = taskService.importTasks(1L, items);
+
+        // Then
+        assertThat(result.getCreatedCount()).isEqualTo(3);
+        assertThat(result.getTaskIds()).containsEntry("root", 100L)
+                .containsEntry("child", 101L)
+                .containsEntry("grandchild", 102L);
+        verify(taskJdbcRepository).batchInsert(1L, List.of(items.get(2)), Collections.singletonList(101L));
+        verify(taskRepository, never()).findById(any());
+    }
+
+    @Test
+    @DisplayName("태스크 일괄 가져오기 - 상위 참조 순환 시 예외 발생")
+    void importTasks_ParentCycle() {
+        // Given
+        List<TaskImportItemDto> items = Arrays.asList(
+                importItem("a", "b"),
+                importItem("b", "a"));
+
+        given(projectRepository.existsById(1L)).willReturn(true);
+
+        // When & Then
+        assertThatThrownBy(() -> taskService.importTasks(1L, items))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("순환");
+
+        verify(taskJdbcRepository, never()).batchInsert(any(), any(), any());
+    }
+
+    @Test
+    @DisplayName("태스크 진행률 일괄 업데이트 - 변경된 항목만 한 번에 갱신")
+    void updateProgressBatch_UpdatesChangedOnly() {
+        // Given
+        List<TaskProgressUpdateDto> items = List.of(
+                new TaskProgressUpdateDto(10L, BigDecimal.valueOf(100)),
+                new TaskProgressUpdateDto(11L, BigDecimal.valueOf(40)),
+                new TaskProgressUpdateDto(12L, BigDecimal.valueOf(50)));
+
+        given(projectRepository.existsById(1L)).willReturn(true);
+        given(taskRepository.findGanttRowsByProjectIdAndIdIn(eq(1L), any())).willReturn(List.of(
+                progressRow(10L, 5L, "60", TaskStatus.IN_PROGRESS),
+                progressRow(11L, null, "0", TaskStatus.NOT_STARTED),
+                progressRow(12L, 5L, "50", TaskStatus.IN_PROGRESS)));
+
+        // When
+        TaskProgressBatchResultDto result = taskService.updateProgressBatch(1L, items);
+
+        // Then
+        assertThat(result.getRequestedCount()).isEqualTo(3);
+        assertThat(result.getUpdatedCount()).isEqualTo(2);
+        verify(taskJdbcRepository).batchUpdateProgressAndStatus(List.of(
+                new TaskJdbcRepository.ProgressChange(10L, BigDecimal.valueOf(100), TaskStatus.COMPLETED),
+                new TaskJdbcRepository.ProgressChange(11L, BigDecimal.valueOf(40), TaskStatus.IN_PROGRESS)));
+        verify(projectRepository).addTaskRollup(1L, 0, 1, new BigDecimal("80"));
+        verify(progressRollupUpdater).tasksChanged(1L, Arrays.asList(5L, null));
+        verify(projectChangeTracker).tasksChanged(1L, List.of(10L, 11L));
+        verify(taskRepository, never()).findById(any());
+    }
+
+    @Test
+    @DisplayName("태스크 진행률 일괄 업데이트 - 프로젝트에 없는 태스크 포함 시 예외 발생")
+    void updateProgressBatch_UnknownTask() {
+        // Given
+        List<TaskProgressUpdateDto> items = List.of(
+                new TaskProgressUpdateDto(10L, BigDecimal.valueOf(30)),
+                new TaskProgressUpdateDto(99L, BigDecimal.valueOf(30)));
+
+        given(projectRepository.existsById(1L)).willReturn(true);
+        given(taskRepository.findGanttRowsByProjectIdAndIdIn(eq(1L), any())).willReturn(List.of(
+                progressRow(10L, null, "0", TaskStatus.NOT_STARTED)));
+
+        // When & Then
+        assertThatThrownBy(() -> taskService.updateProgressBatch(1L, items))
+                .isInstanceOf(TaskNotFoundException.class);
+
+        verify(taskJdbcRepository, never()).batchUpdateProgressAndStatus(any());
+    }
+
+    @Test
+    @DisplayName("하위 트리 이동 - 자신의 하위 태스크 아래로 이동 시 예외 발생")
+    void moveSubtree_RejectsCycle() {
+        // Given (childTask는 testTask의 하위 태스크)
+        given(taskRepository.findById(1L)).willReturn(Optional.of(testTask));
+        given(taskRepository.findById(3L)).willReturn(Optional.of(childTask));
+        given(taskClosureRepository.existsById(new TaskClosureId(1L, 3L))).willReturn(true);
+
+        // When & Then
+        assertThatThrownBy(() -> taskService.moveSubtree(1L,
+                TaskSubtreeMoveRequestDto.builder().parentTaskId(3L).build()))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("하위 트리");
+
+        verify(taskClosureRepository, never()).detachSubtree(any());
+        verify(taskRepository, never()).shiftSubtreeDates(any(), anyInt());
+    }
+
+    @Test
+    @DisplayName("하위 트리 이동 - 하위 트리 날짜를 한 번에 이동하고 바깥 후행 태스크로 전파")
+    void moveSubtree_ShiftsDates() {
+        // Given
+        given(taskRepository.findById(1L)).willReturn(Optional.of(testTask));
+        given(taskClosureRepository.findSubtreeScheduleRows(1L)).willReturn(List.of(
+                new Object[]{1L, LocalDate.of(2025, 1, 1), LocalDate.of(2025, 1, 10)},
+                new Object[]{2L, LocalDate.of(2025, 1, 2), LocalDate.of(2025, 1, 5)}));
+        given(dependencyRepository.findSuccessorScheduleRows(any())).willReturn(List.of());
+        given(taskMapper.toResponseDto(testTask)).willReturn(TaskResponseDto.builder().id(1L).build());
+
+        // When
+        TaskResponseDto result = taskService.moveSubtree(1L,
+                TaskSubtreeMoveRequestDto.builder().dayOffset(7).build());
+
+        // Then
+        assertThat(result.getAffectedTaskIds()).containsExactly(1L, 2L);
+        verify(taskRepository).shiftSubtreeDates(1L, 7);
+        verify(taskClosureRepository, never()).detachSubtree(any());
+        verify(projectChangeTracker).tasksChanged(1L, List.of(1L, 2L));
+    }
+
+    private GanttTaskRow progressRow(Long id, Long parentId, String progress, TaskStatus status) {
+        return new GanttTaskRow(id, parentId, "태스크 " + id,
+                LocalDate.of(2025, 1, 1), LocalDate.of(2025, 1, 10), new BigDecimal(progress), status);
+    }
+
+    private TaskImportItemDto importItem(String tempId, String parentTempId) {
+        return TaskImportItemDto.builder()
+                .tempId(tempId)
+                .parentTempId(parentTempId)
+                .name("태스크 " + tempId)
+                .startDate(LocalDate.of(2025, 1, 1))
+                .endDate(LocalDate.of(2025, 1, 10))
+                .build();
+    }
+}
@@ -0,0 +1,104 @@
+package com.liam.gantt.sync;
+
+import com.liam.gantt.cache.GanttChartCache;
+import com.liam.gantt.cache.GanttTileCache;
+import com.liam.gantt.entity.enums.ChangeEntityType;
+import com.liam.gantt.interval.TaskIntervalIndex;
+import com.liam.gantt.repository.ProjectChangeJdbcRepository;
+import com.liam.gantt.repository.ProjectChangeRepository;
+import com.liam.gantt.repository.ProjectRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+import static com.liam.gantt.sync.ProjectEventBroadcasterTest.completeTransaction;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ProjectChangeTracker 단위 테스트")
+class ProjectChangeTrackerTest {
+
+    @Mock
+    private ProjectRepository projectRepository;
+
+    @Mock
+    private ProjectChangeRepository changeRepository;
+
+    @Mock
+    private ProjectChangeJdbcRepository changeJdbcRepository;
+
+    @Mock
+    private GanttChartCache ganttChartCache;
+
+    @Mock
+    private GanttTileCache ganttTileCache;
+
+    @Mock
+    private TaskIntervalIndex taskIntervalIndex;
+
+    private ProjectEventBroadcasterTest.RecordingEmitter emitter;
+    private ProjectEventBroadcaster broadcaster;
+    private ProjectChangeTracker tracker;
+
+    @BeforeEach
+    void setUp() throws InterruptedException {
+        emitter = new ProjectEventBroadcasterTest.RecordingEmitter();
+        broadcaster = new ProjectEventBroadcaster(() -> emitter);
+        tracker = new ProjectChangeTracker(projectRepository, changeRepository, changeJdbcRepository,
+                ganttChartCache, ganttTileCache, taskIntervalIndex, broadcaster);
+        broadcaster.subscribe(1L, 4L);
+        assertThat(emitter.next()).contains("event:connected");
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+        broadcaster.destroy();
+    }
+
+    @Test
+    @DisplayName("트랜잭션 안에서 버전과 이력을 기록하고 커밋 후 새 버전으로 이벤트 발행")
+    void taskChanged_PublishesAfterCommit() throws InterruptedException {
+        given(projectRepository.findDataVersionById(1L)).willReturn(Optional.of(5L));
+
+        TransactionSynchronizationManager.initSynchronization();
+        tracker.taskChanged(1L, 10L);
+
+        verify(projectRepository).incrementDataVersion(1L);
+        verify(changeJdbcRepository).batchInsert(1L, 5L, ChangeEntityType.TASK, List.of(10L), false);
+        verify(ganttChartCache).invalidate(1L);
+        verify(ganttTileCache).invalidate(1L);
+        verify(taskIntervalIndex).invalidate(1L);
+        assertThat(emitter.sent.poll(100, TimeUnit.MILLISECONDS)).isNull();
+
+        completeTransaction(TransactionSynchronization.STATUS_COMMITTED);
+
+        assertThat(emitter.next()).contains("event:change").contains("id:5");
+    }
+
+    @Test
+    @DisplayName("롤백되면 이벤트를 발행하지 않음")
+    void taskChanged_RolledBack_NoEvent() throws InterruptedException {
+        given(projectRepository.findDataVersionById(1L)).willReturn(Optional.of(5L));
+
+        TransactionSynchronizationManager.initSynchronization();
+        tracker.taskChanged(1L, 10L);
+        completeTransaction(TransactionSynchronization.STATUS_ROLLED_BACK);
+
+        assertThat(emitter.sent.poll(100, TimeUnit.MILLISECONDS)).isNull();
+    }
+}
@@ -0,0 +1,218 @@
+package com.liam.gantt.sync;
+
+import com.liam.gantt.entity.enums.ChangeEntityType;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("ProjectEventBroadcaster 단위 테스트")
+class ProjectEventBroadcasterTest {
+
+    private final List<RecordingEmitter> emitters = new ArrayList<>();
+    /** 다음에 만들 emitter의 전송을 막을 래치 */
+    private CountDownLatch nextRelease;
+    private final ProjectEventBroadcaster broadcaster = new ProjectEventBroadcaster(() -> {
+        RecordingEmitter emitter = new RecordingEmitter();
+        emitter.block(nextRelease);
+        emitters.add(emitter);
+        return emitter;
+    });
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+        broadcaster.destroy();
+    }
+
+    @Test
+    @DisplayName("커밋 후에만 발행되고 롤백된 변경은 발행되지 않음")
+    void publishAfterCommit_OnlyOnCommit() throws InterruptedException {
+        broadcaster.subscribe(1L, 4L);
+        RecordingEmitter emitter = emitters.get(0);
+        assertThat(emitter.next()).contains("event:connected");
+
+        // 롤백된 트랜잭션 (version 5)
+        TransactionSynchronizationManager.initSynchronization();
+        broadcaster.publishAfterCommit(event(1L, 5L));
+        completeTransaction(TransactionSynchronization.STATUS_ROLLED_BACK);
+
+        // 커밋된 트랜잭션 (version 6), 커밋 전에는 전송 대기열에도 없음
+        TransactionSynchronizationManager.initSynchronization();
+        broadcaster.publishAfterCommit(event(1L, 6L));
+        assertThat(emitter.sent).isEmpty();
+        completeTransaction(TransactionSynchronization.STATUS_COMMITTED);
+
+        // 구독자별 순서가 유지되므로 첫 변경 이벤트가 6이면 5는 발행되지 않은 것
+        String change = emitter.next();
+        assertThat(change).contains("event:change").contains("id:6");
+        assertThat(emitter.sent).isEmpty();
+    }
+
+    @Test
+    @DisplayName("같은 프로젝트의 모든 구독자에게 전달하고 다른 프로젝트에는 전달하지 않음")
+    void publish_FansOutToProjectSubscribers() throws InterruptedException {
+        broadcaster.subscribe(1L, 0L);
+        broadcaster.subscribe(1L, 0L);
+        broadcaster.subscribe(2L, 0L);
+        emitters.forEach(emitter -> assertThat(emitter.nextQuietly()).contains("event:connected"));
+
+        broadcaster.publish(event(1L, 1L));
+        broadcaster.publish(event(2L, 7L));
+
+        assertThat(emitters.get(0).next()).contains("id:1");
+        assertThat(emitters.get(1).next()).contains("id:1");
+        assertThat(emitters.get(2).next()).contains("id:7");
+        assertThat(emitters.get(2).sent).isEmpty();
+        assertThat(broadcaster.subscriberCount()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("전송 대기 이벤트가 한도를 넘으면 구독 종료")
+    void publish_ClosesSlowSubscriber() throws InterruptedException {
+        CountDownLatch release = new CountDownLatch(1);
+        nextRelease = release;
+        broadcaster.subscribe(1L, 0L);
+        RecordingEmitter slow = emitters.get(0);
+        nextRelease = null;
+        broadcaster.subscribe(2L, 0L);
+        RecordingEmitter other = emitters.get(1);
+        // connected 이벤트 전송 중에 막혀 있으므로 이후 이벤트는 모두 대기
+        assertThat(slow.entered.await(5, TimeUnit.SECONDS)).isTrue();
+
+        for (long version = 1; version <= ProjectEventBroadcaster.MAX_PENDING_EVENTS; version++) {
+            broadcaster.publish(event(1L, version));
+        }
+        assertThat(slow.completed).isFalse();
+
+        broadcaster.publish(event(1L, ProjectEventBroadcaster.MAX_PENDING_EVENTS + 1L));
+
+        // 다른 프로젝트 구독자는 영향을 받지 않음
+        assertThat(slow.completed).isTrue();
+        assertThat(broadcaster.subscriberCount()).isEqualTo(1);
+        assertThat(other.completed).isFalse();
+        release.countDown();
+    }
+
+    @Test
+    @DisplayName("연결 완료 또는 시간 초과 시 구독자 제거")
+    void subscribe_RemovedOnCompletionAndTimeout() throws InterruptedException {
+        broadcaster.subscribe(1L, 0L);
+        broadcaster.subscribe(1L, 0L);
+        RecordingEmitter completed = emitters.get(0);
+        RecordingEmitter timedOut = emitters.get(1);
+        assertThat(completed.next()).contains("event:connected");
+        assertThat(timedOut.next()).contains("event:connected");
+
+        completed.completionCallback.run();
+        assertThat(broadcaster.subscriberCount()).isEqualTo(1);
+        timedOut.timeoutCallback.run();
+        assertThat(broadcaster.subscriberCount()).isZero();
+
+        broadcaster.publish(event(1L, 1L));
+        assertThat(completed.sent.poll(100, TimeUnit.MILLISECONDS)).isNull();
+        assertThat(timedOut.sent).isEmpty();
+    }
+
+    static ProjectChangeEvent event(Long projectId, long version) {
+        return ProjectChangeEvent.of(projectId, version, ChangeEntityType.TASK, List.of(10L), false);
+    }
+
+    /**
+     * 트랜잭션 종료 흉내 (커밋이면 afterCommit까지 호출)
+     */
+    static void completeTransaction(int status) {
+        List<TransactionSynchronization> synchronizations = TransactionSynchronizationManager.getSynchronizations();
+        TransactionSynchronizationManager.clearSynchronization();
+        for (TransactionSynchronization synchronization : synchronizations) {
+            if (status == TransactionSynchronization.STATUS_COMMITTED) {
+                synchronization.afterCommit();
+            }
+            synchronization.afterCompletion(status);
+        }
+    }
+
+    /**
+     * 전송 내용을 문자열로 기록하는 SseEmitter (하트비트 주석은 기록하지 않음)
+     */
+    static final class RecordingEmitter extends SseEmitter {
+
+        final BlockingQueue<String> sent = new LinkedBlockingQueue<>();
+        final CountDownLatch entered = new CountDownLatch(1);
+        volatile Runnable completionCallback;
+        volatile Runnable timeoutCallback;
+        volatile boolean completed;
+        private volatile CountDownLatch release;
+
+        void block(CountDownLatch release) {
+            this.release = release;
+        }
+
+        @Override
+        public void send(SseEventBuilder builder) throws IOException {
+            StringBuilder text = new StringBuilder();
+            for (ResponseBodyEmitter.DataWithMediaType part : builder.build()) {
+                text.append(part.getData() instanceof String value ? value : "");
+            }
+            if (text.toString().startsWith(":")) {
+                return;
+            }
+            entered.countDown();
+            CountDownLatch latch = release;
+            if (latch != null) {
+                try {
+                    latch.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    throw new IOException(e);
+                }
+            }
+            sent.add(text.toString());
+        }
+
+        @Override
+        public synchronized void onCompletion(Runnable callback) {
+            this.completionCallback = callback;
+        }
+
+        @Override
+        public synchronized void onTimeout(Runnable callback) {
+            this.timeoutCallback = callback;
+        }
+
+        @Override
+        public void complete() {
+            completed = true;
+        }
+
+        /** 다음 전송 내용 (5초 안에 없으면 빈 문자열) */
+        String next() throws InterruptedException {
+            String text = sent.poll(5, TimeUnit.SECONDS);
+            return text != null ? text : "";
+        }
+
+        String nextQuietly() {
+            try {
+                return next();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return "";
+            }
+        }
+    }
+}